@@ -22,6 +22,7 @@
 package com.envimate.messageMate.channel;
 
 import com.envimate.messageMate.channel.action.Action;
+import com.envimate.messageMate.channel.action.Subscription;
 import com.envimate.messageMate.exceptions.AlreadyClosedException;
 import com.envimate.messageMate.filtering.Filter;
 import com.envimate.messageMate.identification.CorrelationId;
@@ -87,6 +88,100 @@ public interface Channel<T> extends NoErrorAutoClosable {
      */
     MessageId send(ProcessingContext<T> processingContext);
 
+    /**
+     * Sends the given {@code ProcessingContext} objects over this {@code Channel} as a batch.
+     *
+     * <p>Synchronous {@code Channels} filter all messages before the ones, that passed, reach the {@code Action} together.
+     * A {@link Subscription} {@code Action} then delivers them to {@code BatchSubscribers} in a single call. {@code Channels},
+     * that queue their messages, send them one after another as with {@link #send(ProcessingContext)}.</p>
+     *
+     * @param processingContexts the {@code ProcessingContexts} to be sent
+     * @throws AlreadyClosedException if the {@code Channel} is already closed
+     */
+    default void sendBatch(final List<ProcessingContext<T>> processingContexts) {
+        for (final ProcessingContext<T> processingContext : processingContexts) {
+            send(processingContext);
+        }
+    }
+
+    /**
+     * Sends the given message over this {@code Channel}, if the {@code Channel} can accept it right away.
+     *
+     * <p>In contrast to {@link #send(Object)} a full bounded {@code Channel} does not raise an exception. Instead {@code false}
+     * is returned, so that the producer can decide whether to retry, slow down or drop the message.</p>
+     *
+     * @param message the message to be sent
+     * @return {@code true} if the message was accepted, {@code false} if no capacity was left
+     * @throws AlreadyClosedException if the {@code Channel} is already closed
+     */
+    boolean trySend(T message);
+
+    /**
+     * Sends the given {@code ProcessingContext} over this {@code Channel}, if the {@code Channel} can accept it right away.
+     *
+     * @param processingContext the {@code ProcessingContext} to be sent
+     * @return {@code true} if the message was accepted, {@code false} if no capacity was left
+     * @throws AlreadyClosedException if the {@code Channel} is already closed
+     * @see #trySend(Object)
+     */
+    boolean trySend(ProcessingContext<T> processingContext);
+
+    /**
+     * Sends the given message over this {@code Channel}, waiting up to the given timeout for capacity to become available.
+     *
+     * @param message  the message to be sent
+     * @param timeout  the maximal time to wait
+     * @param timeUnit the {@code TimeUnit} of the timeout
+     * @return {@code true} if the message was accepted, {@code false} if the timeout elapsed before capacity was available
+     * @throws InterruptedException   if the thread is interrupted while waiting
+     * @throws AlreadyClosedException if the {@code Channel} is already closed
+     */
+    boolean send(T message, long timeout, TimeUnit timeUnit) throws InterruptedException;
+
+    /**
+     * Sends the given {@code ProcessingContext} over this {@code Channel}, waiting up to the given timeout for capacity to
+     * become available.
+     *
+     * @param processingContext the {@code ProcessingContext} to be sent
+     * @param timeout           the maximal time to wait
+     * @param timeUnit          the {@code TimeUnit} of the timeout
+     * @return {@code true} if the message was accepted, {@code false} if the timeout elapsed before capacity was available
+     * @throws InterruptedException   if the thread is interrupted while waiting
+     * @throws AlreadyClosedException if the {@code Channel} is already closed
+     */
+    boolean send(ProcessingContext<T> processingContext, long timeout, TimeUnit timeUnit) throws InterruptedException;
+
+    /**
+     * Sends the given message over this {@code Channel}, blocking the calling thread until capacity is available.
+     *
+     * @param message the message to be sent
+     * @return the {@code MessageId} of the send message
+     * @throws InterruptedException   if the thread is interrupted while waiting
+     * @throws AlreadyClosedException if the {@code Channel} is already closed
+     */
+    MessageId sendAwaitingCapacity(T message) throws InterruptedException;
+
+    /**
+     * Sends the given {@code ProcessingContext} over this {@code Channel}, blocking the calling thread until capacity is
+     * available.
+     *
+     * @param processingContext the {@code ProcessingContext} to be sent
+     * @return the {@code ProcessingContext's} {@code MessageId}
+     * @throws InterruptedException   if the thread is interrupted while waiting
+     * @throws AlreadyClosedException if the {@code Channel} is already closed
+     */
+    MessageId sendAwaitingCapacity(ProcessingContext<T> processingContext) throws InterruptedException;
+
+    /**
+     * Returns the number of messages, that can currently be accepted without waiting.
+     *
+     * <p>Unbounded {@code Channels} return {@link Long#MAX_VALUE}. The value is only a snapshot and can be used by producers
+     * to slow down before the {@code Channel} is full.</p>
+     *
+     * @return the number of messages, that can be accepted right away
+     */
+    long remainingCapacity();
+
     /**
      * Adds the {@code Filter} to the list of pre {@code Filter}.
      *
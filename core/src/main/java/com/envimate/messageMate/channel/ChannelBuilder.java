@@ -34,13 +34,18 @@ import com.envimate.messageMate.configuration.AsynchronousConfiguration;
 import com.envimate.messageMate.internal.pipe.error.PipeErrorHandler;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 
+import java.util.function.Function;
+
 import static com.envimate.messageMate.channel.ChannelImpl.channel;
+import static com.envimate.messageMate.channel.ProcessingFrameHistoryPolicy.fullProcessingFrameHistory;
 import static com.envimate.messageMate.channel.ChannelType.SYNCHRONOUS;
 import static com.envimate.messageMate.channel.action.DefaultActionHandlerSet.defaultActionHandlerSet;
 import static com.envimate.messageMate.channel.exception.ErrorThrowingChannelExceptionHandler.errorThrowingChannelExceptionHandler;
 import static com.envimate.messageMate.channel.internal.events.SimpleChannelEventListener.simpleChannelEventListener;
 import static com.envimate.messageMate.channel.internal.statistics.PipeStatisticsBasedChannelStatisticsCollector.pipeStatisticsBasedChannelStatisticsCollector;
 import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
+import static com.envimate.messageMate.internal.pipe.transport.Partitioning.partitioning;
+import static com.envimate.messageMate.processingContext.PartitionKeyExtractors.correlationIdOrEventTypePartitionKey;
 
 /**
  * The {@code ChannelBuilder} class provides a fluent interface to create and configure a {@link Channel}.
@@ -60,6 +65,9 @@ public class ChannelBuilder<T> {
     private ChannelExceptionHandler<T> channelExceptionHandler = errorThrowingChannelExceptionHandler();
     private ChannelType type = SYNCHRONOUS;
     private AsynchronousConfiguration asynchronousConfiguration;
+    private int numberOfPartitions = Runtime.getRuntime().availableProcessors();
+    private Function<ProcessingContext<T>, ?> partitionKeyExtractor = correlationIdOrEventTypePartitionKey();
+    private ProcessingFrameHistoryPolicy processingFrameHistoryPolicy = fullProcessingFrameHistory();
 
     /**
      * Returns a synchronous Channel with the default {@code Action}
@@ -101,15 +109,17 @@ public class ChannelBuilder<T> {
     }
 
     /**
-     * Sets the type for the {@code Channel}. Can be {@code ChannelType.SYNCHRONOUS} or {@code ChannelType.ASYNCHRONOUS}.
+     * Sets the type for the {@code Channel}. Can be {@code ChannelType.SYNCHRONOUS}, {@code ChannelType.ASYNCHRONOUS},
+     * {@code ChannelType.RING_BUFFER} or {@code ChannelType.PARTITIONED}.
      *
-     * <p>Per default the type is set to synchronous and no further configuration is needed. If an asynchronous
-     * {@code Channel} is to be created, an additional {@code AsynchronousConfiguration} has to be given. Also setting
+     * <p>Per default the type is set to synchronous and no further configuration is needed. If an asynchronous or ring
+     * buffer {@code Channel} is to be created, an additional {@code AsynchronousConfiguration} has to be given. Also setting
      * a different {@code ChannelExceptionHandler} is advised, as the default exception handler throws all exception on
      * the executing Thread.
      * </p>
      *
-     * @param type the type of the {@code Channel}. Can be {@code ChannelType.SYNCHRONOUS} or {@code ChannelType.ASYNCHRONOUS}.
+     * @param type the type of the {@code Channel}. Can be {@code ChannelType.SYNCHRONOUS}, {@code ChannelType.ASYNCHRONOUS}
+     *             {@code ChannelType.RING_BUFFER} or {@code ChannelType.PARTITIONED}.
      * @return the same {@code ChannelBuilder} instance the method was called one
      */
     public ChannelBuilder<T> forType(final ChannelType type) {
@@ -131,6 +141,33 @@ public class ChannelBuilder<T> {
         return this;
     }
 
+    /**
+     * Sets the number of single threaded lanes of a {@code ChannelType.PARTITIONED} {@code Channel}.
+     *
+     * <p>Per default one lane per available processor is created.</p>
+     *
+     * @param numberOfPartitions the number of lanes
+     * @return the same {@code ChannelBuilder} instance the method was called one
+     */
+    public ChannelBuilder<T> withNumberOfPartitions(final int numberOfPartitions) {
+        this.numberOfPartitions = numberOfPartitions;
+        return this;
+    }
+
+    /**
+     * Sets the function, that decides on which lane a message of a {@code ChannelType.PARTITIONED} {@code Channel} is
+     * delivered. Messages with equal partition keys are delivered in order on the same lane.
+     *
+     * <p>Per default the {@code CorrelationId} is used, or the {@code EventType} for uncorrelated messages.</p>
+     *
+     * @param partitionKeyExtractor the function returning the partition key of a message
+     * @return the same {@code ChannelBuilder} instance the method was called one
+     */
+    public ChannelBuilder<T> withPartitionKeyExtractor(final Function<ProcessingContext<T>, ?> partitionKeyExtractor) {
+        this.partitionKeyExtractor = partitionKeyExtractor;
+        return this;
+    }
+
     /**
      * Sets the default {@code Action} for the {@code Channel}.
      *
@@ -174,6 +211,20 @@ public class ChannelBuilder<T> {
         return this;
     }
 
+    /**
+     * Sets how much of the {@link ChannelProcessingFrame} history is kept, once a message enters the {@code Channel}.
+     *
+     * <p>Per default the full history is kept. Bounded policies keep messages, that traverse many {@code Channels}, from
+     * holding on to all of their frames.</p>
+     *
+     * @param processingFrameHistoryPolicy the {@code ProcessingFrameHistoryPolicy} of the {@code Channel}
+     * @return the same {@code ChannelBuilder} instance the method was called one
+     */
+    public ChannelBuilder<T> withProcessingFrameHistoryPolicy(final ProcessingFrameHistoryPolicy processingFrameHistoryPolicy) {
+        this.processingFrameHistoryPolicy = processingFrameHistoryPolicy;
+        return this;
+    }
+
     /**
      * Creates the configured {@code Channel}.
      *
@@ -181,14 +232,14 @@ public class ChannelBuilder<T> {
      */
     public Channel<T> build() {
         ensureNotNull(action, "action");
+        ensureNotNull(processingFrameHistoryPolicy, "processingFrameHistoryPolicy");
         final Pipe<ProcessingContext<T>> acceptingPipe = createAcceptingPipe();
-        final Pipe<ProcessingContext<T>> prePipe = createSynchronousPipe();
-        final Pipe<ProcessingContext<T>> processPipe = createSynchronousPipe();
-        final Pipe<ProcessingContext<T>> postPipe = createDeliveringPipe();
-        createStatisticsCollectorAndEventListenerSetup(acceptingPipe, postPipe);
+        final Pipe<ProcessingContext<T>> deliveringPipe = createDeliveringPipe();
+        createStatisticsCollectorAndEventListenerSetup(acceptingPipe, deliveringPipe);
         final ActionHandlerSet<T> actionHandlerSet = createDefaultActionHandlerSetIfAbsent();
-        return channel(this.action, acceptingPipe, prePipe, processPipe, postPipe, eventListener, statisticsCollector,
-                actionHandlerSet, channelExceptionHandler);
+        final boolean acceptingPipeQueuesMessages = type != SYNCHRONOUS;
+        return channel(this.action, acceptingPipe, deliveringPipe, eventListener, statisticsCollector, actionHandlerSet,
+                channelExceptionHandler, processingFrameHistoryPolicy, acceptingPipeQueuesMessages);
     }
 
     private Pipe<ProcessingContext<T>> createAcceptingPipe() {
@@ -199,6 +250,19 @@ public class ChannelBuilder<T> {
                 return PipeBuilder.<ProcessingContext<T>>aPipe()
                         .ofType(PipeType.ASYNCHRONOUS)
                         .withAsynchronousConfiguration(asynchronousConfiguration)
+                        .withDroppedMessageHandler(ProcessingContext::release)
+                        .build();
+            case RING_BUFFER:
+                return PipeBuilder.<ProcessingContext<T>>aPipe()
+                        .ofType(PipeType.RING_BUFFER)
+                        .withAsynchronousConfiguration(asynchronousConfiguration)
+                        .withDroppedMessageHandler(ProcessingContext::release)
+                        .build();
+            case PARTITIONED:
+                return PipeBuilder.<ProcessingContext<T>>aPipe()
+                        .ofType(PipeType.PARTITIONED)
+                        .withPartitioning(partitioning(numberOfPartitions, partitionKeyExtractor))
+                        .withDroppedMessageHandler(ProcessingContext::release)
                         .build();
             default:
                 throw new IllegalArgumentException("Unsupported channel type: " + type);
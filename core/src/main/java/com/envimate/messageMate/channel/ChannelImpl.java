@@ -27,27 +27,33 @@ import com.envimate.messageMate.channel.action.ActionHandlerSet;
 import com.envimate.messageMate.channel.exception.ChannelExceptionHandler;
 import com.envimate.messageMate.channel.internal.events.ChannelEventListener;
 import com.envimate.messageMate.channel.internal.filtering.FilterApplier;
-import com.envimate.messageMate.channel.internal.filtering.FilterApplierImpl;
 import com.envimate.messageMate.channel.internal.filtering.PostFilterActions;
 import com.envimate.messageMate.channel.internal.statistics.ChannelStatisticsCollector;
 import com.envimate.messageMate.channel.statistics.ChannelStatistics;
+import com.envimate.messageMate.exceptions.AlreadyClosedException;
 import com.envimate.messageMate.filtering.Filter;
 import com.envimate.messageMate.identification.CorrelationId;
 import com.envimate.messageMate.identification.MessageId;
 import com.envimate.messageMate.internal.exceptions.BubbleUpWrappedException;
 import com.envimate.messageMate.internal.pipe.Pipe;
+import com.envimate.messageMate.internal.pipe.transport.PipeWaitingQueueIsFullException;
 import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.subscribing.AcceptingBehavior;
+import com.envimate.messageMate.subscribing.BatchSubscriber;
+import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 
-import static com.envimate.messageMate.channel.ChannelProcessingFrame.processingFrame;
+import static com.envimate.messageMate.channel.internal.filtering.FilterApplierImpl.filterApplier;
 import static com.envimate.messageMate.processingContext.EventType.eventTypeFromObjectClass;
 import static com.envimate.messageMate.processingContext.ProcessingContext.processingContext;
+import static com.envimate.messageMate.subscribing.AcceptingBehavior.MESSAGE_ACCEPTED;
+import static java.util.Collections.unmodifiableList;
 import static lombok.AccessLevel.PRIVATE;
 
 final class ChannelImpl<T> implements Channel<T> {
@@ -59,14 +65,20 @@ final class ChannelImpl<T> implements Channel<T> {
     private final ActionHandlerSet<T> actionHandlerSet;
     private final ChannelStatisticsCollector statisticsCollector;
     private final ChannelExceptionHandler<T> exceptionHandler;
+    private final FilterApplier<ProcessingContext<T>> filterApplier;
+    private final ProcessingFrameHistoryPolicy processingFrameHistoryPolicy;
+    private final boolean acceptingPipeQueuesMessages;
 
-    private ChannelImpl(final Pipe<ProcessingContext<T>> acceptingPipe, final Pipe<ProcessingContext<T>> preToProcessPipe,
-                        final Pipe<ProcessingContext<T>> processToPostPipe, final Pipe<ProcessingContext<T>> afterPostPipe,
+    private ChannelImpl(final Pipe<ProcessingContext<T>> acceptingPipe, final Pipe<ProcessingContext<T>> deliveringPipe,
                         final Action<T> defaultAction, final ChannelEventListener<ProcessingContext<T>> eventListener,
                         final ChannelStatisticsCollector statisticsCollector,
                         final ActionHandlerSet<T> actionHandlerSet,
-                        final ChannelExceptionHandler<T> exceptionHandler) {
+                        final ChannelExceptionHandler<T> exceptionHandler,
+                        final ProcessingFrameHistoryPolicy processingFrameHistoryPolicy,
+                        final boolean acceptingPipeQueuesMessages) {
         this.acceptingPipe = acceptingPipe;
+        this.acceptingPipeQueuesMessages = acceptingPipeQueuesMessages;
+        this.processingFrameHistoryPolicy = processingFrameHistoryPolicy;
         this.defaultAction = defaultAction;
         this.actionHandlerSet = actionHandlerSet;
         this.statisticsCollector = statisticsCollector;
@@ -74,24 +86,29 @@ final class ChannelImpl<T> implements Channel<T> {
         this.preFilter = new CopyOnWriteArrayList<>();
         this.processFilter = new CopyOnWriteArrayList<>();
         this.postFilter = new CopyOnWriteArrayList<>();
-        acceptingPipe.subscribe(new AdvanceMessageUsingFilter(preFilter, preToProcessPipe, eventListener, exceptionHandler));
-        preToProcessPipe.subscribe(
-                new AdvanceMessageUsingFilter(processFilter, processToPostPipe, eventListener, exceptionHandler));
-        processToPostPipe.subscribe(new AdvanceMessageUsingFilter(postFilter, afterPostPipe, eventListener, exceptionHandler));
-        afterPostPipe.subscribe(new ConsumerExecutingActionSetByFilterOrDefaultAction());
+        final List<List<Filter<ProcessingContext<T>>>> filterStages = new ArrayList<>();
+        filterStages.add(preFilter);
+        filterStages.add(processFilter);
+        filterStages.add(postFilter);
+        this.filterApplier = filterApplier(filterStages);
+        final PostFilterActions<ProcessingContext<T>> postFilterActions = new DeliverToPipeAfterFilter(deliveringPipe,
+                eventListener);
+        acceptingPipe.subscribe(new AdvanceMessageUsingFilter(filterApplier, postFilterActions, deliveringPipe, eventListener,
+                exceptionHandler));
+        deliveringPipe.subscribe(new ConsumerExecutingActionSetByFilterOrDefaultAction());
     }
 
     static <T> Channel<T> channel(final Action<T> defaultAction,
                                   final Pipe<ProcessingContext<T>> acceptingPipe,
-                                  final Pipe<ProcessingContext<T>> prePipe,
-                                  final Pipe<ProcessingContext<T>> processPipe,
-                                  final Pipe<ProcessingContext<T>> postPipe,
+                                  final Pipe<ProcessingContext<T>> deliveringPipe,
                                   final ChannelEventListener<ProcessingContext<T>> eventListener,
                                   final ChannelStatisticsCollector statisticsCollector,
                                   final ActionHandlerSet<T> actionHandlerSet,
-                                  final ChannelExceptionHandler<T> exceptionHandler) {
-        return new ChannelImpl<>(acceptingPipe, prePipe, processPipe, postPipe, defaultAction, eventListener,
-                statisticsCollector, actionHandlerSet, exceptionHandler);
+                                  final ChannelExceptionHandler<T> exceptionHandler,
+                                  final ProcessingFrameHistoryPolicy processingFrameHistoryPolicy,
+                                  final boolean acceptingPipeQueuesMessages) {
+        return new ChannelImpl<>(acceptingPipe, deliveringPipe, defaultAction, eventListener, statisticsCollector,
+                actionHandlerSet, exceptionHandler, processingFrameHistoryPolicy, acceptingPipeQueuesMessages);
     }
 
     @Override
@@ -110,20 +127,156 @@ final class ChannelImpl<T> implements Channel<T> {
 
     @Override
     public MessageId send(final ProcessingContext<T> processingContext) {
+        final ChannelProcessingFrame<T> previousProcessingFrame = processingContext.getCurrentProcessingFrame();
         final MessageId messageId = processingContext.getMessageId();
+        processingContext.retain();
+        advanceChannelProcessingFrameHistory(processingContext);
         try {
-            advanceChannelProcessingFrameHistory(processingContext);
             acceptingPipe.send(processingContext);
             return messageId;
         } catch (final BubbleUpWrappedException e) {
             exceptionHandler.handleBubbledUpException(e);
             return messageId;
+        } catch (final AlreadyClosedException | PipeWaitingQueueIsFullException e) {
+            revertChannelProcessingFrameHistory(processingContext, previousProcessingFrame);
+            processingContext.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void sendBatch(final List<ProcessingContext<T>> processingContexts) {
+        /* queued messages can be rejected one by one, so only synchronous Pipes take the batch at once */
+        if (acceptingPipeQueuesMessages) {
+            processingContexts.forEach(this::send);
+        } else {
+            sendBatchAtOnce(processingContexts);
+        }
+    }
+
+    private void sendBatchAtOnce(final List<ProcessingContext<T>> processingContexts) {
+        final List<ChannelProcessingFrame<T>> previousProcessingFrames = new ArrayList<>(processingContexts.size());
+        for (final ProcessingContext<T> processingContext : processingContexts) {
+            previousProcessingFrames.add(processingContext.getCurrentProcessingFrame());
+            processingContext.retain();
+            advanceChannelProcessingFrameHistory(processingContext);
+        }
+        try {
+            acceptingPipe.sendBatch(processingContexts);
+        } catch (final BubbleUpWrappedException e) {
+            exceptionHandler.handleBubbledUpException(e);
+        } catch (final AlreadyClosedException e) {
+            for (int i = 0; i < processingContexts.size(); i++) {
+                final ProcessingContext<T> processingContext = processingContexts.get(i);
+                revertChannelProcessingFrameHistory(processingContext, previousProcessingFrames.get(i));
+                processingContext.release();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean trySend(final T message) {
+        final EventType eventType = eventTypeFromObjectClass(message);
+        final ProcessingContext<T> processingContext = processingContext(eventType, message);
+        return trySend(processingContext);
+    }
+
+    @Override
+    public boolean trySend(final ProcessingContext<T> processingContext) {
+        final ChannelProcessingFrame<T> previousProcessingFrame = processingContext.getCurrentProcessingFrame();
+        processingContext.retain();
+        advanceChannelProcessingFrameHistory(processingContext);
+        try {
+            final boolean accepted = acceptingPipe.trySend(processingContext);
+            if (!accepted) {
+                revertChannelProcessingFrameHistory(processingContext, previousProcessingFrame);
+                processingContext.release();
+            }
+            return accepted;
+        } catch (final BubbleUpWrappedException e) {
+            exceptionHandler.handleBubbledUpException(e);
+            return true;
+        } catch (final AlreadyClosedException e) {
+            revertChannelProcessingFrameHistory(processingContext, previousProcessingFrame);
+            processingContext.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean send(final T message, final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        final EventType eventType = eventTypeFromObjectClass(message);
+        final ProcessingContext<T> processingContext = processingContext(eventType, message);
+        return send(processingContext, timeout, timeUnit);
+    }
+
+    @Override
+    public boolean send(final ProcessingContext<T> processingContext,
+                        final long timeout,
+                        final TimeUnit timeUnit) throws InterruptedException {
+        final ChannelProcessingFrame<T> previousProcessingFrame = processingContext.getCurrentProcessingFrame();
+        processingContext.retain();
+        advanceChannelProcessingFrameHistory(processingContext);
+        try {
+            final boolean accepted = acceptingPipe.send(processingContext, timeout, timeUnit);
+            if (!accepted) {
+                revertChannelProcessingFrameHistory(processingContext, previousProcessingFrame);
+                processingContext.release();
+            }
+            return accepted;
+        } catch (final BubbleUpWrappedException e) {
+            exceptionHandler.handleBubbledUpException(e);
+            return true;
+        } catch (final InterruptedException e) {
+            revertChannelProcessingFrameHistory(processingContext, previousProcessingFrame);
+            processingContext.release();
+            throw e;
+        } catch (final AlreadyClosedException e) {
+            revertChannelProcessingFrameHistory(processingContext, previousProcessingFrame);
+            processingContext.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public MessageId sendAwaitingCapacity(final T message) throws InterruptedException {
+        final EventType eventType = eventTypeFromObjectClass(message);
+        final ProcessingContext<T> processingContext = processingContext(eventType, message);
+        return sendAwaitingCapacity(processingContext);
+    }
+
+    @Override
+    public MessageId sendAwaitingCapacity(final ProcessingContext<T> processingContext) throws InterruptedException {
+        final ChannelProcessingFrame<T> previousProcessingFrame = processingContext.getCurrentProcessingFrame();
+        final MessageId messageId = processingContext.getMessageId();
+        processingContext.retain();
+        advanceChannelProcessingFrameHistory(processingContext);
+        try {
+            acceptingPipe.sendAwaitingCapacity(processingContext);
+            return messageId;
+        } catch (final BubbleUpWrappedException e) {
+            exceptionHandler.handleBubbledUpException(e);
+            return messageId;
+        } catch (final InterruptedException e) {
+            revertChannelProcessingFrameHistory(processingContext, previousProcessingFrame);
+            processingContext.release();
+            throw e;
+        } catch (final AlreadyClosedException e) {
+            revertChannelProcessingFrameHistory(processingContext, previousProcessingFrame);
+            processingContext.release();
+            throw e;
         }
     }
 
+    @Override
+    public long remainingCapacity() {
+        return acceptingPipe.remainingCapacity();
+    }
+
     private void advanceChannelProcessingFrameHistory(final ProcessingContext<T> processingContext) {
         final ChannelProcessingFrame<T> previousProcessingFrame = processingContext.getCurrentProcessingFrame();
-        final ChannelProcessingFrame<T> currentProcessingFrame = processingFrame(this);
+        final ChannelProcessingFrame<T> currentProcessingFrame = processingContext.createProcessingFrame(this);
         if (noPreviousChannelTraversed(previousProcessingFrame)) {
             processingContext.setInitialProcessingFrame(currentProcessingFrame);
         } else {
@@ -133,6 +286,16 @@ final class ChannelImpl<T> implements Channel<T> {
         processingContext.setCurrentProcessingFrame(currentProcessingFrame);
     }
 
+    private void revertChannelProcessingFrameHistory(final ProcessingContext<T> processingContext,
+                                                     final ChannelProcessingFrame<T> previousProcessingFrame) {
+        if (noPreviousChannelTraversed(previousProcessingFrame)) {
+            processingContext.setInitialProcessingFrame(null);
+        } else {
+            previousProcessingFrame.setNextFrame(null);
+        }
+        processingContext.setCurrentProcessingFrame(previousProcessingFrame);
+    }
+
     private boolean noPreviousChannelTraversed(final ChannelProcessingFrame<T> previousProcessingFrame) {
         return previousProcessingFrame == null;
     }
@@ -140,61 +303,70 @@ final class ChannelImpl<T> implements Channel<T> {
     @Override
     public void addPreFilter(final Filter<ProcessingContext<T>> filter) {
         preFilter.add(filter);
+        filterApplier.recompile();
     }
 
     @Override
     public void addPreFilter(final Filter<ProcessingContext<T>> filter, final int position) {
         preFilter.add(position, filter);
+        filterApplier.recompile();
     }
 
     @Override
     public List<Filter<ProcessingContext<T>>> getPreFilter() {
-        return preFilter;
+        return unmodifiableList(preFilter);
     }
 
     @Override
     public void removePreFilter(final Filter<ProcessingContext<T>> filter) {
         preFilter.remove(filter);
+        filterApplier.recompile();
     }
 
     @Override
     public void addProcessFilter(final Filter<ProcessingContext<T>> filter) {
         processFilter.add(filter);
+        filterApplier.recompile();
     }
 
     @Override
     public void addProcessFilter(final Filter<ProcessingContext<T>> filter, final int position) {
         processFilter.add(position, filter);
+        filterApplier.recompile();
     }
 
     @Override
     public List<Filter<ProcessingContext<T>>> getProcessFilter() {
-        return processFilter;
+        return unmodifiableList(processFilter);
     }
 
     @Override
     public void removeProcessFilter(final Filter<ProcessingContext<T>> filter) {
         processFilter.remove(filter);
+        filterApplier.recompile();
     }
 
     @Override
     public void addPostFilter(final Filter<ProcessingContext<T>> filter) {
         postFilter.add(filter);
+        filterApplier.recompile();
     }
 
     @Override
     public void addPostFilter(final Filter<ProcessingContext<T>> filter, final int position) {
         postFilter.add(position, filter);
+        filterApplier.recompile();
     }
 
     @Override
     public List<Filter<ProcessingContext<T>>> getPostFilter() {
-        return postFilter;
+        return unmodifiableList(postFilter);
     }
 
     @Override
     public void removePostFilter(final Filter<ProcessingContext<T>> filter) {
         postFilter.remove(filter);
+        filterApplier.recompile();
     }
 
     @Override
@@ -230,51 +402,137 @@ final class ChannelImpl<T> implements Channel<T> {
         return acceptingPipe.awaitTermination(timeout, timeUnit);
     }
 
-    private final class ConsumerExecutingActionSetByFilterOrDefaultAction implements Consumer<ProcessingContext<T>> {
+    private final class ConsumerExecutingActionSetByFilterOrDefaultAction implements BatchSubscriber<ProcessingContext<T>> {
+        private final SubscriptionId subscriptionId = SubscriptionId.newUniqueId();
+
+        @Override
+        public AcceptingBehavior accept(final ProcessingContext<T> processingContext) {
+            final Action<T> action = resolveAction(processingContext);
+            final ActionHandler<Action<T>, T> actionHandler = actionHandlerSet.getActionHandlerFor(action);
+            actionHandler.handle(action, processingContext);
+            return MESSAGE_ACCEPTED;
+        }
 
         @Override
-        public void accept(final ProcessingContext<T> processingContext) {
-            final Action<T> action;
+        public AcceptingBehavior acceptBatch(final List<ProcessingContext<T>> processingContexts) {
+            /* consecutive messages with the same Action are handled together, so that the order is kept */
+            Action<T> currentAction = null;
+            List<ProcessingContext<T>> currentBatch = new ArrayList<>(processingContexts.size());
+            for (final ProcessingContext<T> processingContext : processingContexts) {
+                final Action<T> action = resolveAction(processingContext);
+                if (action != currentAction && !currentBatch.isEmpty()) {
+                    handleBatch(currentAction, currentBatch);
+                    currentBatch = new ArrayList<>();
+                }
+                currentAction = action;
+                currentBatch.add(processingContext);
+            }
+            if (!currentBatch.isEmpty()) {
+                handleBatch(currentAction, currentBatch);
+            }
+            return MESSAGE_ACCEPTED;
+        }
+
+        private Action<T> resolveAction(final ProcessingContext<T> processingContext) {
             final Action<T> actionSetByFilter = processingContext.getAction();
             if (actionSetByFilter != null) {
-                action = actionSetByFilter;
+                return actionSetByFilter;
             } else {
-                action = defaultAction;
                 processingContext.changeAction(defaultAction);
+                return defaultAction;
             }
+        }
+
+        private void handleBatch(final Action<T> action, final List<ProcessingContext<T>> processingContexts) {
             final ActionHandler<Action<T>, T> actionHandler = actionHandlerSet.getActionHandlerFor(action);
-            actionHandler.handle(action, processingContext);
+            actionHandler.handleBatch(action, processingContexts);
+        }
+
+        @Override
+        public SubscriptionId getSubscriptionId() {
+            return subscriptionId;
+        }
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private final class DeliverToPipeAfterFilter implements PostFilterActions<ProcessingContext<T>> {
+        private final Pipe<ProcessingContext<T>> deliveringPipe;
+        private final ChannelEventListener<ProcessingContext<T>> eventListener;
+
+        @Override
+        public void onAllPassed(final ProcessingContext<T> processingContext) {
+            deliveringPipe.send(processingContext);
+        }
+
+        @Override
+        public void onBlock(final ProcessingContext<T> processingContext) {
+            eventListener.messageBlocked(processingContext);
+        }
+
+        @Override
+        public void onForgotten(final ProcessingContext<T> processingContext) {
+            eventListener.messageForgotten(processingContext);
         }
     }
 
     @RequiredArgsConstructor(access = PRIVATE)
-    private final class AdvanceMessageUsingFilter implements Consumer<ProcessingContext<T>> {
-        private final List<Filter<ProcessingContext<T>>> filter;
-        private final Pipe<ProcessingContext<T>> nextPipe;
+    private final class AdvanceMessageUsingFilter implements BatchSubscriber<ProcessingContext<T>> {
+        private final SubscriptionId subscriptionId = SubscriptionId.newUniqueId();
+        private final FilterApplier<ProcessingContext<T>> filterApplier;
+        private final PostFilterActions<ProcessingContext<T>> postFilterActions;
+        private final Pipe<ProcessingContext<T>> deliveringPipe;
         private final ChannelEventListener<ProcessingContext<T>> eventListener;
         private final ChannelExceptionHandler<T> exceptionHandler;
 
         @Override
-        public void accept(final ProcessingContext<T> preFilterprocessingContext) {
-            final FilterApplier<ProcessingContext<T>> filterApplier = new FilterApplierImpl<>();
+        public AcceptingBehavior accept(final ProcessingContext<T> preFilterprocessingContext) {
             try {
-                filterApplier.applyAll(preFilterprocessingContext, filter, new PostFilterActions<>() {
-                    @Override
-                    public void onAllPassed(final ProcessingContext<T> processingContext) {
-                        nextPipe.send(processingContext);
-                    }
-
-                    @Override
-                    public void onBlock(final ProcessingContext<T> processingContext) {
-                        eventListener.messageBlocked(processingContext);
+                applyFilter(preFilterprocessingContext, postFilterActions);
+            } finally {
+                //the reference retained when the message was sent into this channel
+                preFilterprocessingContext.release();
+            }
+            return MESSAGE_ACCEPTED;
+        }
 
+        @Override
+        public AcceptingBehavior acceptBatch(final List<ProcessingContext<T>> preFilterProcessingContexts) {
+            final List<ProcessingContext<T>> passedProcessingContexts = new ArrayList<>(preFilterProcessingContexts.size());
+            final PostFilterActions<ProcessingContext<T>> collectingPostFilterActions =
+                    new CollectPassedMessagesAfterFilter(passedProcessingContexts, eventListener);
+            BubbleUpWrappedException firstBubbledException = null;
+            for (final ProcessingContext<T> preFilterProcessingContext : preFilterProcessingContexts) {
+                final int numberOfPassedMessages = passedProcessingContexts.size();
+                try {
+                    applyFilter(preFilterProcessingContext, collectingPostFilterActions);
+                } catch (final BubbleUpWrappedException e) {
+                    if (firstBubbledException == null) {
+                        firstBubbledException = e;
                     }
+                }
+                if (passedProcessingContexts.size() == numberOfPassedMessages) {
+                    preFilterProcessingContext.release();
+                }
+            }
+            try {
+                if (!passedProcessingContexts.isEmpty()) {
+                    deliveringPipe.sendBatch(passedProcessingContexts);
+                }
+            } finally {
+                passedProcessingContexts.forEach(ProcessingContext::release);
+            }
+            if (firstBubbledException != null) {
+                throw firstBubbledException;
+            }
+            return MESSAGE_ACCEPTED;
+        }
 
-                    @Override
-                    public void onForgotten(final ProcessingContext<T> processingContext) {
-                        eventListener.messageForgotten(processingContext);
-                    }
-                });
+        private void applyFilter(final ProcessingContext<T> preFilterprocessingContext,
+                                 final PostFilterActions<ProcessingContext<T>> postFilterActions) {
+            //only trimmed once accepted, so that a rejected send can still revert its frame
+            processingFrameHistoryPolicy.trim(preFilterprocessingContext);
+            try {
+                filterApplier.applyAll(preFilterprocessingContext, postFilterActions);
             } catch (final Exception e) {
                 if (e instanceof BubbleUpWrappedException) {
                     throw e;
@@ -290,5 +548,31 @@ final class ChannelImpl<T> implements Channel<T> {
                 }
             }
         }
+
+        @Override
+        public SubscriptionId getSubscriptionId() {
+            return subscriptionId;
+        }
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private final class CollectPassedMessagesAfterFilter implements PostFilterActions<ProcessingContext<T>> {
+        private final List<ProcessingContext<T>> passedProcessingContexts;
+        private final ChannelEventListener<ProcessingContext<T>> eventListener;
+
+        @Override
+        public void onAllPassed(final ProcessingContext<T> processingContext) {
+            passedProcessingContexts.add(processingContext);
+        }
+
+        @Override
+        public void onBlock(final ProcessingContext<T> processingContext) {
+            eventListener.messageBlocked(processingContext);
+        }
+
+        @Override
+        public void onForgotten(final ProcessingContext<T> processingContext) {
+            eventListener.messageForgotten(processingContext);
+        }
     }
 }
@@ -37,7 +37,7 @@ import com.envimate.messageMate.processingContext.ProcessingContext;
  * @see <a href="https://github.com/envimate/message-mate#processing-context">Message Mate Documentation</a>
  */
 public final class ChannelProcessingFrame<T> {
-    private final Channel<T> channel;
+    private Channel<T> channel;
     private ChannelProcessingFrame<T> previousFrame;
     private ChannelProcessingFrame<T> nextFrame;
     private Action<T> action;
@@ -74,6 +74,19 @@ public final class ChannelProcessingFrame<T> {
         return new ChannelProcessingFrame<>(channel, previousFrame, nextFrame, action);
     }
 
+    /**
+     * Resets the {@code ChannelProcessingFrame} to a new, unlinked frame for the given {@code Channel}. Used to reuse the
+     * frames of pooled {@code ProcessingContexts}.
+     *
+     * @param channel the {@code Channel} the frame relates to from now on
+     */
+    public void reset(final Channel<T> channel) {
+        this.channel = channel;
+        this.previousFrame = null;
+        this.nextFrame = null;
+        this.action = null;
+    }
+
     public Channel<T> getChannel() {
         return this.channel;
     }
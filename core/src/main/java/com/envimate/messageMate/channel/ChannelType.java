@@ -22,9 +22,18 @@
 package com.envimate.messageMate.channel;
 
 /**
- * Defines the type of the {@link Channel}. Can be either {@code SYNCHRONOUS} or {@code ASYNCHRONOUS}.
+ * Defines the type of the {@link Channel}. Can be either {@code SYNCHRONOUS}, {@code ASYNCHRONOUS}, {@code RING_BUFFER} or
+ * {@code PARTITIONED}.
+ *
+ * <p>{@code RING_BUFFER} {@code Channels} are asynchronous, but queue their messages in a preallocated, bounded ring buffer
+ * instead of the {@code BlockingQueue} of a {@code ThreadPoolExecutor}.</p>
+ *
+ * <p>{@code PARTITIONED} {@code Channels} deliver their messages on several single threaded lanes. Messages with the same
+ * partition key are always delivered on the same lane and keep their order.</p>
  */
 public enum ChannelType {
     SYNCHRONOUS,
-    ASYNCHRONOUS
+    ASYNCHRONOUS,
+    RING_BUFFER,
+    PARTITIONED
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.channel;
+
+import com.envimate.messageMate.channel.action.Action;
+import com.envimate.messageMate.channel.action.Call;
+import com.envimate.messageMate.channel.action.Return;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Decides how much of the {@link ChannelProcessingFrame} history of a {@link ProcessingContext} is kept, once the message
+ * enters a {@link Channel}.
+ *
+ * <p>Per default the full history is kept. A message, that loops through {@code Jump} {@code Actions} or long
+ * {@link Call}/{@link Return} chains, then keeps all of its frames reachable. A bounded policy only keeps the given number
+ * of most recent frames. Older frames are unlinked, except for {@code Calls}, that were not yet returned from. These are
+ * always kept, so that a later {@code Return} can find them. Trimming the history allocates nothing. Frames of pooled
+ * {@code ProcessingContexts} are handed back to their pool.</p>
+ *
+ * @see <a href="https://github.com/envimate/message-mate#processing-context">Message Mate Documentation</a>
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = PRIVATE)
+public final class ProcessingFrameHistoryPolicy {
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+    private static final ProcessingFrameHistoryPolicy FULL_HISTORY = new ProcessingFrameHistoryPolicy(UNBOUNDED);
+    private static final ProcessingFrameHistoryPolicy CALL_AND_RETURN_ONLY = new ProcessingFrameHistoryPolicy(1);
+
+    private final int maximumNumberOfFrames;
+
+    /**
+     * Keeps every {@code ChannelProcessingFrame}. This is the default.
+     *
+     * @return the policy keeping the full history
+     */
+    public static ProcessingFrameHistoryPolicy fullProcessingFrameHistory() {
+        return FULL_HISTORY;
+    }
+
+    /**
+     * Keeps the given number of most recent {@code ChannelProcessingFrames} together with the frames of all {@code Calls},
+     * that were not yet returned from.
+     *
+     * @param numberOfFrames the number of most recent frames to keep, including the frame of the current {@code Channel}
+     * @return a policy keeping the last frames
+     * @throws IllegalArgumentException if the number of frames is not positive
+     */
+    public static ProcessingFrameHistoryPolicy lastProcessingFrames(final int numberOfFrames) {
+        if (numberOfFrames <= 0) {
+            throw new IllegalArgumentException("The number of kept processing frames must be positive, but was "
+                    + numberOfFrames);
+        }
+        return new ProcessingFrameHistoryPolicy(numberOfFrames);
+    }
+
+    /**
+     * Keeps only the frame of the current {@code Channel} and the frames of all {@code Calls}, that were not yet returned
+     * from. This is the minimum needed for {@code Call} and {@code Return} to work.
+     *
+     * @return the policy keeping only what {@code Call} and {@code Return} need
+     */
+    public static ProcessingFrameHistoryPolicy callAndReturnProcessingFramesOnly() {
+        return CALL_AND_RETURN_ONLY;
+    }
+
+    <T> void trim(final ProcessingContext<T> processingContext) {
+        if (maximumNumberOfFrames == UNBOUNDED) {
+            return;
+        }
+        ChannelProcessingFrame<T> oldestKeptFrame = processingContext.getCurrentProcessingFrame();
+        for (int i = 1; i < maximumNumberOfFrames && oldestKeptFrame != null; i++) {
+            oldestKeptFrame = oldestKeptFrame.getPreviousFrame();
+        }
+        if (oldestKeptFrame == null || oldestKeptFrame.getPreviousFrame() == null) {
+            return;
+        }
+        ChannelProcessingFrame<T> frame = oldestKeptFrame.getPreviousFrame();
+        while (frame != null) {
+            final ChannelProcessingFrame<T> previousFrame = frame.getPreviousFrame();
+            if (isNotYetReturnedCall(frame)) {
+                oldestKeptFrame = frame;
+            } else {
+                oldestKeptFrame.setPreviousFrame(previousFrame);
+                if (previousFrame != null) {
+                    previousFrame.setNextFrame(oldestKeptFrame);
+                }
+                discard(frame, processingContext);
+            }
+            frame = previousFrame;
+        }
+        processingContext.setInitialProcessingFrame(oldestKeptFrame);
+    }
+
+    private static <T> boolean isNotYetReturnedCall(final ChannelProcessingFrame<T> frame) {
+        final Action<T> action = frame.getAction();
+        return action instanceof Call && ((Call<T>) action).getReturnFrame() == null;
+    }
+
+    private static <T> void discard(final ChannelProcessingFrame<T> frame, final ProcessingContext<T> processingContext) {
+        frame.setPreviousFrame(null);
+        frame.setNextFrame(null);
+        final Action<T> action = frame.getAction();
+        if (!(action instanceof Call) && !(action instanceof Return)) {
+            processingContext.discardProcessingFrame(frame);
+        }
+    }
+}
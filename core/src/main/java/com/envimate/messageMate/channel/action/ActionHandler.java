@@ -23,6 +23,8 @@ package com.envimate.messageMate.channel.action;
 
 import com.envimate.messageMate.processingContext.ProcessingContext;
 
+import java.util.List;
+
 /**
  * {@code ActionHandler} are responsible to handle the execution of the final {@code Action} of a {@code Channel}.
  *
@@ -45,4 +47,20 @@ public interface ActionHandler<T extends Action<R>, R> {
      * @param processingContext the message
      */
     void handle(T action, ProcessingContext<R> processingContext);
+
+    /**
+     * Handle the execution of the given {@code Action} for several messages, that reached the end of the {@code Channel}
+     * together in a batch.
+     *
+     * <p>By default each message is handled on its own. {@code ActionHandlers} able to pass the whole batch on, e.g. to
+     * {@code BatchSubscribers}, can override this method.</p>
+     *
+     * @param action             the {@code Action} this handler was written for
+     * @param processingContexts the messages of the batch in the order they were sent
+     */
+    default void handleBatch(final T action, final List<ProcessingContext<R>> processingContexts) {
+        for (final ProcessingContext<R> processingContext : processingContexts) {
+            handle(action, processingContext);
+        }
+    }
 }
@@ -26,6 +26,7 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -33,6 +34,9 @@ import static lombok.AccessLevel.PRIVATE;
 /**
  * The {@code Consume} {@code Action} calls the given consumer for every message that reached the end of the {@code Channel}.
  *
+ * <p>Messages reaching the end of the {@code Channel} together in a batch are given to the batch consumer, which calls the
+ * consumer for each message, if no dedicated batch consumer was set.</p>
+ *
  * @param <T> the type of messages of the {@code Channel}
  *
  * @see <a href="https://github.com/envimate/message-mate#consume">Message Mate Documentation</a>
@@ -42,6 +46,7 @@ import static lombok.AccessLevel.PRIVATE;
 @RequiredArgsConstructor(access = PRIVATE)
 public final class Consume<T> implements Action<T> {
     private final Consumer<ProcessingContext<T>> consumer;
+    private final Consumer<List<ProcessingContext<T>>> batchConsumer;
 
     /**
      * Factory method for creating a new {@code Consume} {@code Action} for a consumer accepting {@code ProcessingContext}.
@@ -51,7 +56,20 @@ public final class Consume<T> implements Action<T> {
      * @return a new {@code Consume} {@code Action}
      */
     public static <T> Consume<T> consumeMessage(final Consumer<ProcessingContext<T>> consumer) {
-        return new Consume<>(consumer);
+        return new Consume<>(consumer, processingContexts -> processingContexts.forEach(consumer));
+    }
+
+    /**
+     * Factory method for creating a new {@code Consume} {@code Action}, that handles batches of messages separately.
+     *
+     * @param consumer      consumer to be called for each message delivered on its own
+     * @param batchConsumer consumer to be called for each batch of messages
+     * @param <T>           the type of the {@code Channels} payload
+     * @return a new {@code Consume} {@code Action}
+     */
+    public static <T> Consume<T> consumeMessage(final Consumer<ProcessingContext<T>> consumer,
+                                                final Consumer<List<ProcessingContext<T>>> batchConsumer) {
+        return new Consume<>(consumer, batchConsumer);
     }
 
     /**
@@ -62,7 +80,7 @@ public final class Consume<T> implements Action<T> {
      * @return a new {@code Consume} {@code Action}
      */
     public static <T> Consume<T> consumePayload(final Consumer<T> consumer) {
-        return new Consume<>(processingContext -> {
+        return consumeMessage(processingContext -> {
             final T payload = processingContext.getPayload();
             consumer.accept(payload);
         });
@@ -76,4 +94,13 @@ public final class Consume<T> implements Action<T> {
     public void accept(final ProcessingContext<T> processingContext) {
         consumer.accept(processingContext);
     }
+
+    /**
+     * Executes the batch consumer with the given messages
+     *
+     * @param processingContexts the messages of the batch
+     */
+    public void acceptBatch(final List<ProcessingContext<T>> processingContexts) {
+        batchConsumer.accept(processingContexts);
+    }
 }
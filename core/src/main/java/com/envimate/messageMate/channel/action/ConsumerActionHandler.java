@@ -24,6 +24,8 @@ package com.envimate.messageMate.channel.action;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+
 import static lombok.AccessLevel.PRIVATE;
 
 /**
@@ -56,5 +58,16 @@ public final class ConsumerActionHandler<T> implements ActionHandler<Consume<T>,
     public void handle(final Consume<T> consume, final ProcessingContext<T> processingContext) {
         consume.accept(processingContext);
     }
+
+    /**
+     * Will call the {@code Consume} {@code Action's} batch consumer.
+     *
+     * @param consume            the {@code Consume} {@code Action} to be handled
+     * @param processingContexts the messages of the batch
+     */
+    @Override
+    public void handleBatch(final Consume<T> consume, final List<ProcessingContext<T>> processingContexts) {
+        consume.acceptBatch(processingContexts);
+    }
 }
 
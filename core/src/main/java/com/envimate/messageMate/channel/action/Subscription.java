@@ -21,35 +21,40 @@
 
 package com.envimate.messageMate.channel.action;
 
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.subscribing.AcceptingBehavior;
+import com.envimate.messageMate.subscribing.BatchSubscriber;
 import com.envimate.messageMate.subscribing.ConsumerSubscriber;
 import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static com.envimate.messageMate.internal.subscribing.SubscriberRegistry.subscriberRegistry;
 import static com.envimate.messageMate.subscribing.ConsumerSubscriber.consumerSubscriber;
+import static java.util.Collections.unmodifiableList;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
  * A {@code Subscription} object manages a list of {@code Subscribers}. Each message is distributed to each {@code Subscriber},
- * if no exception occurred.
+ * if no exception occurred. Messages reaching the {@code Subscription} in a batch are given to {@code BatchSubscribers} in a
+ * single call.
  *
  * @param <T> the type of messages of the {@code Channel}
  * @see <a href="https://github.com/envimate/message-mate#subscription">Message Mate Documentation</a>
  */
 @RequiredArgsConstructor(access = PRIVATE)
 public final class Subscription<T> implements Action<T> {
-    /* Use CopyOnWriteArrayList, because
-     - concurrent collection
+    /* Use SubscriberRegistry, because
+     - concurrent collection with logarithmic time subscribe and unsubscribe
      - can call unsubscribe inside of subscriber and still maintaining order (DocumentBus.until relies on that property)
      */
-    private final List<Subscriber<ProcessingContext<T>>> subscribers = new CopyOnWriteArrayList<>();
+    private final SubscriberRegistry<ProcessingContext<T>> subscribers = subscriberRegistry();
 
     /**
      * Creates a new {@code Subscription} object.
@@ -79,7 +84,11 @@ public final class Subscription<T> implements Action<T> {
      * @return the wrapping {@code Subscriber's} {@code SubscriptionId}
      */
     public SubscriptionId addSubscriber(final Subscriber<T> subscriber) {
-        return addRawSubscriber(new WrappingRawSubscriber(subscriber));
+        if (subscriber instanceof BatchSubscriber) {
+            return addRawSubscriber(new WrappingRawBatchSubscriber((BatchSubscriber<T>) subscriber));
+        } else {
+            return addRawSubscriber(new WrappingRawSubscriber(subscriber));
+        }
     }
 
     /**
@@ -115,9 +124,9 @@ public final class Subscription<T> implements Action<T> {
     }
 
     public List<Subscriber<?>> getAllSubscribers() {
-        return subscribers.stream()
+        return subscribers.snapshot().stream()
                 .map(s -> {
-                    if (s.getClass().equals(WrappingRawSubscriber.class)) {
+                    if (s instanceof Subscription.WrappingRawSubscriber) {
                         return ((WrappingRawSubscriber) s).subscriber;
                     } else {
                         return s;
@@ -126,11 +135,11 @@ public final class Subscription<T> implements Action<T> {
     }
 
     List<Subscriber<ProcessingContext<T>>> getRealSubscribers() {
-        return subscribers;
+        return subscribers.snapshot();
     }
 
     /**
-     * Removes the given {@code Subscriber}.
+     * Removes the given {@code Subscriber}. If it was added several times, all of them are removed.
      *
      * @param subscriber the {@code Subscriber} to be removed
      */
@@ -145,10 +154,10 @@ public final class Subscription<T> implements Action<T> {
      * @param subscriptionId the {@code SubscriptionId}, for which all {@code Subscribers} should be removed.
      */
     public void removeSubscriber(final SubscriptionId subscriptionId) {
-        subscribers.removeIf(subscriber -> subscriber.getSubscriptionId().equals(subscriptionId));
+        subscribers.remove(subscriptionId);
     }
 
-    private final class WrappingRawSubscriber implements Subscriber<ProcessingContext<T>> {
+    private class WrappingRawSubscriber implements Subscriber<ProcessingContext<T>> {
         private final Subscriber<T> subscriber;
 
         private WrappingRawSubscriber(final Subscriber<T> subscriber) {
@@ -166,4 +175,23 @@ public final class Subscription<T> implements Action<T> {
             return subscriber.getSubscriptionId();
         }
     }
+
+    private final class WrappingRawBatchSubscriber extends WrappingRawSubscriber
+            implements BatchSubscriber<ProcessingContext<T>> {
+        private final BatchSubscriber<T> batchSubscriber;
+
+        private WrappingRawBatchSubscriber(final BatchSubscriber<T> batchSubscriber) {
+            super(batchSubscriber);
+            this.batchSubscriber = batchSubscriber;
+        }
+
+        @Override
+        public AcceptingBehavior acceptBatch(final List<ProcessingContext<T>> messages) {
+            final List<T> payloads = new ArrayList<>(messages.size());
+            for (final ProcessingContext<T> message : messages) {
+                payloads.add(message.getPayload());
+            }
+            return batchSubscriber.acceptBatch(unmodifiableList(payloads));
+        }
+    }
 }
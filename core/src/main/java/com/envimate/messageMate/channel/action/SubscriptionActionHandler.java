@@ -23,11 +23,14 @@ package com.envimate.messageMate.channel.action;
 
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.subscribing.AcceptingBehavior;
+import com.envimate.messageMate.subscribing.BatchSubscriber;
 import com.envimate.messageMate.subscribing.Subscriber;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Collections.unmodifiableList;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
@@ -65,4 +68,33 @@ public final class SubscriptionActionHandler<T> implements ActionHandler<Subscri
             }
         }
     }
+
+    /**
+     * Takes the messages and delivers them to all {@code Subscribers}. {@code BatchSubscribers} receive all messages, that
+     * were not preempted by a previous {@code Subscriber}, in a single call. All other {@code Subscribers} receive them one
+     * by one.
+     *
+     * @param subscription       the {@code Subscription} {@code Action}
+     * @param processingContexts the messages of the batch
+     */
+    @Override
+    public void handleBatch(final Subscription<T> subscription, final List<ProcessingContext<T>> processingContexts) {
+        final List<ProcessingContext<T>> remainingMessages = new ArrayList<>(processingContexts);
+        final List<Subscriber<ProcessingContext<T>>> subscribers = subscription.getRealSubscribers();
+        for (final Subscriber<ProcessingContext<T>> subscriber : subscribers) {
+            if (subscriber instanceof BatchSubscriber) {
+                final BatchSubscriber<ProcessingContext<T>> batchSubscriber = (BatchSubscriber<ProcessingContext<T>>) subscriber;
+                final List<ProcessingContext<T>> batch = unmodifiableList(new ArrayList<>(remainingMessages));
+                final AcceptingBehavior acceptingBehavior = batchSubscriber.acceptBatch(batch);
+                if (!acceptingBehavior.continueDelivery()) {
+                    return;
+                }
+            } else {
+                remainingMessages.removeIf(message -> !subscriber.accept(message).continueDelivery());
+                if (remainingMessages.isEmpty()) {
+                    return;
+                }
+            }
+        }
+    }
 }
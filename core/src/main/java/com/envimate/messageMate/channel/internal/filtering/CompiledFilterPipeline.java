@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.channel.internal.filtering;
+
+import com.envimate.messageMate.filtering.Filter;
+import com.envimate.messageMate.filtering.PassThroughFilter;
+import com.envimate.messageMate.filtering.TypeGuardedFilter;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+final class CompiledFilterPipeline<T> {
+    private final Filter<T>[] filters;
+    private final Class<?>[] guardedTypes;
+    private final boolean[] passThrough;
+
+    static <T> CompiledFilterPipeline<T> compile(final List<List<Filter<T>>> filterStages) {
+        final List<Filter<T>> compiledFilters = new ArrayList<>();
+        final List<PassThroughFilter<T>> currentPassThroughFilters = new ArrayList<>();
+        for (final List<Filter<T>> filters : filterStages) {
+            for (final Filter<T> filter : filters) {
+                if (filter instanceof PassThroughFilter && guardedTypeOf(filter) == null) {
+                    currentPassThroughFilters.add((PassThroughFilter<T>) filter);
+                } else {
+                    addCollapsed(currentPassThroughFilters, compiledFilters);
+                    compiledFilters.add(filter);
+                }
+            }
+        }
+        addCollapsed(currentPassThroughFilters, compiledFilters);
+        return fromFilters(compiledFilters);
+    }
+
+    private static <T> void addCollapsed(final List<PassThroughFilter<T>> passThroughFilters,
+                                         final List<Filter<T>> compiledFilters) {
+        if (passThroughFilters.size() == 1) {
+            compiledFilters.add(passThroughFilters.get(0));
+        } else if (passThroughFilters.size() > 1) {
+            compiledFilters.add(new CollapsedPassThroughFilter<>(new ArrayList<>(passThroughFilters)));
+        }
+        passThroughFilters.clear();
+    }
+
+    private static <T> CompiledFilterPipeline<T> fromFilters(final List<Filter<T>> compiledFilters) {
+        final int numberOfFilters = compiledFilters.size();
+        final Filter<T>[] filters = toArray(compiledFilters);
+        final Class<?>[] guardedTypes = new Class<?>[numberOfFilters];
+        final boolean[] passThrough = new boolean[numberOfFilters];
+        for (int i = 0; i < numberOfFilters; i++) {
+            guardedTypes[i] = guardedTypeOf(filters[i]);
+            passThrough[i] = filters[i] instanceof PassThroughFilter;
+        }
+        return new CompiledFilterPipeline<>(filters, guardedTypes, passThrough);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Filter<T>[] toArray(final List<Filter<T>> filters) {
+        return (Filter<T>[]) filters.toArray(new Filter<?>[filters.size()]);
+    }
+
+    private static Class<?> guardedTypeOf(final Filter<?> filter) {
+        if (filter instanceof TypeGuardedFilter) {
+            final Class<?> guardedType = ((TypeGuardedFilter<?>) filter).guardedType();
+            if (guardedType != null && guardedType != Object.class) {
+                return guardedType;
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return filters.length;
+    }
+
+    Filter<T> filterAt(final int index) {
+        return filters[index];
+    }
+
+    boolean isPassThrough(final int index) {
+        return passThrough[index];
+    }
+
+    boolean isSkippedFor(final int index, final T message) {
+        final Class<?> guardedType = guardedTypes[index];
+        if (guardedType == null) {
+            return false;
+        } else {
+            return !guardedType.isInstance(payloadOf(message));
+        }
+    }
+
+    private static Object payloadOf(final Object message) {
+        if (message instanceof ProcessingContext) {
+            return ((ProcessingContext<?>) message).getPayload();
+        } else {
+            return message;
+        }
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class CollapsedPassThroughFilter<T> implements PassThroughFilter<T> {
+        private final List<PassThroughFilter<T>> passThroughFilters;
+
+        @Override
+        public void inspect(final T message) {
+            for (int i = 0; i < passThroughFilters.size(); i++) {
+                passThroughFilters.get(i).inspect(message);
+            }
+        }
+    }
+}
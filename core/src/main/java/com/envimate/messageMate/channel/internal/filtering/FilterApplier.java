@@ -21,11 +21,9 @@
 
 package com.envimate.messageMate.channel.internal.filtering;
 
-import com.envimate.messageMate.filtering.Filter;
-
-import java.util.List;
-
 public interface FilterApplier<T> {
 
-    void applyAll(T message, List<Filter<T>> filters, PostFilterActions<T> postFilterActions);
+    void applyAll(T message, PostFilterActions<T> postFilterActions);
+
+    void recompile();
 }
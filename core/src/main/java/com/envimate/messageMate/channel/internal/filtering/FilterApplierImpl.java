@@ -23,57 +23,123 @@ package com.envimate.messageMate.channel.internal.filtering;
 
 import com.envimate.messageMate.filtering.Filter;
 import com.envimate.messageMate.filtering.FilterActions;
+import com.envimate.messageMate.filtering.PassThroughFilter;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayDeque;
 import java.util.List;
 
-@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+/* Applies the filter of all stages (e.g. pre, process and post) one after another. The filter lists are compiled into an
+   immutable CompiledFilterPipeline whenever they change, so that each message only reads one volatile reference. The
+   filter are executed in a loop instead of recursively out of pass, so that long filter chains do not grow the stack. The
+   FilterActions objects are reused per thread. A stack of them is kept, because a filter can send a message on another
+   Channel, which applies its own filter on the same thread, before the outer filter has decided. */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class FilterApplierImpl<T> implements FilterApplier<T> {
+    private static final ThreadLocal<ArrayDeque<CurrentFilterActions<?>>> UNUSED_FILTER_ACTIONS =
+            ThreadLocal.withInitial(ArrayDeque::new);
+    private final List<List<Filter<T>>> filterStages;
+    private volatile CompiledFilterPipeline<T> pipeline;
+
+    public static <T> FilterApplierImpl<T> filterApplier(final List<List<Filter<T>>> filterStages) {
+        final FilterApplierImpl<T> filterApplier = new FilterApplierImpl<>(filterStages);
+        filterApplier.recompile();
+        return filterApplier;
+    }
+
+    @Override
+    public synchronized void recompile() {
+        pipeline = CompiledFilterPipeline.compile(filterStages);
+    }
 
     @Override
     public void applyAll(final T message,
-                         final List<Filter<T>> filters,
                          final PostFilterActions<T> postFilterActions) {
-        if (filters.isEmpty()) {
-            postFilterActions.onAllPassed(message);
-            return;
+        final CurrentFilterActions<T> filterActions = acquireFilterActions();
+        final Decision decision;
+        final T resultingMessage;
+        try {
+            applyAllStages(message, filterActions);
+            decision = filterActions.decision;
+            resultingMessage = filterActions.message;
+        } finally {
+            releaseFilterActions(filterActions);
+        }
+        switch (decision) {
+            case PASSED:
+                postFilterActions.onAllPassed(resultingMessage);
+                break;
+            case BLOCKED:
+                postFilterActions.onBlock(resultingMessage);
+                break;
+            default:
+                postFilterActions.onForgotten(resultingMessage);
+                break;
         }
+    }
 
-        final CurrentFilterActions filterActions = new CurrentFilterActions(filters, postFilterActions);
-        final Filter<T> firstFilter = filters.get(0);
-        firstFilter.apply(message, filterActions);
-        if (filterActions.messageWasForgotten()) {
-            postFilterActions.onForgotten(message);
+    private void applyAllStages(final T message, final CurrentFilterActions<T> filterActions) {
+        final CompiledFilterPipeline<T> currentPipeline = pipeline;
+        filterActions.pass(message);
+        for (int filterIndex = 0; filterIndex < currentPipeline.size(); filterIndex++) {
+            final T currentMessage = filterActions.message;
+            if (currentPipeline.isSkippedFor(filterIndex, currentMessage)) {
+                continue;
+            }
+            final Filter<T> filter = currentPipeline.filterAt(filterIndex);
+            if (currentPipeline.isPassThrough(filterIndex)) {
+                ((PassThroughFilter<T>) filter).inspect(currentMessage);
+            } else {
+                filterActions.awaitDecision(currentMessage);
+                filter.apply(currentMessage, filterActions);
+                if (filterActions.decision != Decision.PASSED) {
+                    return;
+                }
+            }
         }
     }
 
-    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-    private final class CurrentFilterActions implements FilterActions<T> {
-        private final List<Filter<T>> filters;
-        private final PostFilterActions<T> postFilterActions;
-        private int currentFilterIndex;
-        private boolean messageNotForgotten;
+    @SuppressWarnings("unchecked")
+    private static <T> CurrentFilterActions<T> acquireFilterActions() {
+        final CurrentFilterActions<?> unusedFilterActions = UNUSED_FILTER_ACTIONS.get().pollFirst();
+        if (unusedFilterActions != null) {
+            return (CurrentFilterActions<T>) unusedFilterActions;
+        } else {
+            return new CurrentFilterActions<>();
+        }
+    }
+
+    private static void releaseFilterActions(final CurrentFilterActions<?> filterActions) {
+        filterActions.message = null;
+        UNUSED_FILTER_ACTIONS.get().addFirst(filterActions);
+    }
+
+    private enum Decision {
+        PENDING,
+        PASSED,
+        BLOCKED
+    }
+
+    private static final class CurrentFilterActions<T> implements FilterActions<T> {
+        private Decision decision;
+        private T message;
+
+        private void awaitDecision(final T currentMessage) {
+            this.decision = Decision.PENDING;
+            this.message = currentMessage;
+        }
 
         @Override
         public void block(final T message) {
-            messageNotForgotten = true;
-            postFilterActions.onBlock(message);
+            this.decision = Decision.BLOCKED;
+            this.message = message;
         }
 
         @Override
         public void pass(final T message) {
-            if (++currentFilterIndex < filters.size()) {
-                final Filter<T> nextFilter = filters.get(currentFilterIndex);
-                nextFilter.apply(message, this);
-            } else {
-                messageNotForgotten = true;
-                postFilterActions.onAllPassed(message);
-            }
-        }
-
-        public boolean messageWasForgotten() {
-            return !messageNotForgotten;
+            this.decision = Decision.PASSED;
+            this.message = message;
         }
     }
 }
@@ -31,6 +31,8 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
+import static com.envimate.messageMate.configuration.ForkJoinPoolExecutorFactory.forkJoinPoolExecutorFactory;
+import static com.envimate.messageMate.configuration.ThreadPoolExecutorFactory.threadPoolExecutorFactory;
 import static java.lang.Integer.MAX_VALUE;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -41,7 +43,17 @@ public class AsynchronousConfiguration {
     public static final int DEFAULT_MAXIMUM_POOL_SIZE = 2;
     public static final int DEFAULT_MAXIMUM_TIMEOUT = 60;
     public static final TimeUnit DEFAULT_TIMEUNIT = SECONDS;
+    /**
+     * @deprecated sharing a single queue between all default configured {@code Pipes} couples their workloads. Without an
+     * explicitly set working queue each {@code Pipe} now creates its own unbounded queue.
+     */
+    @Deprecated
     public static final LinkedBlockingQueue<Runnable> DEFAULT_WORKING_QUEUE = new LinkedBlockingQueue<>();
+    public static final int DEFAULT_RING_BUFFER_CAPACITY = 1024;
+    public static final WaitStrategy DEFAULT_WAIT_STRATEGY = WaitStrategy.PARK;
+    public static final int DEFAULT_MAXIMUM_BATCH_SIZE = 1;
+    public static final int DEFAULT_MAXIMUM_BATCH_WAIT_IN_MICROSECONDS = 0;
+    public static final int DEFAULT_MAXIMUM_CONCURRENT_DELIVERIES = MAX_VALUE;
     @Getter
     @Setter
     private int corePoolSize = DEFAULT_CORE_POOL_SIZE;
@@ -56,7 +68,28 @@ public class AsynchronousConfiguration {
     private TimeUnit timeoutTimeUnit = DEFAULT_TIMEUNIT;
     @Getter
     @Setter
-    private BlockingQueue<Runnable> threadPoolWorkingQueue = DEFAULT_WORKING_QUEUE;
+    private BlockingQueue<Runnable> threadPoolWorkingQueue;
+    @Getter
+    @Setter
+    private ExecutorFactory executorFactory = threadPoolExecutorFactory();
+    @Getter
+    @Setter
+    private int ringBufferCapacity = DEFAULT_RING_BUFFER_CAPACITY;
+    @Getter
+    @Setter
+    private WaitStrategy waitStrategy = DEFAULT_WAIT_STRATEGY;
+    @Getter
+    @Setter
+    private int maximumBatchSize = DEFAULT_MAXIMUM_BATCH_SIZE;
+    @Getter
+    @Setter
+    private int maximumBatchWaitInMicroseconds = DEFAULT_MAXIMUM_BATCH_WAIT_IN_MICROSECONDS;
+    @Getter
+    @Setter
+    private boolean threadPerDelivery;
+    @Getter
+    @Setter
+    private int maximumConcurrentDeliveries = DEFAULT_MAXIMUM_CONCURRENT_DELIVERIES;
 
     public AsynchronousConfiguration() {
     }
@@ -81,4 +114,51 @@ public class AsynchronousConfiguration {
         return new AsynchronousConfiguration(poolSize, poolSize, MAX_VALUE, SECONDS, threadPoolWorkingQueue);
     }
 
+    public static AsynchronousConfiguration ringBufferAsynchronousConfiguration(final int poolSize,
+                                                                                final int ringBufferCapacity,
+                                                                                final WaitStrategy waitStrategy) {
+        final AsynchronousConfiguration configuration = new AsynchronousConfiguration();
+        configuration.setCorePoolSize(poolSize);
+        configuration.setMaximumPoolSize(poolSize);
+        configuration.setRingBufferCapacity(ringBufferCapacity);
+        configuration.setWaitStrategy(waitStrategy);
+        return configuration;
+    }
+
+    public static AsynchronousConfiguration batchingAsynchronousConfiguration(final int poolSize,
+                                                                              final int maximumBatchSize,
+                                                                              final int maximumBatchWaitInMicroseconds) {
+        final AsynchronousConfiguration configuration = constantPoolSizeAsynchronousConfiguration(poolSize);
+        configuration.setMaximumBatchSize(maximumBatchSize);
+        configuration.setMaximumBatchWaitInMicroseconds(maximumBatchWaitInMicroseconds);
+        return configuration;
+    }
+
+    public static AsynchronousConfiguration forkJoinPoolAsynchronousConfiguration(final int parallelism) {
+        final AsynchronousConfiguration configuration = new AsynchronousConfiguration();
+        configuration.setCorePoolSize(parallelism);
+        configuration.setMaximumPoolSize(parallelism);
+        configuration.setExecutorFactory(forkJoinPoolExecutorFactory());
+        return configuration;
+    }
+
+    public static AsynchronousConfiguration virtualThreadAsynchronousConfiguration(final int maximumConcurrentDeliveries) {
+        final AsynchronousConfiguration configuration = new AsynchronousConfiguration();
+        configuration.setThreadPerDelivery(true);
+        configuration.setMaximumConcurrentDeliveries(maximumConcurrentDeliveries);
+        return configuration;
+    }
+
+    public boolean isBatchingEnabled() {
+        return maximumBatchSize > 1;
+    }
+
+    /* counts the currently queued tasks as well, so that the bound does not depend on the Pipes already using the queue */
+    public int getThreadPoolWorkingQueueBound() {
+        if (threadPoolWorkingQueue == null || threadPoolWorkingQueue.remainingCapacity() == MAX_VALUE) {
+            return MAX_VALUE;
+        }
+        return threadPoolWorkingQueue.size() + threadPoolWorkingQueue.remainingCapacity();
+    }
+
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates the {@code ExecutorService}, that executes the deliveries of an asynchronous {@code Pipe}. A new
+ * {@code ExecutorService} is created for each {@code Pipe}, so that {@code Pipes} never share their queues.
+ *
+ * @see ThreadPoolExecutorFactory
+ * @see ForkJoinPoolExecutorFactory
+ */
+@FunctionalInterface
+public interface ExecutorFactory {
+
+    /**
+     * Creates a new {@code ExecutorService} for the given configuration.
+     *
+     * @param configuration the {@code AsynchronousConfiguration} of the {@code Pipe}
+     * @return a new {@code ExecutorService}
+     */
+    ExecutorService createExecutor(AsynchronousConfiguration configuration);
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.configuration;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.util.concurrent.ForkJoinPool.defaultForkJoinWorkerThreadFactory;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * An {@code ExecutorFactory}, that creates a work-stealing {@code ForkJoinPool} per {@code Pipe}. The parallelism of the
+ * pool is the core pool size of the {@code AsynchronousConfiguration}.
+ *
+ * <p>Messages sent by a subscriber while it is executed on one of the pool's workers are queued on the local deque of
+ * that worker, instead of a queue shared by all workers. Idle workers steal queued deliveries from busy ones. The pool
+ * runs in FIFO mode, so that deliveries are started in the order they were queued on each worker.</p>
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = PRIVATE)
+public final class ForkJoinPoolExecutorFactory implements ExecutorFactory {
+
+    /**
+     * Creates a new {@code ForkJoinPoolExecutorFactory}.
+     *
+     * @return a new {@code ForkJoinPoolExecutorFactory}
+     */
+    public static ForkJoinPoolExecutorFactory forkJoinPoolExecutorFactory() {
+        return new ForkJoinPoolExecutorFactory();
+    }
+
+    @Override
+    public ExecutorService createExecutor(final AsynchronousConfiguration configuration) {
+        final int parallelism = configuration.getCorePoolSize();
+        final boolean asyncMode = true;
+        return new ForkJoinPool(parallelism, defaultForkJoinWorkerThreadFactory, null, asyncMode);
+    }
+}
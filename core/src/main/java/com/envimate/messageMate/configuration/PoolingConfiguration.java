@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.configuration;
+
+import com.envimate.messageMate.processingContext.ProcessingContextLeakException;
+import com.envimate.messageMate.processingContext.ProcessingContextLeakTracker;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.function.Consumer;
+
+@ToString
+@EqualsAndHashCode
+public class PoolingConfiguration {
+    public static final int DEFAULT_MAXIMUM_POOL_SIZE = 1024;
+    @Getter
+    @Setter
+    private int maximumPoolSize = DEFAULT_MAXIMUM_POOL_SIZE;
+    @Getter
+    @Setter
+    private Consumer<ProcessingContextLeakException> leakListener;
+    @Getter
+    @Setter
+    private ProcessingContextLeakTracker leakTracker;
+
+    public PoolingConfiguration() {
+    }
+
+    public PoolingConfiguration(final int maximumPoolSize, final Consumer<ProcessingContextLeakException> leakListener) {
+        this(maximumPoolSize, leakListener, null);
+    }
+
+    public PoolingConfiguration(final int maximumPoolSize,
+                                final Consumer<ProcessingContextLeakException> leakListener,
+                                final ProcessingContextLeakTracker leakTracker) {
+        this.maximumPoolSize = maximumPoolSize;
+        this.leakListener = leakListener;
+        this.leakTracker = leakTracker;
+    }
+
+    public static PoolingConfiguration poolingConfiguration(final int maximumPoolSize) {
+        return new PoolingConfiguration(maximumPoolSize, null);
+    }
+
+    public static PoolingConfiguration leakDetectingPoolingConfiguration(
+            final int maximumPoolSize,
+            final Consumer<ProcessingContextLeakException> leakListener) {
+        return new PoolingConfiguration(maximumPoolSize, leakListener);
+    }
+
+    public static PoolingConfiguration leakDetectingPoolingConfiguration(
+            final int maximumPoolSize,
+            final Consumer<ProcessingContextLeakException> leakListener,
+            final ProcessingContextLeakTracker leakTracker) {
+        return new PoolingConfiguration(maximumPoolSize, leakListener, leakTracker);
+    }
+
+    public boolean isLeakDetectionEnabled() {
+        return leakListener != null;
+    }
+}
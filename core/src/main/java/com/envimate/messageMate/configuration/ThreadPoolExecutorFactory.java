@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.configuration;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.lang.Integer.MAX_VALUE;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * The default {@code ExecutorFactory}. It creates a {@code ThreadPoolExecutor} from the pool sizes, timeout and working
+ * queue of the {@code AsynchronousConfiguration}. If no working queue was configured, each {@code Pipe} gets its own
+ * unbounded queue. A bounded working queue only defines the bound: each {@code Pipe} gets its own queue of this bound, so
+ * that {@code Pipes} created from the same configuration do not take each other's capacity.
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = PRIVATE)
+public final class ThreadPoolExecutorFactory implements ExecutorFactory {
+
+    /**
+     * Creates a new {@code ThreadPoolExecutorFactory}.
+     *
+     * @return a new {@code ThreadPoolExecutorFactory}
+     */
+    public static ThreadPoolExecutorFactory threadPoolExecutorFactory() {
+        return new ThreadPoolExecutorFactory();
+    }
+
+    @Override
+    public ExecutorService createExecutor(final AsynchronousConfiguration configuration) {
+        final BlockingQueue<Runnable> queue = workingQueue(configuration);
+        return new ThreadPoolExecutor(configuration.getCorePoolSize(), configuration.getMaximumPoolSize(),
+                configuration.getMaximumTimeout(), configuration.getTimeoutTimeUnit(), queue);
+    }
+
+    private BlockingQueue<Runnable> workingQueue(final AsynchronousConfiguration configuration) {
+        final BlockingQueue<Runnable> configuredQueue = configuration.getThreadPoolWorkingQueue();
+        if (configuredQueue == null) {
+            return new LinkedBlockingQueue<>();
+        }
+        final int bound = configuration.getThreadPoolWorkingQueueBound();
+        if (bound == MAX_VALUE || bound == 0) {
+            return configuredQueue;
+        } else {
+            return new LinkedBlockingQueue<>(bound);
+        }
+    }
+}
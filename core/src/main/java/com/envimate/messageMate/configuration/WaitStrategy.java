@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.configuration;
+
+/**
+ * Defines how the worker Threads of a ring buffer based {@code Pipe} wait for new messages, when the ring buffer is empty.
+ *
+ * <p>{@code BUSY_SPIN} gives the lowest latency, but occupies a full core per worker Thread. {@code YIELD} gives the
+ * Thread back to the scheduler between polls. {@code PARK} parks the worker Thread for a short interval and is the most
+ * cpu friendly choice.</p>
+ */
+public enum WaitStrategy {
+    BUSY_SPIN,
+    YIELD,
+    PARK
+}
@@ -37,6 +37,9 @@ public interface Filter<T> {
      * For each message the {@code Filter} should call either {@code filterActions.pass} to continue the message's propagation
      * through the {@code Channel} or it should call {@code filterActions.block} to stop the delivery of the message.
      *
+     * <p>The decision has to be made before {@code apply} returns. The {@code filterActions} object is reused for later
+     * messages and must not be stored.</p>
+     *
      * @param message       the current message
      * @param filterActions the {@code FilterActions}
      */
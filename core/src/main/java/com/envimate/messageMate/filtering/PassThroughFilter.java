@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.filtering;
+
+import com.envimate.messageMate.channel.Channel;
+
+/**
+ * A {@link Filter}, that never blocks or replaces a message and only inspects it, e.g. for tracing or metrics.
+ *
+ * <p>Because a {@code PassThroughFilter} always passes, consecutive {@code PassThroughFilters} are collapsed into a single
+ * step and executed without the {@link FilterActions} bookkeeping of regular {@code Filter}.</p>
+ *
+ * @param <T> the type of messages of the {@link Channel}
+ * @see <a href="https://github.com/envimate/message-mate#adding-filter-to-channel">Message Mate Documentation</a>
+ */
+public interface PassThroughFilter<T> extends Filter<T> {
+
+    /**
+     * Called for each message, that traversed the {@code Channel} up to this {@code Filter}. The message always continues
+     * its propagation afterwards.
+     *
+     * @param message the current message
+     */
+    void inspect(T message);
+
+    @Override
+    default void apply(final T message, final FilterActions<T> filterActions) {
+        inspect(message);
+        filterActions.pass(message);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.filtering;
+
+import com.envimate.messageMate.channel.Channel;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+
+/**
+ * A {@link Filter}, that is only interested in messages of a certain type.
+ *
+ * <p>The {@code Filter} is only applied to messages, whose payload is an instance of the guarded type. All other messages
+ * pass the {@code Filter} unchanged without calling it. For {@code Filter} on {@link ProcessingContext} objects the
+ * payload of the {@code ProcessingContext} is checked.</p>
+ *
+ * @param <T> the type of messages of the {@link Channel}
+ * @see <a href="https://github.com/envimate/message-mate#adding-filter-to-channel">Message Mate Documentation</a>
+ */
+public interface TypeGuardedFilter<T> extends Filter<T> {
+
+    /**
+     * Returns the type of payloads, this {@code Filter} should be applied to.
+     *
+     * @return the guarded type
+     */
+    Class<?> guardedType();
+}
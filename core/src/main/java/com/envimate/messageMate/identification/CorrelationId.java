@@ -61,9 +61,9 @@ public final class CorrelationId {
     }
 
     /**
-     * Creates a new, randomly generated {@code CorrelationId}.
+     * Creates a new, unique {@code CorrelationId} using the current {@link UniqueIdGenerator}.
      *
-     * @return the new, randomly generated {@code CorrelationId}
+     * @return the new, unique {@code CorrelationId}
      */
     public static CorrelationId newUniqueCorrelationId() {
         final MessageId uniqueMessageId = MessageId.newUniqueMessageId();
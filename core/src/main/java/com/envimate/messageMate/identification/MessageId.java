@@ -29,8 +29,8 @@ import lombok.ToString;
 
 import java.util.UUID;
 
+import static com.envimate.messageMate.identification.UniqueIdGenerators.newUniqueUuid;
 import static com.envimate.messageMate.internal.enforcing.StringValidator.cleaned;
-import static java.util.UUID.randomUUID;
 
 /**
  * Unique identifier for a messages.
@@ -57,12 +57,13 @@ public final class MessageId {
     }
 
     /**
-     * Creates a new, randomly generated {@code MessageId}.
+     * Creates a new, unique {@code MessageId} using the current {@link UniqueIdGenerator}.
      *
-     * @return the new, randomly generated {@code MessageId}
+     * @return the new, unique {@code MessageId}
+     * @see UniqueIdGenerators
      */
     public static MessageId newUniqueMessageId() {
-        final UUID uuid = randomUUID();
+        final UUID uuid = newUniqueUuid();
         return new MessageId(uuid);
     }
 
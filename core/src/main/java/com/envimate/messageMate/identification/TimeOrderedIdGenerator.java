@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.identification;
+
+import lombok.RequiredArgsConstructor;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/*
+ * Layout of the generated ids, from the most to the least significant bit:
+ * 48 bits unix milliseconds | 4 bits version 7 | 12 high sequence bits ||
+ * 2 bits IETF variant | 16 bits node | 46 low sequence bits.
+ * The 58 bit sequence is shared by all threads of a generator. Each thread reserves a block of it at a time, so that
+ * no sequence number is used twice before the sequence wraps around after 2^58 ids. As these can never be generated
+ * within the same millisecond, a sequence number used again comes with another timestamp. When the sequence wraps
+ * around within the same millisecond of a thread, the timestamp is advanced by one, so that the ids of a thread keep
+ * increasing.
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+final class TimeOrderedIdGenerator implements UniqueIdGenerator {
+    private static final int MAXIMUM_NODE_ID = 0xFFFF;
+    private static final int TIMESTAMP_SHIFT = 16;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long IETF_VARIANT = 0x8000000000000000L;
+    private static final int NODE_SHIFT = 46;
+    private static final int LOW_SEQUENCE_BITS = 46;
+    private static final long LOW_SEQUENCE_MASK = (1L << LOW_SEQUENCE_BITS) - 1;
+    private static final long HIGH_SEQUENCE_MASK = 0xFFFL;
+    private static final long SEQUENCE_MASK = (1L << 58) - 1;
+    private static final int SEQUENCE_BLOCK_SIZE = 1 << 16;
+
+    private final ThreadLocal<ThreadState> threadStates = ThreadLocal.withInitial(ThreadState::new);
+    private final long nodeBits;
+    private final AtomicLong sequence;
+
+    static TimeOrderedIdGenerator timeOrderedIdGenerator() {
+        final int nodeId = new SecureRandom().nextInt(MAXIMUM_NODE_ID + 1);
+        return timeOrderedIdGenerator(nodeId);
+    }
+
+    static TimeOrderedIdGenerator timeOrderedIdGenerator(final int nodeId) {
+        final long initialSequence = new SecureRandom().nextLong();
+        return timeOrderedIdGenerator(nodeId, initialSequence);
+    }
+
+    static TimeOrderedIdGenerator timeOrderedIdGenerator(final int nodeId, final long initialSequence) {
+        if (nodeId < 0 || nodeId > MAXIMUM_NODE_ID) {
+            throw new IllegalArgumentException("The node id has to be between 0 and " + MAXIMUM_NODE_ID + ", but was " + nodeId);
+        }
+        final long nodeBits = IETF_VARIANT | (((long) nodeId) << NODE_SHIFT);
+        return new TimeOrderedIdGenerator(nodeBits, new AtomicLong(initialSequence));
+    }
+
+    @Override
+    public UUID newUniqueId() {
+        final ThreadState threadState = threadStates.get();
+        if (threadState.nextSequence == threadState.endOfBlock) {
+            threadState.nextSequence = sequence.getAndAdd(SEQUENCE_BLOCK_SIZE);
+            threadState.endOfBlock = threadState.nextSequence + SEQUENCE_BLOCK_SIZE;
+        }
+        final long sequenceNumber = threadState.nextSequence & SEQUENCE_MASK;
+        threadState.nextSequence++;
+        final long lastTimestamp = threadState.lastTimestamp;
+        long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+        if (sequenceNumber <= threadState.lastSequenceNumber && timestamp == lastTimestamp) {
+            timestamp++;
+        }
+        threadState.lastSequenceNumber = sequenceNumber;
+        threadState.lastTimestamp = timestamp;
+        final long highSequenceBits = (sequenceNumber >>> LOW_SEQUENCE_BITS) & HIGH_SEQUENCE_MASK;
+        final long mostSignificantBits = (timestamp << TIMESTAMP_SHIFT) | VERSION_7 | highSequenceBits;
+        final long leastSignificantBits = nodeBits | (sequenceNumber & LOW_SEQUENCE_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static final class ThreadState {
+        private long nextSequence;
+        private long endOfBlock;
+        private long lastSequenceNumber = -1;
+        private long lastTimestamp;
+    }
+}
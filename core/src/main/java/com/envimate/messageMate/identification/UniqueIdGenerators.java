@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.identification;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Creates the available {@link UniqueIdGenerator UniqueIdGenerators} and holds the one used for all newly created ids.
+ *
+ * <p>By default a time ordered generator is used. It does not touch {@link java.security.SecureRandom} after its creation
+ * and reserves its sequence numbers in blocks per thread, so that generating ids does neither block on entropy nor
+ * contend between threads for every id. The ids are still {@code UUIDs}, so that their string forms and the parsing via {@code fromString} stay unchanged.</p>
+ *
+ * @see <a href="https://github.com/envimate/message-mate#generating-ids">Message Mate Documentation</a>
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class UniqueIdGenerators {
+    private static volatile UniqueIdGenerator currentIdGenerator = timeOrderedIdGenerator();
+
+    /**
+     * Creates a generator for version 7 {@code UUIDs}, that are ordered by their creation time and prefixed with a node id
+     * randomly chosen for this generator.
+     *
+     * <p>Ids generated by the same thread are strictly increasing. Ids of different threads are kept apart by a sequence
+     * shared by the generator, of which each thread reserves a block at a time, so threads rarely coordinate.</p>
+     *
+     * @return a new time ordered {@code UniqueIdGenerator}
+     */
+    public static UniqueIdGenerator timeOrderedIdGenerator() {
+        return TimeOrderedIdGenerator.timeOrderedIdGenerator();
+    }
+
+    /**
+     * Creates a generator for version 7 {@code UUIDs}, that are ordered by their creation time and prefixed with the given
+     * node id. Use distinct node ids to keep the ids of several processes apart without relying on chance.
+     *
+     * @param nodeId the node id between {@code 0} and {@code 65535}
+     * @return a new time ordered {@code UniqueIdGenerator}
+     * @throws IllegalArgumentException if the node id does not fit into 16 bits
+     */
+    public static UniqueIdGenerator timeOrderedIdGenerator(final int nodeId) {
+        return TimeOrderedIdGenerator.timeOrderedIdGenerator(nodeId);
+    }
+
+    /**
+     * Returns a generator creating random version 4 {@code UUIDs} using {@link UUID#randomUUID()}. This was the behaviour of
+     * previous versions. It relies on {@code SecureRandom} and can block, if the system runs short of entropy.
+     *
+     * @return the random {@code UniqueIdGenerator}
+     */
+    public static UniqueIdGenerator randomIdGenerator() {
+        return UUID::randomUUID;
+    }
+
+    /**
+     * Replaces the {@code UniqueIdGenerator} used for all ids created from now on.
+     *
+     * @param idGenerator the {@code UniqueIdGenerator} to use
+     */
+    public static void useIdGenerator(final UniqueIdGenerator idGenerator) {
+        ensureNotNull(idGenerator, "idGenerator");
+        currentIdGenerator = idGenerator;
+    }
+
+    /**
+     * Returns the {@code UniqueIdGenerator} currently used for newly created ids.
+     *
+     * @return the current {@code UniqueIdGenerator}
+     */
+    public static UniqueIdGenerator currentIdGenerator() {
+        return currentIdGenerator;
+    }
+
+    /**
+     * Generates a new {@code UUID} with the current {@code UniqueIdGenerator}.
+     *
+     * @return the new {@code UUID}
+     */
+    public static UUID newUniqueUuid() {
+        return currentIdGenerator.newUniqueId();
+    }
+}
@@ -24,12 +24,25 @@ package com.envimate.messageMate.internal.collections.filtermap;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
 
+/*
+ * Entries are checked in the order they were registered, the first matching one wins. Entries created from a
+ * TypeFilter do not depend on the second condition. They are resolved once per requested type and cached in a ClassValue,
+ * which does not keep the requested types and their class loaders alive, so that only the remaining filters registered
+ * before the resolved entry need to be tested on each lookup. Other first conditions are not cached.
+ */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class FilterMap<F, G, T> {
+    private final ClassValue<Resolution<F, G, T>> resolutions = new ClassValue<>() {
+        @Override
+        protected Resolution<F, G, T> computeValue(final Class<?> requestedType) {
+            return resolve(requestedType);
+        }
+    };
     private final List<FilterMapEntry<F, G, T>> entries;
     private final T defaultValue;
 
@@ -37,15 +50,55 @@ public final class FilterMap<F, G, T> {
                                                   final T defaultValue) {
         ensureNotNull(entries, "entries");
         ensureNotNull(defaultValue, "defaultValue");
-        return new FilterMap<>(entries, defaultValue);
+        return new FilterMap<>(List.copyOf(entries), defaultValue);
     }
 
     public T get(final F condition1,
                  final G condition2) {
-        return entries.stream()
-                .filter(entry -> entry.test(condition1, condition2))
-                .map(FilterMapEntry::value)
-                .findFirst()
-                .orElse(defaultValue);
+        if (!(condition1 instanceof Class)) {
+            return scan(condition1, condition2);
+        }
+        final Resolution<F, G, T> resolution = resolutions.get((Class<?>) condition1);
+        return resolution.get(condition1, condition2);
+    }
+
+    private T scan(final F condition1,
+                   final G condition2) {
+        for (final FilterMapEntry<F, G, T> entry : entries) {
+            if (entry.test(condition1, condition2)) {
+                return entry.value();
+            }
+        }
+        return defaultValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Resolution<F, G, T> resolve(final Class<?> requestedType) {
+        final F condition1 = (F) requestedType;
+        final List<FilterMapEntry<F, G, T>> remainingEntries = new ArrayList<>();
+        for (final FilterMapEntry<F, G, T> entry : entries) {
+            if (!entry.dependsOnlyOnFirstCondition()) {
+                remainingEntries.add(entry);
+            } else if (entry.test(condition1, null)) {
+                return new Resolution<>(remainingEntries, entry.value());
+            }
+        }
+        return new Resolution<>(remainingEntries, defaultValue);
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Resolution<F, G, T> {
+        private final List<FilterMapEntry<F, G, T>> remainingEntries;
+        private final T resolvedValue;
+
+        T get(final F condition1,
+              final G condition2) {
+            for (final FilterMapEntry<F, G, T> entry : remainingEntries) {
+                if (entry.test(condition1, condition2)) {
+                    return entry.value();
+                }
+            }
+            return resolvedValue;
+        }
     }
 }
@@ -44,6 +44,10 @@ final class FilterMapEntry<F, G, T> {
         return filter.test(condidtion1, condidtion2);
     }
 
+    boolean dependsOnlyOnFirstCondition() {
+        return filter instanceof TypeFilter;
+    }
+
     T value() {
         return value;
     }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.collections.filtermap;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.BiPredicate;
+
+import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/*
+ * Matches all requested types, that are assignable to the given type, regardless of the second condition. This allows
+ * the FilterMap to resolve it once per requested type instead of on every lookup.
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class TypeFilter<F extends Class<?>, G> implements BiPredicate<F, G> {
+    private final Class<?> type;
+
+    public static <F extends Class<?>, G> TypeFilter<F, G> typeFilter(final Class<?> type) {
+        ensureNotNull(type, "type");
+        return new TypeFilter<>(type);
+    }
+
+    @Override
+    public boolean test(final F requestedType,
+                        final G ignored) {
+        return type.isAssignableFrom(requestedType);
+    }
+}
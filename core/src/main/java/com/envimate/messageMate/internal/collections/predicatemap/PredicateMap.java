@@ -23,29 +23,76 @@ package com.envimate.messageMate.internal.collections.predicatemap;
 
 import lombok.RequiredArgsConstructor;
 
-import java.util.Map;
-import java.util.function.Predicate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
 import static lombok.AccessLevel.PRIVATE;
 
+/*
+ * Entries are checked in the order they were registered, the first matching one wins. Entries created from a
+ * TypePredicate are resolved once per class of the condition and cached, so that only the remaining predicates
+ * registered before the resolved entry need to be tested on each lookup.
+ */
 @RequiredArgsConstructor(access = PRIVATE)
 public final class PredicateMap<P, T> {
-    private final Map<Predicate<P>, T> entries;
+    private final ClassValue<Resolution<P, T>> resolutions = new ClassValue<>() {
+        @Override
+        protected Resolution<P, T> computeValue(final Class<?> conditionClass) {
+            return resolve(conditionClass);
+        }
+    };
+    private final List<PredicateMapEntry<P, T>> entries;
     private final T defaultValue;
 
-    static <P, T> PredicateMap<P, T> predicateMap(final Map<Predicate<P>, T> entries,
+    static <P, T> PredicateMap<P, T> predicateMap(final List<PredicateMapEntry<P, T>> entries,
                                                   final T defaultValue) {
         ensureNotNull(entries, "entries");
         ensureNotNull(defaultValue, "defaultValue");
-        return new PredicateMap<>(entries, defaultValue);
+        return new PredicateMap<>(List.copyOf(entries), defaultValue);
     }
 
     public T get(final P condition) {
-        return entries.entrySet().stream()
-                .filter(e -> e.getKey().test(condition))
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(defaultValue);
+        if (condition == null) {
+            return scan(null);
+        }
+        final Resolution<P, T> resolution = resolutions.get(condition.getClass());
+        return resolution.get(condition);
+    }
+
+    private T scan(final P condition) {
+        for (final PredicateMapEntry<P, T> entry : entries) {
+            if (entry.test(condition)) {
+                return entry.value();
+            }
+        }
+        return defaultValue;
+    }
+
+    private Resolution<P, T> resolve(final Class<?> conditionClass) {
+        final List<PredicateMapEntry<P, T>> remainingEntries = new ArrayList<>();
+        for (final PredicateMapEntry<P, T> entry : entries) {
+            if (!entry.isTypeBased()) {
+                remainingEntries.add(entry);
+            } else if (entry.matchesInstancesOf(conditionClass)) {
+                return new Resolution<>(remainingEntries, entry.value());
+            }
+        }
+        return new Resolution<>(remainingEntries, defaultValue);
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class Resolution<P, T> {
+        private final List<PredicateMapEntry<P, T>> remainingEntries;
+        private final T resolvedValue;
+
+        T get(final P condition) {
+            for (final PredicateMapEntry<P, T> entry : remainingEntries) {
+                if (entry.test(condition)) {
+                    return entry.value();
+                }
+            }
+            return resolvedValue;
+        }
     }
 }
@@ -24,25 +24,26 @@ package com.envimate.messageMate.internal.collections.predicatemap;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import static com.envimate.messageMate.internal.collections.predicatemap.PredicateMap.predicateMap;
+import static com.envimate.messageMate.internal.collections.predicatemap.PredicateMapEntry.predicateMapEntry;
 import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PredicateMapBuilder<P, T> {
-    private final Map<Predicate<P>, T> entries;
+    private final List<PredicateMapEntry<P, T>> entries;
     private T defaultValue;
 
     public static <P, T> PredicateMapBuilder<P, T> predicateMapBuilder() {
-        final Map<Predicate<P>, T> entries = new HashMap<>();
-        return new PredicateMapBuilder<>(entries);
+        return new PredicateMapBuilder<>(new ArrayList<>());
     }
 
     public PredicateMapBuilder<P, T> put(final Predicate<P> filter, final T value) {
-        entries.put(filter, value);
+        final PredicateMapEntry<P, T> entry = predicateMapEntry(filter, value);
+        entries.add(entry);
         return this;
     }
 
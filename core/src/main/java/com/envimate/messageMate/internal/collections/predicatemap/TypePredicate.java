@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.collections.predicatemap;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Predicate;
+
+import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/*
+ * Matches all instances of a type. Its outcome only depends on the class of the tested value, which allows the
+ * PredicateMap to resolve it once per class instead of on every lookup.
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class TypePredicate<P> implements Predicate<P> {
+    private final Class<?> type;
+
+    public static <P> TypePredicate<P> typePredicate(final Class<?> type) {
+        ensureNotNull(type, "type");
+        return new TypePredicate<>(type);
+    }
+
+    @Override
+    public boolean test(final P value) {
+        return type.isInstance(value);
+    }
+
+    boolean matchesInstancesOf(final Class<?> valueClass) {
+        return type.isAssignableFrom(valueClass);
+    }
+}
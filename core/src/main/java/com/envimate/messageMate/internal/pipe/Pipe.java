@@ -25,6 +25,7 @@ import com.envimate.messageMate.internal.autoclosable.NoErrorAutoClosable;
 import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -32,6 +33,16 @@ public interface Pipe<T> extends NoErrorAutoClosable {
 
     void send(T message);
 
+    boolean trySend(T message);
+
+    boolean send(T message, long timeout, TimeUnit timeUnit) throws InterruptedException;
+
+    void sendAwaitingCapacity(T message) throws InterruptedException;
+
+    void sendBatch(List<T> messages);
+
+    long remainingCapacity();
+
     SubscriptionId subscribe(Subscriber<T> subscriber);
 
     SubscriptionId subscribe(Consumer<T> consumer);
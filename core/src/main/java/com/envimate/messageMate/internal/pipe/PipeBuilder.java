@@ -27,16 +27,20 @@ import com.envimate.messageMate.internal.pipe.error.PipeErrorHandler;
 import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
 import com.envimate.messageMate.internal.pipe.events.SimplePipeEventListener;
 import com.envimate.messageMate.internal.pipe.statistics.PipeStatisticsCollector;
+import com.envimate.messageMate.internal.pipe.transport.Partitioning;
 import com.envimate.messageMate.internal.pipe.transport.TransportMechanism;
-import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
 import lombok.RequiredArgsConstructor;
 
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import static com.envimate.messageMate.internal.pipe.PipeType.ASYNCHRONOUS;
+import static com.envimate.messageMate.internal.pipe.PipeType.PARTITIONED;
+import static com.envimate.messageMate.internal.pipe.PipeType.RING_BUFFER;
 import static com.envimate.messageMate.internal.pipe.PipeType.SYNCHRONOUS;
 import static com.envimate.messageMate.internal.pipe.statistics.AtomicPipeStatisticsCollector.atomicPipeStatisticsCollector;
 import static com.envimate.messageMate.internal.pipe.transport.TransportMechanismFactory.transportMechanism;
+import static com.envimate.messageMate.internal.subscribing.SubscriberRegistry.subscriberRegistry;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
@@ -46,6 +50,9 @@ public final class PipeBuilder<T> {
     private PipeErrorHandler<T> errorHandler = new ErrorThrowingPipeErrorHandler<>();
     private PipeEventListener<T> eventListener;
     private AsynchronousConfiguration asynchronousConfiguration;
+    private Partitioning<T> partitioning;
+    private Consumer<T> droppedMessageHandler = message -> {
+    };
 
     public static <T> PipeBuilder<T> aPipe() {
         return new PipeBuilder<>();
@@ -65,6 +72,11 @@ public final class PipeBuilder<T> {
         return this;
     }
 
+    public PipeBuilder<T> withPartitioning(final Partitioning<T> partitioning) {
+        this.partitioning = partitioning;
+        return this;
+    }
+
     public PipeBuilder<T> withStatisticsCollector(final PipeStatisticsCollector statisticsCollector) {
         this.statisticsCollector = statisticsCollector;
         return this;
@@ -75,6 +87,11 @@ public final class PipeBuilder<T> {
         return this;
     }
 
+    public PipeBuilder<T> withDroppedMessageHandler(final Consumer<T> droppedMessageHandler) {
+        this.droppedMessageHandler = droppedMessageHandler;
+        return this;
+    }
+
     public PipeBuilder<T> withErrorHandler(final PipeErrorHandler<T> errorHandler) {
         this.errorHandler = errorHandler;
         return this;
@@ -82,12 +99,15 @@ public final class PipeBuilder<T> {
 
     public Pipe<T> build() {
         final PipeEventListener<T> eventListener = createEventListener();
-        final CopyOnWriteArrayList<Subscriber<T>> subscribers = new CopyOnWriteArrayList<>();
-        if (pipeType.equals(ASYNCHRONOUS) && asynchronousConfiguration == null) {
+        final SubscriberRegistry<T> subscribers = subscriberRegistry();
+        if ((pipeType.equals(ASYNCHRONOUS) || pipeType.equals(RING_BUFFER)) && asynchronousConfiguration == null) {
             throw new IllegalArgumentException("Asynchronous configuration required.");
         }
+        if (pipeType.equals(PARTITIONED) && partitioning == null) {
+            throw new IllegalArgumentException("Partitioning required.");
+        }
         final TransportMechanism<T> tTransportMechanism = transportMechanism(pipeType, eventListener, errorHandler,
-                subscribers, asynchronousConfiguration);
+                subscribers, asynchronousConfiguration, partitioning);
         return new PipeImpl<>(tTransportMechanism, statisticsCollector, subscribers);
     }
 
@@ -95,7 +115,7 @@ public final class PipeBuilder<T> {
         if (eventListener != null) {
             return eventListener;
         } else {
-            return new SimplePipeEventListener<>(statisticsCollector);
+            return new SimplePipeEventListener<>(statisticsCollector, droppedMessageHandler);
         }
     }
 
@@ -25,6 +25,7 @@ import com.envimate.messageMate.exceptions.AlreadyClosedException;
 import com.envimate.messageMate.internal.pipe.statistics.PipeStatistics;
 import com.envimate.messageMate.internal.pipe.statistics.PipeStatisticsCollector;
 import com.envimate.messageMate.internal.pipe.transport.TransportMechanism;
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
 import com.envimate.messageMate.subscribing.ConsumerSubscriber;
 import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
@@ -38,11 +39,11 @@ import static com.envimate.messageMate.subscribing.ConsumerSubscriber.consumerSu
 public final class PipeImpl<T> implements Pipe<T> {
     private final TransportMechanism<T> transportMechanism;
     private final PipeStatisticsCollector statisticsCollector;
-    private final List<Subscriber<T>> subscribers;
+    private final SubscriberRegistry<T> subscribers;
     private volatile boolean closedAlreadyCalled;
 
     public PipeImpl(final TransportMechanism<T> transportMechanism, final PipeStatisticsCollector statisticsCollector,
-                    final List<Subscriber<T>> subscribers) {
+                    final SubscriberRegistry<T> subscribers) {
         this.transportMechanism = transportMechanism;
         this.statisticsCollector = statisticsCollector;
         this.subscribers = subscribers;
@@ -57,6 +58,47 @@ public final class PipeImpl<T> implements Pipe<T> {
         }
     }
 
+    @Override
+    public boolean trySend(final T message) {
+        if (!closedAlreadyCalled) {
+            return transportMechanism.tryTransport(message);
+        } else {
+            throw new AlreadyClosedException();
+        }
+    }
+
+    @Override
+    public boolean send(final T message, final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        if (!closedAlreadyCalled) {
+            return transportMechanism.transport(message, timeout, timeUnit);
+        } else {
+            throw new AlreadyClosedException();
+        }
+    }
+
+    @Override
+    public void sendAwaitingCapacity(final T message) throws InterruptedException {
+        if (!closedAlreadyCalled) {
+            transportMechanism.transportAwaitingCapacity(message);
+        } else {
+            throw new AlreadyClosedException();
+        }
+    }
+
+    @Override
+    public void sendBatch(final List<T> messages) {
+        if (!closedAlreadyCalled) {
+            transportMechanism.transportBatch(messages);
+        } else {
+            throw new AlreadyClosedException();
+        }
+    }
+
+    @Override
+    public long remainingCapacity() {
+        return transportMechanism.remainingCapacity();
+    }
+
     @Override
     public SubscriptionId subscribe(final Subscriber<T> subscriber) {
         if (!closedAlreadyCalled) {
@@ -76,7 +118,7 @@ public final class PipeImpl<T> implements Pipe<T> {
     @Override
     public void unsubscribe(final SubscriptionId subscriptionId) {
         if (!closedAlreadyCalled) {
-            subscribers.removeIf(subscriber -> subscriber.getSubscriptionId().equals(subscriptionId));
+            subscribers.remove(subscriptionId);
         } else {
             throw new AlreadyClosedException();
         }
@@ -92,7 +134,7 @@ public final class PipeImpl<T> implements Pipe<T> {
 
             @Override
             public List<Subscriber<T>> getAllSubscribers() {
-                return subscribers;
+                return subscribers.snapshot();
             }
         };
     }
@@ -23,5 +23,7 @@ package com.envimate.messageMate.internal.pipe;
 
 public enum PipeType {
     SYNCHRONOUS,
-    ASYNCHRONOUS
+    ASYNCHRONOUS,
+    RING_BUFFER,
+    PARTITIONED
 }
@@ -32,4 +32,6 @@ public interface PipeEventListener<T> {
     void messageDeliverySucceeded(T message);
 
     void messageDeliveryFailed(T message, Exception cause);
+
+    void messageDropped(T message);
 }
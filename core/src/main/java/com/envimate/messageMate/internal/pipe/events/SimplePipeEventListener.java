@@ -25,9 +25,12 @@ import com.envimate.messageMate.internal.pipe.statistics.PipeStatisticsCollector
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.util.function.Consumer;
+
 @RequiredArgsConstructor(access = AccessLevel.PUBLIC)
 public class SimplePipeEventListener<T> implements PipeEventListener<T> {
     private final PipeStatisticsCollector statisticsCollector;
+    private final Consumer<T> droppedMessageHandler;
 
     @Override
     public void messageAccepted(final T message) {
@@ -53,4 +56,10 @@ public class SimplePipeEventListener<T> implements PipeEventListener<T> {
     public void messageDeliveryFailed(final T message, final Exception cause) {
         statisticsCollector.informMessageDeliveryFailed();
     }
+
+    @Override
+    public void messageDropped(final T message) {
+        statisticsCollector.informMessageDequeued();
+        droppedMessageHandler.accept(message);
+    }
 }
@@ -21,60 +21,196 @@
 
 package com.envimate.messageMate.internal.pipe.transport;
 
+import com.envimate.messageMate.exceptions.AlreadyClosedException;
 import com.envimate.messageMate.internal.exceptions.BubbleUpWrappedException;
 import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
-import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
-import static lombok.AccessLevel.PUBLIC;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static lombok.AccessLevel.PRIVATE;
 
-@RequiredArgsConstructor(access = PUBLIC)
+@RequiredArgsConstructor(access = PRIVATE)
 public final class AsynchronousTransportMechanism<T> implements TransportMechanism<T> {
+    private static final long RETRY_INTERVAL_IN_NANOS = MICROSECONDS.toNanos(100);
     private final PipeEventListener<T> eventListener;
     private final SynchronousDelivery<T> synchronousDelivery;
-    private final List<Subscriber<T>> subscribers;
-    private final ThreadPoolExecutor threadPoolExecutor;
+    private final SubscriberRegistry<T> subscribers;
+    private final ExecutorService executorService;
+    private final Semaphore credits;
+
+    public static <T> AsynchronousTransportMechanism<T> asynchronousTransportMechanism(
+            final PipeEventListener<T> eventListener,
+            final SynchronousDelivery<T> synchronousDelivery,
+            final SubscriberRegistry<T> subscribers,
+            final ExecutorService executorService) {
+        return new AsynchronousTransportMechanism<>(eventListener, synchronousDelivery, subscribers, executorService, null);
+    }
+
+    public static <T> AsynchronousTransportMechanism<T> boundedAsynchronousTransportMechanism(
+            final PipeEventListener<T> eventListener,
+            final SynchronousDelivery<T> synchronousDelivery,
+            final SubscriberRegistry<T> subscribers,
+            final ExecutorService executorService,
+            final int capacity) {
+        final Semaphore credits = new Semaphore(capacity);
+        return new AsynchronousTransportMechanism<>(eventListener, synchronousDelivery, subscribers, executorService, credits);
+    }
 
     @Override
     public void transport(final T message) {
+        if (!tryTransport(message)) {
+            throw new PipeWaitingQueueIsFullException();
+        }
+    }
+
+    @Override
+    public boolean tryTransport(final T message) {
+        if (credits != null && !credits.tryAcquire()) {
+            return false;
+        }
+        acceptAndQueue(message);
+        if (submit(message)) {
+            return true;
+        } else {
+            giveUp(message);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean transport(final T message, final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        if (credits != null && !credits.tryAcquire(timeout, timeUnit)) {
+            return false;
+        }
+        acceptAndQueue(message);
+        while (!submit(message)) {
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0 || executorService.isShutdown()) {
+                giveUp(message);
+                return false;
+            }
+            waitBeforeRetry(message, Math.min(remainingNanos, RETRY_INTERVAL_IN_NANOS));
+        }
+        return true;
+    }
+
+    @Override
+    public void transportAwaitingCapacity(final T message) throws InterruptedException {
+        if (credits != null) {
+            credits.acquire();
+        }
+        acceptAndQueue(message);
+        while (!submit(message)) {
+            if (executorService.isShutdown()) {
+                giveUp(message);
+                throw new AlreadyClosedException();
+            }
+            waitBeforeRetry(message, RETRY_INTERVAL_IN_NANOS);
+        }
+    }
+
+    @Override
+    public long remainingCapacity() {
+        if (credits != null) {
+            return credits.availablePermits();
+        } else {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private void acceptAndQueue(final T message) {
         eventListener.messageAccepted(message);
         eventListener.messageQueued(message);
+    }
+
+    private boolean submit(final T message) {
         try {
-            threadPoolExecutor.execute(() -> {
-                eventListener.messageDequeued(message);
-                try {
-                    synchronousDelivery.deliver(message, subscribers);
-                } catch (final BubbleUpWrappedException e) {
-                    throw (RuntimeException) e.getCause();
-                }
-            });
+            executorService.execute(new Delivery<>(this, message));
+            return true;
         } catch (final RejectedExecutionException e) {
-            throw new PipeWaitingQueueIsFullException();
+            return false;
+        }
+    }
+
+    private void giveUp(final T message) {
+        eventListener.messageDequeued(message);
+        releaseCredit();
+    }
+
+    private void deliver(final T message) {
+        eventListener.messageDequeued(message);
+        try {
+            synchronousDelivery.deliver(message, subscribers.snapshot());
+        } catch (final BubbleUpWrappedException e) {
+            throw (RuntimeException) e.getCause();
+        } finally {
+            releaseCredit();
+        }
+    }
+
+    private void releaseCredit() {
+        if (credits != null) {
+            credits.release();
+        }
+    }
+
+    private void waitBeforeRetry(final T message, final long nanos) throws InterruptedException {
+        LockSupport.parkNanos(this, nanos);
+        if (Thread.interrupted()) {
+            giveUp(message);
+            throw new InterruptedException();
         }
     }
 
     @Override
     public void close(final boolean finishRemainingTasks) {
         if (finishRemainingTasks) {
-            threadPoolExecutor.shutdown();
+            executorService.shutdown();
         } else {
-            threadPoolExecutor.shutdownNow();
+            final List<Runnable> droppedDeliveries = executorService.shutdownNow();
+            droppedDeliveries.forEach(this::drop);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drop(final Runnable droppedDelivery) {
+        if (droppedDelivery instanceof Delivery) {
+            final T message = ((Delivery<T>) droppedDelivery).message;
+            eventListener.messageDropped(message);
+            releaseCredit();
         }
     }
 
     @Override
     public boolean isShutdown() {
-        return threadPoolExecutor.isShutdown();
+        return executorService.isShutdown();
     }
 
     @Override
     public boolean awaitTermination(final int timeout, final TimeUnit timeUnit) throws InterruptedException {
-        return threadPoolExecutor.awaitTermination(timeout, timeUnit);
+        return executorService.awaitTermination(timeout, timeUnit);
+    }
+
+    /* A class instead of a lambda, so that the messages of the deliveries never started before a shutdownNow can still be
+       handed to the PipeEventListener. */
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class Delivery<T> implements Runnable {
+        private final AsynchronousTransportMechanism<T> transportMechanism;
+        private final T message;
+
+        @Override
+        public void run() {
+            transportMechanism.deliver(message);
+        }
     }
 
 }
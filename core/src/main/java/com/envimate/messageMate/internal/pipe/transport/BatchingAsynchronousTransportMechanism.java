@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe.transport;
+
+import com.envimate.messageMate.configuration.AsynchronousConfiguration;
+import com.envimate.messageMate.internal.exceptions.BubbleUpWrappedException;
+import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public final class BatchingAsynchronousTransportMechanism<T> implements TransportMechanism<T> {
+    private static final int IDLE_POLL_INTERVAL_IN_MILLIS = 10;
+    private final PipeEventListener<T> eventListener;
+    private final SynchronousDelivery<T> synchronousDelivery;
+    private final SubscriberRegistry<T> subscribers;
+    private final BlockingQueue<T> queue;
+    private final int maximumBatchSize;
+    private final long maximumBatchWaitInNanos;
+    private final List<Thread> workerThreads;
+    private final AtomicInteger idleWorkers;
+    private volatile boolean shutdown;
+    private volatile boolean aborted;
+
+    private BatchingAsynchronousTransportMechanism(final PipeEventListener<T> eventListener,
+                                                   final SynchronousDelivery<T> synchronousDelivery,
+                                                   final SubscriberRegistry<T> subscribers,
+                                                   final BlockingQueue<T> queue,
+                                                   final int maximumBatchSize,
+                                                   final long maximumBatchWaitInNanos,
+                                                   final int numberOfWorkerThreads) {
+        this.eventListener = eventListener;
+        this.synchronousDelivery = synchronousDelivery;
+        this.subscribers = subscribers;
+        this.queue = queue;
+        this.maximumBatchSize = maximumBatchSize;
+        this.maximumBatchWaitInNanos = maximumBatchWaitInNanos;
+        this.workerThreads = new ArrayList<>(numberOfWorkerThreads);
+        this.idleWorkers = new AtomicInteger(numberOfWorkerThreads);
+        for (int i = 0; i < numberOfWorkerThreads; i++) {
+            final Thread workerThread = new Thread(this::processBatchesUntilShutdown, "messageMate-batching-worker-" + i);
+            workerThread.setDaemon(true);
+            workerThreads.add(workerThread);
+        }
+    }
+
+    public static <T> BatchingAsynchronousTransportMechanism<T> batchingAsynchronousTransportMechanism(
+            final PipeEventListener<T> eventListener,
+            final SynchronousDelivery<T> synchronousDelivery,
+            final SubscriberRegistry<T> subscribers,
+            final AsynchronousConfiguration configuration) {
+        final int numberOfWorkerThreads = configuration.getCorePoolSize();
+        if (numberOfWorkerThreads <= 0) {
+            throw new IllegalArgumentException("A batching pipe requires at least one worker thread.");
+        }
+        final BlockingQueue<T> queue = createQueue(configuration);
+        final int maximumBatchSize = configuration.getMaximumBatchSize();
+        final long maximumBatchWaitInNanos = MICROSECONDS.toNanos(configuration.getMaximumBatchWaitInMicroseconds());
+        final BatchingAsynchronousTransportMechanism<T> transportMechanism = new BatchingAsynchronousTransportMechanism<>(
+                eventListener, synchronousDelivery, subscribers, queue, maximumBatchSize, maximumBatchWaitInNanos,
+                numberOfWorkerThreads);
+        transportMechanism.workerThreads.forEach(Thread::start);
+        return transportMechanism;
+    }
+
+    private static <T> BlockingQueue<T> createQueue(final AsynchronousConfiguration configuration) {
+        final BlockingQueue<Runnable> configuredQueue = configuration.getThreadPoolWorkingQueue();
+        if (configuredQueue != null) {
+            final int capacity = configuration.getThreadPoolWorkingQueueBound();
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("A batching pipe requires a working queue with free capacity to queue its "
+                        + "messages, but the configured working queue has a capacity of " + capacity + ".");
+            }
+            return new LinkedBlockingQueue<>(capacity);
+        } else {
+            return new LinkedBlockingQueue<>();
+        }
+    }
+
+    @Override
+    public void transport(final T message) {
+        if (!tryTransport(message)) {
+            throw new PipeWaitingQueueIsFullException();
+        }
+    }
+
+    @Override
+    public boolean tryTransport(final T message) {
+        eventListener.messageAccepted(message);
+        eventListener.messageQueued(message);
+        if (queue.offer(message)) {
+            return true;
+        } else {
+            eventListener.messageDequeued(message);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean transport(final T message, final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        eventListener.messageAccepted(message);
+        eventListener.messageQueued(message);
+        if (queue.offer(message, timeout, timeUnit)) {
+            return true;
+        } else {
+            eventListener.messageDequeued(message);
+            return false;
+        }
+    }
+
+    @Override
+    public void transportAwaitingCapacity(final T message) throws InterruptedException {
+        eventListener.messageAccepted(message);
+        eventListener.messageQueued(message);
+        try {
+            queue.put(message);
+        } catch (final InterruptedException e) {
+            eventListener.messageDequeued(message);
+            throw e;
+        }
+    }
+
+    @Override
+    public long remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    private void processBatchesUntilShutdown() {
+        final List<T> batch = new ArrayList<>(maximumBatchSize);
+        while (!aborted) {
+            try {
+                collectBatch(batch);
+            } catch (final InterruptedException e) {
+                batch.forEach(eventListener::messageDropped);
+                return;
+            }
+            if (!batch.isEmpty()) {
+                deliver(batch);
+                batch.clear();
+                idleWorkers.incrementAndGet();
+            } else if (shutdown) {
+                return;
+            }
+        }
+    }
+
+    private void collectBatch(final List<T> batch) throws InterruptedException {
+        final T firstMessage = queue.poll(IDLE_POLL_INTERVAL_IN_MILLIS, MILLISECONDS);
+        if (firstMessage == null) {
+            return;
+        }
+        idleWorkers.decrementAndGet();
+        batch.add(firstMessage);
+        // further messages are left to idle workers, batches only form once all workers are busy
+        final long deadline = System.nanoTime() + maximumBatchWaitInNanos;
+        while (batch.size() < maximumBatchSize && idleWorkers.get() == 0) {
+            final long remainingNanos = deadline - System.nanoTime();
+            final T message;
+            if (remainingNanos > 0) {
+                message = queue.poll(remainingNanos, NANOSECONDS);
+            } else {
+                message = queue.poll();
+            }
+            if (message == null) {
+                return;
+            }
+            batch.add(message);
+        }
+    }
+
+    private void deliver(final List<T> batch) {
+        batch.forEach(eventListener::messageDequeued);
+        try {
+            synchronousDelivery.deliverBatch(batch, subscribers.snapshot(), this::passToUncaughtExceptionHandler);
+        } catch (final BubbleUpWrappedException e) {
+            passToUncaughtExceptionHandler(e.getCause());
+        } catch (final RuntimeException e) {
+            passToUncaughtExceptionHandler(e);
+        }
+    }
+
+    private void passToUncaughtExceptionHandler(final Throwable throwable) {
+        final Thread currentThread = Thread.currentThread();
+        currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, throwable);
+    }
+
+    @Override
+    public void close(final boolean finishRemainingTasks) {
+        shutdown = true;
+        if (!finishRemainingTasks) {
+            aborted = true;
+            workerThreads.forEach(Thread::interrupt);
+            dropRemainingMessages();
+        }
+    }
+
+    private void dropRemainingMessages() {
+        T message = queue.poll();
+        while (message != null) {
+            eventListener.messageDropped(message);
+            message = queue.poll();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(final int timeout, final TimeUnit timeUnit) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        for (final Thread workerThread : workerThreads) {
+            final long remainingMillis = NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis > 0) {
+                workerThread.join(remainingMillis);
+            }
+            if (workerThread.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe.transport;
+
+import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.envimate.messageMate.internal.pipe.transport.AsynchronousTransportMechanism.asynchronousTransportMechanism;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public final class PartitionedTransportMechanism<T> implements TransportMechanism<T> {
+    private final List<TransportMechanism<T>> lanes;
+    private final Function<T, ?> partitionKeyExtractor;
+
+    public static <T> PartitionedTransportMechanism<T> partitionedTransportMechanism(
+            final PipeEventListener<T> eventListener,
+            final SynchronousDelivery<T> synchronousDelivery,
+            final SubscriberRegistry<T> subscribers,
+            final Partitioning<T> partitioning) {
+        final int numberOfPartitions = partitioning.getNumberOfPartitions();
+        final List<TransportMechanism<T>> lanes = new ArrayList<>(numberOfPartitions);
+        for (int i = 0; i < numberOfPartitions; i++) {
+            final ThreadPoolExecutor singleThreadedExecutor = new ThreadPoolExecutor(1, 1, 0, MILLISECONDS,
+                    new LinkedBlockingQueue<>());
+            lanes.add(asynchronousTransportMechanism(eventListener, synchronousDelivery, subscribers, singleThreadedExecutor));
+        }
+        return new PartitionedTransportMechanism<>(List.copyOf(lanes), partitioning.getPartitionKeyExtractor());
+    }
+
+    @Override
+    public void transport(final T message) {
+        final TransportMechanism<T> lane = laneFor(message);
+        lane.transport(message);
+    }
+
+    private TransportMechanism<T> laneFor(final T message) {
+        final Object partitionKey = partitionKeyExtractor.apply(message);
+        if (partitionKey == null) {
+            return lanes.get(0);
+        }
+        final int hashCode = partitionKey.hashCode();
+        final int spreadHashCode = hashCode ^ (hashCode >>> 16);
+        final int laneIndex = Math.floorMod(spreadHashCode, lanes.size());
+        return lanes.get(laneIndex);
+    }
+
+    @Override
+    public void close(final boolean finishRemainingTasks) {
+        for (final TransportMechanism<T> lane : lanes) {
+            lane.close(finishRemainingTasks);
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return lanes.get(0).isShutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(final int timeout, final TimeUnit timeUnit) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        for (final TransportMechanism<T> lane : lanes) {
+            final long remainingNanos = Math.max(0, deadline - System.nanoTime());
+            final int remainingMillis = (int) NANOSECONDS.toMillis(remainingNanos);
+            if (!lane.awaitTermination(remainingMillis, MILLISECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe.transport;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free multi-producer multi-consumer ring buffer. All slots are allocated once during creation, so that
+ * offering and polling messages does not allocate.
+ *
+ * <p>Each slot carries a sequence number, that tells producers and consumers, whether the slot is free to be written or
+ * ready to be read for their current lap around the buffer.</p>
+ *
+ * @param <T> the type of the elements
+ */
+final class RingBuffer<T> {
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+
+    private RingBuffer(final int capacity) {
+        this.slots = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    static <T> RingBuffer<T> ringBuffer(final int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive, but was " + requestedCapacity);
+        }
+        final int capacity = nextPowerOfTwo(requestedCapacity);
+        return new RingBuffer<>(capacity);
+    }
+
+    private static int nextPowerOfTwo(final int value) {
+        final int highestOneBit = Integer.highestOneBit(value);
+        if (highestOneBit == value) {
+            return value;
+        } else {
+            return highestOneBit << 1;
+        }
+    }
+
+    boolean offer(final T element) {
+        long position = producerPosition.get();
+        while (true) {
+            final int index = (int) (position & mask);
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    slots[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    T poll() {
+        long position = consumerPosition.get();
+        while (true) {
+            final int index = (int) (position & mask);
+            final long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (consumerPosition.compareAndSet(position, position + 1)) {
+                    final T element = (T) slots[index];
+                    slots[index] = null;
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = consumerPosition.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = consumerPosition.get();
+            }
+        }
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /* also counts slots, that were claimed by a producer, which did not yet publish its element */
+    boolean isEmpty() {
+        final long consumedPosition = consumerPosition.get();
+        return consumedPosition >= producerPosition.get();
+    }
+
+    int size() {
+        final long size = producerPosition.get() - consumerPosition.get();
+        return (int) Math.max(0, Math.min(size, slots.length));
+    }
+}
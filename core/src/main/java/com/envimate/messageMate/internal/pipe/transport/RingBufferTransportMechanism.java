@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe.transport;
+
+import com.envimate.messageMate.configuration.AsynchronousConfiguration;
+import com.envimate.messageMate.configuration.WaitStrategy;
+import com.envimate.messageMate.exceptions.AlreadyClosedException;
+import com.envimate.messageMate.internal.exceptions.BubbleUpWrappedException;
+import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.envimate.messageMate.internal.pipe.transport.RingBuffer.ringBuffer;
+
+public final class RingBufferTransportMechanism<T> implements TransportMechanism<T> {
+    private static final long PARK_INTERVAL_IN_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private final PipeEventListener<T> eventListener;
+    private final SynchronousDelivery<T> synchronousDelivery;
+    private final SubscriberRegistry<T> subscribers;
+    private final RingBuffer<T> ringBuffer;
+    private final WaitStrategy waitStrategy;
+    private final List<Thread> workerThreads;
+    private final AtomicInteger offeringProducers = new AtomicInteger();
+    private volatile boolean shutdown;
+    private volatile boolean aborted;
+
+    private RingBufferTransportMechanism(final PipeEventListener<T> eventListener,
+                                         final SynchronousDelivery<T> synchronousDelivery,
+                                         final SubscriberRegistry<T> subscribers,
+                                         final RingBuffer<T> ringBuffer,
+                                         final WaitStrategy waitStrategy,
+                                         final int numberOfWorkerThreads) {
+        this.eventListener = eventListener;
+        this.synchronousDelivery = synchronousDelivery;
+        this.subscribers = subscribers;
+        this.ringBuffer = ringBuffer;
+        this.waitStrategy = waitStrategy;
+        this.workerThreads = new ArrayList<>(numberOfWorkerThreads);
+        for (int i = 0; i < numberOfWorkerThreads; i++) {
+            final Thread workerThread = new Thread(this::processMessagesUntilShutdown, "messageMate-ringBuffer-worker-" + i);
+            workerThread.setDaemon(true);
+            workerThreads.add(workerThread);
+        }
+    }
+
+    public static <T> RingBufferTransportMechanism<T> ringBufferTransportMechanism(
+            final PipeEventListener<T> eventListener,
+            final SynchronousDelivery<T> synchronousDelivery,
+            final SubscriberRegistry<T> subscribers,
+            final AsynchronousConfiguration configuration) {
+        final RingBuffer<T> ringBuffer = ringBuffer(configuration.getRingBufferCapacity());
+        final WaitStrategy waitStrategy = configuration.getWaitStrategy();
+        final int numberOfWorkerThreads = configuration.getCorePoolSize();
+        if (numberOfWorkerThreads <= 0) {
+            throw new IllegalArgumentException("A ring buffer pipe requires at least one worker thread.");
+        }
+        final RingBufferTransportMechanism<T> transportMechanism = new RingBufferTransportMechanism<>(eventListener,
+                synchronousDelivery, subscribers, ringBuffer, waitStrategy, numberOfWorkerThreads);
+        transportMechanism.workerThreads.forEach(Thread::start);
+        return transportMechanism;
+    }
+
+    @Override
+    public void transport(final T message) {
+        if (!tryTransport(message)) {
+            throw new PipeWaitingQueueIsFullException();
+        }
+    }
+
+    @Override
+    public boolean tryTransport(final T message) {
+        /* registered before checking the shutdown flag, so that the workers await the offer before terminating */
+        offeringProducers.incrementAndGet();
+        try {
+            if (shutdown) {
+                throw new AlreadyClosedException();
+            }
+            eventListener.messageAccepted(message);
+            eventListener.messageQueued(message);
+            if (ringBuffer.offer(message)) {
+                return true;
+            } else {
+                eventListener.messageDequeued(message);
+                return false;
+            }
+        } finally {
+            offeringProducers.decrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean transport(final T message, final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        while (true) {
+            if (remainingCapacity() > 0 && tryTransport(message)) {
+                return true;
+            }
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0 || shutdown) {
+                return false;
+            }
+            waitForCapacity(Math.min(remainingNanos, PARK_INTERVAL_IN_NANOS));
+        }
+    }
+
+    @Override
+    public void transportAwaitingCapacity(final T message) throws InterruptedException {
+        while (remainingCapacity() == 0 || !tryTransport(message)) {
+            if (shutdown) {
+                throw new AlreadyClosedException();
+            }
+            waitForCapacity(PARK_INTERVAL_IN_NANOS);
+        }
+    }
+
+    @Override
+    public long remainingCapacity() {
+        return ringBuffer.capacity() - ringBuffer.size();
+    }
+
+    private void waitForCapacity(final long nanos) throws InterruptedException {
+        LockSupport.parkNanos(this, nanos);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private void processMessagesUntilShutdown() {
+        while (!aborted) {
+            final T message = ringBuffer.poll();
+            if (message != null) {
+                deliver(message);
+            } else if (isDrainedAfterShutdown()) {
+                return;
+            } else {
+                waitForMessages();
+            }
+        }
+    }
+
+    private boolean isDrainedAfterShutdown() {
+        /* a null poll can also mean, that a claimed slot was not yet published, so the claimed positions decide */
+        return shutdown && offeringProducers.get() == 0 && ringBuffer.isEmpty();
+    }
+
+    private void deliver(final T message) {
+        eventListener.messageDequeued(message);
+        try {
+            synchronousDelivery.deliver(message, subscribers.snapshot());
+        } catch (final BubbleUpWrappedException e) {
+            passToUncaughtExceptionHandler(e.getCause());
+        } catch (final RuntimeException e) {
+            passToUncaughtExceptionHandler(e);
+        }
+    }
+
+    private void passToUncaughtExceptionHandler(final Throwable throwable) {
+        final Thread currentThread = Thread.currentThread();
+        currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, throwable);
+    }
+
+    private void waitForMessages() {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELD:
+                Thread.yield();
+                break;
+            case PARK:
+                LockSupport.parkNanos(this, PARK_INTERVAL_IN_NANOS);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown wait strategy " + waitStrategy);
+        }
+    }
+
+    @Override
+    public void close(final boolean finishRemainingTasks) {
+        shutdown = true;
+        if (!finishRemainingTasks) {
+            aborted = true;
+            workerThreads.forEach(Thread::interrupt);
+            dropRemainingMessages();
+        }
+    }
+
+    private void dropRemainingMessages() {
+        T message = ringBuffer.poll();
+        while (message != null) {
+            eventListener.messageDropped(message);
+            message = ringBuffer.poll();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean awaitTermination(final int timeout, final TimeUnit timeUnit) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        for (final Thread workerThread : workerThreads) {
+            final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis > 0) {
+                workerThread.join(remainingMillis);
+            }
+            if (workerThread.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
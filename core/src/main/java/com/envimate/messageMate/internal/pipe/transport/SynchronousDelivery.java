@@ -26,11 +26,15 @@ import com.envimate.messageMate.internal.pipe.error.PipeErrorHandler;
 import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
 import com.envimate.messageMate.internal.pipe.excepions.NoSuitableSubscriberException;
 import com.envimate.messageMate.subscribing.AcceptingBehavior;
+import com.envimate.messageMate.subscribing.BatchSubscriber;
 import com.envimate.messageMate.subscribing.Subscriber;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static java.util.Collections.unmodifiableList;
 import static lombok.AccessLevel.PACKAGE;
 
 @RequiredArgsConstructor(access = PACKAGE)
@@ -52,6 +56,34 @@ public final class SynchronousDelivery<T> {
         }
     }
 
+    public void deliverBatch(final List<T> messages,
+                             final List<Subscriber<T>> subscribers,
+                             final Consumer<Throwable> bubbledExceptionHandler) {
+        if (subscribers.isEmpty()) {
+            for (final T message : messages) {
+                try {
+                    handleNoSubscriberException(message);
+                } catch (final RuntimeException e) {
+                    bubbledExceptionHandler.accept(e);
+                }
+            }
+        } else {
+            final List<T> remainingMessages = new ArrayList<>(messages);
+            for (final Subscriber<T> subscriber : subscribers) {
+                if (subscriber instanceof BatchSubscriber) {
+                    deliverBatchTo(remainingMessages, (BatchSubscriber<T>) subscriber, bubbledExceptionHandler);
+                } else {
+                    remainingMessages.removeIf(message ->
+                            !deliverMessageOfBatchTo(message, subscriber, bubbledExceptionHandler));
+                }
+                if (remainingMessages.isEmpty()) {
+                    return;
+                }
+            }
+            remainingMessages.forEach(eventListener::messageDeliverySucceeded);
+        }
+    }
+
     private void handleNoSubscriberException(final T message) {
         final NoSuitableSubscriberException exception = new NoSuitableSubscriberException();
         if (pipeErrorHandler.shouldErrorBeHandledAndDeliveryAborted(message, exception)) {
@@ -92,4 +124,71 @@ public final class SynchronousDelivery<T> {
             }
         }
     }
+
+    private boolean deliverMessageOfBatchTo(final T message,
+                                            final Subscriber<T> subscriber,
+                                            final Consumer<Throwable> bubbledExceptionHandler) {
+        try {
+            return deliveryMessageTo(message, subscriber);
+        } catch (final BubbleUpWrappedException e) {
+            bubbledExceptionHandler.accept(e.getCause());
+            return false;
+        }
+    }
+
+    private void deliverBatchTo(final List<T> messages,
+                                final BatchSubscriber<T> subscriber,
+                                final Consumer<Throwable> bubbledExceptionHandler) {
+        try {
+            final List<T> batch = unmodifiableList(new ArrayList<>(messages));
+            final AcceptingBehavior acceptingBehavior = subscriber.acceptBatch(batch);
+            if (!acceptingBehavior.continueDelivery()) {
+                messages.forEach(eventListener::messageDeliverySucceeded);
+                messages.clear();
+            }
+        } catch (final BubbleUpWrappedException e) {
+            final Exception cause = exceptionCausing(e);
+            messages.forEach(message -> eventListener.messageDeliveryFailed(message, cause));
+            messages.clear();
+            bubbledExceptionHandler.accept(e.getCause());
+        } catch (final Exception e) {
+            messages.removeIf(message -> shouldDeliveryBeAbortedAfterHandlingException(message, e, bubbledExceptionHandler));
+        }
+    }
+
+    private static Exception exceptionCausing(final BubbleUpWrappedException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        } else {
+            return e;
+        }
+    }
+
+    private boolean shouldDeliveryBeAbortedAfterHandlingException(final T message,
+                                                                  final Exception e,
+                                                                  final Consumer<Throwable> bubbledExceptionHandler) {
+        try {
+            return shouldDeliveryBeAbortedAfterHandlingException(message, e);
+        } catch (final BubbleUpWrappedException bubbledException) {
+            bubbledExceptionHandler.accept(bubbledException.getCause());
+            return true;
+        }
+    }
+
+    private boolean shouldDeliveryBeAbortedAfterHandlingException(final T message, final Exception e) {
+        try {
+            if (pipeErrorHandler.shouldErrorBeHandledAndDeliveryAborted(message, e)) {
+                eventListener.messageDeliveryFailed(message, e);
+                pipeErrorHandler.handleException(message, e);
+                return true;
+            } else {
+                return false;
+            }
+        } catch (final BubbleUpWrappedException bubbledException) {
+            throw bubbledException;
+        } catch (final Exception rethrownException) {
+            throw new BubbleUpWrappedException(rethrownException);
+        }
+    }
 }
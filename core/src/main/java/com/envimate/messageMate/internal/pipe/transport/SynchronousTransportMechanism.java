@@ -21,10 +21,12 @@
 
 package com.envimate.messageMate.internal.pipe.transport;
 
+import com.envimate.messageMate.internal.exceptions.BubbleUpWrappedException;
 import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
-import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -34,12 +36,23 @@ import static lombok.AccessLevel.PUBLIC;
 public final class SynchronousTransportMechanism<T> implements TransportMechanism<T> {
     private final PipeEventListener<T> eventListener;
     private final SynchronousDelivery<T> synchronousDelivery;
-    private final List<Subscriber<T>> subscribers;
+    private final SubscriberRegistry<T> subscribers;
 
     @Override
     public void transport(final T message) {
         eventListener.messageAccepted(message);
-        synchronousDelivery.deliver(message, subscribers);
+        synchronousDelivery.deliver(message, subscribers.snapshot());
+    }
+
+    @Override
+    public void transportBatch(final List<T> messages) {
+        messages.forEach(eventListener::messageAccepted);
+        final List<Throwable> bubbledExceptions = new ArrayList<>();
+        synchronousDelivery.deliverBatch(messages, subscribers.snapshot(), bubbledExceptions::add);
+        if (!bubbledExceptions.isEmpty()) {
+            /* the whole batch was delivered, so the first exception is raised like the one of a single message */
+            throw new BubbleUpWrappedException(bubbledExceptions.get(0));
+        }
     }
 
     @Override
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe.transport;
+
+import com.envimate.messageMate.configuration.AsynchronousConfiguration;
+import com.envimate.messageMate.internal.exceptions.BubbleUpWrappedException;
+import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public final class ThreadPerDeliveryTransportMechanism<T> implements TransportMechanism<T> {
+    private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+    private static final int MAXIMUM_PLATFORM_THREADS_PER_PROCESSOR = 16;
+    private final PipeEventListener<T> eventListener;
+    private final SynchronousDelivery<T> synchronousDelivery;
+    private final SubscriberRegistry<T> subscribers;
+    private final ExecutorService executorService;
+    private final Semaphore concurrentDeliveries;
+
+    public static <T> ThreadPerDeliveryTransportMechanism<T> threadPerDeliveryTransportMechanism(
+            final PipeEventListener<T> eventListener,
+            final SynchronousDelivery<T> synchronousDelivery,
+            final SubscriberRegistry<T> subscribers,
+            final AsynchronousConfiguration configuration) {
+        final int maximumConcurrentDeliveries = configuration.getMaximumConcurrentDeliveries();
+        if (maximumConcurrentDeliveries <= 0) {
+            throw new IllegalArgumentException("The maximum number of concurrent deliveries must be positive.");
+        }
+        final ExecutorService executorService = threadPerTaskExecutor(maximumConcurrentDeliveries);
+        final Semaphore concurrentDeliveries = new Semaphore(maximumConcurrentDeliveries, true);
+        return new ThreadPerDeliveryTransportMechanism<>(eventListener, synchronousDelivery, subscribers, executorService,
+                concurrentDeliveries);
+    }
+
+    private static ExecutorService threadPerTaskExecutor(final int maximumConcurrentDeliveries) {
+        try {
+            final Method factoryMethod = Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY);
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            final int numberOfPlatformThreads = maximumNumberOfPlatformThreads(maximumConcurrentDeliveries);
+            return Executors.newFixedThreadPool(numberOfPlatformThreads);
+        }
+    }
+
+    /* platform threads are expensive, so the default unbounded limit meant for virtual threads must not start one thread
+       per delivery; the remaining deliveries wait in the pool's queue */
+    private static int maximumNumberOfPlatformThreads(final int maximumConcurrentDeliveries) {
+        final int availableProcessors = Runtime.getRuntime().availableProcessors();
+        final long upperBound = (long) availableProcessors * MAXIMUM_PLATFORM_THREADS_PER_PROCESSOR;
+        return (int) Math.min(maximumConcurrentDeliveries, upperBound);
+    }
+
+    @Override
+    public void transport(final T message) {
+        eventListener.messageAccepted(message);
+        eventListener.messageQueued(message);
+        try {
+            executorService.execute(new Delivery<>(this, message));
+        } catch (final RejectedExecutionException e) {
+            throw new PipeWaitingQueueIsFullException();
+        }
+    }
+
+    private void deliver(final T message) {
+        try {
+            concurrentDeliveries.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            eventListener.messageDeliveryFailed(message, e);
+            eventListener.messageDropped(message);
+            return;
+        }
+        try {
+            eventListener.messageDequeued(message);
+            synchronousDelivery.deliver(message, subscribers.snapshot());
+        } catch (final BubbleUpWrappedException e) {
+            throw (RuntimeException) e.getCause();
+        } finally {
+            concurrentDeliveries.release();
+        }
+    }
+
+    @Override
+    public void close(final boolean finishRemainingTasks) {
+        if (finishRemainingTasks) {
+            executorService.shutdown();
+        } else {
+            final List<Runnable> droppedDeliveries = executorService.shutdownNow();
+            droppedDeliveries.forEach(this::drop);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drop(final Runnable droppedDelivery) {
+        if (droppedDelivery instanceof Delivery) {
+            final T message = ((Delivery<T>) droppedDelivery).message;
+            eventListener.messageDropped(message);
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(final int timeout, final TimeUnit timeUnit) throws InterruptedException {
+        return executorService.awaitTermination(timeout, timeUnit);
+    }
+
+    /* A class instead of a lambda, so that the messages of the deliveries never started before a shutdownNow can still be
+       handed to the PipeEventListener. */
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class Delivery<T> implements Runnable {
+        private final ThreadPerDeliveryTransportMechanism<T> transportMechanism;
+        private final T message;
+
+        @Override
+        public void run() {
+            transportMechanism.deliver(message);
+        }
+    }
+}
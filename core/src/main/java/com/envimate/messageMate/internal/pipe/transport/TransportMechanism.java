@@ -21,12 +21,36 @@
 
 package com.envimate.messageMate.internal.pipe.transport;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public interface TransportMechanism<T> {
 
     void transport(T message);
 
+    default boolean tryTransport(final T message) {
+        transport(message);
+        return true;
+    }
+
+    default boolean transport(final T message, final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        return tryTransport(message);
+    }
+
+    default void transportAwaitingCapacity(final T message) throws InterruptedException {
+        transport(message);
+    }
+
+    default void transportBatch(final List<T> messages) {
+        for (final T message : messages) {
+            transport(message);
+        }
+    }
+
+    default long remainingCapacity() {
+        return Long.MAX_VALUE;
+    }
+
     void close(boolean finishRemainingTasks);
 
     boolean isShutdown();
@@ -23,16 +23,24 @@ package com.envimate.messageMate.internal.pipe.transport;
 
 import com.envimate.messageMate.internal.pipe.PipeType;
 import com.envimate.messageMate.configuration.AsynchronousConfiguration;
+import com.envimate.messageMate.configuration.ExecutorFactory;
 import com.envimate.messageMate.internal.pipe.error.PipeErrorHandler;
 import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
-import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.internal.subscribing.SubscriberRegistry;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutorService;
 
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.DEFAULT_MAXIMUM_CONCURRENT_DELIVERIES;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.DEFAULT_RING_BUFFER_CAPACITY;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.DEFAULT_WAIT_STRATEGY;
+import static com.envimate.messageMate.configuration.ThreadPoolExecutorFactory.threadPoolExecutorFactory;
+import static com.envimate.messageMate.internal.pipe.transport.AsynchronousTransportMechanism.asynchronousTransportMechanism;
+import static com.envimate.messageMate.internal.pipe.transport.AsynchronousTransportMechanism.boundedAsynchronousTransportMechanism;
+import static com.envimate.messageMate.internal.pipe.transport.BatchingAsynchronousTransportMechanism.batchingAsynchronousTransportMechanism;
+import static com.envimate.messageMate.internal.pipe.transport.PartitionedTransportMechanism.partitionedTransportMechanism;
+import static com.envimate.messageMate.internal.pipe.transport.RingBufferTransportMechanism.ringBufferTransportMechanism;
+import static com.envimate.messageMate.internal.pipe.transport.ThreadPerDeliveryTransportMechanism.threadPerDeliveryTransportMechanism;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
@@ -41,27 +49,107 @@ public final class TransportMechanismFactory {
     public static <T> TransportMechanism<T> transportMechanism(final PipeType pipeType,
                                                                final PipeEventListener<T> eventListener,
                                                                final PipeErrorHandler<T> errorHandler,
-                                                               final List<Subscriber<T>> subscribers,
-                                                               final AsynchronousConfiguration asynchronousConfiguration) {
+                                                               final SubscriberRegistry<T> subscribers,
+                                                               final AsynchronousConfiguration asynchronousConfiguration,
+                                                               final Partitioning<T> partitioning) {
         final SynchronousDelivery<T> synchronousDelivery = new SynchronousDelivery<>(eventListener, errorHandler);
         switch (pipeType) {
             case SYNCHRONOUS:
                 return new SynchronousTransportMechanism<>(eventListener, synchronousDelivery, subscribers);
             case ASYNCHRONOUS:
-                final ThreadPoolExecutor threadPoolExecutor = createThreadPoolExecutor(asynchronousConfiguration);
-                return new AsynchronousTransportMechanism<>(eventListener, synchronousDelivery, subscribers, threadPoolExecutor);
+                rejectConflictingAsynchronousModes(asynchronousConfiguration);
+                if (asynchronousConfiguration.isThreadPerDelivery()) {
+                    return threadPerDeliveryTransportMechanism(eventListener, synchronousDelivery, subscribers,
+                            asynchronousConfiguration);
+                }
+                if (asynchronousConfiguration.isBatchingEnabled()) {
+                    return batchingAsynchronousTransportMechanism(eventListener, synchronousDelivery, subscribers,
+                            asynchronousConfiguration);
+                }
+                return createAsynchronousTransportMechanism(eventListener, synchronousDelivery, subscribers,
+                        asynchronousConfiguration);
+            case RING_BUFFER:
+                rejectConflictingRingBufferModes(asynchronousConfiguration);
+                return ringBufferTransportMechanism(eventListener, synchronousDelivery, subscribers, asynchronousConfiguration);
+            case PARTITIONED:
+                return partitionedTransportMechanism(eventListener, synchronousDelivery, subscribers, partitioning);
             default:
                 throw new IllegalArgumentException("Unknown pipe type " + pipeType);
         }
     }
 
-    private static ThreadPoolExecutor createThreadPoolExecutor(final AsynchronousConfiguration config) {
-        final int corePoolSize = config.getCorePoolSize();
-        final int maximumPoolSize = config.getMaximumPoolSize();
-        final int maximumTimeout = config.getMaximumTimeout();
-        final TimeUnit timeoutTimeUnit = config.getTimeoutTimeUnit();
-        final BlockingQueue<Runnable> queue = config.getThreadPoolWorkingQueue();
-        return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, maximumTimeout, timeoutTimeUnit, queue);
+    /* each setting below is only read by one kind of pipe, so combining them would silently drop all but one of them */
+    private static void rejectConflictingAsynchronousModes(final AsynchronousConfiguration configuration) {
+        if (configuration.isThreadPerDelivery() && configuration.isBatchingEnabled()) {
+            throw conflictingModes("threadPerDelivery", "maximumBatchSize");
+        }
+        if (configuration.isThreadPerDelivery() && hasCustomExecutorFactory(configuration)) {
+            throw conflictingModes("threadPerDelivery", "executorFactory");
+        }
+        if (configuration.isBatchingEnabled() && hasCustomExecutorFactory(configuration)) {
+            throw conflictingModes("maximumBatchSize", "executorFactory");
+        }
+        if (!configuration.isThreadPerDelivery() && hasLimitedConcurrentDeliveries(configuration)) {
+            throw onlyValidFor("maximumConcurrentDeliveries", "thread per delivery");
+        }
+        if (hasRingBufferSettings(configuration)) {
+            throw onlyValidFor("ringBufferCapacity and waitStrategy", "ring buffer");
+        }
+    }
+
+    private static void rejectConflictingRingBufferModes(final AsynchronousConfiguration configuration) {
+        if (configuration.isThreadPerDelivery()) {
+            throw conflictingModes("threadPerDelivery", "a ring buffer");
+        }
+        if (configuration.isBatchingEnabled()) {
+            throw conflictingModes("maximumBatchSize", "a ring buffer");
+        }
+        if (hasCustomExecutorFactory(configuration)) {
+            throw conflictingModes("executorFactory", "a ring buffer");
+        }
+        if (hasLimitedConcurrentDeliveries(configuration)) {
+            throw onlyValidFor("maximumConcurrentDeliveries", "thread per delivery");
+        }
+    }
+
+    private static boolean hasCustomExecutorFactory(final AsynchronousConfiguration configuration) {
+        return !threadPoolExecutorFactory().equals(configuration.getExecutorFactory());
+    }
+
+    private static boolean hasLimitedConcurrentDeliveries(final AsynchronousConfiguration configuration) {
+        return configuration.getMaximumConcurrentDeliveries() != DEFAULT_MAXIMUM_CONCURRENT_DELIVERIES;
+    }
+
+    private static boolean hasRingBufferSettings(final AsynchronousConfiguration configuration) {
+        return configuration.getRingBufferCapacity() != DEFAULT_RING_BUFFER_CAPACITY
+                || configuration.getWaitStrategy() != DEFAULT_WAIT_STRATEGY;
+    }
+
+    private static IllegalArgumentException conflictingModes(final String mode, final String otherMode) {
+        return new IllegalArgumentException("The AsynchronousConfiguration combines " + mode + " with " + otherMode
+                + ", but a pipe can only use one of them.");
+    }
+
+    private static IllegalArgumentException onlyValidFor(final String setting, final String pipeKind) {
+        return new IllegalArgumentException("The AsynchronousConfiguration sets " + setting + ", but only " + pipeKind
+                + " pipes read this setting.");
+    }
+
+    private static <T> TransportMechanism<T> createAsynchronousTransportMechanism(
+            final PipeEventListener<T> eventListener,
+            final SynchronousDelivery<T> synchronousDelivery,
+            final SubscriberRegistry<T> subscribers,
+            final AsynchronousConfiguration configuration) {
+        final ExecutorFactory executorFactory = configuration.getExecutorFactory();
+        final ExecutorService executorService = executorFactory.createExecutor(configuration);
+        final int workingQueueBound = configuration.getThreadPoolWorkingQueueBound();
+        if (workingQueueBound == Integer.MAX_VALUE) {
+            return asynchronousTransportMechanism(eventListener, synchronousDelivery, subscribers, executorService);
+        } else {
+            final int capacity = configuration.getMaximumPoolSize() + workingQueueBound;
+            return boundedAsynchronousTransportMechanism(eventListener, synchronousDelivery, subscribers, executorService,
+                    capacity);
+        }
     }
 
 }
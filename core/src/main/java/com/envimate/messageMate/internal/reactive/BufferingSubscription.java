@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.reactive;
+
+import com.envimate.messageMate.subscribing.OverflowStrategy;
+import com.envimate.messageMate.subscribing.SubscriberOverflowException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.envimate.messageMate.subscribing.OverflowStrategy.BLOCK;
+import static com.envimate.messageMate.subscribing.OverflowStrategy.DROP_OLDEST;
+import static com.envimate.messageMate.subscribing.OverflowStrategy.FAIL;
+import static lombok.AccessLevel.PRIVATE;
+
+/* Bounded buffer between a push based source and a Flow.Subscriber. Items are only emitted as far as the subscriber
+   requested them. Offers, requests, cancellation and terminal signals may come from any thread; a work-in-progress
+   counter makes sure only one thread at a time calls the subscriber. What happens to an offer into a full buffer is
+   decided by the OverflowStrategy; FAIL and an invalid request also run the cancel action, so the source can release
+   its registrations. Completion must not race with offers of the same source, otherwise items offered concurrently
+   may be dropped. */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class BufferingSubscription<T> implements Flow.Subscription {
+    private final Queue<T> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedItems = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger workInProgress = new AtomicInteger();
+    private final Object freeSpaceMonitor = new Object();
+    private final Flow.Subscriber<? super T> subscriber;
+    private final int capacity;
+    private final OverflowStrategy overflowStrategy;
+    private final Runnable cancelAction;
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+    private volatile Throwable error;
+    private boolean terminated;
+
+    public static <T> BufferingSubscription<T> bufferingSubscription(final Flow.Subscriber<? super T> subscriber,
+                                                                     final int capacity,
+                                                                     final OverflowStrategy overflowStrategy,
+                                                                     final Runnable cancelAction) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The buffer capacity must be positive, but was " + capacity);
+        }
+        return new BufferingSubscription<>(subscriber, capacity, overflowStrategy, cancelAction);
+    }
+
+    public boolean offer(final T item) {
+        if (isFinished()) {
+            return false;
+        }
+        if (!reserveSpace()) {
+            return false;
+        }
+        buffer.add(item);
+        drain();
+        return true;
+    }
+
+    public void complete() {
+        completed = true;
+        drain();
+    }
+
+    public void fail(final Throwable throwable) {
+        if (error == null) {
+            error = throwable;
+        }
+        wakeUpBlockedOffers();
+        drain();
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void request(final long n) {
+        if (n <= 0) {
+            fail(new IllegalArgumentException("The requested number of items must be positive, but was " + n));
+            cancelAction.run();
+            return;
+        }
+        requested.getAndUpdate(current -> addWithoutOverflow(current, n));
+        drain();
+    }
+
+    private static long addWithoutOverflow(final long current, final long n) {
+        final long sum = current + n;
+        if (sum < 0) {
+            return Long.MAX_VALUE;
+        } else {
+            return sum;
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            cancelAction.run();
+            wakeUpBlockedOffers();
+            drain();
+        }
+    }
+
+    private boolean isFinished() {
+        return cancelled || completed || error != null;
+    }
+
+    private boolean reserveSpace() {
+        if (tryToReserveSpace()) {
+            return true;
+        }
+        if (overflowStrategy == DROP_OLDEST) {
+            return reserveSpaceByDroppingTheOldestItem();
+        } else if (overflowStrategy == BLOCK) {
+            return reserveSpaceWhenAvailable();
+        } else if (overflowStrategy == FAIL) {
+            fail(new SubscriberOverflowException(capacity));
+            cancelAction.run();
+            return false;
+        } else {
+            return false;
+        }
+    }
+
+    private boolean tryToReserveSpace() {
+        while (true) {
+            final int current = bufferedItems.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (bufferedItems.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean reserveSpaceByDroppingTheOldestItem() {
+        while (!tryToReserveSpace()) {
+            if (buffer.poll() != null) {
+                //the space of the dropped item is taken over by the new one
+                return true;
+            }
+        }
+        return true;
+    }
+
+    private boolean reserveSpaceWhenAvailable() {
+        synchronized (freeSpaceMonitor) {
+            while (!tryToReserveSpace()) {
+                if (isFinished()) {
+                    return false;
+                }
+                try {
+                    freeSpaceMonitor.wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private void wakeUpBlockedOffers() {
+        if (overflowStrategy == BLOCK) {
+            synchronized (freeSpaceMonitor) {
+                freeSpaceMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void drain() {
+        if (workInProgress.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            if (cancelled || terminated) {
+                discardBufferedItems();
+            } else {
+                emitBufferedItems();
+                signalTerminationIfFinished();
+            }
+            missed = workInProgress.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emitBufferedItems() {
+        while (requested.get() > 0 && !cancelled && error == null) {
+            final T item = buffer.poll();
+            if (item == null) {
+                return;
+            }
+            bufferedItems.decrementAndGet();
+            wakeUpBlockedOffers();
+            if (requested.get() != Long.MAX_VALUE) {
+                requested.decrementAndGet();
+            }
+            subscriber.onNext(item);
+        }
+    }
+
+    private void signalTerminationIfFinished() {
+        if (cancelled) {
+            return;
+        }
+        final Throwable currentError = error;
+        if (currentError != null) {
+            terminated = true;
+            discardBufferedItems();
+            subscriber.onError(currentError);
+        } else if (completed && buffer.isEmpty()) {
+            terminated = true;
+            subscriber.onComplete();
+        }
+    }
+
+    private void discardBufferedItems() {
+        while (buffer.poll() != null) {
+            bufferedItems.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.subscribing;
+
+import com.envimate.messageMate.subscribing.Subscriber;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/* Immutable list of Subscribers ordered by their position, stored as a persistent AVL tree. Adding or removing a
+   Subscriber copies only the O(log n) nodes on the path to its position, all other nodes are shared with the previous
+   list. Positions have to be added in increasing order. */
+final class SubscriberList<T> extends AbstractList<Subscriber<T>> {
+    private static final SubscriberList<?> EMPTY = new SubscriberList<>(null);
+    private final Node<T> root;
+
+    private SubscriberList(final Node<T> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> SubscriberList<T> emptySubscriberList() {
+        return (SubscriberList<T>) EMPTY;
+    }
+
+    SubscriberList<T> with(final long position, final Subscriber<T> subscriber) {
+        return new SubscriberList<>(insert(root, position, subscriber));
+    }
+
+    SubscriberList<T> without(final long position) {
+        return new SubscriberList<>(delete(root, position));
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public Subscriber<T> get(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node<T> node = root;
+        int remainingIndex = index;
+        while (true) {
+            final int sizeOfLeft = size(node.left);
+            if (remainingIndex < sizeOfLeft) {
+                node = node.left;
+            } else if (remainingIndex == sizeOfLeft) {
+                return node.subscriber;
+            } else {
+                remainingIndex -= sizeOfLeft + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public Iterator<Subscriber<T>> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static <T> Node<T> insert(final Node<T> node, final long position, final Subscriber<T> subscriber) {
+        if (node == null) {
+            return new Node<>(position, subscriber, null, null);
+        } else if (position < node.position) {
+            return balance(node.withChildren(insert(node.left, position, subscriber), node.right));
+        } else {
+            return balance(node.withChildren(node.left, insert(node.right, position, subscriber)));
+        }
+    }
+
+    private static <T> Node<T> delete(final Node<T> node, final long position) {
+        if (node == null) {
+            return null;
+        } else if (position < node.position) {
+            return balance(node.withChildren(delete(node.left, position), node.right));
+        } else if (position > node.position) {
+            return balance(node.withChildren(node.left, delete(node.right, position)));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            final Node<T> right = deleteFirst(node.right);
+            return balance(new Node<>(successor.position, successor.subscriber, node.left, right));
+        }
+    }
+
+    private static <T> Node<T> deleteFirst(final Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        } else {
+            return balance(node.withChildren(deleteFirst(node.left), node.right));
+        }
+    }
+
+    private static <T> Node<T> balance(final Node<T> node) {
+        final int balanceFactor = height(node.left) - height(node.right);
+        if (balanceFactor > 1) {
+            Node<T> left = node.left;
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left);
+            }
+            return rotateRight(node.withChildren(left, node.right));
+        } else if (balanceFactor < -1) {
+            Node<T> right = node.right;
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right);
+            }
+            return rotateLeft(node.withChildren(node.left, right));
+        } else {
+            return node;
+        }
+    }
+
+    private static <T> Node<T> rotateLeft(final Node<T> node) {
+        final Node<T> right = node.right;
+        return right.withChildren(node.withChildren(node.left, right.left), right.right);
+    }
+
+    private static <T> Node<T> rotateRight(final Node<T> node) {
+        final Node<T> left = node.left;
+        return left.withChildren(left.left, node.withChildren(left.right, node.right));
+    }
+
+    private static int height(final Node<?> node) {
+        if (node == null) {
+            return 0;
+        } else {
+            return node.height;
+        }
+    }
+
+    private static int size(final Node<?> node) {
+        if (node == null) {
+            return 0;
+        } else {
+            return node.size;
+        }
+    }
+
+    private static final class Node<T> {
+        private final long position;
+        private final Subscriber<T> subscriber;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+        private final int size;
+
+        private Node(final long position, final Subscriber<T> subscriber, final Node<T> left, final Node<T> right) {
+            this.position = position;
+            this.subscriber = subscriber;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        private Node<T> withChildren(final Node<T> newLeft, final Node<T> newRight) {
+            return new Node<>(position, subscriber, newLeft, newRight);
+        }
+    }
+
+    private static final class InOrderIterator<T> implements Iterator<Subscriber<T>> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+
+        private InOrderIterator(final Node<T> root) {
+            descendLeft(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Subscriber<T> next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            final Node<T> node = path.pop();
+            descendLeft(node.right);
+            return node.subscriber;
+        }
+
+        private void descendLeft(final Node<T> start) {
+            Node<T> node = start;
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.subscribing;
+
+import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.subscribing.SubscriptionId;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.envimate.messageMate.internal.subscribing.SubscriberList.emptySubscriberList;
+import static lombok.AccessLevel.PRIVATE;
+
+/* Subscribers are kept in an immutable SubscriberList, that is replaced on each change. Since the SubscriberList is a
+   persistent tree, adding and removing a Subscriber is O(log n) and does not copy the other Subscribers. Deliveries
+   iterate over the list, that was current when they started. This keeps the ordering and allows to unsubscribe while
+   a delivery is running (DocumentBus.until relies on that property). Each Subscriber gets its own position, so that
+   a Subscriber added twice is delivered twice and removing its SubscriptionId removes both. */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class SubscriberRegistry<T> {
+    private final Map<SubscriptionId, List<Long>> positionsById = new HashMap<>();
+    private volatile SubscriberList<T> subscribers = emptySubscriberList();
+    private long nextPosition;
+
+    public static <T> SubscriberRegistry<T> subscriberRegistry() {
+        return new SubscriberRegistry<>();
+    }
+
+    public synchronized void add(final Subscriber<T> subscriber) {
+        final long position = nextPosition++;
+        final SubscriptionId subscriptionId = subscriber.getSubscriptionId();
+        positionsById.computeIfAbsent(subscriptionId, id -> new ArrayList<>(1)).add(position);
+        subscribers = subscribers.with(position, subscriber);
+    }
+
+    public synchronized boolean remove(final SubscriptionId subscriptionId) {
+        final List<Long> positions = positionsById.remove(subscriptionId);
+        if (positions != null) {
+            SubscriberList<T> remainingSubscribers = subscribers;
+            for (final long position : positions) {
+                remainingSubscribers = remainingSubscribers.without(position);
+            }
+            subscribers = remainingSubscribers;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    public List<Subscriber<T>> snapshot() {
+        return subscribers;
+    }
+
+    public boolean isEmpty() {
+        return subscribers.isEmpty();
+    }
+}
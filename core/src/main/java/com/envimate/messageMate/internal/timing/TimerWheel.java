@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.timing;
+
+import com.envimate.messageMate.exceptions.AlreadyClosedException;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/* Hashed timer wheel: each timeout is put into the bucket of the tick it expires in, so scheduling and cancelling are
+   O(1) independent of the number of pending timeouts. New and cancelled timeouts are handed over in lock-free queues
+   and only the worker thread touches the buckets. The worker is started with the first scheduled timeout, so unused
+   wheels cost no thread. Expiry tasks run on the worker thread and have to be short. Their exceptions are passed to the
+   worker thread's UncaughtExceptionHandler. */
+public final class TimerWheel implements AutoCloseable {
+    private static final int NOT_STARTED = 0;
+    private static final int STARTED = 1;
+    private static final int CLOSED = 2;
+    private static final int MAXIMAL_TRANSFERS_PER_TICK = 100_000;
+    private final AtomicInteger workerState = new AtomicInteger(NOT_STARTED);
+    private final Queue<WheelTimeout> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Bucket[] buckets;
+    private final int mask;
+    private final long tickDurationInNanos;
+    private final long startTime;
+    private final String threadName;
+    private volatile Thread worker;
+    private long tick;
+
+    private TimerWheel(final long tickDurationInNanos, final int numberOfBuckets, final String threadName) {
+        this.tickDurationInNanos = tickDurationInNanos;
+        this.threadName = threadName;
+        final int normalizedNumberOfBuckets = Integer.highestOneBit(Math.max(1, numberOfBuckets - 1)) << 1;
+        this.buckets = new Bucket[normalizedNumberOfBuckets];
+        for (int i = 0; i < normalizedNumberOfBuckets; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.mask = normalizedNumberOfBuckets - 1;
+        this.startTime = System.nanoTime();
+    }
+
+    public static TimerWheel timerWheel(final long tickDuration,
+                                        final TimeUnit unit,
+                                        final int numberOfBuckets,
+                                        final String threadName) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("The tick duration must be positive, but was " + tickDuration);
+        }
+        if (numberOfBuckets <= 0) {
+            throw new IllegalArgumentException("The number of buckets must be positive, but was " + numberOfBuckets);
+        }
+        final long tickDurationInNanos = unit.toNanos(tickDuration);
+        return new TimerWheel(tickDurationInNanos, numberOfBuckets, threadName);
+    }
+
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        startWorkerIfNecessary();
+        final long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        final WheelTimeout timeout = new WheelTimeout(task, deadline);
+        scheduledTimeouts.add(timeout);
+        if (workerState.get() == CLOSED) {
+            scheduledTimeouts.remove(timeout);
+            throw new AlreadyClosedException();
+        }
+        return timeout;
+    }
+
+    public int numberOfPendingTimeouts() {
+        int pendingTimeouts = scheduledTimeouts.size();
+        for (final Bucket bucket : buckets) {
+            pendingTimeouts += bucket.size;
+        }
+        return pendingTimeouts;
+    }
+
+    @Override
+    public void close() {
+        final int previousState = workerState.getAndSet(CLOSED);
+        final Thread currentWorker = worker;
+        if (previousState == STARTED && currentWorker != null) {
+            currentWorker.interrupt();
+        }
+        scheduledTimeouts.clear();
+        cancelledTimeouts.clear();
+    }
+
+    public boolean isClosed() {
+        return workerState.get() == CLOSED;
+    }
+
+    private void startWorkerIfNecessary() {
+        final int state = workerState.get();
+        if (state == CLOSED) {
+            throw new AlreadyClosedException();
+        }
+        if (state == NOT_STARTED && workerState.compareAndSet(NOT_STARTED, STARTED)) {
+            final Thread thread = new Thread(this::runWorker, threadName);
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        }
+    }
+
+    private void runWorker() {
+        while (workerState.get() == STARTED) {
+            final long elapsed = waitForNextTick();
+            if (elapsed < 0) {
+                break;
+            }
+            removeCancelledTimeouts();
+            transferScheduledTimeouts();
+            final Bucket bucket = buckets[(int) (tick & mask)];
+            bucket.expireTimeouts(elapsed);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        final long nextTickDeadline = tickDurationInNanos * (tick + 1);
+        while (true) {
+            final long elapsed = System.nanoTime() - startTime;
+            final long remaining = nextTickDeadline - elapsed;
+            if (remaining <= 0) {
+                return elapsed;
+            }
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted() && workerState.get() == CLOSED) {
+                return -1;
+            }
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        WheelTimeout timeout = cancelledTimeouts.poll();
+        while (timeout != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+            timeout = cancelledTimeouts.poll();
+        }
+    }
+
+    private void transferScheduledTimeouts() {
+        for (int i = 0; i < MAXIMAL_TRANSFERS_PER_TICK; i++) {
+            final WheelTimeout timeout = scheduledTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != WheelTimeout.PENDING) {
+                continue;
+            }
+            final long expiryTick = timeout.deadline / tickDurationInNanos;
+            timeout.remainingRounds = (expiryTick - tick) / buckets.length;
+            final long bucketTick = Math.max(expiryTick, tick);
+            final Bucket bucket = buckets[(int) (bucketTick & mask)];
+            bucket.add(timeout);
+        }
+    }
+
+    private final class WheelTimeout implements Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTimeout next;
+        private WheelTimeout previous;
+
+        private WheelTimeout(final Runnable task, final long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                cancelledTimeouts.add(this);
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(PENDING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (final RuntimeException e) {
+                    passToUncaughtExceptionHandler(e);
+                }
+            }
+        }
+    }
+
+    /* an expiry task must not stop the wheel for all other timeouts, so its failure is only reported */
+    private static void passToUncaughtExceptionHandler(final Throwable throwable) {
+        final Thread currentThread = Thread.currentThread();
+        currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, throwable);
+    }
+
+    private static final class Bucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+        private volatile int size;
+
+        private void add(final WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+            size++;
+        }
+
+        private void expireTimeouts(final long elapsed) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                final WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= elapsed) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.state.get() != WheelTimeout.PENDING) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(final WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            } else {
+                tail = timeout.previous;
+            }
+            timeout.next = null;
+            timeout.previous = null;
+            timeout.bucket = null;
+            size--;
+        }
+    }
+}
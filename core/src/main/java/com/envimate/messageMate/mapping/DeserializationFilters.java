@@ -26,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.Map;
 import java.util.function.BiPredicate;
 
+import static com.envimate.messageMate.internal.collections.filtermap.TypeFilter.typeFilter;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
@@ -44,7 +45,7 @@ public final class DeserializationFilters {
      * @return a filter checking if the object of deserialize is of the given type
      */
     public static <T extends Class<?>> BiPredicate<T, Map<String, Object>> areOfType(final T type) {
-        return (requestedType, map) -> type.isAssignableFrom(requestedType);
+        return typeFilter(type);
     }
 
 }
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.function.Predicate;
 
+import static com.envimate.messageMate.internal.collections.predicatemap.TypePredicate.typePredicate;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
@@ -43,7 +44,7 @@ public final class SerializationFilters {
      * @return a {@code Predicate} checking for the given type
      */
     public static <T> Predicate<T> areOfType(final Class<?> type) {
-        return type::isInstance;
+        return typePredicate(type);
     }
 
 }
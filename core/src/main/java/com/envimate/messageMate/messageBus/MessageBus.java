@@ -29,11 +29,16 @@ import com.envimate.messageMate.identification.MessageId;
 import com.envimate.messageMate.internal.autoclosable.NoErrorAutoClosable;
 import com.envimate.messageMate.messageBus.exception.MessageBusExceptionListener;
 import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.EventTypePattern;
 import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.subscribing.OverflowStrategy;
 import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.subscribing.SubscriberOverflowException;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -76,6 +81,85 @@ public interface MessageBus extends NoErrorAutoClosable {
      */
     MessageId send(ProcessingContext<Object> processingContext);
 
+    /**
+     * Sends the message with the given {@link EventType}, if the {@code MessageBus} can accept it right away.
+     *
+     * <p>A bounded asynchronous {@code MessageBus} without remaining capacity does not raise an exception. Instead an empty
+     * {@code Optional} is returned, so that the producer can decide whether to retry, slow down or drop the message.</p>
+     *
+     * @param eventType the {@code EventType} to identify the message
+     * @param object    the message
+     * @return the {@link MessageId} of the send message or an empty {@code Optional} if no capacity was left
+     * @throws AlreadyClosedException if {@code MessageBus} already closed
+     */
+    Optional<MessageId> trySend(EventType eventType, Object object);
+
+    /**
+     * Sends the {@link ProcessingContext}, if the {@code MessageBus} can accept it right away.
+     *
+     * @param processingContext the {@code ProcessingContext} to send
+     * @return the {@link MessageId} of the send message or an empty {@code Optional} if no capacity was left
+     * @throws AlreadyClosedException if {@code MessageBus} already closed
+     * @see #trySend(EventType, Object)
+     */
+    Optional<MessageId> trySend(ProcessingContext<Object> processingContext);
+
+    /**
+     * Sends the message with the given {@link EventType}, waiting up to the given timeout for capacity to become available.
+     *
+     * @param eventType the {@code EventType} to identify the message
+     * @param object    the message
+     * @param timeout   the maximal time to wait
+     * @param timeUnit  the {@code TimeUnit} of the timeout
+     * @return the {@link MessageId} of the send message or an empty {@code Optional} if the timeout elapsed
+     * @throws InterruptedException   if the thread is interrupted while waiting
+     * @throws AlreadyClosedException if {@code MessageBus} already closed
+     */
+    Optional<MessageId> send(EventType eventType, Object object, long timeout, TimeUnit timeUnit) throws InterruptedException;
+
+    /**
+     * Sends the {@link ProcessingContext}, waiting up to the given timeout for capacity to become available.
+     *
+     * @param processingContext the {@code ProcessingContext} to send
+     * @param timeout           the maximal time to wait
+     * @param timeUnit          the {@code TimeUnit} of the timeout
+     * @return the {@link MessageId} of the send message or an empty {@code Optional} if the timeout elapsed
+     * @throws InterruptedException   if the thread is interrupted while waiting
+     * @throws AlreadyClosedException if {@code MessageBus} already closed
+     */
+    Optional<MessageId> send(ProcessingContext<Object> processingContext, long timeout, TimeUnit timeUnit)
+            throws InterruptedException;
+
+    /**
+     * Sends the message with the given {@link EventType}, blocking the calling thread until capacity is available.
+     *
+     * @param eventType the {@code EventType} to identify the message
+     * @param object    the message
+     * @return the {@link MessageId} of the send message
+     * @throws InterruptedException   if the thread is interrupted while waiting
+     * @throws AlreadyClosedException if {@code MessageBus} already closed
+     */
+    MessageId sendAwaitingCapacity(EventType eventType, Object object) throws InterruptedException;
+
+    /**
+     * Sends the {@link ProcessingContext}, blocking the calling thread until capacity is available.
+     *
+     * @param processingContext the {@code ProcessingContext} to send
+     * @return the {@link MessageId} of the send message
+     * @throws InterruptedException   if the thread is interrupted while waiting
+     * @throws AlreadyClosedException if {@code MessageBus} already closed
+     */
+    MessageId sendAwaitingCapacity(ProcessingContext<Object> processingContext) throws InterruptedException;
+
+    /**
+     * Returns the number of messages, that the {@code MessageBus} can currently accept without waiting.
+     *
+     * <p>Unbounded {@code MessageBuses} return {@link Long#MAX_VALUE}.</p>
+     *
+     * @return the number of messages, that can be accepted right away
+     */
+    long remainingCapacity();
+
     /**
      * Adds the given {@link Consumer} wrapped in a {@link Subscriber} object for all messages with a matching
      * {@link EventType}.
@@ -114,6 +198,56 @@ public interface MessageBus extends NoErrorAutoClosable {
      */
     SubscriptionId subscribe(CorrelationId correlationId, Subscriber<ProcessingContext<Object>> subscriber);
 
+    /**
+     * Adds the given {@link Subscriber} for all messages with a matching {@link CorrelationId}. The {@code Subscriber} is
+     * removed automatically, if it was not unsubscribed before the time to live has passed.
+     *
+     * @param correlationId the {@code CorrelationId} of interest
+     * @param subscriber    the {@code Subscriber} to add
+     * @param timeToLive    the time after which the {@code Subscriber} is removed
+     * @param unit          the {@code TimeUnit} of the time to live
+     * @return the {@code SubscriptionId} of the {@code Subscriber}
+     */
+    SubscriptionId subscribe(CorrelationId correlationId,
+                             Subscriber<ProcessingContext<Object>> subscriber,
+                             long timeToLive,
+                             TimeUnit unit);
+
+    /**
+     * Adds the given {@link Consumer} wrapped in a {@link Subscriber} object for the next message with a matching
+     * {@link CorrelationId}. The {@code Subscriber} is removed automatically after the first delivery.
+     *
+     * @param correlationId the {@code CorrelationId} of interest
+     * @param consumer      the {@code Subscriber} to add
+     * @return the {@link SubscriptionId} of the {@code Subscriber}
+     */
+    SubscriptionId subscribeOnce(CorrelationId correlationId, Consumer<ProcessingContext<Object>> consumer);
+
+    /**
+     * Adds the given {@link Subscriber} for the next message with a matching {@link CorrelationId}. The {@code Subscriber}
+     * is removed automatically after the first delivery.
+     *
+     * @param correlationId the {@code CorrelationId} of interest
+     * @param subscriber    the {@code Subscriber} to add
+     * @return the {@code SubscriptionId} of the {@code Subscriber}
+     */
+    SubscriptionId subscribeOnce(CorrelationId correlationId, Subscriber<ProcessingContext<Object>> subscriber);
+
+    /**
+     * Adds the given {@link Subscriber} for the next message with a matching {@link CorrelationId}. The {@code Subscriber}
+     * is removed automatically after the first delivery or when the time to live has passed, whatever happens first.
+     *
+     * @param correlationId the {@code CorrelationId} of interest
+     * @param subscriber    the {@code Subscriber} to add
+     * @param timeToLive    the time after which the {@code Subscriber} is removed
+     * @param unit          the {@code TimeUnit} of the time to live
+     * @return the {@code SubscriptionId} of the {@code Subscriber}
+     */
+    SubscriptionId subscribeOnce(CorrelationId correlationId,
+                                 Subscriber<ProcessingContext<Object>> subscriber,
+                                 long timeToLive,
+                                 TimeUnit unit);
+
     /**
      * Adds the given {@link Consumer} wrapped in a {@link Subscriber} object for all messages with a matching
      * {@link EventType}. The {@code Subscriber} gets access to the underlying {@link ProcessingContext}.
@@ -134,6 +268,47 @@ public interface MessageBus extends NoErrorAutoClosable {
      */
     SubscriptionId subscribeRaw(EventType eventType, Subscriber<ProcessingContext<Object>> subscriber);
 
+    /**
+     * Adds the given {@link Consumer} wrapped in a {@link Subscriber} object for all messages matching the
+     * {@link EventTypePattern}. The {@code Subscriber} is added to the delivering {@code Channels} of all matching
+     * {@link EventType EventTypes}, so a pattern does not have to be evaluated for every message. Subscribers of
+     * {@link EventTypePattern#subtypesOf(Class) type hierarchy patterns} are resolved once per payload class.
+     *
+     * @param pattern  the {@code EventTypePattern} of interest
+     * @param consumer the {@code Subscriber} to add
+     * @return the {@link SubscriptionId} of the {@code Subscriber}
+     */
+    SubscriptionId subscribe(EventTypePattern pattern, Consumer<Object> consumer);
+
+    /**
+     * Adds the given {@link Subscriber} for all messages matching the {@link EventTypePattern}.
+     *
+     * @param pattern    the {@code EventTypePattern} of interest
+     * @param subscriber the {@code Subscriber} to add
+     * @return the {@link SubscriptionId} of the {@code Subscriber}
+     */
+    SubscriptionId subscribe(EventTypePattern pattern, Subscriber<Object> subscriber);
+
+    /**
+     * Adds the given {@link Consumer} wrapped in a {@link Subscriber} object for all messages matching the
+     * {@link EventTypePattern}. The {@code Subscriber} gets access to the underlying {@link ProcessingContext}.
+     *
+     * @param pattern  the {@code EventTypePattern} of interest
+     * @param consumer the {@code Subscriber} to add
+     * @return the {@link SubscriptionId} of the {@code Subscriber}
+     */
+    SubscriptionId subscribeRaw(EventTypePattern pattern, Consumer<ProcessingContext<Object>> consumer);
+
+    /**
+     * Adds the {@link Subscriber} object for all messages matching the {@link EventTypePattern}. The {@code Subscriber} gets
+     * access to the underlying {@link ProcessingContext}.
+     *
+     * @param pattern    the {@code EventTypePattern} of interest
+     * @param subscriber the {@code Subscriber} to add
+     * @return the {@link SubscriptionId} of the {@code Subscriber}
+     */
+    SubscriptionId subscribeRaw(EventTypePattern pattern, Subscriber<ProcessingContext<Object>> subscriber);
+
     /**
      * Removes all {@code Subscribers} with the given {@code SubscriptionId}
      *
@@ -141,6 +316,34 @@ public interface MessageBus extends NoErrorAutoClosable {
      */
     void unsubcribe(SubscriptionId subscriptionId);
 
+    /**
+     * Creates a {@link Flow.Publisher} for all messages of the given {@link EventType}. Each {@link Flow.Subscriber}
+     * gets its own {@code Subscriber} on the {@code MessageBus} and its own buffer of {@code bufferCapacity} messages.
+     * Messages are only delivered to the {@code Flow.Subscriber} on demand. When its buffer is full, the
+     * {@link OverflowStrategy} decides what happens with the next message. With {@link OverflowStrategy#FAIL} the
+     * {@code Flow.Subscriber} is signaled a {@link SubscriberOverflowException}. Cancelling the {@code Flow.Subscription}
+     * or an overflow failure removes the {@code Subscriber} from the {@code MessageBus}.
+     *
+     * @param eventType        the {@code EventType} of interest
+     * @param bufferCapacity   the number of messages buffered per {@code Flow.Subscriber}
+     * @param overflowStrategy the behaviour, when the buffer of a {@code Flow.Subscriber} is full
+     * @return a {@code Flow.Publisher} of the {@code ProcessingContexts} of the messages
+     * @throws IllegalArgumentException if the buffer capacity is not positive
+     */
+    Flow.Publisher<ProcessingContext<Object>> publisherFor(EventType eventType, int bufferCapacity,
+                                                           OverflowStrategy overflowStrategy);
+
+    /**
+     * Creates a {@link Flow.Subscriber}, that sends each received item with the given {@link EventType} on the
+     * {@code MessageBus}. Items are requested in bounded batches from the upstream {@link Flow.Publisher}. Once the
+     * {@code MessageBus} is closed, the {@code Flow.Subscription} is cancelled. Completion or errors of the upstream
+     * {@code Flow.Publisher} do not close the {@code MessageBus}.
+     *
+     * @param eventType the {@code EventType} to send the items with
+     * @return a {@code Flow.Subscriber} sending on the {@code MessageBus}
+     */
+    Flow.Subscriber<Object> subscriberFor(EventType eventType);
+
     /**
      * Adds a {@link Filter} to the accepting {@link Channel}.
      *
@@ -204,6 +407,15 @@ public interface MessageBus extends NoErrorAutoClosable {
      */
     SubscriptionId onException(CorrelationId correlationId, MessageBusExceptionListener exceptionListener);
 
+    /**
+     * Adds a dynamic {@code MessageBusExceptionListener} for the single message with the given {@link MessageId}.
+     *
+     * @param messageId         the {@code MessageId} of the message to match
+     * @param exceptionListener the {@code MessageBusExceptionListener} to add
+     * @return a {@code SubscriptionId} identifying exception listener
+     */
+    SubscriptionId onException(MessageId messageId, MessageBusExceptionListener exceptionListener);
+
     /**
      * Removes all exceptionListener with the given {@code SubscriptionId}.
      *
@@ -23,7 +23,9 @@ package com.envimate.messageMate.messageBus;
 
 import com.envimate.messageMate.channel.Channel;
 import com.envimate.messageMate.channel.ChannelType;
+import com.envimate.messageMate.channel.ProcessingFrameHistoryPolicy;
 import com.envimate.messageMate.configuration.AsynchronousConfiguration;
+import com.envimate.messageMate.configuration.PoolingConfiguration;
 import com.envimate.messageMate.messageBus.channelCreating.MessageBusChannelFactory;
 import com.envimate.messageMate.messageBus.exception.MessageBusExceptionHandler;
 import com.envimate.messageMate.messageBus.internal.brokering.MessageBusBrokerStrategy;
@@ -31,9 +33,17 @@ import com.envimate.messageMate.messageBus.internal.correlationIds.CorrelationBa
 import com.envimate.messageMate.messageBus.internal.correlationIds.CorrelationBasedSubscriptionsImpl;
 import com.envimate.messageMate.messageBus.internal.exception.DelegatingChannelExceptionHandler;
 import com.envimate.messageMate.messageBus.internal.exception.ExceptionListenerHandlerImpl;
+import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.processingContext.ProcessingContextPool;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Function;
+
 import static com.envimate.messageMate.channel.ChannelBuilder.aChannel;
+import static com.envimate.messageMate.channel.ProcessingFrameHistoryPolicy.fullProcessingFrameHistory;
 import static com.envimate.messageMate.messageBus.MessageBusConsumeAction.messageBusConsumeAction;
 import static com.envimate.messageMate.messageBus.MessageBusType.SYNCHRONOUS;
 import static com.envimate.messageMate.messageBus.channelCreating.SynchronousMessageBusChannelFactory.synchronousMessageBusChannelFactory;
@@ -43,6 +53,9 @@ import static com.envimate.messageMate.messageBus.internal.correlationIds.Correl
 import static com.envimate.messageMate.messageBus.internal.exception.DelegatingChannelExceptionHandler.delegatingChannelExceptionHandlerForAcceptingChannel;
 import static com.envimate.messageMate.messageBus.internal.exception.ErrorListenerDelegatingMessageBusExceptionHandler.errorListenerDelegatingMessageBusExceptionHandler;
 import static com.envimate.messageMate.messageBus.internal.exception.ExceptionListenerHandlerImpl.errorListenerHandler;
+import static com.envimate.messageMate.processingContext.PartitionKeyExtractors.correlationIdOrEventTypePartitionKey;
+import static com.envimate.messageMate.processingContext.ProcessingContextPool.noPooling;
+import static com.envimate.messageMate.processingContext.ProcessingContextPool.processingContextPool;
 import static lombok.AccessLevel.PRIVATE;
 
 /**
@@ -60,6 +73,11 @@ public final class MessageBusBuilder {
     private MessageBusType type = SYNCHRONOUS;
     private AsynchronousConfiguration asynchronousConfiguration;
     private MessageBusExceptionHandler exceptionHandler = errorThrowingMessageBusExceptionHandler();
+    private int numberOfPartitions = Runtime.getRuntime().availableProcessors();
+    private Function<ProcessingContext<Object>, ?> partitionKeyExtractor = correlationIdOrEventTypePartitionKey();
+    private Collection<EventType> fixedEventTypes = Collections.emptyList();
+    private PoolingConfiguration poolingConfiguration;
+    private ProcessingFrameHistoryPolicy processingFrameHistoryPolicy = fullProcessingFrameHistory();
 
     /**
      * Creates a new {@code MessageBusBuilder}.
@@ -104,6 +122,76 @@ public final class MessageBusBuilder {
         return this;
     }
 
+    /**
+     * Sets the number of single threaded lanes of a {@code MessageBusType.PARTITIONED} {@code MessageBus}. Per default one
+     * lane per available processor is created.
+     *
+     * @param numberOfPartitions the number of lanes
+     * @return the same {@code MessageBusBuilder} instance the method was called one
+     */
+    public MessageBusBuilder withNumberOfPartitions(final int numberOfPartitions) {
+        this.numberOfPartitions = numberOfPartitions;
+        return this;
+    }
+
+    /**
+     * Overrides the function, that decides on which lane of a {@code MessageBusType.PARTITIONED} {@code MessageBus} a
+     * message is delivered. Messages with equal keys keep their order. Per default the {@code CorrelationId} is used, or the
+     * {@code EventType} for uncorrelated messages.
+     *
+     * @param partitionKeyExtractor the function returning the partition key of a message
+     * @return the same {@code MessageBusBuilder} instance the method was called one
+     */
+    public MessageBusBuilder withPartitionKeyExtractor(final Function<ProcessingContext<Object>, ?> partitionKeyExtractor) {
+        this.partitionKeyExtractor = partitionKeyExtractor;
+        return this;
+    }
+
+    /**
+     * Declares the {@code EventTypes}, that are known to be send over the {@code MessageBus}.
+     *
+     * <p>For these {@code EventTypes} the delivering {@code Channels} are created eagerly and stored in a frozen, collision
+     * free routing table. Routing a message of such a type costs a single array lookup. Messages of other {@code EventTypes}
+     * are still accepted and routed dynamically.</p>
+     *
+     * @param eventTypes the fixed set of {@code EventTypes}
+     * @return the same {@code MessageBusBuilder} instance the method was called one
+     */
+    public MessageBusBuilder withFixedEventTypes(final Collection<EventType> eventTypes) {
+        this.fixedEventTypes = eventTypes;
+        return this;
+    }
+
+    /**
+     * Enables the recycling of the {@code ProcessingContexts}, that the {@code MessageBus} creates for sent messages.
+     *
+     * <p>Pooled {@code ProcessingContexts} are only valid during their delivery. Subscribers, that keep them longer, have to
+     * retain and release them. The delivering {@code Channels} of a custom {@code MessageBusChannelFactory} have to be
+     * synchronous. With a leak listener set, {@code ProcessingContexts}, that are garbage collected without being released,
+     * are reported.</p>
+     *
+     * @param poolingConfiguration the {@code PoolingConfiguration}
+     * @return the same {@code MessageBusBuilder} instance the method was called one
+     */
+    public MessageBusBuilder withProcessingContextPooling(final PoolingConfiguration poolingConfiguration) {
+        this.poolingConfiguration = poolingConfiguration;
+        return this;
+    }
+
+    /**
+     * Sets how much of the {@code ChannelProcessingFrame} history of a message is kept by the {@code Channels} of the
+     * {@code MessageBus}. A custom {@code MessageBusChannelFactory} has to apply the policy to its {@code Channels} itself.
+     *
+     * <p>Per default the full history is kept, which grows by one frame for each subscriber a message is delivered to.</p>
+     *
+     * @param processingFrameHistoryPolicy the {@code ProcessingFrameHistoryPolicy} to use
+     * @return the same {@code MessageBusBuilder} instance the method was called one
+     */
+    public MessageBusBuilder withProcessingFrameHistoryPolicy(final ProcessingFrameHistoryPolicy processingFrameHistoryPolicy) {
+        this.processingFrameHistoryPolicy = processingFrameHistoryPolicy;
+        return this;
+    }
+
     /**
      * Overrides the default exception throwing {@code MessageBusExceptionHandler}.
      *
@@ -126,12 +214,22 @@ public final class MessageBusBuilder {
         final MessageBusBrokerStrategy brokerStrategy = createBrokerStrategy(exceptionHandler);
         final CorrelationBasedSubscriptionsImpl corSubscriptions = correlationBasedSubscriptions();
         final Channel<Object> acceptingChannel = createAcceptingChannel(brokerStrategy, exceptionHandler, corSubscriptions);
-        return new MessageBusImpl(acceptingChannel, brokerStrategy, corSubscriptions, errorListenerHandler);
+        final ProcessingContextPool processingContextPool = createProcessingContextPool();
+        return new MessageBusImpl(acceptingChannel, brokerStrategy, corSubscriptions, errorListenerHandler,
+                processingContextPool, exceptionHandler);
+    }
+
+    private ProcessingContextPool createProcessingContextPool() {
+        if (poolingConfiguration == null) {
+            return noPooling();
+        } else {
+            return processingContextPool(poolingConfiguration);
+        }
     }
 
     private MessageBusBrokerStrategy createBrokerStrategy(final MessageBusExceptionHandler exceptionHandler) {
         final MessageBusChannelFactory channelFactory = createChannelFactory();
-        return messageBusBrokerStrategyImpl2(channelFactory, exceptionHandler);
+        return messageBusBrokerStrategyImpl2(channelFactory, exceptionHandler, fixedEventTypes);
     }
 
     private MessageBusExceptionHandler createExceptionHandler(final ExceptionListenerHandlerImpl errorListenerHandler) {
@@ -140,7 +238,7 @@ public final class MessageBusBuilder {
 
     private MessageBusChannelFactory createChannelFactory() {
         if (this.channelFactory == null) {
-            return synchronousMessageBusChannelFactory();
+            return synchronousMessageBusChannelFactory(processingFrameHistoryPolicy);
         } else {
             return this.channelFactory;
         }
@@ -155,7 +253,10 @@ public final class MessageBusBuilder {
         final Channel<Object> acceptingChannel = aChannel(Object.class)
                 .forType(channelType)
                 .withAsynchronousConfiguration(asynchronousConfiguration)
+                .withNumberOfPartitions(numberOfPartitions)
+                .withPartitionKeyExtractor(partitionKeyExtractor)
                 .withChannelExceptionHandler(acceptingPipeExceptionHandler)
+                .withProcessingFrameHistoryPolicy(processingFrameHistoryPolicy)
                 .withDefaultAction(messageBusConsumeAction(brokerStrategy, correlationBasedSubscriptions))
                 .build();
         acceptingPipeExceptionHandler.setChannel(acceptingChannel);
@@ -168,6 +269,10 @@ public final class MessageBusBuilder {
                 return ChannelType.SYNCHRONOUS;
             case ASYNCHRONOUS:
                 return ChannelType.ASYNCHRONOUS;
+            case RING_BUFFER:
+                return ChannelType.RING_BUFFER;
+            case PARTITIONED:
+                return ChannelType.PARTITIONED;
             default:
                 throw new IllegalArgumentException("Unknown type for message bus: " + messageBusType);
         }
@@ -31,7 +31,10 @@ import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.subscribing.Subscriber;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.envimate.messageMate.channel.action.Consume.consumeMessage;
 import static lombok.AccessLevel.PRIVATE;
@@ -44,6 +47,11 @@ final class MessageBusConsumeAction {
         return consumeMessage(objectProcessingContext -> {
             deliveryToEventTypeBasedSubscriber(objectProcessingContext, brokerStrategy);
             deliveryBasedOnCorrelationId(objectProcessingContext, correlationBasedSubscriptions);
+        }, objectProcessingContexts -> {
+            deliveryToEventTypeBasedSubscribers(objectProcessingContexts, brokerStrategy);
+            for (final ProcessingContext<Object> objectProcessingContext : objectProcessingContexts) {
+                deliveryBasedOnCorrelationId(objectProcessingContext, correlationBasedSubscriptions);
+            }
         });
     }
 
@@ -54,6 +62,17 @@ final class MessageBusConsumeAction {
         channel.send(processingContext);
     }
 
+    private static void deliveryToEventTypeBasedSubscribers(final List<ProcessingContext<Object>> processingContexts,
+                                                            final MessageBusBrokerStrategy brokerStrategy) {
+        final Map<Channel<Object>, List<ProcessingContext<Object>>> batchesPerChannel = new LinkedHashMap<>();
+        for (final ProcessingContext<Object> processingContext : processingContexts) {
+            final EventType eventType = processingContext.getEventType();
+            final Channel<Object> channel = brokerStrategy.getDeliveringChannelFor(eventType);
+            batchesPerChannel.computeIfAbsent(channel, c -> new ArrayList<>()).add(processingContext);
+        }
+        batchesPerChannel.forEach(Channel::sendBatch);
+    }
+
     private static void deliveryBasedOnCorrelationId(final ProcessingContext<Object> objectProcessingContext,
                                                      final CorrelationBasedSubscriptions correlationBasedSubscriptions) {
         final CorrelationId correlationId = objectProcessingContext.getCorrelationId();
@@ -24,9 +24,12 @@ package com.envimate.messageMate.messageBus;
 import com.envimate.messageMate.channel.Channel;
 import com.envimate.messageMate.filtering.Filter;
 import com.envimate.messageMate.filtering.FilterActions;
+import com.envimate.messageMate.filtering.PassThroughFilter;
+import com.envimate.messageMate.filtering.TypeGuardedFilter;
 import com.envimate.messageMate.identification.CorrelationId;
 import com.envimate.messageMate.identification.MessageId;
 import com.envimate.messageMate.internal.exceptions.BubbleUpWrappedException;
+import com.envimate.messageMate.messageBus.exception.MessageBusExceptionHandler;
 import com.envimate.messageMate.messageBus.exception.MessageBusExceptionListener;
 import com.envimate.messageMate.messageBus.internal.MessageBusStatusInformationAdapter;
 import com.envimate.messageMate.messageBus.internal.brokering.MessageBusBrokerStrategy;
@@ -34,20 +37,27 @@ import com.envimate.messageMate.messageBus.internal.correlationIds.CorrelationBa
 import com.envimate.messageMate.messageBus.internal.exception.ExceptionListenerHandler;
 import com.envimate.messageMate.messageBus.internal.statistics.MessageBusStatisticsCollector;
 import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.EventTypePattern;
 import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.processingContext.ProcessingContextPool;
 import com.envimate.messageMate.subscribing.ConsumerSubscriber;
+import com.envimate.messageMate.subscribing.OverflowStrategy;
 import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayDeque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static com.envimate.messageMate.messageBus.internal.MessageBusStatusInformationAdapter.statusInformationAdapter;
+import static com.envimate.messageMate.messageBus.internal.reactive.EventTypePublisher.eventTypePublisher;
+import static com.envimate.messageMate.messageBus.internal.reactive.MessageBusSendingSubscriber.messageBusSendingSubscriber;
 import static com.envimate.messageMate.messageBus.internal.statistics.ChannelBasedMessageBusStatisticsCollector.channelBasedMessageBusStatisticsCollector;
-import static com.envimate.messageMate.processingContext.ProcessingContext.processingContext;
 import static com.envimate.messageMate.subscribing.ConsumerSubscriber.consumerSubscriber;
 import static lombok.AccessLevel.PRIVATE;
 
@@ -56,30 +66,44 @@ final class MessageBusImpl implements MessageBus {
     private final MessageBusBrokerStrategy brokerStrategy;
     private final CorrelationBasedSubscriptions correlationBasedSubscriptions;
     private final ExceptionListenerHandler exceptionListenerHandler;
+    private final ProcessingContextPool processingContextPool;
+    private final MessageBusExceptionHandler exceptionHandler;
     private MessageBusStatusInformationAdapter statusInformationAdapter;
 
     MessageBusImpl(final Channel<Object> acceptingChannel,
                    final MessageBusBrokerStrategy brokerStrategy,
                    final CorrelationBasedSubscriptions correlationBasedSubscriptions,
-                   final ExceptionListenerHandler exceptionListenerHandler) {
+                   final ExceptionListenerHandler exceptionListenerHandler,
+                   final ProcessingContextPool processingContextPool,
+                   final MessageBusExceptionHandler exceptionHandler) {
         this.acceptingChannel = acceptingChannel;
         this.brokerStrategy = brokerStrategy;
         this.correlationBasedSubscriptions = correlationBasedSubscriptions;
         this.exceptionListenerHandler = exceptionListenerHandler;
+        this.processingContextPool = processingContextPool;
+        this.exceptionHandler = exceptionHandler;
         final MessageBusStatisticsCollector statisticsCollector = channelBasedMessageBusStatisticsCollector(acceptingChannel);
         statusInformationAdapter = statusInformationAdapter(statisticsCollector, brokerStrategy, exceptionListenerHandler);
     }
 
     @Override
     public MessageId send(final EventType eventType, final Object object) {
-        final ProcessingContext<Object> processingContext = processingContext(eventType, object);
-        return send(processingContext);
+        final ProcessingContext<Object> processingContext = processingContextPool.acquire(eventType, object, null);
+        try {
+            return send(processingContext);
+        } finally {
+            processingContext.release();
+        }
     }
 
     @Override
     public MessageId send(final EventType eventType, final Object object, final CorrelationId correlationId) {
-        final ProcessingContext<Object> processingContext = processingContext(eventType, object, correlationId);
-        return send(processingContext);
+        final ProcessingContext<Object> processingContext = processingContextPool.acquire(eventType, object, correlationId);
+        try {
+            return send(processingContext);
+        } finally {
+            processingContext.release();
+        }
     }
 
     @Override
@@ -91,6 +115,81 @@ final class MessageBusImpl implements MessageBus {
         }
     }
 
+    @Override
+    public Optional<MessageId> trySend(final EventType eventType, final Object object) {
+        final ProcessingContext<Object> processingContext = processingContextPool.acquire(eventType, object, null);
+        try {
+            return trySend(processingContext);
+        } finally {
+            processingContext.release();
+        }
+    }
+
+    @Override
+    public Optional<MessageId> trySend(final ProcessingContext<Object> processingContext) {
+        try {
+            if (acceptingChannel.trySend(processingContext)) {
+                return Optional.of(processingContext.getMessageId());
+            } else {
+                return Optional.empty();
+            }
+        } catch (final BubbleUpWrappedException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    @Override
+    public Optional<MessageId> send(final EventType eventType,
+                                    final Object object,
+                                    final long timeout,
+                                    final TimeUnit timeUnit) throws InterruptedException {
+        final ProcessingContext<Object> processingContext = processingContextPool.acquire(eventType, object, null);
+        try {
+            return send(processingContext, timeout, timeUnit);
+        } finally {
+            processingContext.release();
+        }
+    }
+
+    @Override
+    public Optional<MessageId> send(final ProcessingContext<Object> processingContext,
+                                    final long timeout,
+                                    final TimeUnit timeUnit) throws InterruptedException {
+        try {
+            if (acceptingChannel.send(processingContext, timeout, timeUnit)) {
+                return Optional.of(processingContext.getMessageId());
+            } else {
+                return Optional.empty();
+            }
+        } catch (final BubbleUpWrappedException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    @Override
+    public MessageId sendAwaitingCapacity(final EventType eventType, final Object object) throws InterruptedException {
+        final ProcessingContext<Object> processingContext = processingContextPool.acquire(eventType, object, null);
+        try {
+            return sendAwaitingCapacity(processingContext);
+        } finally {
+            processingContext.release();
+        }
+    }
+
+    @Override
+    public MessageId sendAwaitingCapacity(final ProcessingContext<Object> processingContext) throws InterruptedException {
+        try {
+            return acceptingChannel.sendAwaitingCapacity(processingContext);
+        } catch (final BubbleUpWrappedException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    @Override
+    public long remainingCapacity() {
+        return acceptingChannel.remainingCapacity();
+    }
+
     @Override
     public SubscriptionId subscribe(final EventType eventType, final Consumer<Object> consumer) {
         final ConsumerSubscriber<Object> subscriber = consumerSubscriber(consumer);
@@ -114,6 +213,39 @@ final class MessageBusImpl implements MessageBus {
         return correlationBasedSubscriptions.addCorrelationBasedSubscriber(correlationId, subscriber);
     }
 
+    @Override
+    public SubscriptionId subscribe(final CorrelationId correlationId,
+                                    final Subscriber<ProcessingContext<Object>> subscriber,
+                                    final long timeToLive,
+                                    final TimeUnit unit) {
+        final SubscriptionId subscriptionId = correlationBasedSubscriptions.addCorrelationBasedSubscriber(correlationId,
+                subscriber);
+        correlationBasedSubscriptions.expireAfter(subscriptionId, timeToLive, unit);
+        return subscriptionId;
+    }
+
+    @Override
+    public SubscriptionId subscribeOnce(final CorrelationId correlationId, final Consumer<ProcessingContext<Object>> consumer) {
+        final ConsumerSubscriber<ProcessingContext<Object>> subscriber = consumerSubscriber(consumer);
+        return subscribeOnce(correlationId, subscriber);
+    }
+
+    @Override
+    public SubscriptionId subscribeOnce(final CorrelationId correlationId,
+                                        final Subscriber<ProcessingContext<Object>> subscriber) {
+        return correlationBasedSubscriptions.addSingleShotSubscriber(correlationId, subscriber);
+    }
+
+    @Override
+    public SubscriptionId subscribeOnce(final CorrelationId correlationId,
+                                        final Subscriber<ProcessingContext<Object>> subscriber,
+                                        final long timeToLive,
+                                        final TimeUnit unit) {
+        final SubscriptionId subscriptionId = correlationBasedSubscriptions.addSingleShotSubscriber(correlationId, subscriber);
+        correlationBasedSubscriptions.expireAfter(subscriptionId, timeToLive, unit);
+        return subscriptionId;
+    }
+
     @Override
     public SubscriptionId subscribeRaw(final EventType eventType, final Consumer<ProcessingContext<Object>> consumer) {
         final ConsumerSubscriber<ProcessingContext<Object>> subscriber = consumerSubscriber(consumer);
@@ -126,20 +258,56 @@ final class MessageBusImpl implements MessageBus {
         return subscriber.getSubscriptionId();
     }
 
+    @Override
+    public SubscriptionId subscribe(final EventTypePattern pattern, final Consumer<Object> consumer) {
+        final ConsumerSubscriber<Object> subscriber = consumerSubscriber(consumer);
+        return subscribe(pattern, subscriber);
+    }
+
+    @Override
+    public SubscriptionId subscribe(final EventTypePattern pattern, final Subscriber<Object> subscriber) {
+        brokerStrategy.addSubscriber(pattern, subscriber);
+        return subscriber.getSubscriptionId();
+    }
+
+    @Override
+    public SubscriptionId subscribeRaw(final EventTypePattern pattern, final Consumer<ProcessingContext<Object>> consumer) {
+        final ConsumerSubscriber<ProcessingContext<Object>> subscriber = consumerSubscriber(consumer);
+        return subscribeRaw(pattern, subscriber);
+    }
+
+    @Override
+    public SubscriptionId subscribeRaw(final EventTypePattern pattern, final Subscriber<ProcessingContext<Object>> subscriber) {
+        brokerStrategy.addRawSubscriber(pattern, subscriber);
+        return subscriber.getSubscriptionId();
+    }
+
     @Override
     public void unsubcribe(final SubscriptionId subscriptionId) {
         brokerStrategy.removeSubscriber(subscriptionId);
         correlationBasedSubscriptions.unsubscribe(subscriptionId);
     }
 
+    @Override
+    public Flow.Publisher<ProcessingContext<Object>> publisherFor(final EventType eventType,
+                                                                  final int bufferCapacity,
+                                                                  final OverflowStrategy overflowStrategy) {
+        return eventTypePublisher(this, eventType, bufferCapacity, overflowStrategy);
+    }
+
+    @Override
+    public Flow.Subscriber<Object> subscriberFor(final EventType eventType) {
+        return messageBusSendingSubscriber(eventType, acceptingChannel, processingContextPool, exceptionHandler);
+    }
+
     @Override
     public void add(final Filter<Object> filter) {
-        acceptingChannel.addProcessFilter(new FilterAdapter(filter));
+        acceptingChannel.addProcessFilter(FilterAdapter.adapt(filter));
     }
 
     @Override
     public void add(final Filter<Object> filter, final int position) {
-        acceptingChannel.addProcessFilter(new FilterAdapter(filter), position);
+        acceptingChannel.addProcessFilter(FilterAdapter.adapt(filter), position);
     }
 
     @Override
@@ -190,6 +358,12 @@ final class MessageBusImpl implements MessageBus {
         return exceptionListenerHandler.register(correlationId, exceptionListener);
     }
 
+    @Override
+    public SubscriptionId onException(final MessageId messageId,
+                                      final MessageBusExceptionListener exceptionListener) {
+        return exceptionListenerHandler.register(messageId, exceptionListener);
+    }
+
     @Override
     public void unregisterExceptionListener(final SubscriptionId subscriptionId) {
         exceptionListenerHandler.unregister(subscriptionId);
@@ -203,6 +377,7 @@ final class MessageBusImpl implements MessageBus {
     @Override
     public void close(final boolean finishRemainingTasks) {
         acceptingChannel.close(finishRemainingTasks);
+        correlationBasedSubscriptions.close();
     }
 
     @Override
@@ -221,30 +396,91 @@ final class MessageBusImpl implements MessageBus {
     }
 
     @RequiredArgsConstructor(access = PRIVATE)
-    private static final class FilterAdapter implements Filter<ProcessingContext<Object>> {
+    private static class FilterAdapter implements TypeGuardedFilter<ProcessingContext<Object>> {
+        private static final ThreadLocal<ArrayDeque<PayloadFilterActions>> UNUSED_PAYLOAD_FILTER_ACTIONS =
+                ThreadLocal.withInitial(ArrayDeque::new);
         private final Filter<Object> delegate;
 
+        static FilterAdapter adapt(final Filter<Object> filter) {
+            if (filter instanceof PassThroughFilter) {
+                return new PassThroughFilterAdapter((PassThroughFilter<Object>) filter);
+            } else {
+                return new FilterAdapter(filter);
+            }
+        }
+
+        @Override
+        public Class<?> guardedType() {
+            if (delegate instanceof TypeGuardedFilter) {
+                return ((TypeGuardedFilter<?>) delegate).guardedType();
+            } else {
+                return Object.class;
+            }
+        }
+
         @Override
         public void apply(final ProcessingContext<Object> processingContext,
                           final FilterActions<ProcessingContext<Object>> filterActions) {
-            final Object originalPayload = processingContext.getPayload();
-            delegate.apply(originalPayload, new FilterActions<Object>() {
-                @Override
-                public void block(final Object message) {
-                    if (originalPayload != message) {
-                        processingContext.setPayload(message);
-                    }
-                    filterActions.block(processingContext);
-                }
+            final ArrayDeque<PayloadFilterActions> unusedPayloadFilterActions = UNUSED_PAYLOAD_FILTER_ACTIONS.get();
+            final PayloadFilterActions payloadFilterActions = acquirePayloadFilterActions(unusedPayloadFilterActions);
+            payloadFilterActions.processingContext = processingContext;
+            payloadFilterActions.originalPayload = processingContext.getPayload();
+            payloadFilterActions.filterActions = filterActions;
+            try {
+                delegate.apply(payloadFilterActions.originalPayload, payloadFilterActions);
+            } finally {
+                payloadFilterActions.processingContext = null;
+                payloadFilterActions.originalPayload = null;
+                payloadFilterActions.filterActions = null;
+                unusedPayloadFilterActions.addFirst(payloadFilterActions);
+            }
+        }
 
-                @Override
-                public void pass(final Object message) {
-                    if (originalPayload != message) {
-                        processingContext.setPayload(message);
-                    }
-                    filterActions.pass(processingContext);
-                }
-            });
+        private static PayloadFilterActions acquirePayloadFilterActions(
+                final ArrayDeque<PayloadFilterActions> unusedPayloadFilterActions) {
+            final PayloadFilterActions payloadFilterActions = unusedPayloadFilterActions.pollFirst();
+            if (payloadFilterActions != null) {
+                return payloadFilterActions;
+            } else {
+                return new PayloadFilterActions();
+            }
+        }
+    }
+
+    private static final class PassThroughFilterAdapter extends FilterAdapter
+            implements PassThroughFilter<ProcessingContext<Object>> {
+        private final PassThroughFilter<Object> passThroughDelegate;
+
+        private PassThroughFilterAdapter(final PassThroughFilter<Object> delegate) {
+            super(delegate);
+            this.passThroughDelegate = delegate;
+        }
+
+        @Override
+        public void inspect(final ProcessingContext<Object> processingContext) {
+            passThroughDelegate.inspect(processingContext.getPayload());
+        }
+    }
+
+    private static final class PayloadFilterActions implements FilterActions<Object> {
+        private ProcessingContext<Object> processingContext;
+        private Object originalPayload;
+        private FilterActions<ProcessingContext<Object>> filterActions;
+
+        @Override
+        public void block(final Object message) {
+            if (originalPayload != message) {
+                processingContext.setPayload(message);
+            }
+            filterActions.block(processingContext);
+        }
+
+        @Override
+        public void pass(final Object message) {
+            if (originalPayload != message) {
+                processingContext.setPayload(message);
+            }
+            filterActions.pass(processingContext);
         }
     }
 }
@@ -22,11 +22,14 @@
 package com.envimate.messageMate.messageBus;
 
 /**
- * Defines the type of the {@link MessageBus}. Can be either {@code SYNCHRONOUS} or {@code ASYNCHRONOUS}.
+ * Defines the type of the {@link MessageBus}. Can be either {@code SYNCHRONOUS}, {@code ASYNCHRONOUS}, {@code RING_BUFFER}
+ * or {@code PARTITIONED}.
  *
  * @see <a href="https://github.com/envimate/message-mate#messagebus">Message Mate Documentation</a>
  */
 public enum MessageBusType {
     SYNCHRONOUS,
-    ASYNCHRONOUS
+    ASYNCHRONOUS,
+    RING_BUFFER,
+    PARTITIONED
 }
@@ -22,6 +22,7 @@
 package com.envimate.messageMate.messageBus.channelCreating;
 
 import com.envimate.messageMate.channel.Channel;
+import com.envimate.messageMate.channel.ProcessingFrameHistoryPolicy;
 import com.envimate.messageMate.messageBus.exception.MessageBusExceptionHandler;
 import com.envimate.messageMate.messageBus.internal.exception.DelegatingChannelExceptionHandler;
 import com.envimate.messageMate.processingContext.EventType;
@@ -29,6 +30,7 @@ import com.envimate.messageMate.subscribing.Subscriber;
 import lombok.RequiredArgsConstructor;
 
 import static com.envimate.messageMate.channel.ChannelBuilder.aChannel;
+import static com.envimate.messageMate.channel.ProcessingFrameHistoryPolicy.fullProcessingFrameHistory;
 import static com.envimate.messageMate.channel.action.Subscription.subscription;
 import static com.envimate.messageMate.messageBus.internal.exception.DelegatingChannelExceptionHandler.delegatingChannelExceptionHandlerForDeliveryChannel;
 import static lombok.AccessLevel.PRIVATE;
@@ -40,6 +42,7 @@ import static lombok.AccessLevel.PRIVATE;
  */
 @RequiredArgsConstructor(access = PRIVATE)
 public final class SynchronousMessageBusChannelFactory implements MessageBusChannelFactory {
+    private final ProcessingFrameHistoryPolicy processingFrameHistoryPolicy;
 
     /**
      * Factory method to create a new {@code SynchronousMessageBusChannelFactory}.
@@ -47,7 +50,19 @@ public final class SynchronousMessageBusChannelFactory implements MessageBusChan
      * @return the newly {@code SynchronousMessageBusChannelFactory}
      */
     public static SynchronousMessageBusChannelFactory synchronousMessageBusChannelFactory() {
-        return new SynchronousMessageBusChannelFactory();
+        return new SynchronousMessageBusChannelFactory(fullProcessingFrameHistory());
+    }
+
+    /**
+     * Factory method to create a new {@code SynchronousMessageBusChannelFactory}, whose {@code Channels} use the given
+     * {@code ProcessingFrameHistoryPolicy}.
+     *
+     * @param processingFrameHistoryPolicy the {@code ProcessingFrameHistoryPolicy} of the created {@code Channels}
+     * @return the newly {@code SynchronousMessageBusChannelFactory}
+     */
+    public static SynchronousMessageBusChannelFactory synchronousMessageBusChannelFactory(
+            final ProcessingFrameHistoryPolicy processingFrameHistoryPolicy) {
+        return new SynchronousMessageBusChannelFactory(processingFrameHistoryPolicy);
     }
 
     @Override
@@ -59,6 +74,7 @@ public final class SynchronousMessageBusChannelFactory implements MessageBusChan
         final Channel<Object> channel = aChannel(Object.class)
                 .withDefaultAction(subscription())
                 .withChannelExceptionHandler(delegatingChannelExceptionHandler)
+                .withProcessingFrameHistoryPolicy(processingFrameHistoryPolicy)
                 .build();
         delegatingChannelExceptionHandler.setChannel(channel);
         return channel;
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus.internal.brokering;
+
+import com.envimate.messageMate.channel.Channel;
+import com.envimate.messageMate.processingContext.EventType;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/* Open addressing hash table for a fixed set of EventTypes. The table is at most half full, so that a lookup is one
+   multiplication and usually a single array index and equals check. EventTypes with equal hash codes are placed into
+   the following free slots (linear probing), so any set of EventTypes can be frozen. */
+@RequiredArgsConstructor(access = PRIVATE)
+final class FrozenEventTypeRoutingTable {
+    private static final int MULTIPLIER = 0x9E3779B9;
+    private final EventType[] eventTypes;
+    private final Channel<Object>[] channels;
+    private final int mask;
+    private final int shift;
+
+    static FrozenEventTypeRoutingTable frozenRoutingTable(final Map<EventType, Channel<Object>> channelsPerEventType) {
+        final int tableSize = Integer.highestOneBit(Math.max(1, channelsPerEventType.size() * 2 - 1)) << 1;
+        final int mask = tableSize - 1;
+        final int shift = Integer.SIZE - Integer.numberOfTrailingZeros(tableSize);
+        final EventType[] eventTypes = new EventType[tableSize];
+        final Channel<Object>[] channels = newChannelArray(tableSize);
+        channelsPerEventType.forEach((eventType, channel) -> {
+            int slot = slotOf(eventType, shift);
+            while (eventTypes[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            eventTypes[slot] = eventType;
+            channels[slot] = channel;
+        });
+        return new FrozenEventTypeRoutingTable(eventTypes, channels, mask, shift);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Channel<Object>[] newChannelArray(final int size) {
+        return (Channel<Object>[]) new Channel<?>[size];
+    }
+
+    private static int slotOf(final EventType eventType, final int shift) {
+        return (eventType.hashCode() * MULTIPLIER) >>> shift;
+    }
+
+    Channel<Object> lookup(final EventType eventType) {
+        int slot = slotOf(eventType, shift);
+        EventType storedEventType = eventTypes[slot];
+        while (storedEventType != null) {
+            if (storedEventType.equals(eventType)) {
+                return channels[slot];
+            }
+            slot = (slot + 1) & mask;
+            storedEventType = eventTypes[slot];
+        }
+        return null;
+    }
+}
@@ -23,6 +23,7 @@ package com.envimate.messageMate.messageBus.internal.brokering;
 
 import com.envimate.messageMate.channel.Channel;
 import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.EventTypePattern;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
@@ -38,6 +39,10 @@ public interface MessageBusBrokerStrategy {
 
     void addRawSubscriber(EventType eventType, Subscriber<ProcessingContext<Object>> subscriber);
 
+    void addSubscriber(EventTypePattern pattern, Subscriber<Object> subscriber);
+
+    void addRawSubscriber(EventTypePattern pattern, Subscriber<ProcessingContext<Object>> subscriber);
+
     void removeSubscriber(SubscriptionId subscriptionId);
 
     List<Subscriber<?>> getAllSubscribers();
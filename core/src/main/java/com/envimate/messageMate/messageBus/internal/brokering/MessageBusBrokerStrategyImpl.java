@@ -23,44 +23,108 @@ package com.envimate.messageMate.messageBus.internal.brokering;
 
 import com.envimate.messageMate.channel.Channel;
 import com.envimate.messageMate.channel.action.Subscription;
-import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.messageBus.channelCreating.MessageBusChannelFactory;
 import com.envimate.messageMate.messageBus.exception.MessageBusExceptionHandler;
+import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.EventTypePattern;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
-import lombok.RequiredArgsConstructor;
 
-import java.util.LinkedList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
-import static lombok.AccessLevel.PRIVATE;
+import static com.envimate.messageMate.messageBus.internal.brokering.FrozenEventTypeRoutingTable.frozenRoutingTable;
+import static com.envimate.messageMate.messageBus.internal.brokering.PatternSubscription.patternSubscription;
+import static com.envimate.messageMate.messageBus.internal.brokering.PatternSubscription.rawPatternSubscription;
+import static com.envimate.messageMate.messageBus.internal.brokering.TypeHierarchySubscriptions.isDispatchingSubscriber;
+import static com.envimate.messageMate.messageBus.internal.brokering.TypeHierarchySubscriptions.typeHierarchySubscriptions;
 
-@RequiredArgsConstructor(access = PRIVATE)
 public final class MessageBusBrokerStrategyImpl implements MessageBusBrokerStrategy {
     private final Map<EventType, Channel<Object>> channelMap = new ConcurrentHashMap<>();
     private final Map<SubscriptionId, List<EventType>> subscriptionLookupMap = new ConcurrentHashMap<>();
+    private final List<PatternSubscription> patternSubscriptions = new CopyOnWriteArrayList<>();
+    private final TypeHierarchySubscriptions typeHierarchySubscriptions = typeHierarchySubscriptions();
     private final MessageBusChannelFactory channelFactory;
     private final MessageBusExceptionHandler messageBusExceptionHandler;
+    private final FrozenEventTypeRoutingTable fixedRoutingTable;
+
+    private MessageBusBrokerStrategyImpl(final MessageBusChannelFactory channelFactory,
+                                         final MessageBusExceptionHandler messageBusExceptionHandler,
+                                         final Collection<EventType> fixedEventTypes) {
+        this.channelFactory = channelFactory;
+        this.messageBusExceptionHandler = messageBusExceptionHandler;
+        for (final EventType eventType : fixedEventTypes) {
+            getOrCreateChannel(eventType);
+        }
+        this.fixedRoutingTable = fixedRoutingTableFor(fixedEventTypes, channelMap);
+    }
+
+    /* Without fixed EventTypes no table is created, so that sends go straight to the channelMap. */
+    private static FrozenEventTypeRoutingTable fixedRoutingTableFor(final Collection<EventType> fixedEventTypes,
+                                                                    final Map<EventType, Channel<Object>> channelMap) {
+        if (fixedEventTypes.isEmpty()) {
+            return null;
+        } else {
+            return frozenRoutingTable(new HashMap<>(channelMap));
+        }
+    }
 
     public static MessageBusBrokerStrategyImpl messageBusBrokerStrategyImpl2(final MessageBusChannelFactory channelFactory,
                                                                              final MessageBusExceptionHandler exceptionHandler) {
-        return new MessageBusBrokerStrategyImpl(channelFactory, exceptionHandler);
+        return messageBusBrokerStrategyImpl2(channelFactory, exceptionHandler, Collections.emptyList());
+    }
+
+    public static MessageBusBrokerStrategyImpl messageBusBrokerStrategyImpl2(final MessageBusChannelFactory channelFactory,
+                                                                             final MessageBusExceptionHandler exceptionHandler,
+                                                                             final Collection<EventType> fixedEventTypes) {
+        return new MessageBusBrokerStrategyImpl(channelFactory, exceptionHandler, fixedEventTypes);
     }
 
     @Override
     public Channel<Object> getDeliveringChannelFor(final EventType eventType) {
-        return getOrCreateChannel(eventType);
+        if (fixedRoutingTable == null) {
+            return getOrCreateChannel(eventType);
+        }
+        final Channel<Object> fixedChannel = fixedRoutingTable.lookup(eventType);
+        if (fixedChannel != null) {
+            return fixedChannel;
+        } else {
+            return getOrCreateChannel(eventType);
+        }
     }
 
     private Channel<Object> getOrCreateChannel(final EventType eventType) {
-        if (channelMap.containsKey(eventType)) {
-            return channelMap.get(eventType);
+        final Channel<Object> channel = channelMap.get(eventType);
+        if (channel != null) {
+            return channel;
+        } else {
+            return createChannel(eventType);
+        }
+    }
+
+    /* Creating a Channel and adding a pattern subscriber to the existing Channels are synchronized, so that a pattern
+       subscriber is never missing from a Channel created concurrently. */
+    private synchronized Channel<Object> createChannel(final EventType eventType) {
+        final Channel<Object> existingChannel = channelMap.get(eventType);
+        if (existingChannel != null) {
+            return existingChannel;
         } else {
             final Channel<Object> channel = channelFactory.createChannel(eventType, null, messageBusExceptionHandler);
+            final Subscription<Object> subscription = getChannelSubscription(channel);
+            subscription.addRawSubscriber(typeHierarchySubscriptions.dispatchingSubscriber());
+            for (final PatternSubscription patternSubscription : patternSubscriptions) {
+                if (patternSubscription.appliesTo(eventType)) {
+                    patternSubscription.addTo(subscription);
+                    storeSubscriptionForLookup(eventType, patternSubscription.getSubscriptionId());
+                }
+            }
             channelMap.put(eventType, channel);
             return channel;
         }
@@ -71,7 +135,7 @@ public final class MessageBusBrokerStrategyImpl implements MessageBusBrokerStrat
         final Channel<Object> channel = getOrCreateChannel(eventType);
         final Subscription<Object> subscription = getChannelSubscription(channel);
         subscription.addSubscriber(subscriber);
-        storeSubscriptionForLookup(eventType, subscriber);
+        storeSubscriptionForLookup(eventType, subscriber.getSubscriptionId());
     }
 
     @Override
@@ -79,29 +143,53 @@ public final class MessageBusBrokerStrategyImpl implements MessageBusBrokerStrat
         final Channel<Object> channel = getOrCreateChannel(eventType);
         final Subscription<Object> subscription = getChannelSubscription(channel);
         subscription.addRawSubscriber(subscriber);
-        storeSubscriptionForLookup(eventType, subscriber);
+        storeSubscriptionForLookup(eventType, subscriber.getSubscriptionId());
     }
 
-    private Subscription<Object> getChannelSubscription(final Channel<Object> channel) {
-        return (Subscription<Object>) channel.getDefaultAction();
+    @Override
+    public void addSubscriber(final EventTypePattern pattern, final Subscriber<Object> subscriber) {
+        if (pattern.isTypeHierarchyPattern()) {
+            typeHierarchySubscriptions.add(pattern, subscriber);
+        } else {
+            addPatternSubscription(patternSubscription(pattern, subscriber));
+        }
     }
 
-    private void storeSubscriptionForLookup(final EventType eventType, final Subscriber<?> subscriber) {
-        final SubscriptionId subscriptionId = subscriber.getSubscriptionId();
-        final List<EventType> eventTypes;
-        if (subscriptionLookupMap.containsKey(subscriptionId)) {
-            eventTypes = subscriptionLookupMap.get(subscriptionId);
+    @Override
+    public void addRawSubscriber(final EventTypePattern pattern, final Subscriber<ProcessingContext<Object>> subscriber) {
+        if (pattern.isTypeHierarchyPattern()) {
+            typeHierarchySubscriptions.addRaw(pattern, subscriber);
         } else {
-            eventTypes = new LinkedList<>();
-            subscriptionLookupMap.put(subscriptionId, eventTypes);
+            addPatternSubscription(rawPatternSubscription(pattern, subscriber));
         }
+    }
+
+    private synchronized void addPatternSubscription(final PatternSubscription patternSubscription) {
+        patternSubscriptions.add(patternSubscription);
+        channelMap.forEach((eventType, channel) -> {
+            if (patternSubscription.appliesTo(eventType)) {
+                patternSubscription.addTo(getChannelSubscription(channel));
+                storeSubscriptionForLookup(eventType, patternSubscription.getSubscriptionId());
+            }
+        });
+    }
+
+    private Subscription<Object> getChannelSubscription(final Channel<Object> channel) {
+        return (Subscription<Object>) channel.getDefaultAction();
+    }
+
+    private void storeSubscriptionForLookup(final EventType eventType, final SubscriptionId subscriptionId) {
+        final List<EventType> eventTypes = subscriptionLookupMap.computeIfAbsent(subscriptionId,
+                id -> new CopyOnWriteArrayList<>());
         eventTypes.add(eventType);
     }
 
     @Override
-    public void removeSubscriber(final SubscriptionId subscriptionId) {
-        if (subscriptionLookupMap.containsKey(subscriptionId)) {
-            final List<EventType> eventTypes = subscriptionLookupMap.get(subscriptionId);
+    public synchronized void removeSubscriber(final SubscriptionId subscriptionId) {
+        patternSubscriptions.removeIf(patternSubscription -> patternSubscription.getSubscriptionId().equals(subscriptionId));
+        typeHierarchySubscriptions.remove(subscriptionId);
+        final List<EventType> eventTypes = subscriptionLookupMap.get(subscriptionId);
+        if (eventTypes != null) {
             eventTypes.stream()
                     .map(eventType -> channelMap.get(eventType))
                     .map(channel -> getChannelSubscription(channel))
@@ -111,17 +199,24 @@ public final class MessageBusBrokerStrategyImpl implements MessageBusBrokerStrat
 
     @Override
     public List<Subscriber<?>> getAllSubscribers() {
-        return channelMap.values().stream()
-                .map(channel -> getChannelSubscription(channel))
-                .flatMap(subscription -> subscription.getAllSubscribers().stream())
+        final List<Subscriber<?>> subscribers = channelMap.values().stream()
+                .flatMap(channel -> getSubscribersOf(channel).stream())
                 .collect(Collectors.toList());
+        subscribers.addAll(typeHierarchySubscriptions.getAllSubscribers());
+        return subscribers;
     }
 
     @Override
     public Map<EventType, List<Subscriber<?>>> getSubscribersPerType() {
         final Map<EventType, List<Subscriber<?>>> map = channelMap.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> getChannelSubscription(e.getValue()).getAllSubscribers()));
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> getSubscribersOf(e.getValue())));
         return map;
     }
 
+    private List<Subscriber<?>> getSubscribersOf(final Channel<Object> channel) {
+        return getChannelSubscription(channel).getAllSubscribers().stream()
+                .filter(subscriber -> !isDispatchingSubscriber(subscriber))
+                .collect(Collectors.toList());
+    }
+
 }
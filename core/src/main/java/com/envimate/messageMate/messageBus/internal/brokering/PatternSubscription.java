@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus.internal.brokering;
+
+import com.envimate.messageMate.channel.action.Subscription;
+import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.EventTypePattern;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.subscribing.SubscriptionId;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/* A pattern subscriber is added to the Subscription of each delivering Channel, whose EventType it matches, so that it
+   is delivered with the same exception handling and statistics as exact subscribers. Patterns on the payload type are
+   kept in the TypeHierarchySubscriptions instead. */
+@RequiredArgsConstructor(access = PRIVATE)
+final class PatternSubscription {
+    private final EventTypePattern pattern;
+    @Getter
+    private final SubscriptionId subscriptionId;
+    private final Consumer<Subscription<Object>> subscribing;
+
+    static PatternSubscription patternSubscription(final EventTypePattern pattern, final Subscriber<Object> subscriber) {
+        final SubscriptionId subscriptionId = subscriber.getSubscriptionId();
+        return new PatternSubscription(pattern, subscriptionId, subscription -> subscription.addSubscriber(subscriber));
+    }
+
+    static PatternSubscription rawPatternSubscription(final EventTypePattern pattern,
+                                                      final Subscriber<ProcessingContext<Object>> subscriber) {
+        final SubscriptionId subscriptionId = subscriber.getSubscriptionId();
+        return new PatternSubscription(pattern, subscriptionId, subscription -> subscription.addRawSubscriber(subscriber));
+    }
+
+    boolean appliesTo(final EventType eventType) {
+        return pattern.matches(eventType);
+    }
+
+    void addTo(final Subscription<Object> subscription) {
+        subscribing.accept(subscription);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus.internal.brokering;
+
+import com.envimate.messageMate.processingContext.EventTypePattern;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.subscribing.AcceptingBehavior;
+import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.subscribing.SubscriptionId;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.messageMate.subscribing.AcceptingBehavior.MESSAGE_ACCEPTED;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+
+/* Patterns on the payload type can not be decided by the EventType. So their subscribers are not added to the delivering
+   Channels themselves. Each delivering Channel gets a single dispatching subscriber instead, that delivers to the
+   subscribers matching the class of the payload. These are resolved once per payload class in a ClassValue. The
+   ClassValue is replaced on each subscribe and unsubscribe, so that sending never scans the patterns. */
+@RequiredArgsConstructor(access = PRIVATE)
+final class TypeHierarchySubscriptions {
+    private volatile List<TypeHierarchySubscriber> subscribers = List.of();
+    private volatile ClassValue<List<Subscriber<ProcessingContext<Object>>>> resolvedSubscribers = resolving(List.of());
+
+    static TypeHierarchySubscriptions typeHierarchySubscriptions() {
+        return new TypeHierarchySubscriptions();
+    }
+
+    synchronized void add(final EventTypePattern pattern, final Subscriber<Object> subscriber) {
+        final PayloadDeliveringSubscriber deliveringSubscriber = new PayloadDeliveringSubscriber(subscriber);
+        add(new TypeHierarchySubscriber(pattern, subscriber, deliveringSubscriber));
+    }
+
+    synchronized void addRaw(final EventTypePattern pattern, final Subscriber<ProcessingContext<Object>> subscriber) {
+        add(new TypeHierarchySubscriber(pattern, subscriber, subscriber));
+    }
+
+    private void add(final TypeHierarchySubscriber subscriber) {
+        final List<TypeHierarchySubscriber> changedSubscribers = new ArrayList<>(subscribers);
+        changedSubscribers.add(subscriber);
+        replaceSubscribers(changedSubscribers);
+    }
+
+    synchronized void remove(final SubscriptionId subscriptionId) {
+        final List<TypeHierarchySubscriber> changedSubscribers = new ArrayList<>(subscribers);
+        if (changedSubscribers.removeIf(subscriber -> subscriber.hasSubscriptionId(subscriptionId))) {
+            replaceSubscribers(changedSubscribers);
+        }
+    }
+
+    private void replaceSubscribers(final List<TypeHierarchySubscriber> changedSubscribers) {
+        final List<TypeHierarchySubscriber> newSubscribers = List.copyOf(changedSubscribers);
+        subscribers = newSubscribers;
+        resolvedSubscribers = resolving(newSubscribers);
+    }
+
+    private static ClassValue<List<Subscriber<ProcessingContext<Object>>>> resolving(
+            final List<TypeHierarchySubscriber> subscribers) {
+        return new ClassValue<>() {
+            @Override
+            protected List<Subscriber<ProcessingContext<Object>>> computeValue(final Class<?> payloadClass) {
+                return subscribers.stream()
+                        .filter(subscriber -> subscriber.pattern.matches(payloadClass))
+                        .map(subscriber -> subscriber.deliveringSubscriber)
+                        .collect(toList());
+            }
+        };
+    }
+
+    List<Subscriber<?>> getAllSubscribers() {
+        return subscribers.stream()
+                .map(subscriber -> subscriber.reportedSubscriber)
+                .collect(toList());
+    }
+
+    Subscriber<ProcessingContext<Object>> dispatchingSubscriber() {
+        return new DispatchingSubscriber(this, SubscriptionId.newUniqueId());
+    }
+
+    static boolean isDispatchingSubscriber(final Subscriber<?> subscriber) {
+        return subscriber instanceof DispatchingSubscriber;
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class TypeHierarchySubscriber {
+        private final EventTypePattern pattern;
+        private final Subscriber<?> reportedSubscriber;
+        private final Subscriber<ProcessingContext<Object>> deliveringSubscriber;
+
+        boolean hasSubscriptionId(final SubscriptionId subscriptionId) {
+            return reportedSubscriber.getSubscriptionId().equals(subscriptionId);
+        }
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class DispatchingSubscriber implements Subscriber<ProcessingContext<Object>> {
+        private final TypeHierarchySubscriptions typeHierarchySubscriptions;
+        private final SubscriptionId subscriptionId;
+
+        @Override
+        public AcceptingBehavior accept(final ProcessingContext<Object> processingContext) {
+            final Object payload = processingContext.getPayload();
+            if (payload == null) {
+                return MESSAGE_ACCEPTED;
+            }
+            final List<Subscriber<ProcessingContext<Object>>> subscribers =
+                    typeHierarchySubscriptions.resolvedSubscribers.get(payload.getClass());
+            for (final Subscriber<ProcessingContext<Object>> subscriber : subscribers) {
+                final AcceptingBehavior acceptingBehavior = subscriber.accept(processingContext);
+                if (!acceptingBehavior.continueDelivery()) {
+                    return acceptingBehavior;
+                }
+            }
+            return MESSAGE_ACCEPTED;
+        }
+
+        @Override
+        public SubscriptionId getSubscriptionId() {
+            return subscriptionId;
+        }
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class PayloadDeliveringSubscriber implements Subscriber<ProcessingContext<Object>> {
+        private final Subscriber<Object> subscriber;
+
+        @Override
+        public AcceptingBehavior accept(final ProcessingContext<Object> processingContext) {
+            final Object payload = processingContext.getPayload();
+            return subscriber.accept(payload);
+        }
+
+        @Override
+        public SubscriptionId getSubscriptionId() {
+            return subscriber.getSubscriptionId();
+        }
+    }
+}
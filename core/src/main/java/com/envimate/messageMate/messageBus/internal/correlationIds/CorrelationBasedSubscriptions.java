@@ -27,12 +27,21 @@ import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public interface CorrelationBasedSubscriptions {
 
     SubscriptionId addCorrelationBasedSubscriber(CorrelationId correlationId, Subscriber<ProcessingContext<Object>> subscriber);
 
+    SubscriptionId addSingleShotSubscriber(CorrelationId correlationId, Subscriber<ProcessingContext<Object>> subscriber);
+
+    void expireAfter(SubscriptionId subscriptionId, long timeToLive, TimeUnit unit);
+
     void unsubscribe(SubscriptionId subscriptionId);
 
     List<Subscriber<ProcessingContext<Object>>> getSubscribersFor(CorrelationId correlationId);
+
+    int numberOfCorrelationIds();
+
+    void close();
 }
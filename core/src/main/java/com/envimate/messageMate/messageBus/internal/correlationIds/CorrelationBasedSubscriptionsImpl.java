@@ -22,63 +22,100 @@
 package com.envimate.messageMate.messageBus.internal.correlationIds;
 
 import com.envimate.messageMate.identification.CorrelationId;
+import com.envimate.messageMate.internal.timing.Timeout;
+import com.envimate.messageMate.internal.timing.TimerWheel;
 import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.subscribing.AcceptingBehavior;
 import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.RequiredArgsConstructor;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.envimate.messageMate.internal.timing.TimerWheel.timerWheel;
+import static com.envimate.messageMate.subscribing.AcceptingBehavior.MESSAGE_ACCEPTED;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static lombok.AccessLevel.PRIVATE;
 
+/* Each CorrelationId maps to an immutable list of Subscribers, that is replaced atomically per key. The entry is removed
+   together with its last Subscriber, so finished request/response pairs leave nothing behind. Adding and removing the
+   same SubscriptionId is serialised on one of several lock stripes instead of a single lock. Expiring subscriptions are
+   tracked in a timer wheel, whose thread is only started, when the first time to live is set. */
 @RequiredArgsConstructor(access = PRIVATE)
 public final class CorrelationBasedSubscriptionsImpl implements CorrelationBasedSubscriptions {
+    private static final int NUMBER_OF_LOCK_STRIPES = 64;
+    private static final long EXPIRY_TICK_DURATION_IN_MILLISECONDS = 50;
+    private static final int NUMBER_OF_EXPIRY_BUCKETS = 512;
     private final Map<CorrelationId, List<Subscriber<ProcessingContext<Object>>>> correlationBasedSubscriber =
             new ConcurrentHashMap<>();
-    private final Map<SubscriptionId, List<CorrelationId>> reverseLookupMap = new ConcurrentHashMap<>();
+    private final Map<SubscriptionId, Registration> registrations = new ConcurrentHashMap<>();
+    private final Object[] lockStripes = createLockStripes();
+    private final TimerWheel timerWheel = timerWheel(EXPIRY_TICK_DURATION_IN_MILLISECONDS, MILLISECONDS,
+            NUMBER_OF_EXPIRY_BUCKETS, "messageBus-correlationId-expiry");
 
     public static CorrelationBasedSubscriptionsImpl correlationBasedSubscriptions() {
         return new CorrelationBasedSubscriptionsImpl();
     }
 
+    private static Object[] createLockStripes() {
+        final Object[] locks = new Object[NUMBER_OF_LOCK_STRIPES];
+        for (int i = 0; i < NUMBER_OF_LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
     @Override
-    public synchronized SubscriptionId addCorrelationBasedSubscriber(final CorrelationId correlationId,
-                                                                     final Subscriber<ProcessingContext<Object>> subscriber) {
+    public SubscriptionId addCorrelationBasedSubscriber(final CorrelationId correlationId,
+                                                        final Subscriber<ProcessingContext<Object>> subscriber) {
         final SubscriptionId subscriptionId = subscriber.getSubscriptionId();
-        if (correlationBasedSubscriber.containsKey(correlationId)) {
-            final List<Subscriber<ProcessingContext<Object>>> subscribers = correlationBasedSubscriber.get(correlationId);
-            subscribers.add(subscriber);
-        } else {
-            final CopyOnWriteArrayList<Subscriber<ProcessingContext<Object>>> subscribers = new CopyOnWriteArrayList<>();
-            subscribers.add(subscriber);
-            correlationBasedSubscriber.put(correlationId, subscribers);
-        }
-        if (reverseLookupMap.containsKey(subscriptionId)) {
-            final List<CorrelationId> correlationIds = reverseLookupMap.get(subscriptionId);
-            correlationIds.add(correlationId);
-        } else {
-            final LinkedList<CorrelationId> correlationIds = new LinkedList<>();
-            correlationIds.add(correlationId);
-            reverseLookupMap.putIfAbsent(subscriptionId, correlationIds);
+        synchronized (lockFor(subscriptionId)) {
+            correlationBasedSubscriber.compute(correlationId, (id, subscribers) -> with(subscribers, subscriber));
+            final Registration registration = registrations.computeIfAbsent(subscriptionId, id -> new Registration());
+            registration.correlationIds.add(correlationId);
         }
         return subscriptionId;
     }
 
     @Override
-    public synchronized void unsubscribe(final SubscriptionId subscriptionId) {
-        if (reverseLookupMap.containsKey(subscriptionId)) {
-            final List<CorrelationId> correlationIds = reverseLookupMap.get(subscriptionId);
-            for (final CorrelationId correlationId : correlationIds) {
-                final List<Subscriber<ProcessingContext<Object>>> subscribers = correlationBasedSubscriber.get(correlationId);
-                subscribers.removeIf(s -> s.getSubscriptionId().equals(subscriptionId));
+    public SubscriptionId addSingleShotSubscriber(final CorrelationId correlationId,
+                                                  final Subscriber<ProcessingContext<Object>> subscriber) {
+        final SingleShotSubscriber singleShotSubscriber = new SingleShotSubscriber(subscriber);
+        return addCorrelationBasedSubscriber(correlationId, singleShotSubscriber);
+    }
+
+    @Override
+    public void expireAfter(final SubscriptionId subscriptionId, final long timeToLive, final TimeUnit unit) {
+        synchronized (lockFor(subscriptionId)) {
+            final Registration registration = registrations.get(subscriptionId);
+            if (registration != null) {
+                final Timeout timeout = timerWheel.schedule(() -> unsubscribe(subscriptionId), timeToLive, unit);
+                registration.timeouts.add(timeout);
+            }
+        }
+    }
+
+    @Override
+    public void unsubscribe(final SubscriptionId subscriptionId) {
+        synchronized (lockFor(subscriptionId)) {
+            final Registration registration = registrations.remove(subscriptionId);
+            if (registration == null) {
+                return;
             }
-            if (correlationIds.size() == 1) {
-                reverseLookupMap.remove(subscriptionId);
+            for (final CorrelationId correlationId : registration.correlationIds) {
+                correlationBasedSubscriber.computeIfPresent(correlationId,
+                        (id, subscribers) -> without(subscribers, subscriptionId));
+            }
+            for (final Timeout timeout : registration.timeouts) {
+                timeout.cancel();
             }
         }
     }
@@ -91,4 +128,78 @@ public final class CorrelationBasedSubscriptionsImpl implements CorrelationBased
             return correlationBasedSubscriber.getOrDefault(correlationId, emptyList());
         }
     }
+
+    @Override
+    public int numberOfCorrelationIds() {
+        return correlationBasedSubscriber.size();
+    }
+
+    @Override
+    public void close() {
+        timerWheel.close();
+    }
+
+    private Object lockFor(final SubscriptionId subscriptionId) {
+        final int hash = subscriptionId.hashCode();
+        final int spreadHash = hash ^ (hash >>> 16);
+        return lockStripes[spreadHash & (NUMBER_OF_LOCK_STRIPES - 1)];
+    }
+
+    private static List<Subscriber<ProcessingContext<Object>>> with(
+            final List<Subscriber<ProcessingContext<Object>>> subscribers,
+            final Subscriber<ProcessingContext<Object>> subscriber) {
+        if (subscribers == null) {
+            return singletonList(subscriber);
+        } else {
+            final List<Subscriber<ProcessingContext<Object>>> newSubscribers = new ArrayList<>(subscribers.size() + 1);
+            newSubscribers.addAll(subscribers);
+            newSubscribers.add(subscriber);
+            return unmodifiableList(newSubscribers);
+        }
+    }
+
+    private static List<Subscriber<ProcessingContext<Object>>> without(
+            final List<Subscriber<ProcessingContext<Object>>> subscribers,
+            final SubscriptionId subscriptionId) {
+        final List<Subscriber<ProcessingContext<Object>>> newSubscribers = new ArrayList<>(subscribers.size());
+        for (final Subscriber<ProcessingContext<Object>> subscriber : subscribers) {
+            if (!subscriber.getSubscriptionId().equals(subscriptionId)) {
+                newSubscribers.add(subscriber);
+            }
+        }
+        if (newSubscribers.isEmpty()) {
+            return null;
+        } else {
+            return unmodifiableList(newSubscribers);
+        }
+    }
+
+    private static final class Registration {
+        private final List<CorrelationId> correlationIds = new ArrayList<>(1);
+        private final List<Timeout> timeouts = new ArrayList<>(1);
+    }
+
+    private final class SingleShotSubscriber implements Subscriber<ProcessingContext<Object>> {
+        private final AtomicBoolean delivered = new AtomicBoolean();
+        private final Subscriber<ProcessingContext<Object>> subscriber;
+
+        private SingleShotSubscriber(final Subscriber<ProcessingContext<Object>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public AcceptingBehavior accept(final ProcessingContext<Object> message) {
+            if (delivered.compareAndSet(false, true)) {
+                unsubscribe(getSubscriptionId());
+                return subscriber.accept(message);
+            } else {
+                return MESSAGE_ACCEPTED;
+            }
+        }
+
+        @Override
+        public SubscriptionId getSubscriptionId() {
+            return subscriber.getSubscriptionId();
+        }
+    }
 }
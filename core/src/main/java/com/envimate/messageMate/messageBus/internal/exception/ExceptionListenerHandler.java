@@ -22,6 +22,7 @@
 package com.envimate.messageMate.messageBus.internal.exception;
 
 import com.envimate.messageMate.identification.CorrelationId;
+import com.envimate.messageMate.identification.MessageId;
 import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.messageBus.exception.MessageBusExceptionListener;
 import com.envimate.messageMate.processingContext.ProcessingContext;
@@ -35,6 +36,8 @@ public interface ExceptionListenerHandler {
 
     SubscriptionId register(CorrelationId correlationId, MessageBusExceptionListener exceptionListener);
 
+    SubscriptionId register(MessageId messageId, MessageBusExceptionListener exceptionListener);
+
     List<MessageBusExceptionListener> listenerFor(ProcessingContext<?> processingContext);
 
     List<MessageBusExceptionListener> allListener();
@@ -22,168 +22,138 @@
 package com.envimate.messageMate.messageBus.internal.exception;
 
 import com.envimate.messageMate.identification.CorrelationId;
+import com.envimate.messageMate.identification.MessageId;
 import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.messageBus.exception.MessageBusExceptionListener;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.subscribing.SubscriptionId;
-import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/* Listeners are indexed per EventType, CorrelationId and MessageId in concurrent maps keyed by their SubscriptionId, so
+   registering and unregistering is O(1) without a global lock, and a key is dropped with its last listener. MessageFunction
+   registers per request, so the exception of a request is matched directly by its MessageId instead of scanning all
+   listeners of its EventType. */
 public class ExceptionListenerHandlerImpl implements ExceptionListenerHandler {
-    private final Map<EventType, List<ListenerInformation>> eventTypeBasedListenerLookupMap = new ConcurrentHashMap<>();
-    private final Map<CorrelationId, List<ListenerInformation>> correlationIdBasedListenerLookupMap = new ConcurrentHashMap<>();
-    private final Map<SubscriptionId, ListenerInformation> unregisterLookupMap = new ConcurrentHashMap<>();
+    private final ListenerIndex<EventType> eventTypeBasedListeners = new ListenerIndex<>();
+    private final ListenerIndex<CorrelationId> correlationIdBasedListeners = new ListenerIndex<>();
+    private final ListenerIndex<MessageId> messageIdBasedListeners = new ListenerIndex<>();
+    private final Map<SubscriptionId, Registration<?>> registrations = new ConcurrentHashMap<>();
 
     public static ExceptionListenerHandlerImpl errorListenerHandler() {
         return new ExceptionListenerHandlerImpl();
     }
 
     @Override
-    public synchronized SubscriptionId register(final EventType eventType,
-                                                final MessageBusExceptionListener exceptionListener) {
-        final ListenerInformation listenerInformation = new ListenerInformation(eventType, exceptionListener);
-        storeListenerInformation(eventType, listenerInformation);
-
-        final SubscriptionId subscriptionId = SubscriptionId.newUniqueId();
-        unregisterLookupMap.put(subscriptionId, listenerInformation);
-        return subscriptionId;
+    public SubscriptionId register(final EventType eventType,
+                                   final MessageBusExceptionListener exceptionListener) {
+        return register(eventTypeBasedListeners, eventType, exceptionListener);
     }
 
     @Override
-    public synchronized SubscriptionId register(final CorrelationId correlationId,
-                                                final MessageBusExceptionListener exceptionListener) {
-        final ListenerInformation listenerInformation = new ListenerInformation(correlationId, exceptionListener);
-        storeListenerInformation(correlationId, listenerInformation);
-        final SubscriptionId subscriptionId = SubscriptionId.newUniqueId();
-        unregisterLookupMap.put(subscriptionId, listenerInformation);
-        return subscriptionId;
-    }
-
-    private void storeListenerInformation(final EventType eventType, final ListenerInformation listenerInformation) {
-        if (eventTypeBasedListenerLookupMap.containsKey(eventType)) {
-            final List<ListenerInformation> listenerInformationList = eventTypeBasedListenerLookupMap.get(eventType);
-            listenerInformationList.add(listenerInformation);
-        } else {
-            final List<ListenerInformation> listenerList = new LinkedList<>();
-            listenerList.add(listenerInformation);
-            eventTypeBasedListenerLookupMap.put(eventType, listenerList);
-        }
-    }
-
-    private void storeListenerInformation(final CorrelationId correlationId, final ListenerInformation listenerInformation) {
-        if (correlationIdBasedListenerLookupMap.containsKey(correlationId)) {
-            correlationIdBasedListenerLookupMap.get(correlationId).add(listenerInformation);
-        } else {
-            final LinkedList<ListenerInformation> listenerInformationList = new LinkedList<>();
-            listenerInformationList.add(listenerInformation);
-            correlationIdBasedListenerLookupMap.put(correlationId, listenerInformationList);
-        }
+    public SubscriptionId register(final CorrelationId correlationId,
+                                   final MessageBusExceptionListener exceptionListener) {
+        return register(correlationIdBasedListeners, correlationId, exceptionListener);
     }
 
     @Override
-    public synchronized void unregister(final SubscriptionId subscriptionId) {
-        if (unregisterLookupMap.containsKey(subscriptionId)) {
-            final ListenerInformation listenerInformation = unregisterLookupMap.get(subscriptionId);
-            removeClassBasedListener(listenerInformation);
-            removeCorrelationIdBasedListener(listenerInformation);
-            unregisterLookupMap.remove(subscriptionId);
-        }
+    public SubscriptionId register(final MessageId messageId,
+                                   final MessageBusExceptionListener exceptionListener) {
+        return register(messageIdBasedListeners, messageId, exceptionListener);
     }
 
-    private void removeClassBasedListener(final ListenerInformation listenerInformation) {
-        final List<EventType> eventTypes = listenerInformation.getRegisteredEventTypes();
-        for (final EventType eventType : eventTypes) {
-            final List<ListenerInformation> listenerInformationList = eventTypeBasedListenerLookupMap.get(eventType);
-            if (listenerInformationList != null) {
-                listenerInformationList.remove(listenerInformation);
-            }
-        }
+    private <K> SubscriptionId register(final ListenerIndex<K> index,
+                                        final K key,
+                                        final MessageBusExceptionListener exceptionListener) {
+        final SubscriptionId subscriptionId = SubscriptionId.newUniqueId();
+        final Registration<K> registration = new Registration<>(index, key, exceptionListener);
+        registrations.put(subscriptionId, registration);
+        index.add(key, subscriptionId, exceptionListener);
+        return subscriptionId;
     }
 
-    private void removeCorrelationIdBasedListener(final ListenerInformation listenerInformation) {
-        final List<CorrelationId> correlationIds = listenerInformation.getRegisteredCorrelationIds();
-        for (final CorrelationId correlationId : correlationIds) {
-            final List<ListenerInformation> listenerInformationList = correlationIdBasedListenerLookupMap.get(correlationId);
-            if (listenerInformationList != null) {
-                listenerInformationList.remove(listenerInformation);
-            }
+    @Override
+    public void unregister(final SubscriptionId subscriptionId) {
+        final Registration<?> registration = registrations.remove(subscriptionId);
+        if (registration != null) {
+            registration.removeFromIndex(subscriptionId);
         }
     }
 
     @Override
     public List<MessageBusExceptionListener> listenerFor(final ProcessingContext<?> processingContext) {
-        final List<MessageBusExceptionListener> listeners = new LinkedList<>();
+        final List<MessageBusExceptionListener> listeners = new ArrayList<>();
         final CorrelationId correlationId = processingContext.getCorrelationId();
-        if (correlationId != null) {
-            final List<MessageBusExceptionListener> correlationBasedListeners = listenerForCorrelationId(correlationId);
-            listeners.addAll(correlationBasedListeners);
-        }
-
+        correlationIdBasedListeners.collectListenersFor(correlationId, listeners);
+        final MessageId messageId = processingContext.getMessageId();
+        messageIdBasedListeners.collectListenersFor(messageId, listeners);
         final EventType eventType = processingContext.getEventType();
-        final List<MessageBusExceptionListener> classBasedListener = listenerForEventType(eventType);
-        listeners.addAll(classBasedListener);
+        eventTypeBasedListeners.collectListenersFor(eventType, listeners);
         return listeners;
     }
 
-    private List<MessageBusExceptionListener> listenerForEventType(final EventType eventType) {
-        if (eventTypeBasedListenerLookupMap.containsKey(eventType)) {
-            final List<ListenerInformation> listenerInformationList = eventTypeBasedListenerLookupMap.get(eventType);
-            final List<MessageBusExceptionListener> listener = extractListener(listenerInformationList);
-            return listener;
-        } else {
-            return Collections.emptyList();
-        }
+    @Override
+    public List<MessageBusExceptionListener> allListener() {
+        return this.registrations.values().stream()
+                .map(registration -> registration.listener)
+                .collect(Collectors.toList());
     }
 
-    private List<MessageBusExceptionListener> listenerForCorrelationId(final CorrelationId correlationId) {
-        if (correlationIdBasedListenerLookupMap.containsKey(correlationId)) {
-            final List<ListenerInformation> listenerInformationList = correlationIdBasedListenerLookupMap.get(correlationId);
-            final List<MessageBusExceptionListener> listener = extractListener(listenerInformationList);
-            return listener;
-        } else {
-            return Collections.emptyList();
+    private static final class ListenerIndex<K> {
+        private final Map<K, Map<SubscriptionId, MessageBusExceptionListener>> listenersPerKey = new ConcurrentHashMap<>();
+
+        private void add(final K key, final SubscriptionId subscriptionId, final MessageBusExceptionListener listener) {
+            listenersPerKey.compute(key, (k, listeners) -> {
+                final Map<SubscriptionId, MessageBusExceptionListener> keyListeners;
+                if (listeners == null) {
+                    keyListeners = new ConcurrentHashMap<>();
+                } else {
+                    keyListeners = listeners;
+                }
+                keyListeners.put(subscriptionId, listener);
+                return keyListeners;
+            });
         }
-    }
 
-    private List<MessageBusExceptionListener> extractListener(final List<ListenerInformation> listenerInformationList) {
-        return listenerInformationList.stream()
-                .map(ListenerInformation::getListener)
-                .collect(Collectors.toList());
-    }
+        private void remove(final K key, final SubscriptionId subscriptionId) {
+            listenersPerKey.computeIfPresent(key, (k, listeners) -> {
+                listeners.remove(subscriptionId);
+                if (listeners.isEmpty()) {
+                    return null;
+                } else {
+                    return listeners;
+                }
+            });
+        }
 
-    @Override
-    public List<MessageBusExceptionListener> allListener() {
-        return this.unregisterLookupMap.values().stream()
-                .map(ListenerInformation::getListener)
-                .collect(Collectors.toList());
+        private void collectListenersFor(final K key, final List<MessageBusExceptionListener> listeners) {
+            if (key == null || listenersPerKey.isEmpty()) {
+                return;
+            }
+            final Map<SubscriptionId, MessageBusExceptionListener> keyListeners =
+                    listenersPerKey.getOrDefault(key, Collections.emptyMap());
+            listeners.addAll(keyListeners.values());
+        }
     }
 
-    private static final class ListenerInformation {
-        @Getter
-        private final List<EventType> registeredEventTypes;
-        @Getter
-        private final List<CorrelationId> registeredCorrelationIds;
-        @Getter
+    private static final class Registration<K> {
+        private final ListenerIndex<K> index;
+        private final K key;
         private final MessageBusExceptionListener listener;
 
-        private <T> ListenerInformation(final EventType eventType, final MessageBusExceptionListener listener) {
-            this.registeredEventTypes = new LinkedList<>();
-            this.registeredEventTypes.add(eventType);
+        private Registration(final ListenerIndex<K> index, final K key, final MessageBusExceptionListener listener) {
+            this.index = index;
+            this.key = key;
             this.listener = listener;
-            this.registeredCorrelationIds = new LinkedList<>();
         }
 
-        private ListenerInformation(final CorrelationId registeredCorrelationId, final MessageBusExceptionListener listener) {
-            this.registeredEventTypes = new LinkedList<>();
-            this.listener = listener;
-            this.registeredCorrelationIds = new LinkedList<>();
-            this.registeredCorrelationIds.add(registeredCorrelationId);
+        private void removeFromIndex(final SubscriptionId subscriptionId) {
+            index.remove(key, subscriptionId);
         }
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus.internal.reactive;
+
+import com.envimate.messageMate.internal.reactive.BufferingSubscription;
+import com.envimate.messageMate.messageBus.MessageBus;
+import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.subscribing.AcceptingBehavior;
+import com.envimate.messageMate.subscribing.OverflowStrategy;
+import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.subscribing.SubscriptionId;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.Flow;
+
+import static com.envimate.messageMate.internal.reactive.BufferingSubscription.bufferingSubscription;
+import static com.envimate.messageMate.subscribing.AcceptingBehavior.MESSAGE_ACCEPTED;
+import static lombok.AccessLevel.PRIVATE;
+
+/* Hot publisher of all messages of one EventType. Every Flow.Subscriber gets its own raw subscription on the MessageBus
+   and its own bounded buffer, so it only holds up the delivering thread as far as its OverflowStrategy allows.
+   Cancelling the Flow.Subscription removes the subscription from the MessageBus. Pooled ProcessingContexts are detached
+   before they are buffered. */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class EventTypePublisher implements Flow.Publisher<ProcessingContext<Object>> {
+    private final MessageBus messageBus;
+    private final EventType eventType;
+    private final int bufferCapacity;
+    private final OverflowStrategy overflowStrategy;
+
+    public static EventTypePublisher eventTypePublisher(final MessageBus messageBus,
+                                                        final EventType eventType,
+                                                        final int bufferCapacity,
+                                                        final OverflowStrategy overflowStrategy) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("The buffer capacity must be positive, but was " + bufferCapacity);
+        }
+        return new EventTypePublisher(messageBus, eventType, bufferCapacity, overflowStrategy);
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ProcessingContext<Object>> subscriber) {
+        final SubscriptionId subscriptionId = SubscriptionId.newUniqueId();
+        final BufferingSubscription<ProcessingContext<Object>> subscription = bufferingSubscription(subscriber,
+                bufferCapacity, overflowStrategy, () -> messageBus.unsubcribe(subscriptionId));
+        subscriber.onSubscribe(subscription);
+        if (subscription.isCancelled()) {
+            return;
+        }
+        try {
+            messageBus.subscribeRaw(eventType, new BufferingSubscriber(subscriptionId, subscription));
+        } catch (final RuntimeException e) {
+            subscription.fail(e);
+            return;
+        }
+        if (subscription.isCancelled()) {
+            messageBus.unsubcribe(subscriptionId);
+        }
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static final class BufferingSubscriber implements Subscriber<ProcessingContext<Object>> {
+        private final SubscriptionId subscriptionId;
+        private final BufferingSubscription<ProcessingContext<Object>> subscription;
+
+        @Override
+        public AcceptingBehavior accept(final ProcessingContext<Object> processingContext) {
+            subscription.offer(processingContext.detached());
+            return MESSAGE_ACCEPTED;
+        }
+
+        @Override
+        public SubscriptionId getSubscriptionId() {
+            return subscriptionId;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus.internal.reactive;
+
+import com.envimate.messageMate.channel.Channel;
+import com.envimate.messageMate.exceptions.AlreadyClosedException;
+import com.envimate.messageMate.internal.exceptions.BubbleUpWrappedException;
+import com.envimate.messageMate.messageBus.exception.MessageBusExceptionHandler;
+import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.processingContext.ProcessingContextPool;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.Flow;
+
+import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/* Flow.Subscriber sending every item with a fixed EventType over the accepting Channel of the MessageBus. Demand is
+   requested in windows and replenished after half a window was sent, so the upstream publisher never runs ahead by more
+   than one window. The Flow specification serializes all signals, therefore no field needs to be volatile.
+   onNext must not throw (rule 2.13), so a failed send cancels the subscription. Exceptions, that bubbled up, were
+   already handled by the MessageBusExceptionHandler. All others are handed to it here. */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class MessageBusSendingSubscriber implements Flow.Subscriber<Object> {
+    private static final int WINDOW_SIZE = 64;
+    private static final int REPLENISH_THRESHOLD = WINDOW_SIZE / 2;
+    private final EventType eventType;
+    private final Channel<Object> acceptingChannel;
+    private final ProcessingContextPool processingContextPool;
+    private final MessageBusExceptionHandler exceptionHandler;
+    private Flow.Subscription subscription;
+    private int sentSinceLastRequest;
+
+    public static MessageBusSendingSubscriber messageBusSendingSubscriber(final EventType eventType,
+                                                                          final Channel<Object> acceptingChannel,
+                                                                          final ProcessingContextPool processingContextPool,
+                                                                          final MessageBusExceptionHandler exceptionHandler) {
+        ensureNotNull(eventType, "eventType");
+        return new MessageBusSendingSubscriber(eventType, acceptingChannel, processingContextPool, exceptionHandler);
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(WINDOW_SIZE);
+    }
+
+    @Override
+    public void onNext(final Object item) {
+        if (subscription == null) {
+            return;
+        }
+        final ProcessingContext<Object> processingContext = processingContextPool.acquire(eventType, item, null);
+        try {
+            acceptingChannel.send(processingContext);
+            requestMoreIfHalfAWindowWasSent();
+        } catch (final AlreadyClosedException | BubbleUpWrappedException e) {
+            cancel();
+        } catch (final Exception e) {
+            cancel();
+            handleException(processingContext, e);
+        } finally {
+            processingContext.release();
+        }
+    }
+
+    private void requestMoreIfHalfAWindowWasSent() {
+        sentSinceLastRequest++;
+        if (sentSinceLastRequest == REPLENISH_THRESHOLD) {
+            sentSinceLastRequest = 0;
+            subscription.request(REPLENISH_THRESHOLD);
+        }
+    }
+
+    private void cancel() {
+        subscription.cancel();
+        subscription = null;
+    }
+
+    private void handleException(final ProcessingContext<Object> processingContext, final Exception exception) {
+        try {
+            exceptionHandler.handleDeliveryChannelException(processingContext, exception, acceptingChannel);
+        } catch (final Exception rethrownException) {
+            /* the default exception handler rethrows, but there is no caller left to receive it */
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        subscription = null;
+    }
+
+    @Override
+    public void onComplete() {
+        subscription = null;
+    }
+}
@@ -24,6 +24,13 @@ package com.envimate.messageMate.messageFunction;
 import com.envimate.messageMate.internal.autoclosable.NoErrorAutoClosable;
 import com.envimate.messageMate.messageBus.MessageBus;
 import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * {@code MessageFunctions} simplify the execution of request-reply based communications over an asynchronous {@link MessageBus}.
@@ -36,7 +43,8 @@ public interface MessageFunction extends NoErrorAutoClosable {
      * Sends the given request over the {@code MessageBus}.
      *
      * <p>The returned {@link ResponseFuture} fulfills, when a response is received or an exception during the transport of
-     * request or the reply is thrown.</p>
+     * request or the reply is thrown. If the {@code MessageFunction} was created with a default timeout, the future fulfills
+     * with a {@link java.util.concurrent.TimeoutException}, when no response was received in time.</p>
      *
      * @param eventType the {@code EventType} of the request
      * @param request   the request to send
@@ -45,7 +53,126 @@ public interface MessageFunction extends NoErrorAutoClosable {
     ResponseFuture request(EventType eventType, Object request);
 
     /**
-     * Closes the {@code MessageFunction}. This does not cancel any pending {@link ResponseFuture ResponseFutures}.
+     * Sends the given request over the {@code MessageBus}.
+     *
+     * <p>Behaves like {@link #request(EventType, Object)}, but fulfills the {@link ResponseFuture} with a
+     * {@link java.util.concurrent.TimeoutException} and releases all subscriptions of the request, if no response was
+     * received within the given timeout. The timeout overrides the default timeout of the {@code MessageFunction}.</p>
+     *
+     * @param eventType the {@code EventType} of the request
+     * @param request   the request to send
+     * @param timeout   the maximal time to wait for the response
+     * @param unit      the {@code TimeUnit} of the timeout
+     * @return a {@code ResponseFuture} that can be queried for the result
+     */
+    ResponseFuture request(EventType eventType, Object request, long timeout, TimeUnit unit);
+
+    /**
+     * Sends the given request over the {@code MessageBus} without blocking the caller.
+     *
+     * <p>The returned {@link CompletableFuture} is completed with the {@link ProcessingContext} of the response or
+     * completed exceptionally, when an exception during the transport of request or the reply is thrown. All subscriptions
+     * of the request are removed as soon as the future is done, including when it is cancelled by the caller. Dependent
+     * stages without an explicit executor are run on the thread completing the future, which is usually a thread of the
+     * {@code MessageBus}. If the {@code MessageFunction} was created with a default timeout, it applies to the request.</p>
+     *
+     * @param eventType the {@code EventType} of the request
+     * @param request   the request to send
+     * @return a {@code CompletableFuture} of the response's {@code ProcessingContext}
+     */
+    CompletableFuture<ProcessingContext<Object>> requestAsync(EventType eventType, Object request);
+
+    /**
+     * Sends the given request over the {@code MessageBus} without blocking the caller.
+     *
+     * <p>Behaves like {@link #requestAsync(EventType, Object)}, but completes the future exceptionally with a
+     * {@link java.util.concurrent.TimeoutException}, if no response was received within the given timeout. The timeout
+     * overrides the default timeout of the {@code MessageFunction}. The timeouts of all {@code MessageFunctions} are
+     * tracked by a single shared timer thread.</p>
+     *
+     * @param eventType the {@code EventType} of the request
+     * @param request   the request to send
+     * @param timeout   the maximal time to wait for the response
+     * @param unit      the {@code TimeUnit} of the timeout
+     * @return a {@code CompletableFuture} of the response's {@code ProcessingContext}
+     */
+    CompletableFuture<ProcessingContext<Object>> requestAsync(EventType eventType, Object request, long timeout, TimeUnit unit);
+
+    /**
+     * Sends all given requests over the {@code MessageBus} without waiting for the responses in between.
+     *
+     * <p>The returned {@link CompletableFuture} completes, when every request received a response or ended with an
+     * exception. It contains one {@link RequestResult} per request in the order of the given requests and is never completed
+     * exceptionally. Cancelling it cancels all requests still in flight. If the {@code MessageFunction} was created with a
+     * default timeout, it applies to each request.</p>
+     *
+     * @param eventType the {@code EventType} of the requests
+     * @param requests  the requests to send
+     * @return a {@code CompletableFuture} of the results of all requests
+     */
+    CompletableFuture<List<RequestResult<ProcessingContext<Object>>>> requestAll(EventType eventType, List<?> requests);
+
+    /**
+     * Sends all given requests over the {@code MessageBus} without waiting for the responses in between.
+     *
+     * <p>Behaves like {@link #requestAll(EventType, List)}, but each request, that did not receive a response within the
+     * given timeout, ends with a {@link java.util.concurrent.TimeoutException}.</p>
+     *
+     * @param eventType the {@code EventType} of the requests
+     * @param requests  the requests to send
+     * @param timeout   the maximal time to wait for each response
+     * @param unit      the {@code TimeUnit} of the timeout
+     * @return a {@code CompletableFuture} of the results of all requests
+     */
+    CompletableFuture<List<RequestResult<ProcessingContext<Object>>>> requestAll(EventType eventType,
+                                                                               List<?> requests,
+                                                                               long timeout,
+                                                                               TimeUnit unit);
+
+    /**
+     * Sends the given request over the {@code MessageBus} and publishes all responses to it.
+     *
+     * <p>The request is sent, when the returned {@link Flow.Publisher} is subscribed. Only one {@link Flow.Subscriber} is
+     * allowed. The stream completes after the given number of responses or when the timeout expires, whatever happens
+     * first. Responses are buffered until the subscriber requests them. A subscriber, that falls behind by more than 256
+     * responses, receives a {@link com.envimate.messageMate.subscribing.SubscriberOverflowException} instead of an
+     * ever-growing buffer. An exception during the transport of request or replies ends the stream with that
+     * exception.</p>
+     *
+     * @param eventType                the {@code EventType} of the request
+     * @param request                  the request to send
+     * @param maximumNumberOfResponses the number of responses after which the stream completes
+     * @param timeout                  the time after which the stream completes
+     * @param unit                     the {@code TimeUnit} of the timeout
+     * @return a {@code Flow.Publisher} of the {@code ProcessingContexts} of all responses
+     */
+    Flow.Publisher<ProcessingContext<Object>> requestStream(EventType eventType,
+                                                            Object request,
+                                                            int maximumNumberOfResponses,
+                                                            long timeout,
+                                                            TimeUnit unit);
+
+    /**
+     * Sends the given request over the {@code MessageBus} and publishes all responses to it.
+     *
+     * <p>Behaves like {@link #requestStream(EventType, Object, int, long, TimeUnit)}, but completes the stream after the
+     * first response matching the given {@link Predicate}. That response is still published.</p>
+     *
+     * @param eventType      the {@code EventType} of the request
+     * @param request        the request to send
+     * @param isLastResponse the {@code Predicate} recognizing the last response
+     * @param timeout        the time after which the stream completes
+     * @param unit           the {@code TimeUnit} of the timeout
+     * @return a {@code Flow.Publisher} of the {@code ProcessingContexts} of all responses
+     */
+    Flow.Publisher<ProcessingContext<Object>> requestStream(EventType eventType,
+                                                            Object request,
+                                                            Predicate<ProcessingContext<Object>> isLastResponse,
+                                                            long timeout,
+                                                            TimeUnit unit);
+
+    /**
+     * Closes the {@code MessageFunction}. All requests still in flight are cancelled and their subscriptions are released.
      */
     @Override
     void close();
@@ -23,6 +23,8 @@ package com.envimate.messageMate.messageFunction;
 
 import com.envimate.messageMate.messageBus.MessageBus;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * The {@code MessageFunctionBuilder} class provides a fluent interface for defining a new {@link MessageFunction}.
  *
@@ -40,4 +42,16 @@ public final class MessageFunctionBuilder {
         return MessageFunctionImpl.messageFunction(messageBus);
     }
 
+    /**
+     * Factory method for creating a new {@code MessageFunction}, whose requests time out after the given default timeout.
+     *
+     * @param messageBus     the messageBus to use
+     * @param defaultTimeout the time after which requests without an explicit timeout are failed
+     * @param unit           the {@code TimeUnit} of the default timeout
+     * @return a new {@code MessageFunction}
+     */
+    public static MessageFunction aMessageFunction(final MessageBus messageBus, final long defaultTimeout, final TimeUnit unit) {
+        return MessageFunctionImpl.messageFunction(messageBus, defaultTimeout, unit);
+    }
+
 }
@@ -24,8 +24,11 @@ package com.envimate.messageMate.messageFunction;
 import com.envimate.messageMate.exceptions.AlreadyClosedException;
 import com.envimate.messageMate.identification.CorrelationId;
 import com.envimate.messageMate.identification.MessageId;
+import com.envimate.messageMate.internal.timing.Timeout;
+import com.envimate.messageMate.internal.timing.TimerWheel;
 import com.envimate.messageMate.messageBus.MessageBus;
 import com.envimate.messageMate.messageFunction.internal.ExpectedResponseFuture;
+import com.envimate.messageMate.messageFunction.internal.ResponseStream;
 import com.envimate.messageMate.messageFunction.internal.SubscriptionContainer;
 import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.processingContext.ProcessingContext;
@@ -33,45 +36,277 @@ import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.Getter;
 import lombok.NonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 import static com.envimate.messageMate.identification.CorrelationId.correlationIdFor;
 import static com.envimate.messageMate.identification.MessageId.newUniqueMessageId;
+import static com.envimate.messageMate.internal.timing.TimerWheel.timerWheel;
+import static com.envimate.messageMate.messageFunction.RequestResult.successfulRequestResult;
 import static com.envimate.messageMate.messageFunction.internal.ExpectedResponseFuture.expectedResponseFuture;
+import static com.envimate.messageMate.messageFunction.internal.ResponseStream.responseStream;
 import static com.envimate.messageMate.messageFunction.internal.SubscriptionContainer.subscriptionContainer;
 import static com.envimate.messageMate.processingContext.ProcessingContext.processingContext;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 final class MessageFunctionImpl implements MessageFunction {
+    private static final TimerWheel REQUEST_TIMEOUTS = timerWheel(10, MILLISECONDS, 512, "messageFunction-requestTimeouts");
+    private static final long NO_TIMEOUT = 0;
+    private static final int RESPONSE_STREAM_BUFFER_CAPACITY = 256;
+    private final Set<Future<?>> requestsInFlight = ConcurrentHashMap.newKeySet();
     private final MessageBus messageBus;
+    private final long defaultTimeoutInNanos;
     private volatile boolean closed;
 
-    private MessageFunctionImpl(@NonNull final MessageBus messageBus) {
+    private MessageFunctionImpl(@NonNull final MessageBus messageBus, final long defaultTimeoutInNanos) {
         this.messageBus = messageBus;
+        this.defaultTimeoutInNanos = defaultTimeoutInNanos;
     }
 
     static MessageFunctionImpl messageFunction(@NonNull final MessageBus messageBus) {
-        return new MessageFunctionImpl(messageBus);
+        return new MessageFunctionImpl(messageBus, NO_TIMEOUT);
+    }
+
+    static MessageFunctionImpl messageFunction(@NonNull final MessageBus messageBus,
+                                               final long defaultTimeout,
+                                               @NonNull final TimeUnit unit) {
+        ensureTimeoutIsPositive(defaultTimeout);
+        return new MessageFunctionImpl(messageBus, unit.toNanos(defaultTimeout));
     }
 
     @Override
     public ResponseFuture request(final EventType eventType, final Object request) {
+        return sendRequest(eventType, request, defaultTimeoutInNanos, NANOSECONDS);
+    }
+
+    @Override
+    public ResponseFuture request(final EventType eventType, final Object request, final long timeout, final TimeUnit unit) {
+        ensureTimeoutIsPositive(timeout);
+        return sendRequest(eventType, request, timeout, unit);
+    }
+
+    @Override
+    public CompletableFuture<ProcessingContext<Object>> requestAsync(final EventType eventType, final Object request) {
+        return sendAsync(eventType, request, defaultTimeoutInNanos, NANOSECONDS);
+    }
+
+    @Override
+    public CompletableFuture<ProcessingContext<Object>> requestAsync(final EventType eventType,
+                                                                     final Object request,
+                                                                     final long timeout,
+                                                                     final TimeUnit unit) {
+        ensureTimeoutIsPositive(timeout);
+        return sendAsync(eventType, request, timeout, unit);
+    }
+
+    @Override
+    public CompletableFuture<List<RequestResult<ProcessingContext<Object>>>> requestAll(final EventType eventType,
+                                                                                      final List<?> requests) {
+        return sendAll(eventType, requests, defaultTimeoutInNanos, NANOSECONDS);
+    }
+
+    @Override
+    public CompletableFuture<List<RequestResult<ProcessingContext<Object>>>> requestAll(final EventType eventType,
+                                                                                      final List<?> requests,
+                                                                                      final long timeout,
+                                                                                      final TimeUnit unit) {
+        ensureTimeoutIsPositive(timeout);
+        return sendAll(eventType, requests, timeout, unit);
+    }
+
+    @Override
+    public Flow.Publisher<ProcessingContext<Object>> requestStream(final EventType eventType,
+                                                                   final Object request,
+                                                                   final int maximumNumberOfResponses,
+                                                                   final long timeout,
+                                                                   final TimeUnit unit) {
+        if (maximumNumberOfResponses <= 0) {
+            throw new IllegalArgumentException("The maximal number of responses must be positive, but was "
+                    + maximumNumberOfResponses);
+        }
+        ensureTimeoutIsPositive(timeout);
+        return streamResponses(eventType, request, response -> false, maximumNumberOfResponses, timeout, unit);
+    }
+
+    @Override
+    public Flow.Publisher<ProcessingContext<Object>> requestStream(final EventType eventType,
+                                                                   final Object request,
+                                                                   final Predicate<ProcessingContext<Object>> isLastResponse,
+                                                                   final long timeout,
+                                                                   final TimeUnit unit) {
+        ensureTimeoutIsPositive(timeout);
+        return streamResponses(eventType, request, isLastResponse, Integer.MAX_VALUE, timeout, unit);
+    }
+
+    private ResponseFuture sendRequest(final EventType eventType,
+                                       final Object request,
+                                       final long timeout,
+                                       final TimeUnit unit) {
         if (closed) {
             throw new AlreadyClosedException();
         }
         final RequestHandle requestHandle = new RequestHandle(messageBus);
+        final ExpectedResponseFuture responseFuture = requestHandle.getResponseFuture();
+        final SubscriptionContainer subscriptionContainer = requestHandle.getSubscriptionContainer();
+        trackUntilDone(responseFuture, subscriptionContainer, timeout, unit, requestHandle::fulFillFuture);
         requestHandle.send(eventType, request);
-        return requestHandle.getResponseFuture();
+        return responseFuture;
+    }
+
+    private CompletableFuture<ProcessingContext<Object>> sendAsync(final EventType eventType,
+                                                                   final Object request,
+                                                                   final long timeout,
+                                                                   final TimeUnit unit) {
+        if (closed) {
+            throw new AlreadyClosedException();
+        }
+        final CompletableFuture<ProcessingContext<Object>> future = new CompletableFuture<>();
+        final SubscriptionContainer subscriptionContainer = subscriptionContainer(messageBus);
+        future.whenComplete((response, exception) -> subscriptionContainer.unsubscribe());
+        trackUntilDone(future, subscriptionContainer, timeout, unit, future::completeExceptionally);
+        final Consumer<ProcessingContext<Object>> answerConsumer = response -> future.complete(response.detached());
+        subscribeAndSend(eventType, request, subscriptionContainer,
+                correlationId -> messageBus.subscribeOnce(correlationId, answerConsumer), future::completeExceptionally);
+        return future;
+    }
+
+    private Flow.Publisher<ProcessingContext<Object>> streamResponses(final EventType eventType,
+                                                                      final Object request,
+                                                                      final Predicate<ProcessingContext<Object>> isLastResponse,
+                                                                      final int maximumNumberOfResponses,
+                                                                      final long timeout,
+                                                                      final TimeUnit unit) {
+        if (closed) {
+            throw new AlreadyClosedException();
+        }
+        return responseStream(isLastResponse, maximumNumberOfResponses, RESPONSE_STREAM_BUFFER_CAPACITY, stream -> {
+            final CompletableFuture<Void> completion = stream.getCompletion();
+            final SubscriptionContainer subscriptionContainer = subscriptionContainer(messageBus);
+            completion.whenComplete((ignored, exception) -> subscriptionContainer.unsubscribe());
+            trackUntilDone(completion, subscriptionContainer, timeout, unit, exception -> stream.complete());
+            final Consumer<ProcessingContext<Object>> answerConsumer = response -> stream.offer(response.detached());
+            subscribeAndSend(eventType, request, subscriptionContainer,
+                    correlationId -> messageBus.subscribe(correlationId, answerConsumer), stream::fail);
+        });
+    }
+
+    private void subscribeAndSend(final EventType eventType,
+                                  final Object request,
+                                  final SubscriptionContainer subscriptionContainer,
+                                  final Function<CorrelationId, SubscriptionId> answerSubscription,
+                                  final Consumer<Exception> exceptionHandler) {
+        final MessageId messageId = newUniqueMessageId();
+        final CorrelationId correlationId = correlationIdFor(messageId);
+        final SubscriptionId answerSubscriptionId = answerSubscription.apply(correlationId);
+        final SubscriptionId errorSubscriptionId1 = messageBus.onException(correlationId, (processingContext, e) -> {
+            exceptionHandler.accept(e);
+        });
+        final SubscriptionId errorSubscriptionId2 = messageBus.onException(messageId, (processingContext, e) -> {
+            exceptionHandler.accept(e);
+        });
+        subscriptionContainer.setSubscriptionIds(answerSubscriptionId, errorSubscriptionId1, errorSubscriptionId2);
+
+        final ProcessingContext<Object> processingContext = processingContext(eventType, messageId, request);
+        try {
+            messageBus.send(processingContext);
+        } catch (final Exception e) {
+            exceptionHandler.accept(e);
+        }
+    }
+
+    private CompletableFuture<List<RequestResult<ProcessingContext<Object>>>> sendAll(final EventType eventType,
+                                                                                    final List<?> requests,
+                                                                                    final long timeout,
+                                                                                    final TimeUnit unit) {
+        final List<CompletableFuture<ProcessingContext<Object>>> futures = new ArrayList<>(requests.size());
+        try {
+            for (final Object request : requests) {
+                futures.add(sendAsync(eventType, request, timeout, unit));
+            }
+        } catch (final AlreadyClosedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        final CompletableFuture<List<RequestResult<ProcessingContext<Object>>>> combinedFuture = new CompletableFuture<>();
+        final CompletableFuture<?>[] futuresArray = futures.toArray(new CompletableFuture<?>[0]);
+        CompletableFuture.allOf(futuresArray).whenComplete((ignored, exception) -> {
+            final List<RequestResult<ProcessingContext<Object>>> results = collectResults(futures);
+            combinedFuture.complete(results);
+        });
+        //a no-op for finished requests, so only a cancellation of the combined future reaches the requests
+        combinedFuture.whenComplete((results, exception) -> futures.forEach(future -> future.cancel(true)));
+        return combinedFuture;
+    }
+
+    private static List<RequestResult<ProcessingContext<Object>>> collectResults(
+            final List<CompletableFuture<ProcessingContext<Object>>> futures) {
+        final List<RequestResult<ProcessingContext<Object>>> results = new ArrayList<>(futures.size());
+        for (final CompletableFuture<ProcessingContext<Object>> future : futures) {
+            final RequestResult<ProcessingContext<Object>> result = future.handle((response, exception) -> {
+                if (exception != null) {
+                    return RequestResult.<ProcessingContext<Object>>failedRequestResult(exception);
+                } else {
+                    return successfulRequestResult(response);
+                }
+            }).join();
+            results.add(result);
+        }
+        return results;
+    }
+
+    private void trackUntilDone(final Future<?> future,
+                                final SubscriptionContainer subscriptionContainer,
+                                final long timeout,
+                                final TimeUnit unit,
+                                final Consumer<Exception> timeoutHandler) {
+        requestsInFlight.add(future);
+        subscriptionContainer.setReleaseAction(() -> requestsInFlight.remove(future));
+        if (closed) {
+            subscriptionContainer.unsubscribe();
+            throw new AlreadyClosedException();
+        }
+        if (timeout != NO_TIMEOUT) {
+            final Timeout requestTimeout = REQUEST_TIMEOUTS.schedule(() -> {
+                final long timeoutInMillis = unit.toMillis(timeout);
+                final String message = "No response received within " + timeoutInMillis + " milliseconds";
+                timeoutHandler.accept(new TimeoutException(message));
+            }, timeout, unit);
+            subscriptionContainer.setTimeout(requestTimeout);
+        }
+    }
+
+    private static void ensureTimeoutIsPositive(final long timeout) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("The timeout must be positive, but was " + timeout);
+        }
     }
 
-    //No automatic cancel right now
     @Override
     public void close() {
         closed = true;
+        for (final Future<?> future : requestsInFlight) {
+            future.cancel(true);
+        }
+        requestsInFlight.clear();
     }
 
     private static final class RequestHandle {
         @Getter
         private final ExpectedResponseFuture responseFuture;
-        private final MessageBus messageBus;
+        @Getter
         private final SubscriptionContainer subscriptionContainer;
+        private final MessageBus messageBus;
         private volatile boolean alreadyFinishedOrCancelled;
 
         RequestHandle(final MessageBus messageBus) {
@@ -87,10 +322,8 @@ final class MessageFunctionImpl implements MessageFunction {
             final SubscriptionId errorSubscriptionId1 = messageBus.onException(correlationId, (processingContext, e) -> {
                 fulFillFuture(e);
             });
-            final SubscriptionId errorSubscriptionId2 = messageBus.onException(eventType, (processingContext, e) -> {
-                if (processingContext.getPayload() == request) {
-                    fulFillFuture(e);
-                }
+            final SubscriptionId errorSubscriptionId2 = messageBus.onException(messageId, (processingContext, e) -> {
+                fulFillFuture(e);
             });
             subscriptionContainer.setSubscriptionIds(answerSubscriptionId, errorSubscriptionId1, errorSubscriptionId2);
 
@@ -107,7 +340,7 @@ final class MessageFunctionImpl implements MessageFunction {
                 return;
             }
             alreadyFinishedOrCancelled = true;
-            responseFuture.fullFill(processingContext);
+            responseFuture.fullFill(processingContext.detached());
         }
 
         private synchronized void fulFillFuture(final Exception exception) {
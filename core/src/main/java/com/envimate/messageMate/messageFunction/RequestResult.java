@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageFunction;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * The outcome of a single request of a batch. It contains either the response or the exception, that ended the request.
+ *
+ * @param <T> the type of the response
+ * @see MessageFunction#requestAll(com.envimate.messageMate.processingContext.EventType, java.util.List)
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = PRIVATE)
+public final class RequestResult<T> {
+    @Getter
+    private final T response;
+    @Getter
+    private final Throwable exception;
+
+    /**
+     * Factory method to create a new {@code RequestResult} for a received response.
+     *
+     * @param response the received response
+     * @param <T>      the type of the response
+     * @return the newly created {@code RequestResult}
+     */
+    public static <T> RequestResult<T> successfulRequestResult(final T response) {
+        return new RequestResult<>(response, null);
+    }
+
+    /**
+     * Factory method to create a new {@code RequestResult} for a request, that ended with an exception.
+     *
+     * @param exception the exception, that ended the request
+     * @param <T>       the type of the response
+     * @return the newly created {@code RequestResult}
+     */
+    public static <T> RequestResult<T> failedRequestResult(final Throwable exception) {
+        return new RequestResult<>(null, exception);
+    }
+
+    /**
+     * Returns, whether the request ended with an exception instead of a response.
+     *
+     * @return {@code true} if the request failed, {@code false} otherwise
+     */
+    public boolean hasFailed() {
+        return exception != null;
+    }
+
+    /**
+     * Applies the given mapper to the response. An exception thrown by the mapper results in a failed {@code RequestResult}.
+     *
+     * @param mapper the function to apply to the response
+     * @param <R>    the type of the mapped response
+     * @return a {@code RequestResult} of the mapped response or of the exception
+     */
+    public <R> RequestResult<R> map(final Function<T, R> mapper) {
+        if (hasFailed()) {
+            return failedRequestResult(exception);
+        }
+        try {
+            final R mappedResponse = mapper.apply(response);
+            return successfulRequestResult(mappedResponse);
+        } catch (final Exception e) {
+            return failedRequestResult(e);
+        }
+    }
+}
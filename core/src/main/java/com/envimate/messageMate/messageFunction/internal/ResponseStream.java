@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageFunction.internal;
+
+import com.envimate.messageMate.internal.reactive.BufferingSubscription;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static com.envimate.messageMate.internal.reactive.BufferingSubscription.bufferingSubscription;
+import static com.envimate.messageMate.subscribing.OverflowStrategy.FAIL;
+import static lombok.AccessLevel.PRIVATE;
+
+/* Publisher of all responses to a single request. The request is sent, when the only allowed subscriber subscribes. The
+   stream completes after the maximal number of responses, after a response matching the predicate or by the caller's
+   timeout. A subscriber, that falls behind by more than the buffer capacity, fails the stream instead of letting the
+   buffer grow without limit. All state changes are serialized on the stream, so no response can overtake completion. */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class ResponseStream implements Flow.Publisher<ProcessingContext<Object>> {
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    @Getter
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final Predicate<ProcessingContext<Object>> isLastResponse;
+    private final int maximumNumberOfResponses;
+    private final int bufferCapacity;
+    private final Consumer<ResponseStream> requestSender;
+    private volatile BufferingSubscription<ProcessingContext<Object>> subscription;
+    private int numberOfResponses;
+
+    public static ResponseStream responseStream(final Predicate<ProcessingContext<Object>> isLastResponse,
+                                                final int maximumNumberOfResponses,
+                                                final int bufferCapacity,
+                                                final Consumer<ResponseStream> requestSender) {
+        return new ResponseStream(isLastResponse, maximumNumberOfResponses, bufferCapacity, requestSender);
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ProcessingContext<Object>> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            final BufferingSubscription<ProcessingContext<Object>> rejectedSubscription =
+                    bufferingSubscription(subscriber, 1, FAIL, () -> { });
+            subscriber.onSubscribe(rejectedSubscription);
+            rejectedSubscription.fail(new IllegalStateException("A response stream can only be subscribed once"));
+            return;
+        }
+        final BufferingSubscription<ProcessingContext<Object>> newSubscription =
+                bufferingSubscription(subscriber, bufferCapacity, FAIL, () -> completion.cancel(false));
+        subscription = newSubscription;
+        completion.whenComplete((ignored, exception) -> {
+            if (exception == null) {
+                newSubscription.complete();
+            } else {
+                newSubscription.fail(exception);
+            }
+        });
+        subscriber.onSubscribe(newSubscription);
+        try {
+            requestSender.accept(this);
+        } catch (final RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    public synchronized void offer(final ProcessingContext<Object> response) {
+        if (completion.isDone()) {
+            return;
+        }
+        numberOfResponses++;
+        final boolean accepted = subscription.offer(response);
+        if (accepted && (numberOfResponses >= maximumNumberOfResponses || isLastResponse.test(response))) {
+            completion.complete(null);
+        }
+    }
+
+    public synchronized void complete() {
+        completion.complete(null);
+    }
+
+    public synchronized void fail(final Throwable throwable) {
+        completion.completeExceptionally(throwable);
+    }
+}
@@ -21,32 +21,56 @@
 
 package com.envimate.messageMate.messageFunction.internal;
 
+import com.envimate.messageMate.internal.timing.Timeout;
 import com.envimate.messageMate.messageBus.MessageBus;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.RequiredArgsConstructor;
 
 import static lombok.AccessLevel.PACKAGE;
 
+/* Holds everything a request registered. Once released, registrations added later are released immediately, so a
+   request that times out or is cancelled while it is still being sent does not leak its subscriptions. */
 @RequiredArgsConstructor(access = PACKAGE)
 public final class SubscriptionContainer {
     private final MessageBus messageBus;
-    private volatile SubscriptionId answerSubscriptionId;
-    private volatile SubscriptionId errorSubscriptionId1;
-    private volatile SubscriptionId errorSubscriptionId2;
+    private SubscriptionId answerSubscriptionId;
+    private SubscriptionId errorSubscriptionId1;
+    private SubscriptionId errorSubscriptionId2;
+    private Timeout timeout;
+    private Runnable releaseAction;
+    private boolean released;
 
     public static SubscriptionContainer subscriptionContainer(final MessageBus messageBus) {
         return new SubscriptionContainer(messageBus);
     }
 
-    public void setSubscriptionIds(final SubscriptionId answerSubscriptionId,
-                                   final SubscriptionId errorSubscriptionId1,
-                                   final SubscriptionId errorSubscriptionId2) {
+    public synchronized void setSubscriptionIds(final SubscriptionId answerSubscriptionId,
+                                                final SubscriptionId errorSubscriptionId1,
+                                                final SubscriptionId errorSubscriptionId2) {
         this.answerSubscriptionId = answerSubscriptionId;
         this.errorSubscriptionId1 = errorSubscriptionId1;
         this.errorSubscriptionId2 = errorSubscriptionId2;
+        if (released) {
+            unsubscribe();
+        }
     }
 
-    public void unsubscribe() {
+    public synchronized void setTimeout(final Timeout timeout) {
+        this.timeout = timeout;
+        if (released) {
+            timeout.cancel();
+        }
+    }
+
+    public synchronized void setReleaseAction(final Runnable releaseAction) {
+        this.releaseAction = releaseAction;
+        if (released) {
+            releaseAction.run();
+        }
+    }
+
+    public synchronized void unsubscribe() {
+        released = true;
         if (answerSubscriptionId != null) {
             messageBus.unsubcribe(answerSubscriptionId);
         }
@@ -56,6 +80,12 @@ public final class SubscriptionContainer {
         if (errorSubscriptionId2 != null) {
             messageBus.unregisterExceptionListener(errorSubscriptionId2);
         }
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        if (releaseAction != null) {
+            releaseAction.run();
+        }
     }
 
 }
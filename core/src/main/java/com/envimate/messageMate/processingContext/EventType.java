@@ -23,53 +23,84 @@ package com.envimate.messageMate.processingContext;
 
 import com.envimate.messageMate.messageBus.MessageBus;
 import com.envimate.messageMate.subscribing.Subscriber;
-import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import static com.envimate.messageMate.internal.enforcing.StringValidator.cleaned;
-import static lombok.AccessLevel.PRIVATE;
 
 /**
  * An {@code EventType} is a representation of a communication on a {@link MessageBus}. All messages with the same
  * {@code EventType} belong the communication. {@link Subscriber Subscribers} can listen on a {@code EventType} to recieve all
  * relevant messages.
  *
+ * <p>{@code EventTypes} are interned: creating an {@code EventType} for an already known string or {@code Class} returns
+ * the same instance without allocating. The hash code is computed once, so that {@code EventTypes} can be used as
+ * cheap map keys for routing.</p>
+ *
  * @see <a href="https://github.com/envimate/message-mate#processing-context">Message Mate Documentation</a>
  */
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor(access = PRIVATE)
+@ToString(of = "value")
 public final class EventType {
+    private static final int MAXIMAL_NUMBER_OF_INTERNED_STRINGS = 1 << 16;
+    private static final ConcurrentMap<String, EventType> INTERNED_EVENT_TYPES = new ConcurrentHashMap<>();
+    private static final ClassValue<EventType> EVENT_TYPES_PER_CLASS = new ClassValue<EventType>() {
+        @Override
+        protected EventType computeValue(final Class<?> type) {
+            final String name = type.getName();
+            return eventTypeFromString(name);
+        }
+    };
     private final String value;
+    private final int hash;
+
+    private EventType(final String value) {
+        this.value = value;
+        this.hash = value.hashCode();
+    }
 
     /**
      * Creates a new {@code EventType} from the given string.
      *
      * @param value the string representing the {@code EventType}
-     * @return the newly created {@code EventType}
+     * @return the {@code EventType} for the string
      */
     public static EventType eventTypeFromString(final String value) {
+        if (value != null) {
+            final EventType interned = INTERNED_EVENT_TYPES.get(value);
+            if (interned != null) {
+                return interned;
+            }
+        }
         final String cleaned = cleaned(value);
-        return new EventType(cleaned);
+        final EventType eventType = new EventType(cleaned);
+        if (INTERNED_EVENT_TYPES.size() >= MAXIMAL_NUMBER_OF_INTERNED_STRINGS) {
+            return eventType;
+        }
+        final EventType previous = INTERNED_EVENT_TYPES.putIfAbsent(cleaned, eventType);
+        if (previous != null) {
+            return previous;
+        } else {
+            return eventType;
+        }
     }
 
     /**
      * Creates a new {@code EventType} from the canonical name of the {@code Class}.
      *
      * @param aClass the {@code Class} to use the canonical name as {@code EventType}
-     * @return the newly created {@code EventType}
+     * @return the {@code EventType} for the {@code Class}
      */
     public static EventType eventTypeFromClass(final Class<?> aClass) {
-        final String name = aClass.getName();
-        return eventTypeFromString(name);
+        return EVENT_TYPES_PER_CLASS.get(aClass);
     }
 
     /**
      * Creates a new {@code EventType} from the canonical name of the object's {@code Class}.
      *
      * @param object the object, from which to use the canonical {@code Class'} name as {@code EventType}
-     * @return the newly created {@code EventType}
+     * @return the {@code EventType} for the object's {@code Class}
      */
     public static EventType eventTypeFromObjectClass(final Object object) {
         final Class<?> aClass = object.getClass();
@@ -84,4 +115,21 @@ public final class EventType {
     public String stringValue() {
         return value;
     }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof EventType)) {
+            return false;
+        }
+        final EventType otherEventType = (EventType) other;
+        return hash == otherEventType.hash && value.equals(otherEventType.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
 }
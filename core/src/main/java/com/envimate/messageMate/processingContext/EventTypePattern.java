@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.processingContext;
+
+import com.envimate.messageMate.messageBus.MessageBus;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
+import static com.envimate.messageMate.internal.enforcing.StringValidator.cleaned;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * An {@code EventTypePattern} selects several {@link EventType EventTypes} at once, so that a single subscription on the
+ * {@link MessageBus} receives all of them. A pattern either matches a namespace of {@code EventTypes} by a trailing wildcard
+ * like {@code orders.*}, or all messages, whose payload is an instance of a given {@code Class}.
+ *
+ * @see <a href="https://github.com/envimate/message-mate#subscribing-to-patterns">Message Mate Documentation</a>
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = PRIVATE)
+public final class EventTypePattern {
+    private static final String WILDCARD = "*";
+    private final String prefix;
+    private final boolean wildcard;
+    private final Class<?> supertype;
+
+    /**
+     * Creates a new {@code EventTypePattern} from the given string. A trailing {@code *} matches all {@code EventTypes}
+     * starting with the part before it, so {@code orders.*} matches {@code orders.placed} and {@code orders.item.added}.
+     * A single {@code *} matches all {@code EventTypes}. Without a wildcard only the exact {@code EventType} is matched.
+     *
+     * @param pattern the string representation of the pattern
+     * @return the newly created {@code EventTypePattern}
+     * @throws IllegalArgumentException if the wildcard is not the last character of the pattern
+     */
+    public static EventTypePattern eventTypePattern(final String pattern) {
+        final String cleaned = cleaned(pattern);
+        final int wildcardIndex = cleaned.indexOf(WILDCARD);
+        if (wildcardIndex < 0) {
+            return new EventTypePattern(cleaned, false, null);
+        } else if (wildcardIndex == cleaned.length() - 1) {
+            final String prefix = cleaned.substring(0, wildcardIndex);
+            return new EventTypePattern(prefix, true, null);
+        } else {
+            throw new IllegalArgumentException("Only a single trailing wildcard is supported, but got pattern " + cleaned);
+        }
+    }
+
+    /**
+     * Creates a new {@code EventTypePattern}, that matches all messages, whose payload is an instance of the given
+     * {@code Class}, independent of their {@code EventType}.
+     *
+     * @param supertype the {@code Class} or interface, the payloads have to implement
+     * @return the newly created {@code EventTypePattern}
+     */
+    public static EventTypePattern subtypesOf(final Class<?> supertype) {
+        ensureNotNull(supertype, "supertype");
+        return new EventTypePattern(null, false, supertype);
+    }
+
+    /**
+     * Returns {@code true}, if the pattern selects messages by the type of their payload and not by their {@code EventType}.
+     *
+     * @return {@code true} for patterns created by {@link #subtypesOf(Class)}, {@code false} otherwise
+     */
+    public boolean isTypeHierarchyPattern() {
+        return supertype != null;
+    }
+
+    /**
+     * Checks, if the {@code EventType} is matched by this pattern.
+     *
+     * @param eventType the {@code EventType} to check
+     * @return {@code true} if the {@code EventType} matches, {@code false} otherwise or for type hierarchy patterns
+     */
+    public boolean matches(final EventType eventType) {
+        if (isTypeHierarchyPattern()) {
+            return false;
+        }
+        final String value = eventType.stringValue();
+        if (wildcard) {
+            return value.startsWith(prefix);
+        } else {
+            return value.equals(prefix);
+        }
+    }
+
+    /**
+     * Checks, if payloads of the given {@code Class} are matched by this pattern.
+     *
+     * @param payloadClass the {@code Class} of the payload
+     * @return {@code true} if the {@code Class} is a subtype of the pattern's supertype, {@code false} otherwise
+     */
+    public boolean matches(final Class<?> payloadClass) {
+        return isTypeHierarchyPattern() && supertype.isAssignableFrom(payloadClass);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.processingContext;
+
+import lombok.ToString;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
+import static com.envimate.messageMate.internal.enforcing.StringValidator.cleaned;
+
+/**
+ * A typed key for meta data, that is stored in a {@link ProcessingContext} next to its payload.
+ *
+ * <p>{@code MetaDataKeys} are interned by their name. The first 32 keys get a fixed slot
+ * in each {@code ProcessingContext}, so that reading and writing their values is an array access instead of a hash
+ * lookup. Keys should therefore be created once and kept in constants. All further keys are stored in the
+ * {@code ProcessingContext's} context meta data map.</p>
+ *
+ * @param <T> the type of the values stored under the key
+ * @see <a href="https://github.com/envimate/message-mate#processing-context">Message Mate Documentation</a>
+ */
+@ToString(of = {"name", "type"})
+public final class MetaDataKey<T> {
+    static final int MAXIMAL_NUMBER_OF_SLOTS = 32;
+    static final int NO_SLOT = -1;
+    private static final ConcurrentMap<String, MetaDataKey<?>> INTERNED_KEYS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+    private final String name;
+    private final Class<T> type;
+    private final int slot;
+
+    private MetaDataKey(final String name, final Class<T> type, final int slot) {
+        this.name = name;
+        this.type = type;
+        this.slot = slot;
+    }
+
+    /**
+     * Returns the {@code MetaDataKey} with the given name, creating it if necessary.
+     *
+     * @param name the name of the key
+     * @param type the type of the values stored under the key
+     * @param <T>  the type of the values stored under the key
+     * @return the {@code MetaDataKey} for the name
+     * @throws IllegalArgumentException if a key with the same name but a different type already exists
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> MetaDataKey<T> metaDataKey(final String name, final Class<T> type) {
+        ensureNotNull(type, "type");
+        final String cleaned = cleaned(name);
+        final MetaDataKey<?> key = INTERNED_KEYS.computeIfAbsent(cleaned, n -> new MetaDataKey<>(n, type, nextSlot()));
+        if (!key.type.equals(type)) {
+            throw new IllegalArgumentException("The MetaDataKey '" + cleaned + "' already exists for type " + key.type.getName());
+        }
+        return (MetaDataKey<T>) key;
+    }
+
+    private static int nextSlot() {
+        final int slot = NEXT_SLOT.getAndIncrement();
+        if (slot < MAXIMAL_NUMBER_OF_SLOTS) {
+            return slot;
+        } else {
+            return NO_SLOT;
+        }
+    }
+
+    static int numberOfSlots() {
+        return Math.min(NEXT_SLOT.get(), MAXIMAL_NUMBER_OF_SLOTS);
+    }
+
+    int slot() {
+        return slot;
+    }
+
+    T cast(final Object value) {
+        return type.cast(value);
+    }
+
+    /**
+     * Returns the name of the {@code MetaDataKey}.
+     *
+     * @return the name of the key
+     */
+    public String name() {
+        return name;
+    }
+}
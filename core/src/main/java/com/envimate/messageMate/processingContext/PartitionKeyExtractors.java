@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.processingContext;
+
+import com.envimate.messageMate.identification.CorrelationId;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Provides the default functions, that extract the partition key from a {@link ProcessingContext}. The partition key of a
+ * message decides on which lane a partitioned {@code Channel} or {@code MessageBus} delivers the message.
+ *
+ * @see <a href="https://github.com/envimate/message-mate#configuring-the-messagebus">Message Mate Documentation</a>
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class PartitionKeyExtractors {
+
+    /**
+     * Returns a function, that uses the {@code CorrelationId} of a message as partition key. For messages without a
+     * {@code CorrelationId} the {@code EventType} is used. This keeps the order of all messages of one conversation and of
+     * all uncorrelated messages of the same {@code EventType}.
+     *
+     * @param <T> the type of the {@code ProcessingContext's} payload
+     * @return the default partition key extractor
+     */
+    public static <T> Function<ProcessingContext<T>, Object> correlationIdOrEventTypePartitionKey() {
+        return processingContext -> {
+            final CorrelationId correlationId = processingContext.getCorrelationId();
+            if (correlationId != null) {
+                return correlationId;
+            } else {
+                return processingContext.getEventType();
+            }
+        };
+    }
+
+    /**
+     * Returns a function, that uses the {@code EventType} of a message as partition key.
+     *
+     * @param <T> the type of the {@code ProcessingContext's} payload
+     * @return a partition key extractor based on the {@code EventType}
+     */
+    public static <T> Function<ProcessingContext<T>, Object> eventTypePartitionKey() {
+        return ProcessingContext::getEventType;
+    }
+}
@@ -28,12 +28,17 @@ import com.envimate.messageMate.channel.action.Call;
 import com.envimate.messageMate.filtering.Filter;
 import com.envimate.messageMate.identification.CorrelationId;
 import com.envimate.messageMate.identification.MessageId;
-import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static com.envimate.messageMate.channel.ChannelProcessingFrame.processingFrame;
 import static com.envimate.messageMate.identification.CorrelationId.correlationIdFor;
 import static com.envimate.messageMate.identification.MessageId.newUniqueMessageId;
 import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensureNotNull;
@@ -45,7 +50,9 @@ import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensure
  * {@link ProcessingContext#getPayload()} and {@code #setPayload(T) setPayload()} methods. All {@link Action Actions} and
  * {@link Filter} get access to the {@code ProcessingContext} object. This allows them to share data using the
  * {@code ProcessingContext's} context meta date object. It is a {@code Map<Object, Object}, that can be accessed with
- * {@link ProcessingContext#getContextMetaData()}.</p>
+ * {@link ProcessingContext#getContextMetaData()}. The map is only created on its first access. Frequently read meta data
+ * should use a {@link MetaDataKey} with {@link ProcessingContext#getMetaData(MetaDataKey)} and
+ * {@link ProcessingContext#setMetaData(MetaDataKey, Object)}, which store the values in fixed slots instead of the map.</p>
  *
  * <p>In case several {@link Channel Channels} are chained together, a message traverses different channel in a specific order.
  * The transitions are handled via {@code Actions}. Given such a chained {@code Channel} scenario, the history can be of interest.
@@ -59,16 +66,25 @@ import static com.envimate.messageMate.internal.enforcing.NotNullEnforcer.ensure
  * the {@code Call} {@code Action}, to represent the branching of the flow. All subsequent {@code Channel} will be contained
  * normally in the list of frames.</p>
  *
+ * <p>A {@code MessageBus} can be configured to recycle its {@code ProcessingContexts} with a {@link ProcessingContextPool}.
+ * Pooled {@code ProcessingContexts} are only valid during their delivery. Subscribers keeping a reference have to
+ * {@link ProcessingContext#retain()} and later {@link ProcessingContext#release()} it or work on a
+ * {@link ProcessingContext#detached()} copy. For all other {@code ProcessingContexts} these methods have no effect.</p>
+ *
  * @param <T> the type of the processing {@code Channel}
  * @see <a href="https://github.com/envimate/message-mate#processing-context">Message Mate Documentation</a>
  */
 
-@ToString
-@EqualsAndHashCode
+@ToString(doNotUseGetters = true)
 public final class ProcessingContext<T> {
-    private final EventType eventType;
-    private final MessageId messageId;
-    private final Map<Object, Object> contextMetaData;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ProcessingContext> REFERENCE_COUNT =
+            AtomicIntegerFieldUpdater.newUpdater(ProcessingContext.class, "referenceCount");
+    private static final Object[] EMPTY_SLOTS = new Object[0];
+    private EventType eventType;
+    private MessageId messageId;
+    private Map<Object, Object> contextMetaData;
+    private Object[] metaDataSlots;
     private CorrelationId correlationId;
     private T payload;
     private Object errorPayload;
@@ -77,6 +93,15 @@ public final class ProcessingContext<T> {
 
     private ChannelProcessingFrame<T> currentProcessingFrame;
 
+    @ToString.Exclude
+    private final ProcessingContextPool pool;
+
+    @ToString.Exclude
+    private final AtomicReference<ProcessingContextLeakException> pendingLeak;
+
+    @ToString.Exclude
+    private volatile int referenceCount;
+
     private ProcessingContext(final EventType eventType,
                               final MessageId messageId,
                               final CorrelationId correlationId,
@@ -90,12 +115,25 @@ public final class ProcessingContext<T> {
         ensureNotNull(messageId, "messageId");
         this.messageId = messageId;
         this.correlationId = correlationId;
-        ensureNotNull(contextMetaData, "contextMetaData");
         this.contextMetaData = contextMetaData;
         this.payload = payload;
         this.errorPayload = errorPayload;
         this.initialProcessingFrame = initialProcessingFrame;
         this.currentProcessingFrame = currentProcessingFrame;
+        this.pool = null;
+        this.pendingLeak = null;
+    }
+
+    private ProcessingContext(final ProcessingContextPool pool,
+                              final AtomicReference<ProcessingContextLeakException> pendingLeak) {
+        this.pool = pool;
+        this.pendingLeak = pendingLeak;
+    }
+
+    static ProcessingContext<Object> pooledProcessingContext(
+            final ProcessingContextPool pool,
+            final AtomicReference<ProcessingContextLeakException> pendingLeak) {
+        return new ProcessingContext<>(pool, pendingLeak);
     }
 
     /**
@@ -107,9 +145,8 @@ public final class ProcessingContext<T> {
      * @return the newly created {@code ProcessingContext}
      */
     public static <T> ProcessingContext<T> processingContext(final EventType eventType, final T payload) {
-        final Map<Object, Object> contextMetaData = new HashMap<>();
         final MessageId messageId = newUniqueMessageId();
-        return new ProcessingContext<>(eventType, messageId, null, payload, null, contextMetaData, null, null);
+        return new ProcessingContext<>(eventType, messageId, null, payload, null, null, null, null);
     }
 
     /**
@@ -124,8 +161,7 @@ public final class ProcessingContext<T> {
     public static <T> ProcessingContext<T> processingContext(final EventType eventType,
                                                              final MessageId messageId,
                                                              final T payload) {
-        final Map<Object, Object> contextMetaData = new HashMap<>();
-        return new ProcessingContext<>(eventType, messageId, null, payload, null, contextMetaData, null, null);
+        return new ProcessingContext<>(eventType, messageId, null, payload, null, null, null, null);
     }
 
     /**
@@ -140,9 +176,8 @@ public final class ProcessingContext<T> {
     public static <T> ProcessingContext<T> processingContext(final EventType eventType,
                                                              final T payload,
                                                              final CorrelationId correlationId) {
-        final Map<Object, Object> metaData = new HashMap<>();
         final MessageId messageId = newUniqueMessageId();
-        return new ProcessingContext<>(eventType, messageId, correlationId, payload, null, metaData, null, null);
+        return new ProcessingContext<>(eventType, messageId, correlationId, payload, null, null, null, null);
     }
 
     /**
@@ -161,8 +196,7 @@ public final class ProcessingContext<T> {
                                                              final CorrelationId correlationId,
                                                              final T payload,
                                                              final Object errorPayload) {
-        final Map<Object, Object> metaData = new HashMap<>();
-        return new ProcessingContext<>(eventType, messageId, correlationId, payload, errorPayload, metaData, null, null);
+        return new ProcessingContext<>(eventType, messageId, correlationId, payload, errorPayload, null, null, null);
     }
 
     /**
@@ -187,6 +221,7 @@ public final class ProcessingContext<T> {
                                                              final Map<Object, Object> contextMetaData,
                                                              final ChannelProcessingFrame<T> initialProcessingFrame,
                                                              final ChannelProcessingFrame<T> currentProcessingFrame) {
+        ensureNotNull(contextMetaData, "contextMetaData");
         return new ProcessingContext<>(eventType, messageId, correlationId, payload, errorPayload, contextMetaData,
                 initialProcessingFrame, currentProcessingFrame);
     }
@@ -200,9 +235,8 @@ public final class ProcessingContext<T> {
      * @return the newly created {@code ProcessingContext}
      */
     public static <T> ProcessingContext<T> processingContextForError(final EventType eventType, final Object errorPayload) {
-        final Map<Object, Object> contextMetaData = new HashMap<>();
         final MessageId messageId = newUniqueMessageId();
-        return new ProcessingContext<>(eventType, messageId, null, null, errorPayload, contextMetaData, null, null);
+        return new ProcessingContext<>(eventType, messageId, null, null, errorPayload, null, null, null);
     }
 
     /**
@@ -217,9 +251,8 @@ public final class ProcessingContext<T> {
     public static <T> ProcessingContext<T> processingContextForPayloadAndError(final EventType eventType,
                                                                                final T payload,
                                                                                final Object errorPayload) {
-        final Map<Object, Object> contextMetaData = new HashMap<>();
         final MessageId messageId = newUniqueMessageId();
-        return new ProcessingContext<>(eventType, messageId, null, payload, errorPayload, contextMetaData, null, null);
+        return new ProcessingContext<>(eventType, messageId, null, payload, errorPayload, null, null, null);
     }
 
     /**
@@ -236,9 +269,8 @@ public final class ProcessingContext<T> {
                                                                                final CorrelationId correlationId,
                                                                                final T payload,
                                                                                final Object errorPayload) {
-        final Map<Object, Object> contextMetaData = new HashMap<>();
         final MessageId messageId = newUniqueMessageId();
-        return new ProcessingContext<>(eventType, messageId, correlationId, payload, errorPayload, contextMetaData, null, null);
+        return new ProcessingContext<>(eventType, messageId, correlationId, payload, errorPayload, null, null, null);
     }
 
     /**
@@ -280,6 +312,206 @@ public final class ProcessingContext<T> {
         return correlationIdFor(messageId);
     }
 
+    /**
+     * Returns the meta data value stored under the given {@link MetaDataKey}.
+     *
+     * @param key the {@code MetaDataKey} to read
+     * @param <V> the type of the value
+     * @return the stored value or {@code null} if none was set
+     */
+    public <V> V getMetaData(final MetaDataKey<V> key) {
+        final int slot = key.slot();
+        if (slot == MetaDataKey.NO_SLOT) {
+            if (contextMetaData == null) {
+                return null;
+            }
+            return key.cast(contextMetaData.get(key));
+        }
+        if (metaDataSlots == null || slot >= metaDataSlots.length) {
+            return null;
+        }
+        return key.cast(metaDataSlots[slot]);
+    }
+
+    /**
+     * Stores a meta data value under the given {@link MetaDataKey}. Storing {@code null} removes the value.
+     *
+     * @param key   the {@code MetaDataKey} to write
+     * @param value the value to store
+     * @param <V>   the type of the value
+     */
+    public <V> void setMetaData(final MetaDataKey<V> key, final V value) {
+        final int slot = key.slot();
+        if (slot == MetaDataKey.NO_SLOT) {
+            if (value == null) {
+                if (contextMetaData != null) {
+                    contextMetaData.remove(key);
+                }
+            } else {
+                getContextMetaData().put(key, value);
+            }
+            return;
+        }
+        if (metaDataSlots == null || slot >= metaDataSlots.length) {
+            if (value == null) {
+                return;
+            }
+            final int numberOfSlots = Math.max(slot + 1, MetaDataKey.numberOfSlots());
+            if (metaDataSlots == null) {
+                metaDataSlots = new Object[numberOfSlots];
+            } else {
+                metaDataSlots = Arrays.copyOf(metaDataSlots, numberOfSlots);
+            }
+        }
+        metaDataSlots[slot] = value;
+    }
+
+    /**
+     * Adds a reference to a pooled {@code ProcessingContext}. It is not recycled until each reference was released. Has no
+     * effect on not pooled {@code ProcessingContexts}.
+     *
+     * @return the same {@code ProcessingContext}
+     * @throws IllegalStateException if the pooled {@code ProcessingContext} was already released
+     */
+    public ProcessingContext<T> retain() {
+        if (pool == null) {
+            return this;
+        }
+        int current;
+        do {
+            current = referenceCount;
+            if (current <= 0) {
+                throw new IllegalStateException("The pooled ProcessingContext was already released.");
+            }
+        } while (!REFERENCE_COUNT.compareAndSet(this, current, current + 1));
+        return this;
+    }
+
+    /**
+     * Releases a reference to a pooled {@code ProcessingContext}. After the last reference was released, it is returned to
+     * its {@link ProcessingContextPool} and must not be used anymore. Has no effect on not pooled
+     * {@code ProcessingContexts}.
+     *
+     * @throws IllegalStateException if the pooled {@code ProcessingContext} was released more often than retained
+     */
+    @SuppressWarnings("unchecked")
+    public void release() {
+        if (pool == null) {
+            return;
+        }
+        final int remainingReferences = REFERENCE_COUNT.decrementAndGet(this);
+        if (remainingReferences == 0) {
+            pool.recycle((ProcessingContext<Object>) this);
+        } else if (remainingReferences < 0) {
+            throw new IllegalStateException("The pooled ProcessingContext was released more often than retained.");
+        }
+    }
+
+    /**
+     * Returns, whether the {@code ProcessingContext} is recycled by a {@link ProcessingContextPool}.
+     *
+     * @return {@code true} if the {@code ProcessingContext} is pooled, {@code false} otherwise
+     */
+    public boolean isPooled() {
+        return pool != null;
+    }
+
+    /**
+     * Returns a {@code ProcessingContext}, that stays valid after the delivery. Not pooled {@code ProcessingContexts} are
+     * returned as they are. Pooled ones are copied together with their context meta data and their
+     * {@code ChannelProcessingFrames}.
+     *
+     * @return a not pooled {@code ProcessingContext} with the same content
+     */
+    public ProcessingContext<T> detached() {
+        if (pool == null) {
+            return this;
+        }
+        final Map<Object, Object> copiedMetaData = copyOfContextMetaData();
+        ChannelProcessingFrame<T> copiedInitialFrame = null;
+        ChannelProcessingFrame<T> copiedCurrentFrame = null;
+        ChannelProcessingFrame<T> previousCopiedFrame = null;
+        for (ChannelProcessingFrame<T> frame = initialProcessingFrame; frame != null; frame = frame.getNextFrame()) {
+            final ChannelProcessingFrame<T> copiedFrame = frame.copy();
+            copiedFrame.setPreviousFrame(previousCopiedFrame);
+            if (previousCopiedFrame == null) {
+                copiedInitialFrame = copiedFrame;
+            } else {
+                previousCopiedFrame.setNextFrame(copiedFrame);
+            }
+            if (frame == currentProcessingFrame) {
+                copiedCurrentFrame = copiedFrame;
+            }
+            previousCopiedFrame = copiedFrame;
+        }
+        final ProcessingContext<T> copy = new ProcessingContext<>(eventType, messageId, correlationId, payload, errorPayload,
+                copiedMetaData, copiedInitialFrame, copiedCurrentFrame);
+        if (metaDataSlots != null) {
+            copy.metaDataSlots = metaDataSlots.clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Creates the {@code ChannelProcessingFrame} for a {@code Channel} the {@code ProcessingContext} enters. Pooled
+     * {@code ProcessingContexts} reuse recycled frames.
+     *
+     * @param channel the entered {@code Channel}
+     * @return a new {@code ChannelProcessingFrame} for the {@code Channel}
+     */
+    public ChannelProcessingFrame<T> createProcessingFrame(final Channel<T> channel) {
+        if (pool == null) {
+            return processingFrame(channel);
+        }
+        return pool.acquireProcessingFrame(channel);
+    }
+
+    /**
+     * Hands back a {@code ChannelProcessingFrame}, that was removed from the history. Pooled
+     * {@code ProcessingContexts} reuse it for later {@code Channels}, for all others this has no effect.
+     *
+     * @param processingFrame the unlinked {@code ChannelProcessingFrame}
+     */
+    public void discardProcessingFrame(final ChannelProcessingFrame<T> processingFrame) {
+        if (pool != null) {
+            pool.recycleProcessingFrame(processingFrame);
+        }
+    }
+
+    void reinitialize(final EventType eventType,
+                      final MessageId messageId,
+                      final CorrelationId correlationId,
+                      final T payload) {
+        ensureNotNull(eventType, "eventType");
+        this.eventType = eventType;
+        this.messageId = messageId;
+        this.correlationId = correlationId;
+        this.payload = payload;
+        if (pendingLeak != null) {
+            pendingLeak.set(new ProcessingContextLeakException(eventType));
+        }
+        this.referenceCount = 1;
+    }
+
+    void clearForReuse() {
+        if (pendingLeak != null) {
+            pendingLeak.set(null);
+        }
+        if (contextMetaData != null) {
+            contextMetaData.clear();
+        }
+        if (metaDataSlots != null) {
+            Arrays.fill(metaDataSlots, null);
+        }
+        eventType = null;
+        messageId = null;
+        correlationId = null;
+        payload = null;
+        errorPayload = null;
+        initialProcessingFrame = null;
+        currentProcessingFrame = null;
+    }
+
     public EventType getEventType() {
         return this.eventType;
     }
@@ -288,7 +520,15 @@ public final class ProcessingContext<T> {
         return this.messageId;
     }
 
+    /**
+     * Returns the context meta data map. The map is created on the first call.
+     *
+     * @return the context meta data map
+     */
     public Map<Object, Object> getContextMetaData() {
+        if (this.contextMetaData == null) {
+            this.contextMetaData = new HashMap<>();
+        }
         return this.contextMetaData;
     }
 
@@ -331,4 +571,58 @@ public final class ProcessingContext<T> {
     public void setCurrentProcessingFrame(final ChannelProcessingFrame<T> currentProcessingFrame) {
         this.currentProcessingFrame = currentProcessingFrame;
     }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ProcessingContext)) {
+            return false;
+        }
+        final ProcessingContext<?> that = (ProcessingContext<?>) other;
+        return Objects.equals(eventType, that.eventType)
+                && Objects.equals(messageId, that.messageId)
+                && Objects.equals(correlationId, that.correlationId)
+                && Objects.equals(payload, that.payload)
+                && Objects.equals(errorPayload, that.errorPayload)
+                && metaDataOrEmpty().equals(that.metaDataOrEmpty())
+                && Arrays.equals(metaDataSlotsWithoutTrailingNulls(), that.metaDataSlotsWithoutTrailingNulls())
+                && Objects.equals(initialProcessingFrame, that.initialProcessingFrame)
+                && Objects.equals(currentProcessingFrame, that.currentProcessingFrame);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventType, messageId, correlationId, payload, errorPayload, metaDataOrEmpty(),
+                Arrays.hashCode(metaDataSlotsWithoutTrailingNulls()), initialProcessingFrame, currentProcessingFrame);
+    }
+
+    private Map<Object, Object> metaDataOrEmpty() {
+        if (contextMetaData == null) {
+            return Collections.emptyMap();
+        }
+        return contextMetaData;
+    }
+
+    private Object[] metaDataSlotsWithoutTrailingNulls() {
+        if (metaDataSlots == null) {
+            return EMPTY_SLOTS;
+        }
+        int length = metaDataSlots.length;
+        while (length > 0 && metaDataSlots[length - 1] == null) {
+            length--;
+        }
+        if (length == metaDataSlots.length) {
+            return metaDataSlots;
+        }
+        return Arrays.copyOf(metaDataSlots, length);
+    }
+
+    private Map<Object, Object> copyOfContextMetaData() {
+        if (contextMetaData == null) {
+            return null;
+        }
+        return new HashMap<>(contextMetaData);
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.processingContext;
+
+/**
+ * Reported in the leak detecting mode of a {@link ProcessingContextPool}, when a pooled {@link ProcessingContext} was
+ * garbage collected without being released. The stack trace of the exception points to where the
+ * {@code ProcessingContext} was taken from the pool.
+ *
+ * @see <a href="https://github.com/envimate/message-mate#pooling-processing-contexts">Message Mate Documentation</a>
+ */
+public final class ProcessingContextLeakException extends RuntimeException {
+
+    ProcessingContextLeakException(final EventType eventType) {
+        super("A pooled ProcessingContext for " + eventType + " was garbage collected without being released. "
+                + "Subscribers keeping a ProcessingContext beyond its delivery have to retain and release it.");
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.processingContext;
+
+/**
+ * Decides, when a pooled {@link ProcessingContext} of a leak detecting {@link ProcessingContextPool} is no longer in use.
+ * Without a configured {@code ProcessingContextLeakTracker} this is the case, once the {@code ProcessingContext} was
+ * garbage collected.
+ *
+ * @see <a href="https://github.com/envimate/message-mate#pooling-processing-contexts">Message Mate Documentation</a>
+ */
+@FunctionalInterface
+public interface ProcessingContextLeakTracker {
+
+    /**
+     * Tracks a newly created pooled {@code ProcessingContext}. The {@code leakCheck} has to be run, once the
+     * {@code ProcessingContext} is no longer in use. It reports a {@link ProcessingContextLeakException}, if the
+     * {@code ProcessingContext} was not released. The {@code leakCheck} does not reference the {@code ProcessingContext}.
+     *
+     * @param processingContext the tracked {@code ProcessingContext}
+     * @param leakCheck         the check to run, once the {@code ProcessingContext} is no longer in use
+     */
+    void track(ProcessingContext<?> processingContext, Runnable leakCheck);
+}
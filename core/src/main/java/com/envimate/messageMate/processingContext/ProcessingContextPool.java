@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.processingContext;
+
+import com.envimate.messageMate.channel.Channel;
+import com.envimate.messageMate.channel.ChannelProcessingFrame;
+import com.envimate.messageMate.configuration.PoolingConfiguration;
+import com.envimate.messageMate.identification.CorrelationId;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static com.envimate.messageMate.channel.ChannelProcessingFrame.processingFrame;
+import static com.envimate.messageMate.identification.MessageId.newUniqueMessageId;
+import static com.envimate.messageMate.processingContext.ProcessingContext.processingContext;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Source of the {@link ProcessingContext ProcessingContexts} created by the {@code MessageBus}.
+ *
+ * <p>Without pooling every message gets a new {@code ProcessingContext}. With pooling, {@code ProcessingContexts}, their
+ * {@link ChannelProcessingFrame ChannelProcessingFrames} and context meta data are recycled, once the last reference
+ * to them was released. Each {@code Channel} retains the {@code ProcessingContext} while processing it, the sender holds
+ * the initial reference. Subscribers, that keep a pooled {@code ProcessingContext} after the delivery, have to
+ * {@link ProcessingContext#retain() retain} and later {@link ProcessingContext#release() release} it, or keep a
+ * {@link ProcessingContext#detached() detached} copy.</p>
+ *
+ * <p>In leak detecting mode each acquisition is tracked. A pooled {@code ProcessingContext}, that is garbage collected
+ * without being released, is reported as {@link ProcessingContextLeakException} to the configured listener. A configured
+ * {@link ProcessingContextLeakTracker} replaces the garbage collection as the point of the check.</p>
+ *
+ * @see <a href="https://github.com/envimate/message-mate#pooling-processing-contexts">Message Mate Documentation</a>
+ */
+@RequiredArgsConstructor(access = PRIVATE)
+public final class ProcessingContextPool {
+    private final BlockingQueue<ProcessingContext<Object>> processingContexts;
+    private final BlockingQueue<ChannelProcessingFrame<?>> processingFrames;
+    private final Consumer<ProcessingContextLeakException> leakListener;
+    private final ProcessingContextLeakTracker leakTracker;
+
+    /**
+     * Creates a {@code ProcessingContextPool}, that creates a new {@code ProcessingContext} for every message.
+     *
+     * @return a not pooling {@code ProcessingContextPool}
+     */
+    public static ProcessingContextPool noPooling() {
+        return new ProcessingContextPool(null, null, null, null);
+    }
+
+    /**
+     * Creates a new {@code ProcessingContextPool} configured by the {@link PoolingConfiguration}.
+     *
+     * @param configuration the {@code PoolingConfiguration}
+     * @return the new {@code ProcessingContextPool}
+     * @throws IllegalArgumentException if the maximum pool size is not positive
+     */
+    public static ProcessingContextPool processingContextPool(final PoolingConfiguration configuration) {
+        final int maximumPoolSize = configuration.getMaximumPoolSize();
+        if (maximumPoolSize <= 0) {
+            throw new IllegalArgumentException("The maximum pool size must be positive, but was " + maximumPoolSize);
+        }
+        final BlockingQueue<ProcessingContext<Object>> processingContexts = new ArrayBlockingQueue<>(maximumPoolSize);
+        final BlockingQueue<ChannelProcessingFrame<?>> processingFrames = new ArrayBlockingQueue<>(maximumPoolSize);
+        final ProcessingContextLeakTracker leakTracker = leakTrackerOf(configuration);
+        return new ProcessingContextPool(processingContexts, processingFrames, configuration.getLeakListener(), leakTracker);
+    }
+
+    private static ProcessingContextLeakTracker leakTrackerOf(final PoolingConfiguration configuration) {
+        final ProcessingContextLeakTracker leakTracker = configuration.getLeakTracker();
+        if (leakTracker != null) {
+            return leakTracker;
+        } else {
+            return (processingContext, leakCheck) -> LeakDetection.CLEANER.register(processingContext, leakCheck);
+        }
+    }
+
+    /**
+     * Returns a {@code ProcessingContext} for the given message. Pooled {@code ProcessingContexts} are returned with a
+     * single reference held by the caller, which has to release it after sending.
+     *
+     * @param eventType     the {@code EventType} of the message
+     * @param payload       the message itself
+     * @param correlationId the {@code CorrelationId} of the message, can be {@code null}
+     * @return a {@code ProcessingContext} for the message
+     */
+    public ProcessingContext<Object> acquire(final EventType eventType,
+                                             final Object payload,
+                                             final CorrelationId correlationId) {
+        if (!isPooling()) {
+            return processingContext(eventType, payload, correlationId);
+        }
+        ProcessingContext<Object> processingContext = processingContexts.poll();
+        if (processingContext == null) {
+            processingContext = newPooledProcessingContext();
+        }
+        processingContext.reinitialize(eventType, newUniqueMessageId(), correlationId, payload);
+        return processingContext;
+    }
+
+    /**
+     * Returns, whether {@code ProcessingContexts} are recycled.
+     *
+     * @return {@code true} if pooling is enabled, {@code false} otherwise
+     */
+    public boolean isPooling() {
+        return processingContexts != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> ChannelProcessingFrame<T> acquireProcessingFrame(final Channel<T> channel) {
+        final ChannelProcessingFrame<T> processingFrame = (ChannelProcessingFrame<T>) processingFrames.poll();
+        if (processingFrame == null) {
+            return processingFrame(channel);
+        }
+        processingFrame.reset(channel);
+        return processingFrame;
+    }
+
+    void recycle(final ProcessingContext<Object> processingContext) {
+        ChannelProcessingFrame<Object> processingFrame = processingContext.getInitialProcessingFrame();
+        while (processingFrame != null) {
+            final ChannelProcessingFrame<Object> nextProcessingFrame = processingFrame.getNextFrame();
+            recycleProcessingFrame(processingFrame);
+            processingFrame = nextProcessingFrame;
+        }
+        processingContext.clearForReuse();
+        processingContexts.offer(processingContext);
+    }
+
+    void recycleProcessingFrame(final ChannelProcessingFrame<?> processingFrame) {
+        processingFrame.reset(null);
+        processingFrames.offer(processingFrame);
+    }
+
+    private ProcessingContext<Object> newPooledProcessingContext() {
+        if (leakListener == null) {
+            return ProcessingContext.pooledProcessingContext(this, null);
+        }
+        final AtomicReference<ProcessingContextLeakException> pendingLeak = new AtomicReference<>();
+        final ProcessingContext<Object> processingContext = ProcessingContext.pooledProcessingContext(this, pendingLeak);
+        final Consumer<ProcessingContextLeakException> listener = leakListener;
+        leakTracker.track(processingContext, () -> {
+            final ProcessingContextLeakException leak = pendingLeak.get();
+            if (leak != null) {
+                listener.accept(leak);
+            }
+        });
+        return processingContext;
+    }
+
+    /* The Cleaner thread is only started, when a leak detecting pool is used. */
+    private static final class LeakDetection {
+        private static final Cleaner CLEANER = Cleaner.create();
+    }
+}
@@ -27,12 +27,14 @@ import com.envimate.messageMate.mapping.Deserializer;
 import com.envimate.messageMate.mapping.Serializer;
 import com.envimate.messageMate.messageBus.MessageBus;
 import com.envimate.messageMate.messageFunction.MessageFunction;
+import com.envimate.messageMate.messageFunction.RequestResult;
 import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 import com.envimate.messageMate.useCases.payloadAndErrorPayload.PayloadAndErrorPayload;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -253,6 +255,36 @@ public interface SerializedMessageBus {
             long timeout,
             TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException;
 
+    /**
+     * Sends all data objects without waiting for the responses in between and then waits, until each of them received a
+     * response or an exception.
+     *
+     * @param eventType the {@code EventType} to relate the messages to
+     * @param data      the data objects to send
+     * @return one result per data object in the order of the given data objects
+     * @throws InterruptedException if the waiting {@link Thread} is interrupted
+     */
+    List<RequestResult<PayloadAndErrorPayload<Map<String, Object>, Map<String, Object>>>> invokeAll(
+            EventType eventType,
+            List<Map<String, Object>> data) throws InterruptedException;
+
+    /**
+     * Sends all data objects without waiting for the responses in between and then waits, until each of them received a
+     * response, an exception or its timeout expired. Requests whose timeout expired end with a {@link TimeoutException}.
+     *
+     * @param eventType the {@code EventType} to relate the messages to
+     * @param data      the data objects to send
+     * @param timeout   the timeout interval of each request
+     * @param unit      the unit to measure the interval in
+     * @return one result per data object in the order of the given data objects
+     * @throws InterruptedException if the waiting {@link Thread} is interrupted
+     */
+    List<RequestResult<PayloadAndErrorPayload<Map<String, Object>, Map<String, Object>>>> invokeAll(
+            EventType eventType,
+            List<Map<String, Object>> data,
+            long timeout,
+            TimeUnit unit) throws InterruptedException;
+
     /**
      * Adds the given {@code Subscriber} for all not deserialized messages of the given {@code EventType}.
      *
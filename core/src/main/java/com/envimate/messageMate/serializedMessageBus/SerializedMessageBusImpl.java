@@ -30,6 +30,7 @@ import com.envimate.messageMate.messageBus.MessageBus;
 import com.envimate.messageMate.useCases.payloadAndErrorPayload.PayloadAndErrorPayload;
 import com.envimate.messageMate.messageFunction.MessageFunction;
 import com.envimate.messageMate.messageFunction.MessageFunctionBuilder;
+import com.envimate.messageMate.messageFunction.RequestResult;
 import com.envimate.messageMate.messageFunction.ResponseFuture;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.subscribing.AcceptingBehavior;
@@ -37,13 +38,16 @@ import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static com.envimate.messageMate.useCases.payloadAndErrorPayload.PayloadAndErrorPayload.payloadAndErrorPayload;
 import static com.envimate.messageMate.processingContext.ProcessingContext.processingContextForPayloadAndError;
+import static java.util.stream.Collectors.toList;
 import static lombok.AccessLevel.PRIVATE;
 
 public class SerializedMessageBusImpl implements SerializedMessageBus {
@@ -192,6 +196,44 @@ public class SerializedMessageBusImpl implements SerializedMessageBus {
         return payloadAndErrorPayload;
     }
 
+    @Override
+    public List<RequestResult<PayloadAndErrorPayload<Map<String, Object>, Map<String, Object>>>> invokeAll(
+            final EventType eventType,
+            final List<Map<String, Object>> data) throws InterruptedException {
+        final CompletableFuture<List<RequestResult<ProcessingContext<Object>>>> future =
+                messageFunction.requestAll(eventType, data);
+        return waitForAll(future);
+    }
+
+    @Override
+    public List<RequestResult<PayloadAndErrorPayload<Map<String, Object>, Map<String, Object>>>> invokeAll(
+            final EventType eventType,
+            final List<Map<String, Object>> data,
+            final long timeout,
+            final TimeUnit unit) throws InterruptedException {
+        final CompletableFuture<List<RequestResult<ProcessingContext<Object>>>> future =
+                messageFunction.requestAll(eventType, data, timeout, unit);
+        return waitForAll(future);
+    }
+
+    private List<RequestResult<PayloadAndErrorPayload<Map<String, Object>, Map<String, Object>>>> waitForAll(
+            final CompletableFuture<List<RequestResult<ProcessingContext<Object>>>> future) throws InterruptedException {
+        try {
+            final List<RequestResult<ProcessingContext<Object>>> results = future.get();
+            return results.stream()
+                    .map(result -> result.map(processingContext -> {
+                        final Map<String, Object> payload = getPayloadAsMap(processingContext);
+                        final Map<String, Object> errorPayload = getErrorPayloadAsMap(processingContext);
+                        return payloadAndErrorPayload(payload, errorPayload);
+                    }))
+                    .collect(toList());
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Combined future of requests must not complete exceptionally", e);
+        } finally {
+            future.cancel(true);
+        }
+    }
+
     private Map<String, Object> serializeWithExecutionExceptionWrapper(final Object data) throws ExecutionException {
         try {
             return serializer.serialize(data);
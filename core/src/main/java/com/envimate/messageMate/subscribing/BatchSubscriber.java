@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.subscribing;
+
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@code Subscriber}, that can accept several messages at once. If the asynchronous delivery of a {@code Pipe} is
+ * configured to deliver messages in batches, all messages of a batch are given to the {@code BatchSubscriber} in a single
+ * call.
+ *
+ * <p>When messages are delivered one by one, each message is given to {@link #acceptBatch(List)} as a batch of
+ * size one.</p>
+ *
+ * @param <T> the type of messages of the {@code BatchSubscriber} can accept
+ * @see <a href="https://github.com/envimate/message-mate#subscriber">Message Mate Documentation</a>
+ */
+public interface BatchSubscriber<T> extends Subscriber<T> {
+
+    /**
+     * Delivers a batch of messages to the {@code BatchSubscriber}. Returning an {@code AcceptingBehavior}, that does not
+     * continue the delivery, preempts the delivery of all messages of the batch.
+     *
+     * @param messages the messages of the batch in the order they were queued
+     * @return {@code AcceptingBehavior} to continue or preempt delivery
+     */
+    AcceptingBehavior acceptBatch(List<T> messages);
+
+    @Override
+    default AcceptingBehavior accept(final T message) {
+        return acceptBatch(singletonList(message));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.subscribing;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Defines, what happens with a new message, when the bounded buffer in front of a slow {@link Flow.Subscriber} is full.
+ *
+ * @see <a href="https://github.com/envimate/message-mate#reactive-streams">Message Mate Documentation</a>
+ */
+public enum OverflowStrategy {
+    /**
+     * The oldest buffered message is dropped to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new message is dropped.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The delivering thread waits, until the {@code Flow.Subscriber} requested more messages. This slows down all other
+     * subscribers served by the same thread and must only be used, when the {@code Flow.Subscriber} does not request
+     * further messages on the delivering thread.
+     */
+    BLOCK,
+
+    /**
+     * The {@code Flow.Subscriber} receives a {@link SubscriberOverflowException} and its subscription is cancelled.
+     */
+    FAIL
+}
@@ -29,6 +29,7 @@ import lombok.ToString;
 
 import java.util.UUID;
 
+import static com.envimate.messageMate.identification.UniqueIdGenerators.newUniqueUuid;
 import static com.envimate.messageMate.internal.enforcing.StringValidator.cleaned;
 
 /**
@@ -57,12 +58,13 @@ public final class SubscriptionId {
     }
 
     /**
-     * Creates a new randomly generated {@code SubscriptionId}.
+     * Creates a new unique {@code SubscriptionId} using the current {@code UniqueIdGenerator}.
      *
-     * @return randomly generated {@code SubscriptionId}
+     * @return unique {@code SubscriptionId}
+     * @see com.envimate.messageMate.identification.UniqueIdGenerators
      */
     public static SubscriptionId newUniqueId() {
-        return new SubscriptionId(UUID.randomUUID());
+        return new SubscriptionId(newUniqueUuid());
     }
 
     public String stringValue() {
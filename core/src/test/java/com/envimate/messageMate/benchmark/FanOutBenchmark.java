@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.benchmark;
+
+import com.envimate.messageMate.configuration.AsynchronousConfiguration;
+import com.envimate.messageMate.messageBus.MessageBus;
+import com.envimate.messageMate.processingContext.EventType;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.constantPoolSizeAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.forkJoinPoolAsynchronousConfiguration;
+import static com.envimate.messageMate.messageBus.MessageBusBuilder.aMessageBus;
+import static com.envimate.messageMate.messageBus.MessageBusType.ASYNCHRONOUS;
+import static com.envimate.messageMate.processingContext.EventType.eventTypeFromString;
+
+/**
+ * Compares the throughput of an asynchronous {@code MessageBus} backed by a {@code ThreadPoolExecutor} with one backed by a
+ * work-stealing {@code ForkJoinPool} for a fan-out workload: every received message is answered with several follow-up
+ * messages until a fixed depth is reached.
+ *
+ * <p>This is not a unit test. Run it manually via its main method, ideally with a warmed-up JVM and nothing else running
+ * on the machine.</p>
+ */
+public final class FanOutBenchmark {
+    private static final EventType FAN_OUT_EVENT_TYPE = eventTypeFromString("fanOut");
+    private static final int FAN_OUT = 4;
+    private static final int DEPTH = 8;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int TIMEOUT_IN_SECONDS = 60;
+
+    private FanOutBenchmark() {
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        run("ThreadPoolExecutor", parallelism, p -> constantPoolSizeAsynchronousConfiguration(p));
+        run("ForkJoinPool", parallelism, p -> forkJoinPoolAsynchronousConfiguration(p));
+    }
+
+    private static void run(final String name,
+                            final int parallelism,
+                            final IntFunction<AsynchronousConfiguration> configurationFactory) throws InterruptedException {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            runRound(configurationFactory.apply(parallelism));
+        }
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            totalNanos += runRound(configurationFactory.apply(parallelism));
+        }
+        final long messagesPerRound = numberOfMessages();
+        final double secondsPerRound = totalNanos / (double) MEASURED_ROUNDS / TimeUnit.SECONDS.toNanos(1);
+        final double messagesPerSecond = messagesPerRound / secondsPerRound;
+        System.out.printf("%-20s %,15.0f messages/s (%d threads, %d messages per round)%n", name, messagesPerSecond,
+                parallelism, messagesPerRound);
+    }
+
+    private static long runRound(final AsynchronousConfiguration configuration) throws InterruptedException {
+        final MessageBus messageBus = aMessageBus()
+                .forType(ASYNCHRONOUS)
+                .withAsynchronousConfiguration(configuration)
+                .build();
+        final CountDownLatch allMessagesReceived = new CountDownLatch((int) numberOfMessages());
+        messageBus.subscribe(FAN_OUT_EVENT_TYPE, message -> {
+            final int remainingDepth = (Integer) message;
+            if (remainingDepth > 0) {
+                for (int i = 0; i < FAN_OUT; i++) {
+                    messageBus.send(FAN_OUT_EVENT_TYPE, remainingDepth - 1);
+                }
+            }
+            allMessagesReceived.countDown();
+        });
+        final long start = System.nanoTime();
+        messageBus.send(FAN_OUT_EVENT_TYPE, DEPTH);
+        if (!allMessagesReceived.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Benchmark round did not finish in time.");
+        }
+        final long duration = System.nanoTime() - start;
+        messageBus.close(false);
+        return duration;
+    }
+
+    private static long numberOfMessages() {
+        long numberOfMessages = 0;
+        long messagesOnLevel = 1;
+        for (int level = 0; level <= DEPTH; level++) {
+            numberOfMessages += messagesOnLevel;
+            messagesOnLevel *= FAN_OUT;
+        }
+        return numberOfMessages;
+    }
+}
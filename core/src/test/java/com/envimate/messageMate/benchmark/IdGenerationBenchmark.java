@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.benchmark;
+
+import com.envimate.messageMate.identification.UniqueIdGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.envimate.messageMate.identification.UniqueIdGenerators.randomIdGenerator;
+import static com.envimate.messageMate.identification.UniqueIdGenerators.timeOrderedIdGenerator;
+
+/**
+ * Compares the throughput of the time ordered {@code UniqueIdGenerator} with the one based on {@code UUID.randomUUID()},
+ * once from a single thread and once from as many threads as there are processors.
+ *
+ * <p>This is not a unit test. Run it manually via its main method, ideally with a warmed-up JVM and nothing else running
+ * on the machine.</p>
+ */
+public final class IdGenerationBenchmark {
+    private static final int IDS_PER_THREAD_AND_ROUND = 1_000_000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private IdGenerationBenchmark() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        for (final int threads : new int[]{1, parallelism}) {
+            run("UUID.randomUUID", threads, () -> randomIdGenerator());
+            run("time ordered", threads, () -> timeOrderedIdGenerator());
+        }
+    }
+
+    private static void run(final String name,
+                            final int threads,
+                            final Supplier<UniqueIdGenerator> idGeneratorFactory) throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                runRound(executorService, threads, idGeneratorFactory.get());
+            }
+            long totalNanos = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                totalNanos += runRound(executorService, threads, idGeneratorFactory.get());
+            }
+            final long idsPerRound = (long) threads * IDS_PER_THREAD_AND_ROUND;
+            final double secondsPerRound = totalNanos / (double) MEASURED_ROUNDS / TimeUnit.SECONDS.toNanos(1);
+            final double idsPerSecond = idsPerRound / secondsPerRound;
+            System.out.printf("%-20s %,15.0f ids/s (%d threads)%n", name, idsPerSecond, threads);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static long runRound(final ExecutorService executorService,
+                                 final int threads,
+                                 final UniqueIdGenerator idGenerator) throws Exception {
+        @SuppressWarnings("unchecked")
+        final Future<Long>[] futures = new Future[threads];
+        final long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            futures[i] = executorService.submit(() -> generateIds(idGenerator));
+        }
+        long checksum = 0;
+        for (final Future<Long> future : futures) {
+            checksum ^= future.get();
+        }
+        final long duration = System.nanoTime() - start;
+        if (checksum == 1) {
+            System.out.println("Unlikely checksum, printed to keep the generated ids alive.");
+        }
+        return duration;
+    }
+
+    private static long generateIds(final UniqueIdGenerator idGenerator) {
+        long checksum = 0;
+        for (int i = 0; i < IDS_PER_THREAD_AND_ROUND; i++) {
+            final UUID uuid = idGenerator.newUniqueId();
+            checksum ^= uuid.getLeastSignificantBits();
+        }
+        return checksum;
+    }
+}
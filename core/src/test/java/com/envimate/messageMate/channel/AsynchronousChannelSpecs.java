@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static com.envimate.messageMate.channel.config.ChannelTestConfig.ASYNCHRONOUS_CHANNEL_CONFIG_POOL_SIZE;
+import static com.envimate.messageMate.channel.config.ChannelTestConfig.asynchronousBoundedChannelTestConfig;
 import static com.envimate.messageMate.channel.givenWhenThen.ChannelActionBuilder.*;
 import static com.envimate.messageMate.channel.givenWhenThen.ChannelSetupBuilder.aConfiguredChannel;
 import static com.envimate.messageMate.channel.givenWhenThen.ChannelValidationBuilder.*;
@@ -47,6 +48,52 @@ public class AsynchronousChannelSpecs implements ChannelSpecs {
                 .then(expectTheResult(expectedQueuedMessage));
     }
 
+    //capacity
+    @Test
+    public void testChannel_trySendReturnsFalseWhenTheCapacityIsExhausted() {
+        given(aConfiguredChannel(asynchronousBoundedChannelTestConfig())
+                .withSubscriptionAsAction())
+                .when(theChannelIsFilledUpToItsCapacityWithBlockedMessages()
+                        .andThen(aMessageIsSendWithoutWaitingForCapacity()))
+                .then(expectTheResult(false));
+    }
+
+    @Test
+    public void testChannel_sendRevertsTheProcessingFrameHistoryWhenTheCapacityIsExhausted() {
+        given(aConfiguredChannel(asynchronousBoundedChannelTestConfig())
+                .withSubscriptionAsAction())
+                .when(theChannelIsFilledUpToItsCapacityWithBlockedMessages()
+                        .andThen(aRejectedMessageIsSendAndItsProcessingFrameHistoryIsQueried()))
+                .then(expectTheResult(true));
+    }
+
+    @Test
+    public void testChannel_timedSendReturnsTrueOnceCapacityIsFreed() {
+        given(aConfiguredChannel(asynchronousBoundedChannelTestConfig())
+                .withSubscriptionAsAction())
+                .when(theChannelIsFilledUpToItsCapacityWithBlockedMessages()
+                        .andThen(aMessageIsSendWaitingForCapacityWhileTheBlockingSubscriberIsReleased(1000)))
+                .then(expectTheResult(true));
+    }
+
+    @Test
+    public void testChannel_sendAwaitingCapacityReturnsOnceCapacityIsFreed() {
+        given(aConfiguredChannel(asynchronousBoundedChannelTestConfig())
+                .withSubscriptionAsAction())
+                .when(theChannelIsFilledUpToItsCapacityWithBlockedMessages()
+                        .andThen(aMessageIsSendAwaitingCapacityWhileTheBlockingSubscriberIsReleased()))
+                .then(expectTheResult(true));
+    }
+
+    @Test
+    public void testChannel_sendAwaitingCapacityCountsEachMessageAsAcceptedOnce() {
+        given(aConfiguredChannel(asynchronousBoundedChannelTestConfig())
+                .withSubscriptionAsAction())
+                .when(severalMessagesAreSendAsynchronouslyAwaitingCapacity(10, 20)
+                        .andThen(theNumberOfAcceptedMessagesIsQueried()))
+                .then(expectTheResult(200));
+    }
+
     //shutdown
     @Test
     public void testChannel_closeWithoutFinishingRemainingTasks(final ChannelTestConfig config) {
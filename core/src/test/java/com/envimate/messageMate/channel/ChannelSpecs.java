@@ -61,6 +61,13 @@ public interface ChannelSpecs {
                 .then(expectAllChannelsToBeContainedInTheHistory());
     }
 
+    @Test
+    default void testChannel_keepsOnlyTheLastFramesWithABoundedHistory(final ChannelTestConfig channelTestConfig) {
+        given(threeChannelsConnectedWithJumpsKeepingTheLastFrames(channelTestConfig, 2))
+                .when(aMessageIsSend())
+                .then(expectOnlyTheLastChannelsToBeContainedInTheHistory(2));
+    }
+
     //actions: call and return
     @Test
     default void testChannel_canReturnFromACall(final ChannelTestConfig channelTestConfig) {
@@ -76,6 +83,13 @@ public interface ChannelSpecs {
                 .then(expectTheMessageToHaveReturnedFromAllCalls());
     }
 
+    @Test
+    default void testChannel_canReturnFromNestedCallsKeepingOnlyCallAndReturnFrames(final ChannelTestConfig channelTestConfig) {
+        given(aChannelSetupWithNestedCallsKeepingOnlyCallAndReturnFrames(channelTestConfig))
+                .when(aMessageIsSend())
+                .then(expectTheMessageToHaveReturnedFromAllCallsKeepingOnlyTheCallAndReturnFrames());
+    }
+
     @Test
     default void testChannel_failsForReturnWithoutACall(final ChannelTestConfig channelTestConfig) {
         given(aConfiguredChannel(channelTestConfig)
@@ -374,6 +388,31 @@ public interface ChannelSpecs {
                 .then(expectTheMetaDataChangePersist());
     }
 
+    @Test
+    default void testChannel_filterCanModifyTypedMetaData(final ChannelTestConfig channelTestConfig) {
+        given(aConfiguredChannel(channelTestConfig)
+                .withDefaultActionConsume())
+                .when(whenTheTypedMetaDataIsModified())
+                .then(expectTheTypedMetaDataChangePersist());
+    }
+
+    @Test
+    default void testChannel_laterFilterCanRemoveTypedMetaData(final ChannelTestConfig channelTestConfig) {
+        given(aConfiguredChannel(channelTestConfig)
+                .withDefaultActionConsume())
+                .when(whenTheTypedMetaDataIsSetAndRemovedByALaterFilter())
+                .then(expectTheTypedMetaDataToBeRemoved());
+    }
+
+    //filter executing code after pass
+    @Test
+    default void testChannel_executesCodeAfterPassBeforeTheLaterFilterAndTheAction(final ChannelTestConfig channelTestConfig) {
+        given(aConfiguredChannel(channelTestConfig)
+                .withDefaultActionConsumeRecordingItsExecution())
+                .when(aMessageIsSendThroughAFilterExecutingCodeAfterPass())
+                .then(expectTheCodeAfterPassToBeExecutedBeforeTheLaterFilterAndTheAction());
+    }
+
     //statistics
     @Test
     default void testChannel_canQueryAcceptedMessages(final ChannelTestConfig channelTestConfig) {
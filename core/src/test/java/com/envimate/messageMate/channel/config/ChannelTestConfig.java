@@ -34,6 +34,7 @@ import static lombok.AccessLevel.PRIVATE;
 @RequiredArgsConstructor(access = PRIVATE)
 public final class ChannelTestConfig {
     public static final int ASYNCHRONOUS_CHANNEL_CONFIG_POOL_SIZE = 5;
+    public static final int ASYNCHRONOUS_CHANNEL_CONFIG_QUEUE_BOUND = 3;
     @Getter
     private final ChannelType type;
     @Getter
@@ -49,6 +50,13 @@ public final class ChannelTestConfig {
         return new ChannelTestConfig(ASYNCHRONOUS, asynchronousConfiguration);
     }
 
+    public static ChannelTestConfig asynchronousBoundedChannelTestConfig() {
+        final int poolSize = ASYNCHRONOUS_CHANNEL_CONFIG_POOL_SIZE;
+        final int queueBound = ASYNCHRONOUS_CHANNEL_CONFIG_QUEUE_BOUND;
+        final AsynchronousConfiguration asynchronousConfiguration = constantPoolSizeAsynchronousConfiguration(poolSize, queueBound);
+        return new ChannelTestConfig(ASYNCHRONOUS, asynchronousConfiguration);
+    }
+
     public boolean isAsynchronous() {
         return type == ASYNCHRONOUS;
     }
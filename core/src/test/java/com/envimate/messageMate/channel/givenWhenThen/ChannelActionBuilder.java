@@ -24,10 +24,12 @@ package com.envimate.messageMate.channel.givenWhenThen;
 import com.envimate.messageMate.channel.Channel;
 import com.envimate.messageMate.channel.statistics.ChannelStatistics;
 import com.envimate.messageMate.filtering.Filter;
+import com.envimate.messageMate.internal.pipe.transport.PipeWaitingQueueIsFullException;
 import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.givenWhenThen.TestAction;
+import com.envimate.messageMate.shared.pipeChannelMessageBus.testActions.SendingActions;
 import com.envimate.messageMate.shared.subscriber.TestSubscriber;
 import com.envimate.messageMate.shared.testMessages.TestMessage;
 import com.envimate.messageMate.shared.testMessages.TestMessageOfInterest;
@@ -35,17 +37,21 @@ import com.envimate.messageMate.shared.utils.SubscriptionTestUtils;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
 import static com.envimate.messageMate.channel.config.ChannelTestConfig.ASYNCHRONOUS_CHANNEL_CONFIG_POOL_SIZE;
+import static com.envimate.messageMate.channel.config.ChannelTestConfig.ASYNCHRONOUS_CHANNEL_CONFIG_QUEUE_BOUND;
 import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestActions.*;
 import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestProperties.CALL_TARGET_CHANNEL;
 import static com.envimate.messageMate.channel.givenWhenThen.FilterPosition.*;
+import static com.envimate.messageMate.processingContext.ProcessingContext.processingContext;
 import static com.envimate.messageMate.processingContext.ProcessingContext.processingContextForPayloadAndError;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.*;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.EXPECTED_RECEIVERS;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.*;
 import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntilEquals;
 import static com.envimate.messageMate.shared.testMessages.TestMessageOfInterest.messageOfInterest;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static com.envimate.messageMate.shared.utils.FilterTestUtils.*;
 import static com.envimate.messageMate.shared.utils.SendingTestUtils.*;
 import static com.envimate.messageMate.shared.utils.ShutdownTestUtils.*;
@@ -126,6 +132,84 @@ public final class ChannelActionBuilder {
         });
     }
 
+    public static ChannelActionBuilder theChannelIsFilledUpToItsCapacityWithBlockedMessages() {
+        return anAction((channel, testEnvironment) -> {
+            final ChannelTestActions sutActions = channelTestActions(channel);
+            final int poolSize = ASYNCHRONOUS_CHANNEL_CONFIG_POOL_SIZE;
+            final int completeCapacity = poolSize + ASYNCHRONOUS_CHANNEL_CONFIG_QUEUE_BOUND;
+            final Semaphore semaphore = addABlockingSubscriberAndThenSendXMessagesInEachThread(sutActions, completeCapacity,
+                    poolSize, testEnvironment);
+            testEnvironment.setProperty(EXECUTION_END_SEMAPHORE, semaphore);
+            pollUntilEquals(() -> queryChannelStatistics(channel, ChannelStatistics::getQueuedMessages),
+                    ASYNCHRONOUS_CHANNEL_CONFIG_QUEUE_BOUND);
+            return null;
+        });
+    }
+
+    public static ChannelActionBuilder aMessageIsSendWithoutWaitingForCapacity() {
+        return anAction((channel, testEnvironment) -> {
+            final boolean accepted = channel.trySend(messageOfInterest());
+            testEnvironment.setProperty(RESULT, accepted);
+            return null;
+        });
+    }
+
+    public static ChannelActionBuilder aRejectedMessageIsSendAndItsProcessingFrameHistoryIsQueried() {
+        return anAction((channel, testEnvironment) -> {
+            final ProcessingContext<TestMessage> processingContext = processingContext(DEFAULT_EVENT_TYPE, messageOfInterest());
+            try {
+                channel.send(processingContext);
+            } catch (final PipeWaitingQueueIsFullException e) {
+                final boolean historyIsEmpty = processingContext.getInitialProcessingFrame() == null
+                        && processingContext.getCurrentProcessingFrame() == null;
+                testEnvironment.setProperty(RESULT, historyIsEmpty);
+            }
+            return null;
+        });
+    }
+
+    public static ChannelActionBuilder aMessageIsSendWaitingForCapacityWhileTheBlockingSubscriberIsReleased(
+            final int timeoutInMilliseconds) {
+        return anAction((channel, testEnvironment) -> {
+            releaseTheBlockingSubscriberAfterMilliseconds(testEnvironment, 20);
+            try {
+                final boolean accepted = channel.send(messageOfInterest(), timeoutInMilliseconds, MILLISECONDS);
+                testEnvironment.setProperty(RESULT, accepted);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+
+    public static ChannelActionBuilder aMessageIsSendAwaitingCapacityWhileTheBlockingSubscriberIsReleased() {
+        return anAction((channel, testEnvironment) -> {
+            releaseTheBlockingSubscriberAfterMilliseconds(testEnvironment, 20);
+            try {
+                channel.sendAwaitingCapacity(messageOfInterest());
+                testEnvironment.setProperty(RESULT, true);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+
+    public static ChannelActionBuilder severalMessagesAreSendAsynchronouslyAwaitingCapacity(final int numberOfSender,
+                                                                                           final int numberOfMessagesPerSender) {
+        return anAction((channel, testEnvironment) -> {
+            final SendingActions sendingActions = (eventType, message) -> {
+                try {
+                    return channel.sendAwaitingCapacity(message);
+                } catch (final InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            };
+            sendValidMessagesAsynchronouslyNew(sendingActions, testEnvironment, numberOfSender, numberOfMessagesPerSender, true);
+            return null;
+        });
+    }
+
     public static ChannelActionBuilder severalMessagesAreSendAsynchronouslyBeforeTheChannelIsClosedWithoutFinishingRemainingTasks(
             final int numberOfMessages) {
         return anAction((channel, testEnvironment) -> {
@@ -226,6 +310,35 @@ public final class ChannelActionBuilder {
         });
     }
 
+    public static ChannelActionBuilder whenTheTypedMetaDataIsModified() {
+        return anAction((channel, testEnvironment) -> {
+            final String changedMetaDatum = "changed";
+            addAFilterChangingTypedMetaData(channel, changedMetaDatum);
+            testEnvironment.setPropertyIfNotSet(EXPECTED_RESULT, changedMetaDatum);
+            sendMessage(channel, testEnvironment, messageOfInterest());
+            return null;
+        });
+    }
+
+    public static ChannelActionBuilder whenTheTypedMetaDataIsSetAndRemovedByALaterFilter() {
+        return anAction((channel, testEnvironment) -> {
+            addAFilterChangingTypedMetaData(channel, "changed");
+            addAFilterRemovingTypedMetaData(channel);
+            sendMessage(channel, testEnvironment, messageOfInterest());
+            return null;
+        });
+    }
+
+    public static ChannelActionBuilder aMessageIsSendThroughAFilterExecutingCodeAfterPass() {
+        return anAction((channel, testEnvironment) -> {
+            addAFilterExecutingCodeAfterPass(channel, testEnvironment);
+            addAFilterRecordingItsExecution(channel, testEnvironment);
+            final ProcessingContext<TestMessage> processingContext = sendMessage(channel, testEnvironment, messageOfInterest());
+            testEnvironment.setPropertyIfNotSet(EXPECTED_RESULT, processingContext);
+            return null;
+        });
+    }
+
     public static ChannelActionBuilder theNumberOfAcceptedMessagesIsQueried() {
         return anAction((channel, testEnvironment) -> {
             final Object expectedResult = testEnvironment.getProperty(NUMBER_OF_MESSAGES_SHOULD_BE_SEND);
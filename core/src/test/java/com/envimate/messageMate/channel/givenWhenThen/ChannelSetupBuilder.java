@@ -24,6 +24,7 @@ package com.envimate.messageMate.channel.givenWhenThen;
 import com.envimate.messageMate.channel.Channel;
 import com.envimate.messageMate.channel.ChannelBuilder;
 import com.envimate.messageMate.channel.ChannelType;
+import com.envimate.messageMate.channel.ProcessingFrameHistoryPolicy;
 import com.envimate.messageMate.channel.action.Action;
 import com.envimate.messageMate.channel.action.Consume;
 import com.envimate.messageMate.channel.action.Jump;
@@ -42,6 +43,9 @@ import java.util.List;
 
 import static com.envimate.messageMate.channel.ChannelBuilder.aChannel;
 import static com.envimate.messageMate.channel.ChannelBuilder.aChannelWithDefaultAction;
+import static com.envimate.messageMate.channel.ProcessingFrameHistoryPolicy.callAndReturnProcessingFramesOnly;
+import static com.envimate.messageMate.channel.ProcessingFrameHistoryPolicy.fullProcessingFrameHistory;
+import static com.envimate.messageMate.channel.ProcessingFrameHistoryPolicy.lastProcessingFrames;
 import static com.envimate.messageMate.channel.action.Call.prepareACall;
 import static com.envimate.messageMate.channel.action.Consume.consumeMessage;
 import static com.envimate.messageMate.channel.action.Jump.jumpTo;
@@ -88,15 +92,27 @@ public final class ChannelSetupBuilder {
     }
 
     public static ChannelSetupBuilder threeChannelsConnectedWithJumps(final ChannelTestConfig channelTestConfig) {
+        return threeChannelsConnectedWithJumps(channelTestConfig, fullProcessingFrameHistory());
+    }
+
+    public static ChannelSetupBuilder threeChannelsConnectedWithJumpsKeepingTheLastFrames(
+            final ChannelTestConfig channelTestConfig,
+            final int numberOfFrames) {
+        return threeChannelsConnectedWithJumps(channelTestConfig, lastProcessingFrames(numberOfFrames));
+    }
+
+    private static ChannelSetupBuilder threeChannelsConnectedWithJumps(final ChannelTestConfig channelTestConfig,
+                                                                       final ProcessingFrameHistoryPolicy policy) {
         final TestEnvironment testEnvironment = emptyTestEnvironment();
-        final Channel<TestMessage> thirdChannel = aChannelWithDefaultAction(consumeAsFinalResult(testEnvironment));
+        final Channel<TestMessage> thirdChannel = aChannelWithHistoryPolicy(consumeAsFinalResult(testEnvironment), policy);
         final Jump<TestMessage> actionSecondChannel = jumpTo(thirdChannel);
-        final Channel<TestMessage> secondChannel = aChannelWithDefaultAction(actionSecondChannel);
+        final Channel<TestMessage> secondChannel = aChannelWithHistoryPolicy(actionSecondChannel, policy);
         final Jump<TestMessage> actionFirstChannel = jumpTo(secondChannel);
         final Channel<TestMessage> firstChannel = aChannel(TestMessage.class)
                 .withDefaultAction(actionFirstChannel)
                 .forType(channelTestConfig.getType())
                 .withAsynchronousConfiguration(channelTestConfig.getAsynchronousConfiguration())
+                .withProcessingFrameHistoryPolicy(policy)
                 .build();
 
         testEnvironment.addToListProperty(ALL_CHANNELS, firstChannel);
@@ -123,18 +139,30 @@ public final class ChannelSetupBuilder {
     }
 
     public static ChannelSetupBuilder aChannelSetupWithNestedCalls(final ChannelTestConfig channelTestConfig) {
+        return aChannelSetupWithNestedCalls(channelTestConfig, fullProcessingFrameHistory());
+    }
+
+    public static ChannelSetupBuilder aChannelSetupWithNestedCallsKeepingOnlyCallAndReturnFrames(
+            final ChannelTestConfig channelTestConfig) {
+        return aChannelSetupWithNestedCalls(channelTestConfig, callAndReturnProcessingFramesOnly());
+    }
+
+    private static ChannelSetupBuilder aChannelSetupWithNestedCalls(final ChannelTestConfig channelTestConfig,
+                                                                    final ProcessingFrameHistoryPolicy policy) {
         final TestEnvironment testEnvironment = emptyTestEnvironment();
         final Channel<TestMessage> initialChannel = aChannel(TestMessage.class)
                 .withDefaultAction(consumeAsFinalResult(testEnvironment))
                 .forType(channelTestConfig.getType())
                 .withAsynchronousConfiguration(channelTestConfig.getAsynchronousConfiguration())
+                .withProcessingFrameHistoryPolicy(policy)
                 .build();
-        final Channel<TestMessage> firstCallTargetChannel = aChannelWithDefaultAction(aReturn());
+        final Channel<TestMessage> firstCallTargetChannel = aChannelWithHistoryPolicy(aReturn(), policy);
         addFilterExecutingACall(initialChannel, firstCallTargetChannel);
         testEnvironment.addToListProperty(CALL_TARGET_CHANNEL, firstCallTargetChannel);
 
-        final Channel<TestMessage> returnChannelAfterSecondCall = aChannelWithDefaultAction(aReturn());
-        final Channel<TestMessage> secondCallTargetChannel = aChannelWithDefaultAction(jumpTo(returnChannelAfterSecondCall));
+        final Channel<TestMessage> returnChannelAfterSecondCall = aChannelWithHistoryPolicy(aReturn(), policy);
+        final Channel<TestMessage> secondCallTargetChannel = aChannelWithHistoryPolicy(jumpTo(returnChannelAfterSecondCall),
+                policy);
         testEnvironment.addToListProperty(CALL_TARGET_CHANNEL, secondCallTargetChannel);
         testEnvironment.setProperty(RETURNING_CHANNEL, returnChannelAfterSecondCall);
 
@@ -142,6 +170,14 @@ public final class ChannelSetupBuilder {
         return new ChannelSetupBuilder(testEnvironment, initialChannel);
     }
 
+    private static Channel<TestMessage> aChannelWithHistoryPolicy(final Action<TestMessage> defaultAction,
+                                                                  final ProcessingFrameHistoryPolicy policy) {
+        return aChannel(TestMessage.class)
+                .withDefaultAction(defaultAction)
+                .withProcessingFrameHistoryPolicy(policy)
+                .build();
+    }
+
     private static Consume<TestMessage> consumeAsFinalResult(final TestEnvironment testEnvironment) {
         return consumeMessage(processingContext -> testEnvironment.setProperty(RESULT, processingContext));
     }
@@ -151,6 +187,14 @@ public final class ChannelSetupBuilder {
         return this;
     }
 
+    public ChannelSetupBuilder withDefaultActionConsumeRecordingItsExecution() {
+        channelBuilder.withDefaultAction(consumeMessage(processingContext -> {
+            testEnvironment.addToListProperty(EXECUTION_ORDER, DEFAULT_ACTION);
+            testEnvironment.setProperty(RESULT, processingContext);
+        }));
+        return this;
+    }
+
     public ChannelSetupBuilder withNoopConsumeAsDefaultAction() {
         channelBuilder.withDefaultAction(Consume.consumePayload(testMessage -> {
             //doNothing
@@ -48,7 +48,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static com.envimate.messageMate.channel.action.Call.callTo;
+import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestProperties.CODE_AFTER_PASS;
+import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestProperties.EXECUTION_ORDER;
+import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestProperties.LATER_FILTER;
 import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestProperties.MODIFIED_META_DATUM;
+import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestProperties.MODIFIED_TYPED_META_DATUM;
+import static com.envimate.messageMate.channel.givenWhenThen.FilterPosition.POST;
+import static com.envimate.messageMate.channel.givenWhenThen.FilterPosition.PRE;
 import static com.envimate.messageMate.channel.givenWhenThen.FilterPosition.PROCESS;
 import static com.envimate.messageMate.processingContext.ProcessingContext.processingContext;
 import static com.envimate.messageMate.shared.testMessages.TestMessageOfInterest.messageOfInterest;
@@ -107,6 +113,44 @@ public final class ChannelTestActions implements SendingAndReceivingActions, Pro
         testActions.addFilter(filter, PROCESS);
     }
 
+    static void addAFilterChangingTypedMetaData(final Channel<TestMessage> channel, final String metaDatum) {
+        final Filter<ProcessingContext<TestMessage>> filter = (processingContext, filterActions) -> {
+            processingContext.setMetaData(MODIFIED_TYPED_META_DATUM, metaDatum);
+            filterActions.pass(processingContext);
+        };
+        final ChannelTestActions testActions = ChannelTestActions.channelTestActions(channel);
+        testActions.addFilter(filter, PROCESS);
+    }
+
+    static void addAFilterRemovingTypedMetaData(final Channel<TestMessage> channel) {
+        final Filter<ProcessingContext<TestMessage>> filter = (processingContext, filterActions) -> {
+            processingContext.setMetaData(MODIFIED_TYPED_META_DATUM, null);
+            filterActions.pass(processingContext);
+        };
+        final ChannelTestActions testActions = ChannelTestActions.channelTestActions(channel);
+        testActions.addFilter(filter, PROCESS);
+    }
+
+    static void addAFilterExecutingCodeAfterPass(final Channel<TestMessage> channel,
+                                                 final TestEnvironment testEnvironment) {
+        final Filter<ProcessingContext<TestMessage>> filter = (processingContext, filterActions) -> {
+            filterActions.pass(processingContext);
+            testEnvironment.addToListProperty(EXECUTION_ORDER, CODE_AFTER_PASS);
+        };
+        final ChannelTestActions testActions = ChannelTestActions.channelTestActions(channel);
+        testActions.addFilter(filter, PRE);
+    }
+
+    static void addAFilterRecordingItsExecution(final Channel<TestMessage> channel,
+                                                final TestEnvironment testEnvironment) {
+        final Filter<ProcessingContext<TestMessage>> filter = (processingContext, filterActions) -> {
+            testEnvironment.addToListProperty(EXECUTION_ORDER, LATER_FILTER);
+            filterActions.pass(processingContext);
+        };
+        final ChannelTestActions testActions = ChannelTestActions.channelTestActions(channel);
+        testActions.addFilter(filter, POST);
+    }
+
     static long queryChannelStatistics(final Channel<TestMessage> channel,
                                        final Function<ChannelStatistics, BigInteger> extraction) {
         final ChannelStatusInformation statusInformation = channel.getStatusInformation();
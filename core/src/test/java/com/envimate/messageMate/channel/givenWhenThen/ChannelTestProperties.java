@@ -21,8 +21,10 @@
 
 package com.envimate.messageMate.channel.givenWhenThen;
 
+import com.envimate.messageMate.processingContext.MetaDataKey;
 import lombok.RequiredArgsConstructor;
 
+import static com.envimate.messageMate.processingContext.MetaDataKey.metaDataKey;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
@@ -31,4 +33,9 @@ final class ChannelTestProperties {
     static final String CALL_TARGET_CHANNEL = "CALL_TARGET_CHANNEL";
     static final String RETURNING_CHANNEL = "RETURNING_CHANNEL";
     static final String MODIFIED_META_DATUM = "MODIFIED_META_DATUM";
+    static final String EXECUTION_ORDER = "EXECUTION_ORDER";
+    static final String CODE_AFTER_PASS = "CODE_AFTER_PASS";
+    static final String LATER_FILTER = "LATER_FILTER";
+    static final String DEFAULT_ACTION = "DEFAULT_ACTION";
+    static final MetaDataKey<String> MODIFIED_TYPED_META_DATUM = metaDataKey("MODIFIED_TYPED_META_DATUM", String.class);
 }
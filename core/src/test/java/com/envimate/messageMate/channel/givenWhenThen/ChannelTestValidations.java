@@ -35,7 +35,9 @@ import java.util.List;
 import java.util.Map;
 
 import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestActions.channelTestActions;
+import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestProperties.EXECUTION_ORDER;
 import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestProperties.MODIFIED_META_DATUM;
+import static com.envimate.messageMate.channel.givenWhenThen.ChannelTestProperties.MODIFIED_TYPED_META_DATUM;
 import static com.envimate.messageMate.channel.givenWhenThen.ProcessingFrameHistoryMatcher.aProcessingFrameHistory;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.*;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.ERROR_SUBSCRIBER;
@@ -45,7 +47,9 @@ import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntilList
 import static com.envimate.messageMate.shared.validations.SharedTestValidations.assertListOfSize;
 import static lombok.AccessLevel.PRIVATE;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 
 @RequiredArgsConstructor(access = PRIVATE)
 final class ChannelTestValidations {
@@ -85,6 +89,24 @@ final class ChannelTestValidations {
         assertThat(actualMetaDatum, equalTo(expectedMetaDatum));
     }
 
+    static void assertTypedMetaDatumOfResultSetAsExpected(final TestEnvironment testEnvironment) {
+        final String expectedMetaDatum = testEnvironment.getPropertyAsType(EXPECTED_RESULT, String.class);
+        final ProcessingContext<TestMessage> result = getTestPropertyAsProcessingContext(testEnvironment, RESULT);
+        final String actualMetaDatum = result.getMetaData(MODIFIED_TYPED_META_DATUM);
+        assertThat(actualMetaDatum, equalTo(expectedMetaDatum));
+    }
+
+    static void assertTypedMetaDatumOfResultRemoved(final TestEnvironment testEnvironment) {
+        final ProcessingContext<TestMessage> result = getTestPropertyAsProcessingContext(testEnvironment, RESULT);
+        final String actualMetaDatum = result.getMetaData(MODIFIED_TYPED_META_DATUM);
+        assertThat(actualMetaDatum, nullValue());
+    }
+
+    static void assertExecutionOrder(final TestEnvironment testEnvironment, final String... expectedExecutionOrder) {
+        final List<String> executionOrder = testEnvironment.getPropertyAsListOfType(EXECUTION_ORDER, String.class);
+        assertThat(executionOrder, contains(expectedExecutionOrder));
+    }
+
     static void assertOnlyFirstSubscriberReceivedMessage(final TestEnvironment testEnvironment) {
         final TestSubscriber<?> subscriber = testEnvironment.getPropertyAsType(EXPECTED_RECEIVERS, TestSubscriber.class);
         pollUntilListHasSize(subscriber::getReceivedMessages, 1);
@@ -80,6 +80,16 @@ public final class ChannelValidationBuilder {
         });
     }
 
+    public static ChannelValidationBuilder expectOnlyTheLastChannelsToBeContainedInTheHistory(final int numberOfChannels) {
+        return aValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final List<Channel<TestMessage>> allChannels = getTestPropertyAsListOfChannel(testEnvironment, ALL_CHANNELS);
+            final List<Channel<TestMessage>> expectedTraversedChannels = allChannels.subList(
+                    allChannels.size() - numberOfChannels, allChannels.size());
+            assertResultTraversedAllChannelBasedOnTheirDefaultActions(testEnvironment, expectedTraversedChannels);
+        });
+    }
+
     public static ChannelValidationBuilder expectTheMessageToHaveReturnedSuccessfully() {
         return aValidation(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
@@ -113,6 +123,23 @@ public final class ChannelValidationBuilder {
         });
     }
 
+    public static ChannelValidationBuilder expectTheMessageToHaveReturnedFromAllCallsKeepingOnlyTheCallAndReturnFrames() {
+        return aValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final Channel<TestMessage> initialChannel = getTestPropertyAsChannel(testEnvironment, SUT);
+            final List<Channel<TestMessage>> callTargetLists = getTestPropertyAsListOfChannel(testEnvironment,
+                    CALL_TARGET_CHANNEL);
+            final Channel<TestMessage> firstCallTargetChannel = callTargetLists.get(0);
+            final Channel<TestMessage> returningTargetChannel = getTestPropertyAsChannel(testEnvironment, RETURNING_CHANNEL);
+            assertMessageFollowedChannelWithActions(testEnvironment, aProcessingFrameHistory()
+                    .withAFrameFor(initialChannel, Call.class)
+                    .withAFrameFor(firstCallTargetChannel, Call.class)
+                    .withAFrameFor(returningTargetChannel, Return.class)
+                    .withAFrameFor(firstCallTargetChannel, Return.class)
+                    .withAFrameFor(initialChannel, Consume.class));
+        });
+    }
+
     public static ChannelValidationBuilder expectNoMessageToBeDelivered() {
         return aValidation(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
@@ -171,6 +198,28 @@ public final class ChannelValidationBuilder {
         });
     }
 
+    public static ChannelValidationBuilder expectTheCodeAfterPassToBeExecutedBeforeTheLaterFilterAndTheAction() {
+        return aValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertResultAndExpectedResultAreEqual(testEnvironment);
+            assertExecutionOrder(testEnvironment, CODE_AFTER_PASS, LATER_FILTER, DEFAULT_ACTION);
+        });
+    }
+
+    public static ChannelValidationBuilder expectTheTypedMetaDataChangePersist() {
+        return aValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertTypedMetaDatumOfResultSetAsExpected(testEnvironment);
+        });
+    }
+
+    public static ChannelValidationBuilder expectTheTypedMetaDataToBeRemoved() {
+        return aValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertTypedMetaDatumOfResultRemoved(testEnvironment);
+        });
+    }
+
     public static ChannelValidationBuilder expectTheResult(final Object expectedResult) {
         return aValidation(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
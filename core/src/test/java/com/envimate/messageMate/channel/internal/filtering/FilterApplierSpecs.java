@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.envimate.messageMate.channel.internal.filtering;
+
+import org.junit.jupiter.api.Test;
+
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.FilterApplierActionBuilder.*;
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.FilterApplierSetupBuilder.aFilterApplier;
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.FilterApplierSetupBuilder.aFilterApplierOnAJvmMeasuringAllocations;
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.FilterApplierValidationBuilder.*;
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.Given.given;
+
+public class FilterApplierSpecs {
+    private static final int NUMBER_OF_WARM_UP_MESSAGES = 200_000;
+    private static final int NUMBER_OF_MEASURED_MESSAGES = 100_000;
+    private static final long MAXIMAL_ALLOCATED_BYTES = 64 * 1024;
+    private static final int NUMBER_OF_FILTER_IN_DEEP_CHAIN = 100_000;
+
+    //allocation
+    @Test
+    public void testFilterApplier_doesNotAllocatePerMessageInSteadyState() {
+        given(aFilterApplierOnAJvmMeasuringAllocations()
+                .withSeveralPassingFilterInEachStage(5))
+                .when(severalMessagesAreAppliedMeasuringTheAllocatedBytes(NUMBER_OF_WARM_UP_MESSAGES,
+                        NUMBER_OF_MEASURED_MESSAGES))
+                .then(expectXMessagesToPassAllocatingLessThan(NUMBER_OF_WARM_UP_MESSAGES + NUMBER_OF_MEASURED_MESSAGES,
+                        MAXIMAL_ALLOCATED_BYTES));
+    }
+
+    //stack depth
+    @Test
+    public void testFilterApplier_canApplyDeepFilterChainsWithoutGrowingTheStack() {
+        given(aFilterApplier()
+                .withSeveralPassingFilterInEachStage(NUMBER_OF_FILTER_IN_DEEP_CHAIN))
+                .when(aMessageIsApplied())
+                .then(expectXMessagesToPass(1));
+    }
+
+    //compiled filter
+    @Test
+    public void testFilterApplier_skipsTypeGuardedFilterForOtherTypes() {
+        given(aFilterApplier()
+                .withATypeGuardedFilterBlockingStrings())
+                .when(anIntegerAndAStringAreApplied())
+                .then(expectOneMessageToPassAndOneToBeBlocked());
+    }
+
+    @Test
+    public void testFilterApplier_executesCollapsedPassThroughFilterInOrder() {
+        given(aFilterApplier()
+                .withPassThroughFilterAroundARegularFilter())
+                .when(aMessageIsApplied())
+                .then(expectThePassThroughFilterToBeExecutedInOrder());
+    }
+
+    @Test
+    public void testFilterApplier_usesChangedFilterOnlyAfterRecompilation() {
+        given(aFilterApplier()
+                .withATypeGuardedFilterBlockingStringsAddedAfterCompilation())
+                .when(aStringIsAppliedBeforeAndAfterTheRecompilation())
+                .then(expectOneMessageToPassAndOneToBeBlocked());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.envimate.messageMate.channel.internal.filtering.givenWhenThen;
+
+import com.envimate.messageMate.channel.internal.filtering.PostFilterActions;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+final class CountingPostFilterActions implements PostFilterActions<Object> {
+    private final AtomicLong passedMessages = new AtomicLong();
+    private final AtomicLong blockedMessages = new AtomicLong();
+
+    static CountingPostFilterActions countingPostFilterActions() {
+        return new CountingPostFilterActions();
+    }
+
+    @Override
+    public void onAllPassed(final Object message) {
+        passedMessages.incrementAndGet();
+    }
+
+    @Override
+    public void onBlock(final Object message) {
+        blockedMessages.incrementAndGet();
+    }
+
+    @Override
+    public void onForgotten(final Object message) {
+        throw new UnsupportedOperationException();
+    }
+
+    long getPassedMessages() {
+        return passedMessages.get();
+    }
+
+    long getBlockedMessages() {
+        return blockedMessages.get();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.envimate.messageMate.channel.internal.filtering.givenWhenThen;
+
+import com.envimate.messageMate.channel.internal.filtering.FilterApplier;
+import com.envimate.messageMate.shared.environment.TestEnvironment;
+import com.envimate.messageMate.shared.givenWhenThen.TestAction;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.FilterApplierTestProperties.POST_FILTER_ACTIONS;
+import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.RESULT;
+
+public final class FilterApplierActionBuilder {
+    private final List<TestAction<FilterApplier<Object>>> testActions = new ArrayList<>();
+
+    private FilterApplierActionBuilder(final TestAction<FilterApplier<Object>> testAction) {
+        testActions.add(testAction);
+    }
+
+    private static FilterApplierActionBuilder anAction(final TestAction<FilterApplier<Object>> testAction) {
+        return new FilterApplierActionBuilder(testAction);
+    }
+
+    public static FilterApplierActionBuilder aMessageIsApplied() {
+        return anAction((filterApplier, testEnvironment) -> {
+            filterApplier.applyAll(new Object(), postFilterActions(testEnvironment));
+            return null;
+        });
+    }
+
+    public static FilterApplierActionBuilder anIntegerAndAStringAreApplied() {
+        return anAction((filterApplier, testEnvironment) -> {
+            final CountingPostFilterActions postFilterActions = postFilterActions(testEnvironment);
+            filterApplier.applyAll(1, postFilterActions);
+            filterApplier.applyAll("blocked", postFilterActions);
+            return null;
+        });
+    }
+
+    public static FilterApplierActionBuilder aStringIsAppliedBeforeAndAfterTheRecompilation() {
+        return anAction((filterApplier, testEnvironment) -> {
+            final CountingPostFilterActions postFilterActions = postFilterActions(testEnvironment);
+            filterApplier.applyAll("passedBeforeRecompilation", postFilterActions);
+            filterApplier.recompile();
+            filterApplier.applyAll("blockedAfterRecompilation", postFilterActions);
+            return null;
+        });
+    }
+
+    public static FilterApplierActionBuilder severalMessagesAreAppliedMeasuringTheAllocatedBytes(
+            final int numberOfWarmUpMessages,
+            final int numberOfMeasuredMessages) {
+        return anAction((filterApplier, testEnvironment) -> {
+            final CountingPostFilterActions postFilterActions = postFilterActions(testEnvironment);
+            final Object message = new Object();
+            for (int i = 0; i < numberOfWarmUpMessages; i++) {
+                filterApplier.applyAll(message, postFilterActions);
+            }
+            final com.sun.management.ThreadMXBean threadMXBean =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            final long threadId = Thread.currentThread().getId();
+            final long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < numberOfMeasuredMessages; i++) {
+                filterApplier.applyAll(message, postFilterActions);
+            }
+            final long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+            testEnvironment.setProperty(RESULT, allocatedBytes);
+            return null;
+        });
+    }
+
+    private static CountingPostFilterActions postFilterActions(final TestEnvironment testEnvironment) {
+        return testEnvironment.getPropertyAsType(POST_FILTER_ACTIONS, CountingPostFilterActions.class);
+    }
+
+    public List<TestAction<FilterApplier<Object>>> build() {
+        return testActions;
+    }
+}
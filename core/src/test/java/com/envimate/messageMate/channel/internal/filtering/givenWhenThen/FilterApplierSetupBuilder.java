@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.envimate.messageMate.channel.internal.filtering.givenWhenThen;
+
+import com.envimate.messageMate.channel.internal.filtering.FilterApplier;
+import com.envimate.messageMate.filtering.Filter;
+import com.envimate.messageMate.filtering.FilterActions;
+import com.envimate.messageMate.filtering.PassThroughFilter;
+import com.envimate.messageMate.filtering.TypeGuardedFilter;
+import com.envimate.messageMate.shared.environment.TestEnvironment;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.messageMate.channel.internal.filtering.FilterApplierImpl.filterApplier;
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.CountingPostFilterActions.countingPostFilterActions;
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.FilterApplierTestProperties.*;
+import static com.envimate.messageMate.shared.environment.TestEnvironment.emptyTestEnvironment;
+import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.SUT;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public final class FilterApplierSetupBuilder {
+    private static final int NUMBER_OF_STAGES = 3;
+    private final TestEnvironment testEnvironment = emptyTestEnvironment();
+    private final List<List<Filter<Object>>> filterStages = new ArrayList<>();
+    private final List<Filter<Object>> filterAddedAfterCompilation = new ArrayList<>();
+
+    private FilterApplierSetupBuilder() {
+        for (int stage = 0; stage < NUMBER_OF_STAGES; stage++) {
+            filterStages.add(new ArrayList<>());
+        }
+    }
+
+    public static FilterApplierSetupBuilder aFilterApplier() {
+        return new FilterApplierSetupBuilder();
+    }
+
+    public static FilterApplierSetupBuilder aFilterApplierOnAJvmMeasuringAllocations() {
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(sunThreadMXBean.isThreadAllocatedMemorySupported());
+        sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return new FilterApplierSetupBuilder();
+    }
+
+    public FilterApplierSetupBuilder withSeveralPassingFilterInEachStage(final int numberOfFilterPerStage) {
+        for (final List<Filter<Object>> filters : filterStages) {
+            for (int i = 0; i < numberOfFilterPerStage; i++) {
+                filters.add((message, filterActions) -> filterActions.pass(message));
+            }
+        }
+        return this;
+    }
+
+    public FilterApplierSetupBuilder withATypeGuardedFilterBlockingStrings() {
+        filterStages.get(0).add(new StringBlockingFilter());
+        return this;
+    }
+
+    public FilterApplierSetupBuilder withATypeGuardedFilterBlockingStringsAddedAfterCompilation() {
+        filterAddedAfterCompilation.add(new StringBlockingFilter());
+        return this;
+    }
+
+    public FilterApplierSetupBuilder withPassThroughFilterAroundARegularFilter() {
+        final List<Filter<Object>> filters = filterStages.get(0);
+        filters.add(passThroughFilterRecording("first"));
+        filters.add(passThroughFilterRecording("second"));
+        filters.add((message, filterActions) -> {
+            testEnvironment.addToListProperty(EXECUTION_ORDER, "regular");
+            filterActions.pass(message);
+        });
+        filters.add(passThroughFilterRecording("third"));
+        return this;
+    }
+
+    private PassThroughFilter<Object> passThroughFilterRecording(final String name) {
+        return message -> testEnvironment.addToListProperty(EXECUTION_ORDER, name);
+    }
+
+    public TestEnvironment build() {
+        final FilterApplier<Object> filterApplier = filterApplier(filterStages);
+        filterStages.get(0).addAll(filterAddedAfterCompilation);
+        testEnvironment.setProperty(SUT, filterApplier);
+        testEnvironment.setProperty(POST_FILTER_ACTIONS, countingPostFilterActions());
+        return testEnvironment;
+    }
+
+    private static final class StringBlockingFilter implements TypeGuardedFilter<Object> {
+
+        @Override
+        public Class<?> guardedType() {
+            return String.class;
+        }
+
+        @Override
+        public void apply(final Object message, final FilterActions<Object> filterActions) {
+            filterActions.block(message);
+        }
+    }
+}
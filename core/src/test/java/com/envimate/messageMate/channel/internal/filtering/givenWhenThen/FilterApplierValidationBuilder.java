@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.envimate.messageMate.channel.internal.filtering.givenWhenThen;
+
+import com.envimate.messageMate.shared.environment.TestEnvironment;
+import com.envimate.messageMate.shared.givenWhenThen.TestValidation;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.FilterApplierTestProperties.EXECUTION_ORDER;
+import static com.envimate.messageMate.channel.internal.filtering.givenWhenThen.FilterApplierTestProperties.POST_FILTER_ACTIONS;
+import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.RESULT;
+import static com.envimate.messageMate.shared.validations.SharedTestValidations.assertNoExceptionThrown;
+import static lombok.AccessLevel.PRIVATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public final class FilterApplierValidationBuilder {
+    private final TestValidation testValidation;
+
+    private static FilterApplierValidationBuilder aValidation(final TestValidation testValidation) {
+        return new FilterApplierValidationBuilder(testValidation);
+    }
+
+    public static FilterApplierValidationBuilder expectXMessagesToPass(final long expectedPassedMessages) {
+        return aValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertPassedAndBlockedMessages(testEnvironment, expectedPassedMessages, 0);
+        });
+    }
+
+    public static FilterApplierValidationBuilder expectOneMessageToPassAndOneToBeBlocked() {
+        return aValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertPassedAndBlockedMessages(testEnvironment, 1, 1);
+        });
+    }
+
+    public static FilterApplierValidationBuilder expectThePassThroughFilterToBeExecutedInOrder() {
+        return aValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final List<String> executionOrder = testEnvironment.getPropertyAsListOfType(EXECUTION_ORDER, String.class);
+            assertThat(executionOrder, contains("first", "second", "regular", "third"));
+            assertPassedAndBlockedMessages(testEnvironment, 1, 0);
+        });
+    }
+
+    public static FilterApplierValidationBuilder expectXMessagesToPassAllocatingLessThan(final long expectedPassedMessages,
+                                                                                         final long maximalAllocatedBytes) {
+        return aValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertPassedAndBlockedMessages(testEnvironment, expectedPassedMessages, 0);
+            final long allocatedBytes = testEnvironment.getPropertyAsType(RESULT, Long.class);
+            assertThat(allocatedBytes, lessThan(maximalAllocatedBytes));
+        });
+    }
+
+    private static void assertPassedAndBlockedMessages(final TestEnvironment testEnvironment,
+                                                       final long expectedPassedMessages,
+                                                       final long expectedBlockedMessages) {
+        final CountingPostFilterActions postFilterActions = testEnvironment.getPropertyAsType(POST_FILTER_ACTIONS,
+                CountingPostFilterActions.class);
+        assertThat(postFilterActions.getPassedMessages(), equalTo(expectedPassedMessages));
+        assertThat(postFilterActions.getBlockedMessages(), equalTo(expectedBlockedMessages));
+    }
+
+    public TestValidation build() {
+        return testValidation;
+    }
+}
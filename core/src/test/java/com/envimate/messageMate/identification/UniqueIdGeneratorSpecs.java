@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.identification;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.envimate.messageMate.identification.UniqueIdGenerators.timeOrderedIdGenerator;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UniqueIdGeneratorSpecs {
+    private static final int NUMBER_OF_IDS = 10_000;
+    private static final long LAST_SEQUENCE_NUMBER = (1L << 58) - 1;
+    private static final int IDS_ACROSS_SEQUENCE_WRAP_AROUND = 3 * (1 << 16);
+
+    @Test
+    public void testUniqueIdGenerator_timeOrderedIdsAreVersion7UuidsWithCompatibleStringForms() {
+        final UUID uuid = timeOrderedIdGenerator().newUniqueId();
+
+        assertThat(uuid.version(), equalTo(7));
+        assertThat(uuid.variant(), equalTo(2));
+        final MessageId messageId = MessageId.fromString(uuid.toString());
+        assertThat(MessageId.fromString(messageId.stringValue()), equalTo(messageId));
+    }
+
+    @Test
+    public void testUniqueIdGenerator_timeOrderedIdsOfOneThreadAreStrictlyIncreasing() {
+        final UniqueIdGenerator idGenerator = timeOrderedIdGenerator();
+        String previous = idGenerator.newUniqueId().toString();
+        for (int i = 0; i < NUMBER_OF_IDS; i++) {
+            final String current = idGenerator.newUniqueId().toString();
+            assertThat(current.compareTo(previous), greaterThan(0));
+            previous = current;
+        }
+    }
+
+    @Test
+    public void testUniqueIdGenerator_timeOrderedIdsStayIncreasingAndUniqueWhenTheSequenceWrapsAround() {
+        final long initialSequence = LAST_SEQUENCE_NUMBER - IDS_ACROSS_SEQUENCE_WRAP_AROUND / 2;
+        final UniqueIdGenerator idGenerator = TimeOrderedIdGenerator.timeOrderedIdGenerator(42, initialSequence);
+        final Set<UUID> ids = new HashSet<>();
+        UUID previous = idGenerator.newUniqueId();
+        ids.add(previous);
+        for (int i = 1; i < IDS_ACROSS_SEQUENCE_WRAP_AROUND; i++) {
+            final UUID current = idGenerator.newUniqueId();
+            assertThat(current.toString().compareTo(previous.toString()), greaterThan(0));
+            ids.add(current);
+            previous = current;
+        }
+
+        assertThat(ids.size(), equalTo(IDS_ACROSS_SEQUENCE_WRAP_AROUND));
+    }
+
+    @Test
+    public void testUniqueIdGenerator_rejectsNodeIdsNotFittingIntoSixteenBits() {
+        assertThrows(IllegalArgumentException.class, () -> timeOrderedIdGenerator(0x10000));
+        assertThrows(IllegalArgumentException.class, () -> timeOrderedIdGenerator(-1));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.collections.filtermap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.envimate.messageMate.internal.collections.filtermap.FilterMapBuilder.filterMapBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class FilterMapSpecs {
+
+    @Test
+    public void testFilterMap_testsAllFiltersForFirstConditionsThatAreNoClasses() {
+        final FilterMapBuilder<String, Map<String, Object>, String> builder = filterMapBuilder();
+        builder.put((name, map) -> name.startsWith("a"), "a");
+        builder.setDefaultValue("default");
+        final FilterMap<String, Map<String, Object>, String> filterMap = builder.build();
+
+        assertThat(filterMap.get("abc", Map.of()), equalTo("a"));
+        assertThat(filterMap.get("xyz", Map.of()), equalTo("default"));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.collections.predicatemap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static com.envimate.messageMate.internal.collections.predicatemap.PredicateMapBuilder.predicateMapBuilder;
+import static com.envimate.messageMate.mapping.SerializationFilters.areOfType;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class PredicateMapSpecs {
+
+    @Test
+    public void testPredicateMap_resolvesRepeatedlyForTheSameClass() {
+        final PredicateMap<Object, String> predicateMap = aPredicateMap();
+
+        assertThat(predicateMap.get(1), equalTo("number"));
+        assertThat(predicateMap.get(2L), equalTo("number"));
+        assertThat(predicateMap.get(3), equalTo("number"));
+        assertThat(predicateMap.get(new Object()), equalTo("default"));
+        assertThat(predicateMap.get(new Object()), equalTo("default"));
+    }
+
+    @Test
+    public void testPredicateMap_canMatchNull() {
+        final PredicateMap<Object, String> predicateMap = aPredicateMap();
+
+        assertThat(predicateMap.get(null), equalTo("null"));
+    }
+
+    private static PredicateMap<Object, String> aPredicateMap() {
+        final PredicateMapBuilder<Object, String> builder = predicateMapBuilder();
+        builder.put(areOfType(CharSequence.class), "charSequence")
+                .put("special"::equals, "special")
+                .put(areOfType(String.class), "string")
+                .put(Objects::isNull, "null")
+                .put(areOfType(Number.class), "number");
+        builder.setDefaultValue("default");
+        return builder.build();
+    }
+}
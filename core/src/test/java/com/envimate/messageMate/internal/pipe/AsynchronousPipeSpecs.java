@@ -56,6 +56,82 @@ public class AsynchronousPipeSpecs implements PipeSpecs {
                 .then(expectTheException(PipeWaitingQueueIsFullException.class));
     }
 
+    @Test
+    public void testPipe_trySendReturnsFalseWhenBoundedQueueIsFull() {
+        final int completeCapacity = ASYNCHRONOUS_QUEUED_BOUND + ASYNCHRONOUS_PIPE_POOL_SIZE;
+        given(aConfiguredPipe(anAsynchronousBoundedPipe())
+                .withASubscriberThatBlocksWhenAccepting())
+                .when(severalMessagesAreSend(completeCapacity)
+                        .andThen(aMessageIsSendWithoutWaitingForCapacity()))
+                .then(expectResultToBe(false));
+    }
+
+    @Test
+    public void testPipe_trySendReturnsTrueWhenCapacityIsLeft() {
+        given(aConfiguredPipe(anAsynchronousBoundedPipe())
+                .withASubscriberThatBlocksWhenAccepting())
+                .when(aMessageIsSendWithoutWaitingForCapacity())
+                .then(expectResultToBe(true));
+    }
+
+    @Test
+    public void testPipe_timedSendReturnsFalseWhenNoCapacityIsFreedInTime() {
+        final int completeCapacity = ASYNCHRONOUS_QUEUED_BOUND + ASYNCHRONOUS_PIPE_POOL_SIZE;
+        given(aConfiguredPipe(anAsynchronousBoundedPipe())
+                .withASubscriberThatBlocksWhenAccepting())
+                .when(severalMessagesAreSend(completeCapacity)
+                        .andThen(aMessageIsSendWaitingForCapacityForAtMostMilliseconds(10)))
+                .then(expectResultToBe(false));
+    }
+
+    @Test
+    public void testPipe_timedSendReturnsTrueOnceCapacityIsFreed() {
+        final int completeCapacity = ASYNCHRONOUS_QUEUED_BOUND + ASYNCHRONOUS_PIPE_POOL_SIZE;
+        given(aConfiguredPipe(anAsynchronousBoundedPipe())
+                .withASubscriberThatBlocksWhenAccepting())
+                .when(severalMessagesAreSend(completeCapacity)
+                        .andThen(aMessageIsSendWaitingForCapacityWhileTheBlockingSubscriberIsReleased(1000)))
+                .then(expectResultToBe(true));
+    }
+
+    @Test
+    public void testPipe_sendAwaitingCapacityReturnsOnceCapacityIsFreed() {
+        final int completeCapacity = ASYNCHRONOUS_QUEUED_BOUND + ASYNCHRONOUS_PIPE_POOL_SIZE;
+        given(aConfiguredPipe(anAsynchronousBoundedPipe())
+                .withASubscriberThatBlocksWhenAccepting())
+                .when(severalMessagesAreSend(completeCapacity)
+                        .andThen(aMessageIsSendAwaitingCapacityWhileTheBlockingSubscriberIsReleased()))
+                .then(expectResultToBe(true));
+    }
+
+    @Test
+    public void testPipe_sendAwaitingCapacityDeliversAllMessagesOfAnOverloadedPipe() {
+        given(aConfiguredPipe(anAsynchronousBoundedPipe())
+                .withASingleSubscriber())
+                .when(severalMessagesAreSendAsynchronouslyAwaitingCapacity(10, 20))
+                .then(expectAllMessagesToBeReceivedByAllSubscribers());
+    }
+
+    @Test
+    public void testPipe_sendAwaitingCapacityCountsEachMessageAsAcceptedOnce() {
+        given(aConfiguredPipe(anAsynchronousBoundedPipe())
+                .withASingleSubscriber())
+                .when(severalMessagesAreSendAsynchronouslyAwaitingCapacity(10, 20)
+                        .andThen(theNumberOfAcceptedMessagesIsQueried()))
+                .then(expectResultToBe(200));
+    }
+
+    @Test
+    public void testPipe_remainingCapacityIsReducedByUndeliveredMessages() {
+        final int completeCapacity = ASYNCHRONOUS_QUEUED_BOUND + ASYNCHRONOUS_PIPE_POOL_SIZE;
+        final int messagesSend = completeCapacity - 1;
+        given(aConfiguredPipe(anAsynchronousBoundedPipe())
+                .withASubscriberThatBlocksWhenAccepting())
+                .when(severalMessagesAreSend(messagesSend)
+                        .andThen(theRemainingCapacityIsQueried()))
+                .then(expectResultToBe(1L));
+    }
+
     //statistics
     @Test
     public void testPipe_withBlockingSubscriber_whenNumberOfSuccessfulDeliveredMessagesIsQueried_returnsZero(
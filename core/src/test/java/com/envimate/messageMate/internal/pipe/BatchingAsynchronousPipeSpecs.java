@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe;
+
+import com.envimate.messageMate.internal.pipe.config.BatchingAsynchronousPipeConfigurationProvider;
+import com.envimate.messageMate.internal.pipe.config.PipeTestConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.Given.given;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeActionBuilder.severalMessagesAreSend;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeActionBuilder.severalMessagesAreSendAsynchronously;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeSetupBuilder.aConfiguredPipe;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeValidationBuilder.expectAllMessagesToBeReceivedByAllSubscribers;
+
+@ExtendWith(BatchingAsynchronousPipeConfigurationProvider.class)
+public class BatchingAsynchronousPipeSpecs implements PipeSpecs {
+
+    //batch subscriber
+    @Test
+    public void testPipe_canDeliverMessagesToBatchSubscriber(final PipeTestConfig testConfig) {
+        given(aConfiguredPipe(testConfig)
+                .withSeveralBatchSubscriber(3))
+                .when(severalMessagesAreSend(10))
+                .then(expectAllMessagesToBeReceivedByAllSubscribers());
+    }
+
+    @Test
+    public void testPipe_canDeliverMessagesSendAsynchronouslyToBatchSubscriber(final PipeTestConfig testConfig) {
+        given(aConfiguredPipe(testConfig)
+                .withSeveralBatchSubscriber(3))
+                .when(severalMessagesAreSendAsynchronously(10, 10))
+                .then(expectAllMessagesToBeReceivedByAllSubscribers());
+    }
+}
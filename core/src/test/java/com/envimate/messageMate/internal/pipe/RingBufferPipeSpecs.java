@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe;
+
+import com.envimate.messageMate.internal.pipe.config.PipeTestConfig;
+import com.envimate.messageMate.internal.pipe.config.RingBufferPipeConfigurationProvider;
+import com.envimate.messageMate.internal.pipe.transport.PipeWaitingQueueIsFullException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static com.envimate.messageMate.internal.pipe.config.PipeTestConfig.*;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.Given.given;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeActionBuilder.severalMessagesAreSend;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeActionBuilder.severalMessagesAreSendAsynchronouslyWhileThePipeIsClosed;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeSetupBuilder.aConfiguredPipe;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeValidationBuilder.expectAllAcceptedMessagesToBeDelivered_despiteThePipeClosed;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeValidationBuilder.expectNoException;
+import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeValidationBuilder.expectTheException;
+
+@ExtendWith(RingBufferPipeConfigurationProvider.class)
+public class RingBufferPipeSpecs implements PipeSpecs {
+
+    //send
+    @Test
+    public void testPipe_doesNotFailForFullRingBuffer() {
+        given(aConfiguredPipe(aSmallRingBufferPipe())
+                .withASubscriberThatBlocksWhenAccepting())
+                .when(severalMessagesAreSend(RING_BUFFER_CAPACITY))
+                .then(expectNoException());
+    }
+
+    @Test
+    public void testPipe_failsWhenRingBufferOverflows() {
+        final int completeCapacity = RING_BUFFER_CAPACITY + ASYNCHRONOUS_PIPE_POOL_SIZE;
+        final int messagesSend = completeCapacity + 1;
+        given(aConfiguredPipe(aSmallRingBufferPipe())
+                .withASubscriberThatBlocksWhenAccepting())
+                .when(severalMessagesAreSend(messagesSend))
+                .then(expectTheException(PipeWaitingQueueIsFullException.class));
+    }
+
+    //shutdown
+    @Test
+    public void testPipe_deliversAllMessagesAcceptedConcurrentlyToAGracefulClose(final PipeTestConfig testConfig) {
+        given(aConfiguredPipe(testConfig)
+                .withSeveralSubscriber(3))
+                .when(severalMessagesAreSendAsynchronouslyWhileThePipeIsClosed(ASYNCHRONOUS_PIPE_POOL_SIZE))
+                .then(expectAllAcceptedMessagesToBeDelivered_despiteThePipeClosed());
+    }
+}
@@ -28,8 +28,14 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.batchingAsynchronousConfiguration;
 import static com.envimate.messageMate.configuration.AsynchronousConfiguration.constantPoolSizeAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.forkJoinPoolAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.ringBufferAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.virtualThreadAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.WaitStrategy.PARK;
 import static com.envimate.messageMate.internal.pipe.PipeType.ASYNCHRONOUS;
+import static com.envimate.messageMate.internal.pipe.PipeType.RING_BUFFER;
 import static com.envimate.messageMate.internal.pipe.PipeType.SYNCHRONOUS;
 
 @EqualsAndHashCode
@@ -37,6 +43,9 @@ import static com.envimate.messageMate.internal.pipe.PipeType.SYNCHRONOUS;
 public final class PipeTestConfig {
     public static final int ASYNCHRONOUS_PIPE_POOL_SIZE = 5;
     public static final int ASYNCHRONOUS_QUEUED_BOUND = 3;
+    public static final int RING_BUFFER_CAPACITY = 4;
+    public static final int MAXIMUM_BATCH_SIZE = 8;
+    public static final int MAXIMUM_BATCH_WAIT_IN_MICROSECONDS = 100;
     @Getter
     private final PipeType pipeType;
     @Getter
@@ -58,7 +67,35 @@ public final class PipeTestConfig {
         return new PipeTestConfig(ASYNCHRONOUS, config);
     }
 
+    static PipeTestConfig aForkJoinPoolPipe() {
+        final AsynchronousConfiguration config = forkJoinPoolAsynchronousConfiguration(ASYNCHRONOUS_PIPE_POOL_SIZE);
+        return new PipeTestConfig(ASYNCHRONOUS, config);
+    }
+
+    static PipeTestConfig aBatchingAsynchronousPipe() {
+        final AsynchronousConfiguration config = batchingAsynchronousConfiguration(ASYNCHRONOUS_PIPE_POOL_SIZE,
+                MAXIMUM_BATCH_SIZE, MAXIMUM_BATCH_WAIT_IN_MICROSECONDS);
+        return new PipeTestConfig(ASYNCHRONOUS, config);
+    }
+
+    static PipeTestConfig aThreadPerDeliveryPipe() {
+        final AsynchronousConfiguration config = virtualThreadAsynchronousConfiguration(ASYNCHRONOUS_PIPE_POOL_SIZE);
+        return new PipeTestConfig(ASYNCHRONOUS, config);
+    }
+
+    static PipeTestConfig aRingBufferPipe() {
+        final int capacity = 1024;
+        final AsynchronousConfiguration config = ringBufferAsynchronousConfiguration(ASYNCHRONOUS_PIPE_POOL_SIZE, capacity, PARK);
+        return new PipeTestConfig(RING_BUFFER, config);
+    }
+
+    public static PipeTestConfig aSmallRingBufferPipe() {
+        final AsynchronousConfiguration config = ringBufferAsynchronousConfiguration(ASYNCHRONOUS_PIPE_POOL_SIZE,
+                RING_BUFFER_CAPACITY, PARK);
+        return new PipeTestConfig(RING_BUFFER, config);
+    }
+
     public boolean isAsynchronous() {
-        return pipeType == PipeType.ASYNCHRONOUS;
+        return pipeType != PipeType.SYNCHRONOUS;
     }
 }
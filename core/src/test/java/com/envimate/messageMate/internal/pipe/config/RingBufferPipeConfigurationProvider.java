@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe.config;
+
+import com.envimate.messageMate.shared.config.AbstractTestConfigProvider;
+
+import static com.envimate.messageMate.internal.pipe.config.PipeTestConfig.aRingBufferPipe;
+
+public class RingBufferPipeConfigurationProvider extends AbstractTestConfigProvider {
+
+    @Override
+    protected Class<?> forConfigClass() {
+        return PipeTestConfig.class;
+    }
+
+    @Override
+    protected Object testConfig() {
+        return aRingBufferPipe();
+    }
+}
@@ -21,9 +21,11 @@
 
 package com.envimate.messageMate.internal.pipe.givenWhenThen;
 
+import com.envimate.messageMate.exceptions.AlreadyClosedException;
 import com.envimate.messageMate.internal.pipe.Pipe;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.givenWhenThen.TestAction;
+import com.envimate.messageMate.shared.pipeChannelMessageBus.testActions.SendingActions;
 import com.envimate.messageMate.shared.subscriber.BlockingTestSubscriber;
 import com.envimate.messageMate.shared.testMessages.TestMessage;
 import com.envimate.messageMate.shared.utils.ShutdownTestUtils;
@@ -35,16 +37,22 @@ import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Semaphore;
 
+import static com.envimate.messageMate.identification.MessageId.newUniqueMessageId;
 import static com.envimate.messageMate.internal.pipe.config.PipeTestConfig.ASYNCHRONOUS_PIPE_POOL_SIZE;
 import static com.envimate.messageMate.internal.pipe.givenWhenThen.PipeTestActions.pipeTestActions;
+import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.EXCEPTION;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.RESULT;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.*;
+import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntil;
 import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntilEquals;
 import static com.envimate.messageMate.shared.subscriber.BlockingTestSubscriber.blockingTestSubscriber;
+import static com.envimate.messageMate.shared.testMessages.TestMessageOfInterest.messageOfInterest;
 import static com.envimate.messageMate.shared.utils.SendingTestUtils.*;
 import static com.envimate.messageMate.shared.utils.ShutdownTestUtils.*;
 import static com.envimate.messageMate.shared.utils.SubscriptionTestUtils.addAnExceptionThrowingSubscriber;
 import static com.envimate.messageMate.shared.utils.SubscriptionTestUtils.unsubscribeASubscriberXTimes;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
@@ -80,6 +88,77 @@ public final class PipeActionBuilder {
         });
     }
 
+    public static PipeActionBuilder aMessageIsSendWithoutWaitingForCapacity() {
+        return new PipeActionBuilder((pipe, testEnvironment) -> {
+            final boolean accepted = pipe.trySend(messageOfInterest());
+            testEnvironment.setProperty(RESULT, accepted);
+            return null;
+        });
+    }
+
+    public static PipeActionBuilder aMessageIsSendWaitingForCapacityForAtMostMilliseconds(final int timeoutInMilliseconds) {
+        return new PipeActionBuilder((pipe, testEnvironment) -> {
+            try {
+                final boolean accepted = pipe.send(messageOfInterest(), timeoutInMilliseconds, MILLISECONDS);
+                testEnvironment.setProperty(RESULT, accepted);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+
+    public static PipeActionBuilder aMessageIsSendWaitingForCapacityWhileTheBlockingSubscriberIsReleased(
+            final int timeoutInMilliseconds) {
+        return new PipeActionBuilder((pipe, testEnvironment) -> {
+            releaseTheBlockingSubscriberAfterMilliseconds(testEnvironment, 20);
+            try {
+                final boolean accepted = pipe.send(messageOfInterest(), timeoutInMilliseconds, MILLISECONDS);
+                testEnvironment.setProperty(RESULT, accepted);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+
+    public static PipeActionBuilder aMessageIsSendAwaitingCapacityWhileTheBlockingSubscriberIsReleased() {
+        return new PipeActionBuilder((pipe, testEnvironment) -> {
+            releaseTheBlockingSubscriberAfterMilliseconds(testEnvironment, 20);
+            try {
+                pipe.sendAwaitingCapacity(messageOfInterest());
+                testEnvironment.setProperty(RESULT, true);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+
+    public static PipeActionBuilder severalMessagesAreSendAsynchronouslyAwaitingCapacity(final int numberOfSender,
+                                                                                        final int numberOfMessagesPerSender) {
+        return new PipeActionBuilder((pipe, testEnvironment) -> {
+            final SendingActions sendingActions = (eventType, message) -> {
+                try {
+                    pipe.sendAwaitingCapacity(message);
+                } catch (final InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return newUniqueMessageId();
+            };
+            sendValidMessagesAsynchronouslyNew(sendingActions, testEnvironment, numberOfSender, numberOfMessagesPerSender, true);
+            return null;
+        });
+    }
+
+    public static PipeActionBuilder theRemainingCapacityIsQueried() {
+        return new PipeActionBuilder((pipe, testEnvironment) -> {
+            final long remainingCapacity = pipe.remainingCapacity();
+            testEnvironment.setProperty(RESULT, remainingCapacity);
+            return null;
+        });
+    }
+
     public static PipeActionBuilder aMessageResultingInAnErrorIsSend() {
         return new PipeActionBuilder((pipe, testEnvironment) -> {
             final PipeTestActions testActions = pipeTestActions(pipe);
@@ -221,6 +300,42 @@ public final class PipeActionBuilder {
         });
     }
 
+    public static PipeActionBuilder severalMessagesAreSendAsynchronouslyWhileThePipeIsClosed(final int numberOfSenders) {
+        return new PipeActionBuilder((pipe, testEnvironment) -> {
+            final List<Thread> senders = new ArrayList<>(numberOfSenders);
+            for (int i = 0; i < numberOfSenders; i++) {
+                final Thread sender = new Thread(() -> sendMessagesUntilThePipeIsClosed(pipe, testEnvironment));
+                sender.start();
+                senders.add(sender);
+            }
+            pollUntil(() -> testEnvironment.has(MESSAGES_SEND));
+            pipe.close(true);
+            try {
+                for (final Thread sender : senders) {
+                    sender.join();
+                }
+                final boolean terminatedSuccessful = pipe.awaitTermination(1, SECONDS);
+                testEnvironment.setProperty(RESULT, terminatedSuccessful);
+            } catch (final InterruptedException e) {
+                testEnvironment.setPropertyIfNotSet(EXCEPTION, e);
+            }
+            return null;
+        });
+    }
+
+    private static void sendMessagesUntilThePipeIsClosed(final Pipe<TestMessage> pipe, final TestEnvironment testEnvironment) {
+        try {
+            while (true) {
+                final TestMessage message = messageOfInterest();
+                if (pipe.trySend(message)) {
+                    testEnvironment.addToListProperty(MESSAGES_SEND, message);
+                }
+            }
+        } catch (final AlreadyClosedException e) {
+            //the senders stop once the close was noticed
+        }
+    }
+
     public static PipeActionBuilder thePipeIsShutdownAsynchronouslyXTimes(final int numberOfThreads) {
         return new PipeActionBuilder((pipe, testEnvironment) -> {
             final PipeTestActions testActions = pipeTestActions(pipe);
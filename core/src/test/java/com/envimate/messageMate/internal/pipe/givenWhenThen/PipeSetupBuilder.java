@@ -66,6 +66,14 @@ public class PipeSetupBuilder {
         return this;
     }
 
+    public PipeSetupBuilder withSeveralBatchSubscriber(final int numberOfReceivers) {
+        setupActions.add((t, testEnvironment) -> {
+            final PipeTestActions testActions = testActions(t);
+            addSeveralBatchSubscriber(testActions, testEnvironment, numberOfReceivers);
+        });
+        return this;
+    }
+
     public PipeSetupBuilder withASubscriberThatBlocksWhenAccepting() {
         setupActions.add((t, testEnvironment) -> addASubscriberThatBlocksWhenAccepting(testActions(t), testEnvironment));
         return this;
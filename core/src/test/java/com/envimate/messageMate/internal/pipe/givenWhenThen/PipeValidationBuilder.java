@@ -93,6 +93,14 @@ public final class PipeValidationBuilder {
         });
     }
 
+    public static PipeValidationBuilder expectAllAcceptedMessagesToBeDelivered_despiteThePipeClosed() {
+        return new PipeValidationBuilder(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertResultEqualsExpected(testEnvironment, true);
+            assertExpectedReceiverReceivedAllMessages(testEnvironment);
+        });
+    }
+
     public static PipeValidationBuilder expectResultToBe(final Object expectedResult) {
         return new PipeValidationBuilder(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe.transport;
+
+import com.envimate.messageMate.internal.pipe.error.PipeErrorHandler;
+import com.envimate.messageMate.internal.pipe.events.PipeEventListener;
+import com.envimate.messageMate.subscribing.AcceptingBehavior;
+import com.envimate.messageMate.subscribing.BatchSubscriber;
+import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.subscribing.SubscriptionId;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static com.envimate.messageMate.subscribing.AcceptingBehavior.MESSAGE_ACCEPTED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+
+public class SynchronousDeliverySpecs {
+    private final List<String> failedMessages = new CopyOnWriteArrayList<>();
+    private final List<String> succeededMessages = new CopyOnWriteArrayList<>();
+    private final List<Throwable> bubbledExceptions = new CopyOnWriteArrayList<>();
+    private final SynchronousDelivery<String> synchronousDelivery = new SynchronousDelivery<>(recordingEventListener(),
+            rethrowingErrorHandler());
+
+    @Test
+    public void testSynchronousDelivery_continuesBatchIfErrorHandlerRethrows() {
+        final List<String> receivedMessages = new CopyOnWriteArrayList<>();
+        final Subscriber<String> subscriber = subscriber(message -> {
+            receivedMessages.add(message);
+            if (message.equals("b")) {
+                throw new IllegalStateException(message);
+            }
+        });
+
+        synchronousDelivery.deliverBatch(List.of("a", "b", "c"), List.of(subscriber), bubbledExceptions::add);
+
+        assertThat(receivedMessages, contains("a", "b", "c"));
+        assertThat(succeededMessages, contains("a", "c"));
+        assertThat(failedMessages, contains("b"));
+        assertThat(bubbledExceptions, hasSize(1));
+    }
+
+    @Test
+    public void testSynchronousDelivery_reportsEachMessageOfAFailedBatchIfErrorHandlerRethrows() {
+        final BatchSubscriber<String> batchSubscriber = new BatchSubscriber<>() {
+            @Override
+            public AcceptingBehavior acceptBatch(final List<String> messages) {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public SubscriptionId getSubscriptionId() {
+                return SubscriptionId.newUniqueId();
+            }
+        };
+
+        synchronousDelivery.deliverBatch(List.of("a", "b", "c"), List.of(batchSubscriber), bubbledExceptions::add);
+
+        assertThat(failedMessages, contains("a", "b", "c"));
+        assertThat(succeededMessages, empty());
+        assertThat(bubbledExceptions, hasSize(3));
+    }
+
+    private PipeEventListener<String> recordingEventListener() {
+        return new PipeEventListener<>() {
+            @Override
+            public void messageAccepted(final String message) {
+            }
+
+            @Override
+            public void messageQueued(final String message) {
+            }
+
+            @Override
+            public void messageDequeued(final String message) {
+            }
+
+            @Override
+            public void messageDeliverySucceeded(final String message) {
+                succeededMessages.add(message);
+            }
+
+            @Override
+            public void messageDeliveryFailed(final String message, final Exception cause) {
+                failedMessages.add(message);
+            }
+
+            @Override
+            public void messageDropped(final String message) {
+            }
+        };
+    }
+
+    private static PipeErrorHandler<String> rethrowingErrorHandler() {
+        return new PipeErrorHandler<>() {
+            @Override
+            public boolean shouldErrorBeHandledAndDeliveryAborted(final String message, final Exception e) {
+                return true;
+            }
+
+            @Override
+            public void handleException(final String message, final Exception e) {
+                throw (RuntimeException) e;
+            }
+        };
+    }
+
+    private static Subscriber<String> subscriber(final Consumer<String> consumer) {
+        final SubscriptionId subscriptionId = SubscriptionId.newUniqueId();
+        return new Subscriber<>() {
+            @Override
+            public AcceptingBehavior accept(final String message) {
+                consumer.accept(message);
+                return MESSAGE_ACCEPTED;
+            }
+
+            @Override
+            public SubscriptionId getSubscriptionId() {
+                return subscriptionId;
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.pipe.transport;
+
+import com.envimate.messageMate.configuration.AsynchronousConfiguration;
+import com.envimate.messageMate.internal.pipe.Pipe;
+import com.envimate.messageMate.internal.pipe.PipeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Semaphore;
+
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.batchingAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.constantPoolSizeAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.forkJoinPoolAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.ringBufferAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.virtualThreadAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.WaitStrategy.PARK;
+import static com.envimate.messageMate.configuration.WaitStrategy.YIELD;
+import static com.envimate.messageMate.internal.pipe.PipeBuilder.aPipe;
+import static com.envimate.messageMate.internal.pipe.PipeType.ASYNCHRONOUS;
+import static com.envimate.messageMate.internal.pipe.PipeType.RING_BUFFER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TransportMechanismFactorySpecs {
+    private static final int POOL_SIZE = 2;
+    private static final int MAXIMUM_BATCH_SIZE = 8;
+    private static final int QUEUE_BOUND = 3;
+
+    @Test
+    public void testTransportMechanismFactory_rejectsThreadPerDeliveryCombinedWithBatching() {
+        final AsynchronousConfiguration configuration = virtualThreadAsynchronousConfiguration(POOL_SIZE);
+        configuration.setMaximumBatchSize(MAXIMUM_BATCH_SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> createPipe(ASYNCHRONOUS, configuration));
+    }
+
+    @Test
+    public void testTransportMechanismFactory_rejectsBatchingCombinedWithACustomExecutorFactory() {
+        final AsynchronousConfiguration configuration = forkJoinPoolAsynchronousConfiguration(POOL_SIZE);
+        configuration.setMaximumBatchSize(MAXIMUM_BATCH_SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> createPipe(ASYNCHRONOUS, configuration));
+    }
+
+    @Test
+    public void testTransportMechanismFactory_rejectsMaximumConcurrentDeliveriesWithoutThreadPerDelivery() {
+        final AsynchronousConfiguration configuration = batchingAsynchronousConfiguration(POOL_SIZE, MAXIMUM_BATCH_SIZE, 0);
+        configuration.setMaximumConcurrentDeliveries(POOL_SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> createPipe(ASYNCHRONOUS, configuration));
+    }
+
+    @Test
+    public void testTransportMechanismFactory_rejectsRingBufferSettingsForAnAsynchronousPipe() {
+        final AsynchronousConfiguration configuration = constantPoolSizeAsynchronousConfiguration(POOL_SIZE);
+        configuration.setWaitStrategy(YIELD);
+
+        assertThrows(IllegalArgumentException.class, () -> createPipe(ASYNCHRONOUS, configuration));
+    }
+
+    @Test
+    public void testTransportMechanismFactory_rejectsThreadPerDeliveryForARingBufferPipe() {
+        final AsynchronousConfiguration configuration = ringBufferAsynchronousConfiguration(POOL_SIZE, 16, PARK);
+        configuration.setThreadPerDelivery(true);
+
+        assertThrows(IllegalArgumentException.class, () -> createPipe(RING_BUFFER, configuration));
+    }
+
+    @Test
+    public void testTransportMechanismFactory_givesEachPipeOfASharedBoundedConfigurationTheFullCapacity() {
+        final AsynchronousConfiguration configuration = constantPoolSizeAsynchronousConfiguration(POOL_SIZE, QUEUE_BOUND);
+        final Semaphore blockingSemaphore = new Semaphore(0);
+        final Pipe<Object> firstPipe = createPipe(ASYNCHRONOUS, configuration);
+        final Pipe<Object> secondPipe = createPipe(ASYNCHRONOUS, configuration);
+        try {
+            firstPipe.subscribe(message -> blockingSemaphore.acquireUninterruptibly());
+            secondPipe.subscribe(message -> blockingSemaphore.acquireUninterruptibly());
+            for (int i = 0; i < POOL_SIZE + QUEUE_BOUND; i++) {
+                assertTrue(firstPipe.trySend(i));
+            }
+
+            assertThat(secondPipe.remainingCapacity(), is((long) (POOL_SIZE + QUEUE_BOUND)));
+            for (int i = 0; i < POOL_SIZE + QUEUE_BOUND; i++) {
+                assertTrue(secondPipe.trySend(i));
+            }
+            assertFalse(secondPipe.trySend(POOL_SIZE + QUEUE_BOUND));
+        } finally {
+            blockingSemaphore.release(2 * (POOL_SIZE + QUEUE_BOUND));
+            firstPipe.close(false);
+            secondPipe.close(false);
+        }
+    }
+
+    private static Pipe<Object> createPipe(final PipeType pipeType, final AsynchronousConfiguration configuration) {
+        return aPipe()
+                .ofType(pipeType)
+                .withAsynchronousConfiguration(configuration)
+                .build();
+    }
+}
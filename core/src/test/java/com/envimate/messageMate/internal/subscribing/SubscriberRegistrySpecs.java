@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.internal.subscribing;
+
+import com.envimate.messageMate.subscribing.Subscriber;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.messageMate.internal.subscribing.SubscriberRegistry.subscriberRegistry;
+import static com.envimate.messageMate.subscribing.ConsumerSubscriber.consumerSubscriber;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SubscriberRegistrySpecs {
+    private final SubscriberRegistry<String> registry = subscriberRegistry();
+
+    @Test
+    public void testSubscriberRegistry_keepsTheOrderForManyChanges() {
+        final List<Subscriber<String>> expectedSubscribers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final Subscriber<String> subscriber = subscriber();
+            registry.add(subscriber);
+            if (i % 3 == 0) {
+                registry.remove(subscriber.getSubscriptionId());
+            } else {
+                expectedSubscribers.add(subscriber);
+            }
+        }
+        for (int i = 0; i < expectedSubscribers.size(); i += 2) {
+            registry.remove(expectedSubscribers.get(i).getSubscriptionId());
+            expectedSubscribers.set(i, null);
+        }
+        expectedSubscribers.removeIf(subscriber -> subscriber == null);
+
+        final List<Subscriber<String>> snapshot = registry.snapshot();
+        assertThat(snapshot, equalTo(expectedSubscribers));
+        for (int i = 0; i < expectedSubscribers.size(); i++) {
+            assertThat(snapshot.get(i), equalTo(expectedSubscribers.get(i)));
+        }
+    }
+
+    @Test
+    public void testSubscriberRegistry_changesDoNotAffectAnEarlierSnapshot() {
+        final Subscriber<String> first = subscriber();
+        final Subscriber<String> second = subscriber();
+        registry.add(first);
+        registry.add(second);
+        final List<Subscriber<String>> earlierSnapshot = registry.snapshot();
+
+        registry.remove(first.getSubscriptionId());
+        registry.add(subscriber());
+
+        assertThat(earlierSnapshot, contains(first, second));
+    }
+
+    @Test
+    public void testSubscriberRegistry_removesAllAdditionsOfASubscriber() {
+        final Subscriber<String> subscriber = subscriber();
+        registry.add(subscriber);
+        registry.add(subscriber);
+
+        assertTrue(registry.remove(subscriber.getSubscriptionId()));
+        assertFalse(registry.remove(subscriber.getSubscriptionId()));
+        assertThat(registry.snapshot(), empty());
+        assertTrue(registry.isEmpty());
+    }
+
+    private static Subscriber<String> subscriber() {
+        return consumerSubscriber(message -> {
+        });
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static com.envimate.messageMate.messageBus.config.MessageBusTestConfig.ASYNCHRONOUS_DELIVERY_POOL_SIZE;
+import static com.envimate.messageMate.messageBus.config.MessageBusTestConfig.anAsynchronousBoundedMessageBus;
 import static com.envimate.messageMate.messageBus.givenWhenThen.Given.given;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusActionBuilder.*;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusSetupBuilder.aConfiguredMessageBus;
@@ -47,6 +48,39 @@ public class AsynchronousDeliveryMessageBusSpecs implements MessageBusSpecs {
                 .then(expectResultToBe(expectedQueuedMessages));
     }
 
+    //capacity
+    @Test
+    public void testMessageBus_trySendReturnsNoMessageIdWhenTheCapacityIsExhausted() {
+        given(aConfiguredMessageBus(anAsynchronousBoundedMessageBus()))
+                .when(theMessageBusIsFilledUpToItsCapacityWithBlockedMessages()
+                        .andThen(aMessageIsSendWithoutWaitingForCapacity()))
+                .then(expectResultToBe(false));
+    }
+
+    @Test
+    public void testMessageBus_timedSendReturnsAMessageIdOnceCapacityIsFreed() {
+        given(aConfiguredMessageBus(anAsynchronousBoundedMessageBus()))
+                .when(theMessageBusIsFilledUpToItsCapacityWithBlockedMessages()
+                        .andThen(aMessageIsSendWaitingForCapacityWhileTheBlockingSubscriberIsReleased(1000)))
+                .then(expectResultToBe(true));
+    }
+
+    @Test
+    public void testMessageBus_sendAwaitingCapacityReturnsOnceCapacityIsFreed() {
+        given(aConfiguredMessageBus(anAsynchronousBoundedMessageBus()))
+                .when(theMessageBusIsFilledUpToItsCapacityWithBlockedMessages()
+                        .andThen(aMessageIsSendAwaitingCapacityWhileTheBlockingSubscriberIsReleased()))
+                .then(expectResultToBe(true));
+    }
+
+    @Test
+    public void testMessageBus_sendAwaitingCapacityCountsEachMessageAsAcceptedOnce() {
+        given(aConfiguredMessageBus(anAsynchronousBoundedMessageBus()))
+                .when(severalMessagesAreSendAsynchronouslyAwaitingCapacity(10, 20)
+                        .andThen(theNumberOfAcceptedMessagesIsQueried()))
+                .then(expectResultToBe(200));
+    }
+
     //shutdown
     @Test
     public void testMessageBus_whenShutdownAllRemainingTasksAreFinished(final MessageBusTestConfig config) {
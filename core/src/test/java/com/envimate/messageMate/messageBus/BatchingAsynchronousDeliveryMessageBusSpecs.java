@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus;
+
+import com.envimate.messageMate.messageBus.config.BatchingAsynchronousDeliveryMessageBusConfigurationResolver;
+import com.envimate.messageMate.messageBus.config.MessageBusTestConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static com.envimate.messageMate.messageBus.config.MessageBusTestConfig.ASYNCHRONOUS_DELIVERY_POOL_SIZE;
+import static com.envimate.messageMate.messageBus.givenWhenThen.Given.given;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusActionBuilder.severalMessagesAreSend;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusActionBuilder.severalMessagesAreSendWhileTheOtherDeliveringThreadsAreBlocked;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusSetupBuilder.aConfiguredMessageBus;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusValidationBuilder.expectAllMessagesToBeReceivedByAllSubscribers;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusValidationBuilder.expectAllMessagesToBeReceivedInBatchesOfSeveralMessagesByAllSubscribers;
+
+@ExtendWith(BatchingAsynchronousDeliveryMessageBusConfigurationResolver.class)
+public class BatchingAsynchronousDeliveryMessageBusSpecs implements MessageBusSpecs {
+
+    @Test
+    public void testMessageBus_deliversBatchesOfSeveralMessagesToBatchSubscribers(final MessageBusTestConfig config) {
+        final int numberOfBlockedThreads = ASYNCHRONOUS_DELIVERY_POOL_SIZE - 1;
+        given(aConfiguredMessageBus(config)
+                .withSeveralBatchSubscriber(3))
+                .when(severalMessagesAreSendWhileTheOtherDeliveringThreadsAreBlocked(10, numberOfBlockedThreads))
+                .then(expectAllMessagesToBeReceivedInBatchesOfSeveralMessagesByAllSubscribers());
+    }
+
+    @Test
+    public void testMessageBus_deliversBatchedMessagesToBatchSubscribersAndNormalSubscribers(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withSeveralBatchSubscriber(2)
+                .withSeveralSubscriber(2))
+                .when(severalMessagesAreSend(10))
+                .then(expectAllMessagesToBeReceivedByAllSubscribers());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus;
+
+import com.envimate.messageMate.messageBus.config.FixedEventTypeMessageBusConfigurationResolver;
+import com.envimate.messageMate.messageBus.config.MessageBusTestConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static com.envimate.messageMate.messageBus.givenWhenThen.Given.given;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusActionBuilder.aMessageIsSendForAnUnknownEventTypeWithACollidingHashCode;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusActionBuilder.aMessageIsSendForEachEventTypeWithACollidingHashCode;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusSetupBuilder.aConfiguredMessageBus;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusValidationBuilder.expectEachSubscriberToReceiveOnlyTheMessageOfItsEventType;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusValidationBuilder.expectNoSubscriberOfTheCollidingEventTypesToReceiveTheMessage;
+
+@ExtendWith(FixedEventTypeMessageBusConfigurationResolver.class)
+public class FixedEventTypeMessageBusSpecs implements MessageBusSpecs {
+
+    //routing of fixed EventTypes
+    @Test
+    public void testMessageBus_separatesFixedEventTypesWithEqualHashCodes(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForEachEventTypeWithACollidingHashCode())
+                .when(aMessageIsSendForEachEventTypeWithACollidingHashCode())
+                .then(expectEachSubscriberToReceiveOnlyTheMessageOfItsEventType());
+    }
+
+    @Test
+    public void testMessageBus_doesNotRouteAnUnknownEventTypeWithACollidingHashCodeToAFixedEventType(
+            final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForEachEventTypeWithACollidingHashCode())
+                .when(aMessageIsSendForAnUnknownEventTypeWithACollidingHashCode())
+                .then(expectNoSubscriberOfTheCollidingEventTypesToReceiveTheMessage());
+    }
+}
@@ -26,6 +26,7 @@ import com.envimate.messageMate.internal.enforcing.MustNotBeNullException;
 import com.envimate.messageMate.messageBus.config.MessageBusTestConfig;
 import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.shared.subscriber.TestException;
+import com.envimate.messageMate.shared.testMessages.TestMessage;
 import com.envimate.messageMate.shared.testMessages.TestMessageOfInterest;
 import org.junit.jupiter.api.Test;
 
@@ -33,8 +34,16 @@ import static com.envimate.messageMate.messageBus.givenWhenThen.Given.given;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusActionBuilder.*;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusSetupBuilder.aConfiguredMessageBus;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusValidationBuilder.*;
+import static com.envimate.messageMate.processingContext.EventType.eventTypeFromClass;
+import static com.envimate.messageMate.processingContext.EventType.eventTypeFromString;
+import static com.envimate.messageMate.processingContext.EventTypePattern.eventTypePattern;
+import static com.envimate.messageMate.processingContext.EventTypePattern.subtypesOf;
 import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
 import static com.envimate.messageMate.shared.testMessages.TestMessageOfInterest.messageOfInterest;
+import static com.envimate.messageMate.subscribing.OverflowStrategy.DROP_OLDEST;
+import static com.envimate.messageMate.subscribing.OverflowStrategy.FAIL;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
 
 public interface MessageBusSpecs {
 
@@ -82,6 +91,23 @@ public interface MessageBusSpecs {
                 .then(expectTheMessageToBeReceived());
     }
 
+    @Test
+    default void testMessageBus_ignoresSurroundingWhitespaceOfEventTypes(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForTyp(eventTypeFromString("  whitespaceEventType ")))
+                .when(aSingleMessageIsSendWithTheEventType(eventTypeFromString("whitespaceEventType")))
+                .then(expectTheMessageToBeReceived());
+    }
+
+    @Test
+    default void testMessageBus_deliversMessagesOfAClassBasedEventTypeToSubscribersOfTheClassName(
+            final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForTyp(eventTypeFromString(TestMessageOfInterest.class.getName())))
+                .when(aSingleMessageIsSendWithTheEventType(eventTypeFromClass(TestMessageOfInterest.class)))
+                .then(expectTheMessageToBeReceived());
+    }
+
     @Test
     default void testMessageBus_throwsExceptionWhenEventTypeIsNotSet(final MessageBusTestConfig config) {
         given(aConfiguredMessageBus(config))
@@ -124,6 +150,34 @@ public interface MessageBusSpecs {
                 .then(expectAllRemainingSubscribersToStillBeSubscribed());
     }
 
+    //subscriber order
+    @Test
+    default void testMessageBus_deliversToTheSubscribersInTheOrderTheySubscribed(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withSeveralSubscriberRecordingTheOrderOfDelivery(3))
+                .when(theSecondSubscriberUnsubscribesAndANewSubscriberSubscribes()
+                        .andThen(aSingleMessageIsSend()))
+                .then(expectTheMessageToBeDeliveredToTheSubscribersInTheOrder("subscriber0", "subscriber2", "subscriber3"));
+    }
+
+    @Test
+    default void testMessageBus_deliversASubscriberSubscribedTwiceTwice(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withSeveralSubscriberRecordingTheOrderOfDelivery(2))
+                .when(theFirstSubscriberSubscribesASecondTime()
+                        .andThen(aSingleMessageIsSend()))
+                .then(expectTheMessageToBeDeliveredToTheSubscribersInTheOrder("subscriber0", "subscriber1", "subscriber0"));
+    }
+
+    @Test
+    default void testMessageBus_subscriberCanUnsubscribeAnotherSubscriberDuringADelivery(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberUnsubscribingTheFollowingSubscriberWhenDelivered()
+                .withSeveralSubscriberRecordingTheOrderOfDelivery(2))
+                .when(aSingleMessageIsSend())
+                .then(expectTheMessageToReachTheSubscriberUnsubscribedDuringItsDelivery());
+    }
+
     //MessageId and CorrelationId
     @Test
     default void testMessageBus_sendMessageHasConstantMessageIdAndCanGenerateMatchingCorrelationId(
@@ -134,6 +188,22 @@ public interface MessageBusSpecs {
                 .then(expectTheMessageToHaveTheSameMessageIdAndAMatchingGeneratedCorrelationId());
     }
 
+    @Test
+    default void testMessageBus_takesTheMessageIdFromTheCurrentIdGenerator(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASingleRawSubscriber())
+                .when(aSingleMessageIsSendWhileAFixedIdGeneratorIsUsed())
+                .then(expectTheMessageIdOfTheFixedIdGenerator());
+    }
+
+    @Test
+    default void testMessageBus_assignsDistinctMessageIdsToMessagesSendFromSeveralThreads(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASingleRawSubscriber())
+                .when(severalMessagesAreSendAsynchronously(8, 100))
+                .then(expectEachMessageToHaveADistinctMessageId(8 * 100));
+    }
+
     @Test
     default void testMessageBus_canSetCorrelationIdWhenSend(final MessageBusTestConfig config) {
         given(aConfiguredMessageBus(config)
@@ -167,6 +237,144 @@ public interface MessageBusSpecs {
                 .then(expectNoMessagesToBeDelivered());
     }
 
+    @Test
+    default void testMessageBus_keepsDeliveringToTheRemainingSubscribersOfACorrelationId(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForACorrelationId()
+                .withAnUnsubscribingSubscriberForTheSameCorrelationId())
+                .when(theSubscriberForTheCorrelationIdUnsubscribes()
+                        .andThen(aMessageWithCorrelationIdIsSend()))
+                .then(expectTheEndedCorrelationSubscriberToReceiveNoMessage());
+    }
+
+    @Test
+    default void testMessageBus_deliversOnlyTheFirstMessageToASingleShotSubscriber(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASingleShotSubscriberForACorrelationId()
+                .withASubscriberForACorrelationId())
+                .when(aMessageWithCorrelationIdIsSend()
+                        .andThen(aMessageWithCorrelationIdIsSend()))
+                .then(expectTheSingleShotSubscriberToReceiveOnlyTheFirstMessage());
+    }
+
+    @Test
+    default void testMessageBus_deliversToACorrelationSubscriberWithinItsTimeToLive(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForACorrelationIdWithATimeToLive(1, MINUTES)
+                .withASubscriberForACorrelationId())
+                .when(aMessageWithCorrelationIdIsSend())
+                .then(expectTheCorrelationSubscriberWithinItsTimeToLiveToReceiveTheMessage());
+    }
+
+    @Test
+    default void testMessageBus_removesACorrelationSubscriberAfterItsTimeToLive(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForACorrelationIdWithATimeToLive(50, MILLISECONDS)
+                .withASubscriberForACorrelationId())
+                .when(aMessageWithCorrelationIdIsSendAfterAWaitOf(300))
+                .then(expectTheEndedCorrelationSubscriberToReceiveNoMessage());
+    }
+
+    //patterns
+    @Test
+    default void testMessageBus_canSubscribeForANamespaceOfEventTypes(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForTheEventTypePattern(eventTypePattern("testEventType_*")))
+                .when(aSingleMessageIsSend())
+                .then(expectTheMessageToBeReceived());
+    }
+
+    @Test
+    default void testMessageBus_doesNotDeliverToNotMatchingEventTypePatterns(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForTheEventTypePattern(eventTypePattern("otherEventType_*")))
+                .when(aSingleMessageIsSend())
+                .then(expectNoMessagesToBeDelivered());
+    }
+
+    @Test
+    default void testMessageBus_canSubscribeForAllSubtypesOfAClass(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForTheEventTypePattern(subtypesOf(TestMessage.class)))
+                .when(aSingleMessageIsSend())
+                .then(expectTheMessageToBeReceived());
+    }
+
+    @Test
+    default void testMessageBus_canUnsubscribeForEventTypePatterns(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForTheEventTypePattern(eventTypePattern("testEventType_*")))
+                .when(theSubscriberForTheEventTypePatternUnsubscribes()
+                        .andThen(aSingleMessageIsSend()))
+                .then(expectNoMessagesToBeDelivered());
+    }
+
+    @Test
+    default void testMessageBus_canUnsubscribeForSubtypePatterns(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForTheEventTypePattern(subtypesOf(TestMessage.class)))
+                .when(theSubscriberForTheEventTypePatternUnsubscribes()
+                        .andThen(aSingleMessageIsSend()))
+                .then(expectNoMessagesToBeDelivered());
+    }
+
+    @Test
+    default void testMessageBus_deliversToSubtypePatternSubscribersAddedAfterTheirPayloadClassWasSend(
+            final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config))
+                .when(aMessageIsSendBeforeAndAfterASubscriberForTheEventTypePatternIsAdded(subtypesOf(TestMessage.class)))
+                .then(expectTheMessageToBeReceived());
+    }
+
+    @Test
+    default void testMessageBus_listsSubtypePatternSubscribersOnlyOnce(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForTyp(EventType.eventTypeFromString("type1"))
+                .withASubscriberForTyp(EventType.eventTypeFromString("type2"))
+                .withASubscriberForTheEventTypePattern(subtypesOf(TestMessage.class)))
+                .when(allSubscribersAreQueriedAsList())
+                .then(expectAListOfSize(3));
+    }
+
+    @Test
+    default void testMessageBus_deliversToPatternSubscribersOfAlreadyExistingChannels(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASingleSubscriber()
+                .withASubscriberForTheEventTypePattern(eventTypePattern("testEventType_*")))
+                .when(aSingleMessageIsSend())
+                .then(expectTheMessageToBeReceived());
+    }
+
+    @Test
+    default void testMessageBus_doesNotDeliverToNotMatchingSubtypePatterns(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASubscriberForTheEventTypePattern(subtypesOf(String.class)))
+                .when(aSingleMessageIsSend())
+                .then(expectNoMessagesToBeDelivered());
+    }
+
+    @Test
+    default void testMessageBus_exceptionListenerIsCalledForExceptionsOfPatternSubscribers(
+            final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withAnExceptionThrowingSubscriberForTheEventTypePattern(eventTypePattern("testEventType_*"))
+                .withADynamicExceptionListenerForEventType())
+                .when(aSingleMessageIsSend())
+                .then(expectTheExceptionHandled(TestException.class));
+    }
+
+    @Test
+    default void testMessageBus_customExceptionHandlerCanMarkExceptionsOfPatternSubscribersAsNotDeliveryAborting(
+            final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withAnExceptionThrowingSubscriberForTheEventTypePattern(subtypesOf(TestMessage.class))
+                .withACustomExceptionHandlerMarkingExceptionAsIgnored())
+                .when(aSingleMessageIsSend()
+                        .andThen(theNumberOfSuccessfulMessagesIsQueried()))
+                .then(expectResultToBe(1)
+                        .and(expectNoException()));
+    }
+
     //filter
     @Test
     default void testMessageBus_allowsFiltersToChangeMessages(final MessageBusTestConfig config) {
@@ -482,6 +690,32 @@ public interface MessageBusSpecs {
                 .then(expectAListOfSize(2));
     }
 
+    //reactive streams
+    @Test
+    default void testMessageBus_publisherDeliversBufferedMessagesOnlyOnDemand(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withAFlowSubscriberWithoutDemand(3, DROP_OLDEST))
+                .when(severalMessagesAreSend(5)
+                        .andThen(theFlowSubscriberRequestsAllMessagesAfterTheirDelivery()))
+                .then(expectTheFlowSubscriberToReceiveOnlyTheBufferedMessages(3));
+    }
+
+    @Test
+    default void testMessageBus_publisherFailsAndUnsubscribesAnOverflowingSubscriber(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withAFlowSubscriberWithoutDemand(3, FAIL))
+                .when(severalMessagesAreSend(5))
+                .then(expectTheFlowSubscriberToFailWithAnOverflowAndToBeUnsubscribed());
+    }
+
+    @Test
+    default void testMessageBus_flowSubscriberSendsAllPublishedMessages(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withASingleSubscriber())
+                .when(severalMessagesArePublishedToTheFlowSubscriberOfTheMessageBus(200))
+                .then(expectAllMessagesToBeReceivedByAllSubscribers());
+    }
+
     //await
     @Test
     default void testMessageBus_awaitWithoutCloseReturnsAlwaysTrue(final MessageBusTestConfig config) {
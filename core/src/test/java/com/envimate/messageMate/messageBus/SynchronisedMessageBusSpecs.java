@@ -66,6 +66,34 @@ public class SynchronisedMessageBusSpecs implements MessageBusSpecs {
                 .then(expectXMessagesToBeDelivered(10));
     }
 
+    //pooling
+    @Test
+    public void testMessageBus_pooledProcessingContextsAreReusedAfterTheDelivery(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withProcessingContextPooling()
+                .withARawSubscriberKeepingThePooledProcessingContexts())
+                .when(severalMessagesAreSend(2))
+                .then(expectTheSameProcessingContextToBeReusedForAllMessages());
+    }
+
+    @Test
+    public void testMessageBus_retainedProcessingContextsAreNotReusedUntilReleased(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withProcessingContextPooling()
+                .withARawSubscriberRetainingTheProcessingContexts())
+                .when(severalMessagesAreSend(2))
+                .then(expectTheRetainedProcessingContextsToStayIntact());
+    }
+
+    @Test
+    public void testMessageBus_processingContextsNeverReleasedAreReportedAsLeaks(final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withALeakDetectingProcessingContextPool()
+                .withARawSubscriberRetainingButNeverReleasingTheProcessingContexts())
+                .when(severalMessagesAreSend(3))
+                .then(expectTheLeakedProcessingContextsToBeReported());
+    }
+
     //errors
     @Test
     public void testMessageBus_dynamicErrorHandlerIsCalledOnceIfMessageBusExceptionHandlerRethrowsException(
@@ -85,4 +113,14 @@ public class SynchronisedMessageBusSpecs implements MessageBusSpecs {
                 .when(aSingleMessageIsSend())
                 .then(expectTheException(TestException.class));
     }
+
+    @Test
+    public void testMessageBus_flowSubscriberCancelsItsSubscriptionInsteadOfThrowingWhenTheSendFails(
+            final MessageBusTestConfig config) {
+        given(aConfiguredMessageBus(config)
+                .withAnExceptionThrowingSubscriber()
+                .withADynamicErrorListenerAndAnErrorThrowingExceptionHandler())
+                .when(aMessageIsPublishedToTheFlowSubscriberOfTheMessageBus())
+                .then(expectTheFlowSubscriptionToBeCancelledAndTheExceptionHandled(TestException.class));
+    }
 }
@@ -22,35 +22,85 @@
 package com.envimate.messageMate.messageBus.config;
 
 import com.envimate.messageMate.configuration.AsynchronousConfiguration;
+import com.envimate.messageMate.configuration.PoolingConfiguration;
 import com.envimate.messageMate.messageBus.MessageBusType;
+import com.envimate.messageMate.processingContext.EventType;
 import lombok.*;
 
+import java.util.List;
+
+import static com.envimate.messageMate.configuration.AsynchronousConfiguration.batchingAsynchronousConfiguration;
 import static com.envimate.messageMate.configuration.AsynchronousConfiguration.constantPoolSizeAsynchronousConfiguration;
+import static com.envimate.messageMate.configuration.PoolingConfiguration.poolingConfiguration;
 import static com.envimate.messageMate.messageBus.MessageBusType.ASYNCHRONOUS;
+import static com.envimate.messageMate.messageBus.MessageBusType.PARTITIONED;
 import static com.envimate.messageMate.messageBus.MessageBusType.SYNCHRONOUS;
+import static com.envimate.messageMate.shared.eventType.TestEventType.differentEventTypeWithCollidingHashCode;
+import static com.envimate.messageMate.shared.eventType.TestEventType.differentTestEventType;
+import static com.envimate.messageMate.shared.eventType.TestEventType.eventTypeWithCollidingHashCode;
+import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MessageBusTestConfig {
     public static final int ASYNCHRONOUS_DELIVERY_POOL_SIZE = 3;
+    public static final int ASYNCHRONOUS_DELIVERY_QUEUE_BOUND = 3;
+    public static final int BATCHING_DELIVERY_MAXIMUM_BATCH_SIZE = 16;
+    public static final int BATCHING_DELIVERY_MAXIMUM_BATCH_WAIT_IN_MICROSECONDS = 10_000;
     @Getter
     private final MessageBusType type;
     @Getter
     private final AsynchronousConfiguration asynchronousConfiguration;
+    @Getter
+    private final List<EventType> fixedEventTypes;
+    @Getter
+    private final PoolingConfiguration poolingConfiguration;
 
     static MessageBusTestConfig aSynchronousMessageBus() {
-        return new MessageBusTestConfig(SYNCHRONOUS, null);
+        return new MessageBusTestConfig(SYNCHRONOUS, null, emptyList(), null);
+    }
+
+    static MessageBusTestConfig aSynchronousMessageBusWithFixedEventTypes() {
+        final List<EventType> fixedEventTypes = asList(testEventType(), differentTestEventType(),
+                eventTypeWithCollidingHashCode(), differentEventTypeWithCollidingHashCode());
+        return new MessageBusTestConfig(SYNCHRONOUS, null, fixedEventTypes, null);
     }
 
     static MessageBusTestConfig anAsynchronousMessageBus() {
         final int poolSize = ASYNCHRONOUS_DELIVERY_POOL_SIZE;
         final AsynchronousConfiguration asynchronousConfiguration = constantPoolSizeAsynchronousConfiguration(poolSize);
-        return new MessageBusTestConfig(ASYNCHRONOUS, asynchronousConfiguration);
+        return new MessageBusTestConfig(ASYNCHRONOUS, asynchronousConfiguration, emptyList(), null);
+    }
+
+    static MessageBusTestConfig anAsynchronousMessageBusWithProcessingContextPooling() {
+        final int poolSize = ASYNCHRONOUS_DELIVERY_POOL_SIZE;
+        final AsynchronousConfiguration asynchronousConfiguration = constantPoolSizeAsynchronousConfiguration(poolSize);
+        return new MessageBusTestConfig(ASYNCHRONOUS, asynchronousConfiguration, emptyList(), poolingConfiguration(16));
+    }
+
+    static MessageBusTestConfig aBatchingAsynchronousMessageBus() {
+        final AsynchronousConfiguration asynchronousConfiguration = batchingAsynchronousConfiguration(
+                ASYNCHRONOUS_DELIVERY_POOL_SIZE, BATCHING_DELIVERY_MAXIMUM_BATCH_SIZE,
+                BATCHING_DELIVERY_MAXIMUM_BATCH_WAIT_IN_MICROSECONDS);
+        return new MessageBusTestConfig(ASYNCHRONOUS, asynchronousConfiguration, emptyList(), null);
+    }
+
+    public static MessageBusTestConfig anAsynchronousBoundedMessageBus() {
+        final int poolSize = ASYNCHRONOUS_DELIVERY_POOL_SIZE;
+        final int queueBound = ASYNCHRONOUS_DELIVERY_QUEUE_BOUND;
+        final AsynchronousConfiguration asynchronousConfiguration = constantPoolSizeAsynchronousConfiguration(poolSize, queueBound);
+        return new MessageBusTestConfig(ASYNCHRONOUS, asynchronousConfiguration, emptyList(), null);
+    }
+
+    static MessageBusTestConfig aPartitionedMessageBus() {
+        return new MessageBusTestConfig(PARTITIONED, null, emptyList(), null);
     }
 
     public boolean isAsynchronous() {
-        return type == ASYNCHRONOUS;
+        return type != SYNCHRONOUS;
     }
 
 }
@@ -22,35 +22,61 @@
 package com.envimate.messageMate.messageBus.givenWhenThen;
 
 import com.envimate.messageMate.channel.Channel;
+import com.envimate.messageMate.identification.MessageId;
+import com.envimate.messageMate.identification.UniqueIdGenerator;
 import com.envimate.messageMate.messageBus.MessageBus;
 import com.envimate.messageMate.messageBus.MessageBusStatusInformation;
 import com.envimate.messageMate.messageBus.exception.MessageBusExceptionListener;
 import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.EventTypePattern;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.givenWhenThen.TestAction;
+import com.envimate.messageMate.shared.pipeChannelMessageBus.testActions.SendingActions;
+import com.envimate.messageMate.shared.subscriber.FlowTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.BlockingTestSubscriber;
 import com.envimate.messageMate.shared.testMessages.TestMessage;
+import com.envimate.messageMate.shared.testMessages.TestMessageOfInterest;
 import com.envimate.messageMate.subscribing.Subscriber;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.envimate.messageMate.identification.UniqueIdGenerators.currentIdGenerator;
+import static com.envimate.messageMate.identification.UniqueIdGenerators.useIdGenerator;
 import static com.envimate.messageMate.messageBus.config.MessageBusTestConfig.ASYNCHRONOUS_DELIVERY_POOL_SIZE;
+import static com.envimate.messageMate.messageBus.config.MessageBusTestConfig.ASYNCHRONOUS_DELIVERY_QUEUE_BOUND;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestActions.*;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.CORRELATION_SUBSCRIPTION_ID;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.FIXED_MESSAGE_ID;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.FLOW_SUBSCRIBER;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.FLOW_SUBSCRIPTION_CANCELLED;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.IS_PARTITIONED;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.MESSAGES_PER_EVENT_TYPE;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.PAYLOADS_BEFORE_DEMAND;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.PATTERN_SUBSCRIPTION_ID;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.RESULT;
+import static com.envimate.messageMate.shared.eventType.TestEventType.differentTestEventType;
 import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
+import static com.envimate.messageMate.shared.eventType.TestEventType.unknownEventTypeWithCollidingHashCode;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.*;
 import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntilEquals;
 import static com.envimate.messageMate.shared.subscriber.BlockingTestSubscriber.blockingTestSubscriber;
+import static com.envimate.messageMate.shared.testMessages.TestMessageOfInterest.messageOfInterest;
 import static com.envimate.messageMate.shared.utils.FilterTestUtils.queryFilter;
 import static com.envimate.messageMate.shared.utils.SendingTestUtils.*;
 import static com.envimate.messageMate.shared.utils.ShutdownTestUtils.*;
 import static com.envimate.messageMate.shared.utils.SubscriptionTestUtils.*;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public final class MessageBusActionBuilder {
     private List<TestAction<MessageBus>> actions = new ArrayList<>();
@@ -67,6 +93,30 @@ public final class MessageBusActionBuilder {
         });
     }
 
+    public static MessageBusActionBuilder aSingleMessageIsSendWithTheEventType(final EventType eventType) {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            sendSingleMessage(testActions, testEnvironment, eventType);
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder aSingleMessageIsSendWhileAFixedIdGeneratorIsUsed() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final UniqueIdGenerator previousIdGenerator = currentIdGenerator();
+            final UUID fixedUuid = UUID.randomUUID();
+            testEnvironment.setProperty(FIXED_MESSAGE_ID, MessageId.fromString(fixedUuid.toString()));
+            try {
+                useIdGenerator(() -> fixedUuid);
+                final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+                sendSingleMessage(testActions, testEnvironment);
+            } finally {
+                useIdGenerator(previousIdGenerator);
+            }
+            return null;
+        });
+    }
+
     public static MessageBusActionBuilder aMessageWithoutPayloadIsSend() {
         return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
             final MessageBusTestActions testActions = messageBusTestActions(messageBus);
@@ -108,6 +158,25 @@ public final class MessageBusActionBuilder {
         });
     }
 
+    public static MessageBusActionBuilder severalMessagesAreSendWhileTheOtherDeliveringThreadsAreBlocked(
+            final int numberOfMessages,
+            final int numberOfBlockedThreads) {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            final Semaphore semaphore = new Semaphore(0);
+            final BlockingTestSubscriber<TestMessage> blockingSubscriber = blockingTestSubscriber(semaphore);
+            final EventType blockingEventType = differentTestEventType();
+            testActions.subscribe(blockingEventType, blockingSubscriber);
+            testEnvironment.setProperty(EXECUTION_END_SEMAPHORE, semaphore);
+            for (int i = 0; i < numberOfBlockedThreads; i++) {
+                testActions.send(blockingEventType, messageOfInterest());
+            }
+            pollUntilEquals(blockingSubscriber::getNumberOfBlockedThreads, numberOfBlockedThreads);
+            sendSeveralMessages(testActions, numberOfMessages, testEnvironment);
+            return null;
+        });
+    }
+
     public static MessageBusActionBuilder severalMessagesAreSendAsynchronously(final int numberOfSender,
                                                                                final int numberOfMessagesPerSender) {
         return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
@@ -131,6 +200,71 @@ public final class MessageBusActionBuilder {
         });
     }
 
+    public static MessageBusActionBuilder theMessageBusIsFilledUpToItsCapacityWithBlockedMessages() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final int poolSize = ASYNCHRONOUS_DELIVERY_POOL_SIZE;
+            final int completeCapacity = poolSize + ASYNCHRONOUS_DELIVERY_QUEUE_BOUND;
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            final Semaphore semaphore = addABlockingSubscriberAndThenSendXMessagesInEachThread(testActions, completeCapacity,
+                    poolSize, testEnvironment);
+            testEnvironment.setProperty(EXECUTION_END_SEMAPHORE, semaphore);
+            pollUntilEquals(testActions::queryTheNumberOfQueuedMessages, ASYNCHRONOUS_DELIVERY_QUEUE_BOUND);
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder aMessageIsSendWithoutWaitingForCapacity() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final Optional<MessageId> messageId = messageBus.trySend(testEventType(), messageOfInterest());
+            testEnvironment.setProperty(RESULT, messageId.isPresent());
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder aMessageIsSendWaitingForCapacityWhileTheBlockingSubscriberIsReleased(
+            final int timeoutInMilliseconds) {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            releaseTheBlockingSubscriberAfterMilliseconds(testEnvironment, 20);
+            try {
+                final Optional<MessageId> messageId = messageBus.send(testEventType(), messageOfInterest(),
+                        timeoutInMilliseconds, MILLISECONDS);
+                testEnvironment.setProperty(RESULT, messageId.isPresent());
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder aMessageIsSendAwaitingCapacityWhileTheBlockingSubscriberIsReleased() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            releaseTheBlockingSubscriberAfterMilliseconds(testEnvironment, 20);
+            try {
+                messageBus.sendAwaitingCapacity(testEventType(), messageOfInterest());
+                testEnvironment.setProperty(RESULT, true);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder severalMessagesAreSendAsynchronouslyAwaitingCapacity(
+            final int numberOfSender,
+            final int numberOfMessagesPerSender) {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final SendingActions sendingActions = (eventType, message) -> {
+                try {
+                    return messageBus.sendAwaitingCapacity(eventType, message);
+                } catch (final InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            };
+            sendValidMessagesAsynchronouslyNew(sendingActions, testEnvironment, numberOfSender, numberOfMessagesPerSender, true);
+            return null;
+        });
+    }
+
     public static MessageBusActionBuilder severalMessagesAreSendAsynchronouslyButWillBeBlocked(final int numberOfMessages) {
         return severalMessagesAreSendAsynchronouslyButWillBeBlocked(numberOfMessages, numberOfMessages);
     }
@@ -146,6 +280,26 @@ public final class MessageBusActionBuilder {
         });
     }
 
+    public static MessageBusActionBuilder severalMessagesAreSendToABlockingSubscriberBeforeTheBusIsShutdown(
+            final int numberOfMessages,
+            final boolean finishRemainingTasks) {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            final Semaphore semaphore = new Semaphore(0);
+            final BlockingTestSubscriber<TestMessage> subscriber = blockingTestSubscriber(semaphore);
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            testActions.subscribe(eventType, subscriber);
+            for (int i = 0; i < numberOfMessages; i++) {
+                testActions.send(eventType, messageOfInterest());
+            }
+            pollUntilEquals(subscriber::getNumberOfBlockedThreads, ASYNCHRONOUS_DELIVERY_POOL_SIZE);
+            testActions.close(finishRemainingTasks);
+            semaphore.release(numberOfMessages);
+            awaitTermination(testActions, testEnvironment);
+            return null;
+        });
+    }
+
     private static int determineExpectedNumberOfBlockedThreads(final int numberOfMessages,
                                                                final TestEnvironment testEnvironment) {
         final int expectedBlockedThreads;
@@ -157,6 +311,71 @@ public final class MessageBusActionBuilder {
         return expectedBlockedThreads;
     }
 
+    private static int determineExpectedNumberOfBlockedLanes(final int numberOfMessages,
+                                                             final TestEnvironment testEnvironment) {
+        final int expectedBlockedThreads;
+        if (testEnvironment.getPropertyAsType(IS_PARTITIONED, Boolean.class)) {
+            //all messages share the same EventType and therefore the same lane
+            expectedBlockedThreads = 1;
+        } else {
+            expectedBlockedThreads = numberOfMessages;
+        }
+        return expectedBlockedThreads;
+    }
+
+    public static MessageBusActionBuilder theFlowSubscriberRequestsAllMessagesAfterTheirDelivery() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            final Object expectedNumberOfSendMessages = testEnvironment.getProperty(NUMBER_OF_MESSAGES_SHOULD_BE_SEND);
+            pollUntilEquals(testActions::queryTheNumberOfSuccessfulDeliveredMessages, expectedNumberOfSendMessages);
+            final FlowTestSubscriber flowTestSubscriber = testEnvironment.getPropertyAsType(FLOW_SUBSCRIBER,
+                    FlowTestSubscriber.class);
+            testEnvironment.setProperty(PAYLOADS_BEFORE_DEMAND, flowTestSubscriber.getPayloadsSoFar().size());
+            flowTestSubscriber.request(Long.MAX_VALUE);
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder severalMessagesArePublishedToTheFlowSubscriberOfTheMessageBus(
+            final int numberOfMessages) {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final Flow.Subscriber<Object> subscriber = messageBus.subscriberFor(eventType);
+            try (SubmissionPublisher<Object> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(subscriber);
+                for (int i = 0; i < numberOfMessages; i++) {
+                    final TestMessageOfInterest message = messageOfInterest();
+                    testEnvironment.addToListProperty(MESSAGES_SEND, message);
+                    publisher.submit(message);
+                }
+            }
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder aMessageIsPublishedToTheFlowSubscriberOfTheMessageBus() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final Flow.Subscriber<Object> subscriber = messageBus.subscriberFor(eventType);
+            final AtomicBoolean cancelled = new AtomicBoolean();
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+            final TestMessageOfInterest message = messageOfInterest();
+            testEnvironment.addToListProperty(MESSAGES_SEND, message);
+            subscriber.onNext(message);
+            testEnvironment.setProperty(FLOW_SUBSCRIPTION_CANCELLED, cancelled.get());
+            return null;
+        });
+    }
+
     public static MessageBusActionBuilder aSingleMessageWithErrorPayloadIsSend() {
         return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
             final MessageBusTestActions testActions = MessageBusTestActions.messageBusTestActions(messageBus);
@@ -189,6 +408,44 @@ public final class MessageBusActionBuilder {
         });
     }
 
+    public static MessageBusActionBuilder theSecondSubscriberUnsubscribesAndANewSubscriberSubscribes() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            unsubscribeOrderRecordingSubscriber(messageBus, testEnvironment, 1);
+            addASubscriberRecordingTheOrderOfDelivery(messageBus, testEnvironment);
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder theFirstSubscriberSubscribesASecondTime() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final Subscriber<Object> firstSubscriber = getOrderRecordingSubscribers(testEnvironment).get(0);
+            subscribeOrderRecordingSubscriberAgain(messageBus, testEnvironment, firstSubscriber);
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder aMessageIsSendForEachEventTypeWithACollidingHashCode() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            final Map<EventType, TestMessage> messagesPerEventType = new HashMap<>();
+            for (final EventType eventType : getSubscribersPerEventType(testEnvironment).keySet()) {
+                final TestMessage message = messageOfInterest();
+                testActions.send(eventType, message);
+                messagesPerEventType.put(eventType, message);
+            }
+            testEnvironment.setProperty(MESSAGES_PER_EVENT_TYPE, messagesPerEventType);
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder aMessageIsSendForAnUnknownEventTypeWithACollidingHashCode() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            testActions.send(unknownEventTypeWithCollidingHashCode(), messageOfInterest());
+            return null;
+        });
+    }
+
     public static MessageBusActionBuilder theSubscriberForTheCorrelationIdUnsubscribes() {
         return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
             final SubscriptionId subscriptionId = getUsedSubscriptionId(testEnvironment);
@@ -198,6 +455,41 @@ public final class MessageBusActionBuilder {
         });
     }
 
+    public static MessageBusActionBuilder aMessageWithCorrelationIdIsSendAfterAWaitOf(final long waitInMilliseconds) {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            try {
+                MILLISECONDS.sleep(waitInMilliseconds);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            sendMessageWithCorrelationId(testActions, testEnvironment);
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder theSubscriberForTheEventTypePatternUnsubscribes() {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final SubscriptionId subscriptionId = testEnvironment.getPropertyAsType(PATTERN_SUBSCRIPTION_ID, SubscriptionId.class);
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            unsubscribe(testActions, subscriptionId);
+            return null;
+        });
+    }
+
+    public static MessageBusActionBuilder aMessageIsSendBeforeAndAfterASubscriberForTheEventTypePatternIsAdded(
+            final EventTypePattern pattern) {
+        return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
+            final MessageBusTestActions testActions = messageBusTestActions(messageBus);
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            testActions.send(eventType, messageOfInterest());
+            pollUntilEquals(testActions::queryTheNumberOfSuccessfulDeliveredMessages, 1L);
+            addSubscriberForAnEventTypePattern(messageBus, testEnvironment, pattern);
+            sendSingleMessage(testActions, testEnvironment);
+            return null;
+        });
+    }
+
     private static SubscriptionId getUsedSubscriptionId(final TestEnvironment testEnvironment) {
         return testEnvironment.getPropertyAsType(CORRELATION_SUBSCRIPTION_ID, SubscriptionId.class);
     }
@@ -320,7 +612,9 @@ public final class MessageBusActionBuilder {
             final int numberOfMessages) {
         return new MessageBusActionBuilder((messageBus, testEnvironment) -> {
             final MessageBusTestActions testActions = messageBusTestActions(messageBus);
-            sendMessagesBeforeShutdownAsynchronously(testActions, testEnvironment, numberOfMessages, false);
+            final int expectedBlockedThreads = determineExpectedNumberOfBlockedLanes(numberOfMessages, testEnvironment);
+            sendMessagesBeforeShutdownAsynchronously(testActions, testEnvironment, numberOfMessages, false,
+                    expectedBlockedThreads);
             return null;
         });
     }
@@ -25,30 +25,46 @@ import com.envimate.messageMate.channel.Channel;
 import com.envimate.messageMate.channel.ChannelBuilder;
 import com.envimate.messageMate.identification.CorrelationId;
 import com.envimate.messageMate.configuration.AsynchronousConfiguration;
+import com.envimate.messageMate.configuration.PoolingConfiguration;
 import com.envimate.messageMate.messageBus.MessageBus;
 import com.envimate.messageMate.messageBus.MessageBusBuilder;
 import com.envimate.messageMate.messageBus.MessageBusType;
 import com.envimate.messageMate.messageBus.config.MessageBusTestConfig;
 import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.EventTypePattern;
+import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.givenWhenThen.SetupAction;
+import com.envimate.messageMate.shared.subscriber.FlowTestSubscriber;
+import com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber;
+import com.envimate.messageMate.subscribing.OverflowStrategy;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.RequiredArgsConstructor;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static com.envimate.messageMate.channel.action.Subscription.subscription;
+import static com.envimate.messageMate.configuration.PoolingConfiguration.leakDetectingPoolingConfiguration;
+import static com.envimate.messageMate.configuration.PoolingConfiguration.poolingConfiguration;
 import static com.envimate.messageMate.identification.CorrelationId.newUniqueCorrelationId;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestActions.addARawFilterThatChangesTheContentOfEveryMessage;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestActions.messageBusTestActions;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestExceptionHandler.*;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.FLOW_SUBSCRIBER;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.IS_PARTITIONED;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.MESSAGE_RECEIVED_BY_ERROR_LISTENER;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.LEAK_CHECKS;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.REPORTED_LEAKS;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.RETAINED_PROCESSING_CONTEXTS;
 import static com.envimate.messageMate.shared.environment.TestEnvironment.emptyTestEnvironment;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.EXPECTED_RESULT;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.RESULT;
 import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.*;
+import static com.envimate.messageMate.shared.subscriber.FlowTestSubscriber.flowTestSubscriberWithoutDemand;
+import static com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber.testSubscriber;
 import static com.envimate.messageMate.shared.utils.FilterTestUtils.*;
 import static com.envimate.messageMate.shared.utils.SubscriptionTestUtils.*;
 import static lombok.AccessLevel.PRIVATE;
@@ -68,9 +84,15 @@ public final class MessageBusSetupBuilder {
         final MessageBusType type = testConfig.getType();
         final AsynchronousConfiguration asynchronousConfiguration = testConfig.getAsynchronousConfiguration();
         messageBusBuilder.forType(type)
-                .withAsynchronousConfiguration(asynchronousConfiguration);
+                .withAsynchronousConfiguration(asynchronousConfiguration)
+                .withFixedEventTypes(testConfig.getFixedEventTypes());
+        final PoolingConfiguration poolingConfiguration = testConfig.getPoolingConfiguration();
+        if (poolingConfiguration != null) {
+            messageBusBuilder.withProcessingContextPooling(poolingConfiguration);
+        }
         final boolean asynchronous = testConfig.isAsynchronous();
         testEnvironment.setProperty(IS_ASYNCHRONOUS, asynchronous);
+        testEnvironment.setProperty(IS_PARTITIONED, type == MessageBusType.PARTITIONED);
         return this;
     }
 
@@ -87,7 +109,10 @@ public final class MessageBusSetupBuilder {
             final Channel<Object> channel = ChannelBuilder.aChannel(Object.class)
                     .withDefaultAction(subscription())
                     .build();
-            testEnvironment.setPropertyIfNotSet(EXPECTED_RESULT, channel);
+            final EventType queriedEventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            if (eventType.equals(queriedEventType)) {
+                testEnvironment.setPropertyIfNotSet(EXPECTED_RESULT, channel);
+            }
             return channel;
         });
         return this;
@@ -113,6 +138,16 @@ public final class MessageBusSetupBuilder {
         return this;
     }
 
+    public MessageBusSetupBuilder withARawSubscriberKeepingThePooledProcessingContexts() {
+        setupActions.add((messageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final SimpleTestSubscriber<ProcessingContext<Object>> subscriber = testSubscriber();
+            messageBus.subscribeRaw(eventType, subscriber);
+            testEnvironment.addToListProperty(EXPECTED_RECEIVERS, subscriber);
+        });
+        return this;
+    }
+
     public MessageBusSetupBuilder withARawSubscriberForType(final EventType eventType) {
         setupActions.add((t, testEnvironment) -> {
             final MessageBusTestActions testActions = messageBusTestActions(t);
@@ -121,11 +156,40 @@ public final class MessageBusSetupBuilder {
         return this;
     }
 
+    public MessageBusSetupBuilder withASubscriberForTheEventTypePattern(final EventTypePattern pattern) {
+        setupActions.add((messageBus, testEnvironment) ->
+                MessageBusTestActions.addSubscriberForAnEventTypePattern(messageBus, testEnvironment, pattern));
+        return this;
+    }
+
+    public MessageBusSetupBuilder withAnExceptionThrowingSubscriberForTheEventTypePattern(final EventTypePattern pattern) {
+        setupActions.add((messageBus, testEnvironment) ->
+                MessageBusTestActions.addExceptionThrowingSubscriberForAnEventTypePattern(messageBus, testEnvironment, pattern));
+        return this;
+    }
+
     public MessageBusSetupBuilder withASubscriberForACorrelationId() {
         setupActions.add(MessageBusTestActions::addSubscriberForACorrelationId);
         return this;
     }
 
+    public MessageBusSetupBuilder withAnUnsubscribingSubscriberForTheSameCorrelationId() {
+        setupActions.add(MessageBusTestActions::addAnUnsubscribingSubscriberForACorrelationId);
+        return this;
+    }
+
+    public MessageBusSetupBuilder withASingleShotSubscriberForACorrelationId() {
+        setupActions.add(MessageBusTestActions::addASingleShotSubscriberForACorrelationId);
+        return this;
+    }
+
+    public MessageBusSetupBuilder withASubscriberForACorrelationIdWithATimeToLive(final long timeToLive,
+                                                                                 final TimeUnit unit) {
+        setupActions.add((messageBus, testEnvironment) -> MessageBusTestActions
+                .addASubscriberForACorrelationIdWithATimeToLive(messageBus, testEnvironment, timeToLive, unit));
+        return this;
+    }
+
     public MessageBusSetupBuilder withSeveralSubscriber(final int numberOfSubscribers) {
         setupActions.add((t, testEnvironment) -> {
             final MessageBusTestActions testActions = messageBusTestActions(t);
@@ -134,6 +198,73 @@ public final class MessageBusSetupBuilder {
         return this;
     }
 
+    public MessageBusSetupBuilder withSeveralSubscriberRecordingTheOrderOfDelivery(final int numberOfSubscribers) {
+        setupActions.add((messageBus, testEnvironment) -> {
+            for (int i = 0; i < numberOfSubscribers; i++) {
+                MessageBusTestActions.addASubscriberRecordingTheOrderOfDelivery(messageBus, testEnvironment);
+            }
+        });
+        return this;
+    }
+
+    public MessageBusSetupBuilder withASubscriberUnsubscribingTheFollowingSubscriberWhenDelivered() {
+        setupActions.add(MessageBusTestActions::addASubscriberUnsubscribingTheFollowingSubscriberWhenDelivered);
+        return this;
+    }
+
+    public MessageBusSetupBuilder withASubscriberForEachEventTypeWithACollidingHashCode() {
+        setupActions.add(MessageBusTestActions::addASubscriberForEachEventTypeWithACollidingHashCode);
+        return this;
+    }
+
+    public MessageBusSetupBuilder withSeveralBatchSubscriber(final int numberOfSubscribers) {
+        setupActions.add((t, testEnvironment) -> {
+            final MessageBusTestActions testActions = messageBusTestActions(t);
+            addSeveralBatchSubscriber(testActions, testEnvironment, numberOfSubscribers);
+        });
+        return this;
+    }
+
+    public MessageBusSetupBuilder withAFlowSubscriberWithoutDemand(final int bufferCapacity,
+                                                                  final OverflowStrategy overflowStrategy) {
+        setupActions.add((messageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final FlowTestSubscriber flowTestSubscriber = flowTestSubscriberWithoutDemand();
+            messageBus.publisherFor(eventType, bufferCapacity, overflowStrategy).subscribe(flowTestSubscriber);
+            testEnvironment.setProperty(FLOW_SUBSCRIBER, flowTestSubscriber);
+        });
+        return this;
+    }
+
+    public MessageBusSetupBuilder withProcessingContextPooling() {
+        messageBusBuilder.withProcessingContextPooling(poolingConfiguration(16));
+        return this;
+    }
+
+    public MessageBusSetupBuilder withALeakDetectingProcessingContextPool() {
+        messageBusBuilder.withProcessingContextPooling(leakDetectingPoolingConfiguration(16,
+                leak -> testEnvironment.addToListProperty(REPORTED_LEAKS, leak),
+                (processingContext, leakCheck) -> testEnvironment.addToListProperty(LEAK_CHECKS, leakCheck)));
+        return this;
+    }
+
+    public MessageBusSetupBuilder withARawSubscriberRetainingTheProcessingContexts() {
+        setupActions.add((messageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            messageBus.subscribeRaw(eventType, processingContext ->
+                    testEnvironment.addToListProperty(RETAINED_PROCESSING_CONTEXTS, processingContext.retain()));
+        });
+        return this;
+    }
+
+    public MessageBusSetupBuilder withARawSubscriberRetainingButNeverReleasingTheProcessingContexts() {
+        setupActions.add((messageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            messageBus.subscribeRaw(eventType, ProcessingContext::retain);
+        });
+        return this;
+    }
+
     public MessageBusSetupBuilder withAFilterThatChangesTheContentOfEveryMessage() {
         setupActions.add((messageBus, testEnvironment1) -> {
             final MessageBusTestActions testActions = messageBusTestActions(messageBus);
@@ -245,8 +376,8 @@ public final class MessageBusSetupBuilder {
             final CorrelationId correlationId = newUniqueCorrelationId();
             testEnvironment.setProperty(EXPECTED_CORRELATION_ID, correlationId);
             final SubscriptionId subscriptionId = messageBus.onException(correlationId, (m, e) -> {
+                this.testEnvironment.setPropertyIfNotSet(MESSAGE_RECEIVED_BY_ERROR_LISTENER, m.detached());
                 this.testEnvironment.setPropertyIfNotSet(RESULT, e);
-                this.testEnvironment.setPropertyIfNotSet(MESSAGE_RECEIVED_BY_ERROR_LISTENER, m);
             });
             this.testEnvironment.setProperty(USED_SUBSCRIPTION_ID, subscriptionId);
         });
@@ -265,8 +396,8 @@ public final class MessageBusSetupBuilder {
             this.testEnvironment.setProperty(USED_SUBSCRIPTION_ID, subscriptionId);
 
             messageBus.onException(correlationId, (m, e) -> {
+                this.testEnvironment.setPropertyIfNotSet(MESSAGE_RECEIVED_BY_ERROR_LISTENER, m.detached());
                 this.testEnvironment.setProperty(RESULT, e);
-                this.testEnvironment.setPropertyIfNotSet(MESSAGE_RECEIVED_BY_ERROR_LISTENER, m);
             });
         });
         return this;
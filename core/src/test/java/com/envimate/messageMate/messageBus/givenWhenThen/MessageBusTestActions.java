@@ -31,9 +31,11 @@ import com.envimate.messageMate.messageBus.MessageBusStatusInformation;
 import com.envimate.messageMate.messageBus.exception.MessageBusExceptionListener;
 import com.envimate.messageMate.messageBus.statistics.MessageBusStatistics;
 import com.envimate.messageMate.processingContext.EventType;
+import com.envimate.messageMate.processingContext.EventTypePattern;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.pipeChannelMessageBus.testActions.*;
+import com.envimate.messageMate.shared.subscriber.ExceptionThrowingTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.TestException;
 import com.envimate.messageMate.shared.testMessages.TestMessage;
@@ -44,20 +46,34 @@ import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static com.envimate.messageMate.identification.CorrelationId.newUniqueCorrelationId;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.CORRELATION_SUBSCRIPTION_ID;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.DELIVERY_ORDER;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.ENDING_CORRELATION_SUBSCRIBER;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.MESSAGE_RECEIVED_BY_ERROR_LISTENER;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.ORDER_RECORDING_SUBSCRIBERS;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.PATTERN_SUBSCRIPTION_ID;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.SUBSCRIBERS_PER_EVENT_TYPE;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.EXPECTED_RECEIVERS;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.RESULT;
+import static com.envimate.messageMate.shared.eventType.TestEventType.differentEventTypeWithCollidingHashCode;
+import static com.envimate.messageMate.shared.eventType.TestEventType.eventTypeWithCollidingHashCode;
 import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
 import static com.envimate.messageMate.shared.pipeChannelMessageBus.testActions.TestFilter.*;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.*;
+import static com.envimate.messageMate.shared.subscriber.ExceptionThrowingTestSubscriber.exceptionThrowingTestSubscriber;
+import static com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber.processingContextDetachingTestSubscriber;
 import static com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber.testSubscriber;
+import static com.envimate.messageMate.subscribing.ConsumerSubscriber.consumerSubscriber;
+import static java.util.Arrays.asList;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
@@ -71,19 +87,139 @@ final class MessageBusTestActions implements SendingAndReceivingActions, RawSubs
 
     static void addSubscriberForACorrelationId(final MessageBus messageBus,
                                                final TestEnvironment testEnvironment) {
-        final CorrelationId correlationId = newUniqueCorrelationId();
-        final SimpleTestSubscriber<ProcessingContext<Object>> subscriber = testSubscriber();
+        final CorrelationId correlationId = getCorrelationIdOrSetDefault(testEnvironment);
+        final SimpleTestSubscriber<ProcessingContext<Object>> subscriber = processingContextDetachingTestSubscriber();
         final SubscriptionId subscriptionId = messageBus.subscribe(correlationId, subscriber);
-        testEnvironment.setProperty(EXPECTED_CORRELATION_ID, correlationId);
         testEnvironment.setProperty(CORRELATION_SUBSCRIPTION_ID, subscriptionId);
         testEnvironment.addToListProperty(EXPECTED_RECEIVERS, subscriber);
     }
 
+    static void addAnUnsubscribingSubscriberForACorrelationId(final MessageBus messageBus,
+                                                             final TestEnvironment testEnvironment) {
+        final CorrelationId correlationId = getCorrelationIdOrSetDefault(testEnvironment);
+        final SimpleTestSubscriber<ProcessingContext<Object>> subscriber = processingContextDetachingTestSubscriber();
+        final SubscriptionId subscriptionId = messageBus.subscribe(correlationId, subscriber);
+        testEnvironment.setProperty(CORRELATION_SUBSCRIPTION_ID, subscriptionId);
+        testEnvironment.setProperty(ENDING_CORRELATION_SUBSCRIBER, subscriber);
+    }
+
+    static void addASingleShotSubscriberForACorrelationId(final MessageBus messageBus,
+                                                         final TestEnvironment testEnvironment) {
+        final CorrelationId correlationId = getCorrelationIdOrSetDefault(testEnvironment);
+        final SimpleTestSubscriber<ProcessingContext<Object>> subscriber = processingContextDetachingTestSubscriber();
+        final SubscriptionId subscriptionId = messageBus.subscribeOnce(correlationId, subscriber);
+        testEnvironment.setProperty(CORRELATION_SUBSCRIPTION_ID, subscriptionId);
+        testEnvironment.setProperty(ENDING_CORRELATION_SUBSCRIBER, subscriber);
+    }
+
+    static void addASubscriberForACorrelationIdWithATimeToLive(final MessageBus messageBus,
+                                                              final TestEnvironment testEnvironment,
+                                                              final long timeToLive,
+                                                              final TimeUnit unit) {
+        final CorrelationId correlationId = getCorrelationIdOrSetDefault(testEnvironment);
+        final SimpleTestSubscriber<ProcessingContext<Object>> subscriber = processingContextDetachingTestSubscriber();
+        final SubscriptionId subscriptionId = messageBus.subscribe(correlationId, subscriber, timeToLive, unit);
+        testEnvironment.setProperty(CORRELATION_SUBSCRIPTION_ID, subscriptionId);
+        testEnvironment.setProperty(ENDING_CORRELATION_SUBSCRIBER, subscriber);
+    }
+
+    @SuppressWarnings("unchecked")
+    static SimpleTestSubscriber<ProcessingContext<Object>> getEndingCorrelationSubscriber(
+            final TestEnvironment testEnvironment) {
+        return (SimpleTestSubscriber<ProcessingContext<Object>>) testEnvironment.getProperty(ENDING_CORRELATION_SUBSCRIBER);
+    }
+
+    private static CorrelationId getCorrelationIdOrSetDefault(final TestEnvironment testEnvironment) {
+        final CorrelationId newCorrelationId = newUniqueCorrelationId();
+        return testEnvironment.getPropertyOrSetDefault(EXPECTED_CORRELATION_ID, newCorrelationId);
+    }
+
+    static void addASubscriberRecordingTheOrderOfDelivery(final MessageBus messageBus,
+                                                          final TestEnvironment testEnvironment) {
+        final String name = nextOrderRecordingSubscriberName(testEnvironment);
+        addOrderRecordingSubscriber(messageBus, testEnvironment, consumerSubscriber(message ->
+                testEnvironment.addToListProperty(DELIVERY_ORDER, name)));
+    }
+
+    static void addASubscriberUnsubscribingTheFollowingSubscriberWhenDelivered(final MessageBus messageBus,
+                                                                               final TestEnvironment testEnvironment) {
+        final String name = nextOrderRecordingSubscriberName(testEnvironment);
+        final int indexOfFollowingSubscriber = getOrderRecordingSubscribers(testEnvironment).size() + 1;
+        addOrderRecordingSubscriber(messageBus, testEnvironment, consumerSubscriber(message -> {
+            testEnvironment.addToListProperty(DELIVERY_ORDER, name);
+            unsubscribeOrderRecordingSubscriber(messageBus, testEnvironment, indexOfFollowingSubscriber);
+        }));
+    }
+
+    private static String nextOrderRecordingSubscriberName(final TestEnvironment testEnvironment) {
+        final List<Subscriber<Object>> subscribers = getOrderRecordingSubscribers(testEnvironment);
+        return "subscriber" + subscribers.size();
+    }
+
+    private static void addOrderRecordingSubscriber(final MessageBus messageBus,
+                                                    final TestEnvironment testEnvironment,
+                                                    final Subscriber<Object> subscriber) {
+        getOrderRecordingSubscribers(testEnvironment).add(subscriber);
+        subscribeOrderRecordingSubscriberAgain(messageBus, testEnvironment, subscriber);
+    }
+
+    static void subscribeOrderRecordingSubscriberAgain(final MessageBus messageBus,
+                                                       final TestEnvironment testEnvironment,
+                                                       final Subscriber<Object> subscriber) {
+        final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+        messageBus.subscribe(eventType, subscriber);
+    }
+
+    static void unsubscribeOrderRecordingSubscriber(final MessageBus messageBus,
+                                                    final TestEnvironment testEnvironment,
+                                                    final int index) {
+        final Subscriber<Object> subscriber = getOrderRecordingSubscribers(testEnvironment).get(index);
+        messageBus.unsubcribe(subscriber.getSubscriptionId());
+    }
+
+    static List<Subscriber<Object>> getOrderRecordingSubscribers(final TestEnvironment testEnvironment) {
+        final List<Subscriber<Object>> emptySubscriberList = new ArrayList<>();
+        return testEnvironment.getPropertyOrSetDefault(ORDER_RECORDING_SUBSCRIBERS, emptySubscriberList);
+    }
+
+    static void addASubscriberForEachEventTypeWithACollidingHashCode(final MessageBus messageBus,
+                                                                     final TestEnvironment testEnvironment) {
+        final Map<EventType, SimpleTestSubscriber<Object>> subscribersPerEventType = new LinkedHashMap<>();
+        for (final EventType eventType : asList(eventTypeWithCollidingHashCode(), differentEventTypeWithCollidingHashCode())) {
+            final SimpleTestSubscriber<Object> subscriber = testSubscriber();
+            messageBus.subscribe(eventType, subscriber);
+            subscribersPerEventType.put(eventType, subscriber);
+        }
+        testEnvironment.setProperty(SUBSCRIBERS_PER_EVENT_TYPE, subscribersPerEventType);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<EventType, SimpleTestSubscriber<Object>> getSubscribersPerEventType(final TestEnvironment testEnvironment) {
+        return (Map<EventType, SimpleTestSubscriber<Object>>) testEnvironment.getProperty(SUBSCRIBERS_PER_EVENT_TYPE);
+    }
+
+    static void addSubscriberForAnEventTypePattern(final MessageBus messageBus,
+                                                   final TestEnvironment testEnvironment,
+                                                   final EventTypePattern pattern) {
+        final SimpleTestSubscriber<Object> subscriber = testSubscriber();
+        final SubscriptionId subscriptionId = messageBus.subscribe(pattern, subscriber);
+        testEnvironment.setProperty(PATTERN_SUBSCRIPTION_ID, subscriptionId);
+        testEnvironment.addToListProperty(EXPECTED_RECEIVERS, subscriber);
+    }
+
+    static void addExceptionThrowingSubscriberForAnEventTypePattern(final MessageBus messageBus,
+                                                                    final TestEnvironment testEnvironment,
+                                                                    final EventTypePattern pattern) {
+        final ExceptionThrowingTestSubscriber<Object> subscriber = exceptionThrowingTestSubscriber();
+        final SubscriptionId subscriptionId = messageBus.subscribe(pattern, subscriber);
+        testEnvironment.setProperty(PATTERN_SUBSCRIPTION_ID, subscriptionId);
+    }
+
     static void addDynamicErrorListenerForEventType(final MessageBus messageBus, final TestEnvironment testEnvironment) {
         final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
         final SubscriptionId subscriptionId = messageBus.onException(eventType, (m, e) -> {
+            testEnvironment.setPropertyIfNotSet(MESSAGE_RECEIVED_BY_ERROR_LISTENER, m.detached());
             testEnvironment.setPropertyIfNotSet(RESULT, e);
-            testEnvironment.setPropertyIfNotSet(MESSAGE_RECEIVED_BY_ERROR_LISTENER, m);
         });
         testEnvironment.setProperty(USED_SUBSCRIPTION_ID, subscriptionId);
     }
@@ -96,8 +232,8 @@ final class MessageBusTestActions implements SendingAndReceivingActions, RawSubs
         });
         testEnvironment.setProperty(USED_SUBSCRIPTION_ID, subscriptionId);
         messageBus.onException(eventType, (m, e) -> {
+            testEnvironment.setPropertyIfNotSet(MESSAGE_RECEIVED_BY_ERROR_LISTENER, m.detached());
             testEnvironment.setPropertyIfNotSet(RESULT, e);
-            testEnvironment.setPropertyIfNotSet(MESSAGE_RECEIVED_BY_ERROR_LISTENER, m);
         });
     }
 
@@ -60,8 +60,8 @@ public final class MessageBusTestExceptionHandler {
                                                        final Exception e,
                                                        final Channel<Object> channel) {
                 testEnvironment.setPropertyIfNotSet(TEST_PROPERTY_TO_ENSURE_HANDLER_CALLED_ONCE, true);
-                testEnvironment.setPropertyIfNotSet(exceptionProperty, e);
                 testEnvironment.setPropertyIfNotSet(EXCEPTION_OCCURRED_DURING_DELIVERY, true);
+                testEnvironment.setPropertyIfNotSet(exceptionProperty, e);
             }
 
             @Override
@@ -69,8 +69,8 @@ public final class MessageBusTestExceptionHandler {
                                               final Exception e,
                                               final Channel<Object> channel) {
                 testEnvironment.setPropertyIfNotSet(TEST_PROPERTY_TO_ENSURE_HANDLER_CALLED_ONCE, true);
-                testEnvironment.setPropertyIfNotSet(exceptionProperty, e);
                 testEnvironment.setPropertyIfNotSet(EXCEPTION_OCCURRED_INSIDE_FILTER, true);
+                testEnvironment.setPropertyIfNotSet(exceptionProperty, e);
             }
         };
     }
@@ -28,5 +28,19 @@ import static lombok.AccessLevel.PRIVATE;
 @RequiredArgsConstructor(access = PRIVATE)
 final class MessageBusTestProperties {
     static final String CORRELATION_SUBSCRIPTION_ID = "CORRELATION_SUBSCRIPTION_ID";
+    static final String ENDING_CORRELATION_SUBSCRIBER = "ENDING_CORRELATION_SUBSCRIBER";
+    static final String PATTERN_SUBSCRIPTION_ID = "PATTERN_SUBSCRIPTION_ID";
     static final String MESSAGE_RECEIVED_BY_ERROR_LISTENER = "MESSAGE_RECEIVED_BY_ERROR_LISTENER";
+    static final String FLOW_SUBSCRIBER = "FLOW_SUBSCRIBER";
+    static final String PAYLOADS_BEFORE_DEMAND = "PAYLOADS_BEFORE_DEMAND";
+    static final String FLOW_SUBSCRIPTION_CANCELLED = "FLOW_SUBSCRIPTION_CANCELLED";
+    static final String RETAINED_PROCESSING_CONTEXTS = "RETAINED_PROCESSING_CONTEXTS";
+    static final String REPORTED_LEAKS = "REPORTED_LEAKS";
+    static final String LEAK_CHECKS = "LEAK_CHECKS";
+    static final String IS_PARTITIONED = "IS_PARTITIONED";
+    static final String ORDER_RECORDING_SUBSCRIBERS = "ORDER_RECORDING_SUBSCRIBERS";
+    static final String DELIVERY_ORDER = "DELIVERY_ORDER";
+    static final String SUBSCRIBERS_PER_EVENT_TYPE = "SUBSCRIBERS_PER_EVENT_TYPE";
+    static final String MESSAGES_PER_EVENT_TYPE = "MESSAGES_PER_EVENT_TYPE";
+    static final String FIXED_MESSAGE_ID = "FIXED_MESSAGE_ID";
 }
@@ -33,14 +33,23 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.DELIVERY_ORDER;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.FIXED_MESSAGE_ID;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.MESSAGE_RECEIVED_BY_ERROR_LISTENER;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.RESULT;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.*;
+import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntil;
 import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntilListHasSize;
 import static com.envimate.messageMate.shared.validations.SharedTestValidations.assertEquals;
 import static com.envimate.messageMate.shared.validations.SharedTestValidations.assertResultOfClass;
+import static java.util.stream.Collectors.toSet;
 import static lombok.AccessLevel.PRIVATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 
 @RequiredArgsConstructor(access = PRIVATE)
 final class MessageBusTestValidations {
@@ -54,6 +63,29 @@ final class MessageBusTestValidations {
         SharedTestValidations.assertListOfSize(subscribersForType, expectedNumberOfSubscribers);
     }
 
+    static void assertDeliveryOrder(final TestEnvironment testEnvironment, final String... expectedDeliveryOrder) {
+        pollUntil(() -> testEnvironment.has(DELIVERY_ORDER));
+        final List<String> deliveryOrder = testEnvironment.getPropertyAsListOfType(DELIVERY_ORDER, String.class);
+        pollUntilListHasSize(deliveryOrder, expectedDeliveryOrder.length);
+        assertThat(deliveryOrder, contains(expectedDeliveryOrder));
+    }
+
+    static void assertTheMessageIdToBeTheFixedOne(final TestEnvironment testEnvironment,
+                                                 final ProcessingContext<?> result) {
+        final MessageId fixedMessageId = testEnvironment.getPropertyAsType(FIXED_MESSAGE_ID, MessageId.class);
+        assertThat(testEnvironment.getProperty(SEND_MESSAGE_ID), equalTo(fixedMessageId));
+        assertThat(result.getMessageId(), equalTo(fixedMessageId));
+    }
+
+    static void assertEachMessageToHaveADistinctMessageId(final TestSubscriber<?> receiver,
+                                                          final int expectedNumberOfMessages) {
+        pollUntilListHasSize(receiver::getReceivedMessages, expectedNumberOfMessages);
+        final Set<MessageId> messageIds = receiver.getReceivedMessages().stream()
+                .map(message -> ((ProcessingContext<?>) message).getMessageId())
+                .collect(toSet());
+        assertThat(messageIds, hasSize(expectedNumberOfMessages));
+    }
+
     static void assertTheExceptionHandled(final Class<?> expectedExceptionClass,
                                           final TestEnvironment testEnvironment) {
         assertResultOfClass(testEnvironment, expectedExceptionClass);
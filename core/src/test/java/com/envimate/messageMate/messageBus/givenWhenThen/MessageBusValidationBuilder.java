@@ -27,27 +27,55 @@ import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.givenWhenThen.TestValidation;
+import com.envimate.messageMate.shared.subscriber.FlowTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.TestException;
 import com.envimate.messageMate.shared.subscriber.TestSubscriber;
 import com.envimate.messageMate.shared.testMessages.TestMessage;
 import com.envimate.messageMate.shared.validations.SharedTestValidations;
+import com.envimate.messageMate.subscribing.Subscriber;
+import com.envimate.messageMate.subscribing.SubscriberOverflowException;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestActions.getEndingCorrelationSubscriber;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestActions.getOrderRecordingSubscribers;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestActions.getSubscribersPerEventType;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestActions.queryListOfDynamicExceptionListener;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.FLOW_SUBSCRIBER;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.FLOW_SUBSCRIPTION_CANCELLED;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.LEAK_CHECKS;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.MESSAGES_PER_EVENT_TYPE;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.PAYLOADS_BEFORE_DEMAND;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.REPORTED_LEAKS;
+import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestProperties.RETAINED_PROCESSING_CONTEXTS;
 import static com.envimate.messageMate.messageBus.givenWhenThen.MessageBusTestValidations.*;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.RESULT;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.SUT;
 import static com.envimate.messageMate.shared.pipeChannelMessageBus.PipeChannelMessageBusSharedTestValidations.*;
+import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntil;
+import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntilEquals;
 import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntilListHasSize;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.*;
 import static com.envimate.messageMate.shared.validations.SharedTestValidations.*;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
 import static lombok.AccessLevel.PRIVATE;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @RequiredArgsConstructor(access = PRIVATE)
 public final class MessageBusValidationBuilder {
@@ -72,6 +100,43 @@ public final class MessageBusValidationBuilder {
         });
     }
 
+    public static MessageBusValidationBuilder expectTheMessageToBeDeliveredToTheSubscribersInTheOrder(
+            final String... expectedDeliveryOrder) {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertDeliveryOrder(testEnvironment, expectedDeliveryOrder);
+        });
+    }
+
+    public static MessageBusValidationBuilder expectTheMessageToReachTheSubscriberUnsubscribedDuringItsDelivery() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertDeliveryOrder(testEnvironment, "subscriber0", "subscriber1", "subscriber2");
+            final MessageBusTestActions testActions = getMessageBusTestActions(testEnvironment);
+            final List<Subscriber<Object>> subscribers = getOrderRecordingSubscribers(testEnvironment);
+            assertThat(testActions.getAllSubscribers(), contains(subscribers.get(0), subscribers.get(2)));
+        });
+    }
+
+    public static MessageBusValidationBuilder expectEachSubscriberToReceiveOnlyTheMessageOfItsEventType() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final Map<EventType, TestMessage> messagesPerEventType = getMessagesPerEventType(testEnvironment);
+            getSubscribersPerEventType(testEnvironment).forEach((eventType, subscriber) -> {
+                final TestMessage expectedMessage = messagesPerEventType.get(eventType);
+                assertThat(subscriber.getReceivedMessages(), contains(expectedMessage));
+            });
+        });
+    }
+
+    public static MessageBusValidationBuilder expectNoSubscriberOfTheCollidingEventTypesToReceiveTheMessage() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            getSubscribersPerEventType(testEnvironment).values()
+                    .forEach(subscriber -> assertThat(subscriber.getReceivedMessages(), empty()));
+        });
+    }
+
     public static MessageBusValidationBuilder expectAllMessagesToBeReceivedByAllSubscribers() {
         return asValidation(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
@@ -79,6 +144,21 @@ public final class MessageBusValidationBuilder {
         });
     }
 
+    public static MessageBusValidationBuilder expectAllMessagesToBeReceivedInBatchesOfSeveralMessagesByAllSubscribers() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertExpectedReceiverReceivedAllMessages(testEnvironment);
+            assertExpectedBatchReceiverReceivedBatchesOfSeveralMessages(testEnvironment);
+        });
+    }
+
+    public static MessageBusValidationBuilder expectAllMessagesToBeReceivedInOrderByAllSubscribers() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertExpectedReceiverReceivedAllMessagesInOrder(testEnvironment);
+        });
+    }
+
     public static MessageBusValidationBuilder expectTheErrorPayloadToBeReceived() {
         return asValidation(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
@@ -118,6 +198,22 @@ public final class MessageBusValidationBuilder {
         });
     }
 
+    public static MessageBusValidationBuilder expectTheMessageIdOfTheFixedIdGenerator() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final ProcessingContext<?> result = getOnlyMessageFromSingleReceiver(testEnvironment);
+            assertTheMessageIdToBeTheFixedOne(testEnvironment, result);
+        });
+    }
+
+    public static MessageBusValidationBuilder expectEachMessageToHaveADistinctMessageId(final int expectedNumberOfMessages) {
+        return asValidation(testEnvironment -> {
+            final TestSubscriber<Object> receiver = getExpectedReceiver(testEnvironment).get(0);
+            assertEachMessageToHaveADistinctMessageId(receiver, expectedNumberOfMessages);
+            assertNoExceptionThrown(testEnvironment);
+        });
+    }
+
     public static MessageBusValidationBuilder expectTheCorrelationIdToBeSetWhenReceived() {
         return asValidation(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
@@ -140,6 +236,106 @@ public final class MessageBusValidationBuilder {
         });
     }
 
+    public static MessageBusValidationBuilder expectTheFlowSubscriberToReceiveOnlyTheBufferedMessages(final int bufferCapacity) {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertThat(testEnvironment.getProperty(PAYLOADS_BEFORE_DEMAND), equalTo(0));
+            final FlowTestSubscriber flowTestSubscriber = getFlowTestSubscriber(testEnvironment);
+            pollUntilListHasSize(flowTestSubscriber::getPayloadsSoFar, bufferCapacity);
+            final List<?> sendMessages = testEnvironment.getPropertyAsType(MESSAGES_SEND, List.class);
+            assertTrue(sendMessages.containsAll(flowTestSubscriber.getPayloadsSoFar()));
+        });
+    }
+
+    public static MessageBusValidationBuilder expectTheFlowSubscriberToFailWithAnOverflowAndToBeUnsubscribed() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final FlowTestSubscriber flowTestSubscriber = getFlowTestSubscriber(testEnvironment);
+            final ExecutionException exception = assertThrows(ExecutionException.class, () ->
+                    flowTestSubscriber.getCompletion().get(1, SECONDS));
+            assertThat(exception.getCause(), instanceOf(SubscriberOverflowException.class));
+            final MessageBus messageBus = getMessageBus(testEnvironment);
+            final EventType eventType = testEnvironment.getPropertyAsType(EVENT_TYPE, EventType.class);
+            pollUntilEquals(() -> messageBus.getStatusInformation().getSubscribersPerType()
+                    .getOrDefault(eventType, List.of()).size(), 0);
+        });
+    }
+
+    public static MessageBusValidationBuilder expectTheFlowSubscriptionToBeCancelledAndTheExceptionHandled(
+            final Class<?> expectedExceptionClass) {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            assertThat(testEnvironment.getProperty(FLOW_SUBSCRIPTION_CANCELLED), equalTo(true));
+            assertResultOfClass(testEnvironment, expectedExceptionClass);
+        });
+    }
+
+    public static MessageBusValidationBuilder expectTheSameProcessingContextToBeReusedForAllMessages() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final List<TestSubscriber<Object>> receivers = getExpectedReceiver(testEnvironment);
+            final List<?> receivedProcessingContexts = receivers.get(0).getReceivedMessages();
+            assertThat(receivedProcessingContexts.size(), equalTo(2));
+            assertThat(receivedProcessingContexts.get(1), sameInstance(receivedProcessingContexts.get(0)));
+            final ProcessingContext<?> recycledProcessingContext = (ProcessingContext<?>) receivedProcessingContexts.get(0);
+            assertThat(recycledProcessingContext.getPayload(), nullValue());
+        });
+    }
+
+    public static MessageBusValidationBuilder expectTheRetainedProcessingContextsToStayIntact() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final List<?> sendMessages = testEnvironment.getPropertyAsType(MESSAGES_SEND, List.class);
+            pollUntil(() -> testEnvironment.has(RETAINED_PROCESSING_CONTEXTS)
+                    && testEnvironment.getPropertyAsType(RETAINED_PROCESSING_CONTEXTS, List.class).size() == sendMessages.size());
+            @SuppressWarnings("unchecked")
+            final List<ProcessingContext<?>> retainedProcessingContexts =
+                    (List<ProcessingContext<?>>) testEnvironment.getProperty(RETAINED_PROCESSING_CONTEXTS);
+            assertThat(retainedProcessingContexts.get(1), not(sameInstance(retainedProcessingContexts.get(0))));
+            final List<Object> retainedPayloads = retainedProcessingContexts.stream()
+                    .map(ProcessingContext::getPayload)
+                    .collect(toList());
+            assertThat(retainedPayloads, containsInAnyOrder(sendMessages.toArray()));
+            retainedProcessingContexts.forEach(ProcessingContext::release);
+            assertThrows(IllegalStateException.class, retainedProcessingContexts.get(0)::release);
+        });
+    }
+
+    public static MessageBusValidationBuilder expectTheLeakedProcessingContextsToBeReported() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            runTheLeakChecks(testEnvironment);
+            final List<?> sendMessages = testEnvironment.getPropertyAsType(MESSAGES_SEND, List.class);
+            final List<?> reportedLeaks = testEnvironment.getPropertyAsType(REPORTED_LEAKS, List.class);
+            assertThat(reportedLeaks.size(), equalTo(sendMessages.size()));
+        });
+    }
+
+    public static MessageBusValidationBuilder expectNoProcessingContextsToBeReportedAsLeaks() {
+        return asValidation(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            /* The MessageBus does not await its delivering threads, which release the ProcessingContexts only after the
+               subscriber returned. So the checks are repeated until a run reports no leak. */
+            pollUntil(() -> {
+                final int numberOfLeaksBefore = numberOfReportedLeaks(testEnvironment);
+                runTheLeakChecks(testEnvironment);
+                return numberOfReportedLeaks(testEnvironment) == numberOfLeaksBefore;
+            });
+        });
+    }
+
+    private static void runTheLeakChecks(final TestEnvironment testEnvironment) {
+        final List<?> leakChecks = testEnvironment.getPropertyAsType(LEAK_CHECKS, List.class);
+        leakChecks.forEach(leakCheck -> ((Runnable) leakCheck).run());
+    }
+
+    private static int numberOfReportedLeaks(final TestEnvironment testEnvironment) {
+        if (!testEnvironment.has(REPORTED_LEAKS)) {
+            return 0;
+        }
+        return testEnvironment.getPropertyAsType(REPORTED_LEAKS, List.class).size();
+    }
+
     public static MessageBusValidationBuilder expectResultToBe(final Object expectedResult) {
         return asValidation(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
@@ -258,6 +454,31 @@ public final class MessageBusValidationBuilder {
         assertThat(list, containsInAnyOrder(expectedFilter.toArray()));
     }
 
+    public static MessageBusValidationBuilder expectTheEndedCorrelationSubscriberToReceiveNoMessage() {
+        return expectTheCorrelationSubscribersToReceive(1, 0);
+    }
+
+    public static MessageBusValidationBuilder expectTheCorrelationSubscriberWithinItsTimeToLiveToReceiveTheMessage() {
+        return expectTheCorrelationSubscribersToReceive(1, 1);
+    }
+
+    public static MessageBusValidationBuilder expectTheSingleShotSubscriberToReceiveOnlyTheFirstMessage() {
+        return expectTheCorrelationSubscribersToReceive(2, 1);
+    }
+
+    private static MessageBusValidationBuilder expectTheCorrelationSubscribersToReceive(
+            final int expectedMessagesOfTheRemainingSubscriber,
+            final int expectedMessagesOfTheEndingSubscriber) {
+        return asValidation(testEnvironment -> {
+            /* the ending subscriber is served before the remaining one, so its messages are complete once the other's are */
+            final TestSubscriber<Object> remainingSubscriber = getExpectedReceiver(testEnvironment).get(0);
+            pollUntilListHasSize(remainingSubscriber::getReceivedMessages, expectedMessagesOfTheRemainingSubscriber);
+            assertNoExceptionThrown(testEnvironment);
+            final TestSubscriber<ProcessingContext<Object>> endingSubscriber = getEndingCorrelationSubscriber(testEnvironment);
+            assertThat(endingSubscriber.getReceivedMessages(), hasSize(expectedMessagesOfTheEndingSubscriber));
+        });
+    }
+
     public static MessageBusValidationBuilder expectTheMessageWrappedInProcessingContextWithCorrectCorrelationIdToBeReceived() {
         return asValidation(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
@@ -293,11 +514,20 @@ public final class MessageBusValidationBuilder {
         return (List<TestSubscriber<Object>>) testEnvironment.getProperty(EXPECTED_RECEIVERS);
     }
 
+    @SuppressWarnings("unchecked")
+    private static Map<EventType, TestMessage> getMessagesPerEventType(final TestEnvironment testEnvironment) {
+        return (Map<EventType, TestMessage>) testEnvironment.getProperty(MESSAGES_PER_EVENT_TYPE);
+    }
+
     private static MessageBusTestActions getMessageBusTestActions(final TestEnvironment testEnvironment) {
         final MessageBus messageBus = getMessageBus(testEnvironment);
         return MessageBusTestActions.messageBusTestActions(messageBus);
     }
 
+    private static FlowTestSubscriber getFlowTestSubscriber(final TestEnvironment testEnvironment) {
+        return testEnvironment.getPropertyAsType(FLOW_SUBSCRIBER, FlowTestSubscriber.class);
+    }
+
     public MessageBusValidationBuilder and(final MessageBusValidationBuilder messageBusValidationBuilder) {
         return new MessageBusValidationBuilder(testEnvironment -> {
             testValidation.validate(testEnvironment);
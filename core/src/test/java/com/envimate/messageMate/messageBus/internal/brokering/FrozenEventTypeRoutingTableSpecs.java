@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus.internal.brokering;
+
+import com.envimate.messageMate.channel.Channel;
+import com.envimate.messageMate.processingContext.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.envimate.messageMate.channel.ChannelBuilder.aChannelWithDefaultAction;
+import static com.envimate.messageMate.channel.action.Subscription.subscription;
+import static com.envimate.messageMate.messageBus.internal.brokering.FrozenEventTypeRoutingTable.frozenRoutingTable;
+import static com.envimate.messageMate.processingContext.EventType.eventTypeFromString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class FrozenEventTypeRoutingTableSpecs {
+    private final Map<EventType, Channel<Object>> channelsPerEventType = new HashMap<>();
+
+    @Test
+    public void testFrozenRoutingTable_findsTheChannelOfEachEventType() {
+        for (int i = 0; i < 100; i++) {
+            aChannelFor("eventType" + i);
+        }
+
+        final FrozenEventTypeRoutingTable routingTable = frozenRoutingTable(channelsPerEventType);
+
+        channelsPerEventType.forEach((eventType, channel) ->
+                assertThat(routingTable.lookup(eventType), sameInstance(channel)));
+    }
+
+    @Test
+    public void testFrozenRoutingTable_returnsNullForAnEmptyTable() {
+        final FrozenEventTypeRoutingTable routingTable = frozenRoutingTable(channelsPerEventType);
+
+        assertThat(routingTable.lookup(eventTypeFromString("Aa")), nullValue());
+    }
+
+    private void aChannelFor(final String eventType) {
+        final Channel<Object> channel = aChannelWithDefaultAction(subscription());
+        channelsPerEventType.put(eventTypeFromString(eventType), channel);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus.internal.correlationIds;
+
+import com.envimate.messageMate.identification.CorrelationId;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static com.envimate.messageMate.identification.CorrelationId.newUniqueCorrelationId;
+import static com.envimate.messageMate.messageBus.internal.correlationIds.CorrelationBasedSubscriptionsImpl.correlationBasedSubscriptions;
+import static com.envimate.messageMate.processingContext.ProcessingContext.processingContext;
+import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
+import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntilEquals;
+import static com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber.testSubscriber;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class CorrelationBasedSubscriptionsSpecs {
+    private static final int NUMBER_OF_REQUESTS = 10_000;
+    private final CorrelationBasedSubscriptions subscriptions = correlationBasedSubscriptions();
+
+    @AfterEach
+    public void close() {
+        subscriptions.close();
+    }
+
+    @Test
+    public void testCorrelationBasedSubscriptions_removesTheEntryWithTheLastSubscriber() {
+        for (int i = 0; i < NUMBER_OF_REQUESTS; i++) {
+            final CorrelationId correlationId = newUniqueCorrelationId();
+            final SimpleTestSubscriber<ProcessingContext<Object>> subscriber = testSubscriber();
+            subscriptions.addCorrelationBasedSubscriber(correlationId, subscriber);
+            subscriptions.unsubscribe(subscriber.getSubscriptionId());
+        }
+
+        assertThat(subscriptions.numberOfCorrelationIds(), equalTo(0));
+    }
+
+    @Test
+    public void testCorrelationBasedSubscriptions_removesTheEntryOfASingleShotSubscriberAfterTheFirstDelivery() {
+        final CorrelationId correlationId = newUniqueCorrelationId();
+        final SimpleTestSubscriber<ProcessingContext<Object>> subscriber = testSubscriber();
+        subscriptions.addSingleShotSubscriber(correlationId, subscriber);
+        final ProcessingContext<Object> message = processingContext(testEventType(), "message");
+
+        subscriptions.getSubscribersFor(correlationId).get(0).accept(message);
+
+        assertThat(subscriptions.numberOfCorrelationIds(), equalTo(0));
+    }
+
+    @Test
+    public void testCorrelationBasedSubscriptions_removesTheEntryAfterTheTimeToLive() {
+        final CorrelationId correlationId = newUniqueCorrelationId();
+        final SimpleTestSubscriber<ProcessingContext<Object>> subscriber = testSubscriber();
+        subscriptions.addCorrelationBasedSubscriber(correlationId, subscriber);
+
+        subscriptions.expireAfter(subscriber.getSubscriptionId(), 100, MILLISECONDS);
+
+        pollUntilEquals(subscriptions::numberOfCorrelationIds, 0);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.messageBus.internal.exception;
+
+import com.envimate.messageMate.messageBus.exception.MessageBusExceptionListener;
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import com.envimate.messageMate.subscribing.SubscriptionId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.envimate.messageMate.messageBus.internal.exception.ExceptionListenerHandlerImpl.errorListenerHandler;
+import static com.envimate.messageMate.processingContext.ProcessingContext.processingContext;
+import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+public class ExceptionListenerHandlerSpecs {
+    private static final int NUMBER_OF_IN_FLIGHT_REQUESTS = 10_000;
+
+    @Test
+    public void testExceptionListenerHandler_matchesListenersByMessageId() {
+        final ExceptionListenerHandler handler = errorListenerHandler();
+        final ProcessingContext<Object> request = processingContext(testEventType(), "request");
+        final ProcessingContext<Object> otherRequest = processingContext(testEventType(), "otherRequest");
+        final MessageBusExceptionListener listener = (processingContext, e) -> {
+        };
+        final MessageBusExceptionListener otherListener = (processingContext, e) -> {
+        };
+        handler.register(request.getMessageId(), listener);
+        handler.register(otherRequest.getMessageId(), otherListener);
+
+        assertThat(handler.listenerFor(request), contains(listener));
+    }
+
+    @Test
+    public void testExceptionListenerHandler_releasesAllListenersOfManyInFlightRequests() {
+        final ExceptionListenerHandler handler = errorListenerHandler();
+        final List<SubscriptionId> subscriptionIds = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_IN_FLIGHT_REQUESTS; i++) {
+            final ProcessingContext<Object> request = processingContext(testEventType(), i);
+            subscriptionIds.add(handler.register(request.getMessageId(), (processingContext, e) -> {
+            }));
+            subscriptionIds.add(handler.register(testEventType(), (processingContext, e) -> {
+            }));
+        }
+
+        subscriptionIds.forEach(handler::unregister);
+
+        assertThat(handler.allListener(), empty());
+        assertThat(handler.listenerFor(processingContext(testEventType(), "message")), empty());
+    }
+}
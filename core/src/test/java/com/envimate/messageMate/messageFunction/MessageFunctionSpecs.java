@@ -248,4 +248,97 @@ public class MessageFunctionSpecs {
                 .when(aRequestIsCancelled())
                 .then(expectNoUnnecssarySubscribersOnTheMessageBus());
     }
+
+    //timeouts
+    @Test
+    public void testMessageFunction_requestTimesOutAndUnregistersAllSubscriber() {
+        given(aMessageFunction()
+                .definedWithAnUnansweredResponse())
+                .when(aRequestWithATimeoutIsSend())
+                .then(expectTheRequestToTimeOut());
+    }
+
+    @Test
+    public void testMessageFunction_requestTimesOutAfterTheDefaultTimeout() {
+        given(aMessageFunction()
+                .definedWithAnUnansweredResponse()
+                .withADefaultTimeout())
+                .when(aRequestIsSend())
+                .then(expectTheRequestToTimeOut());
+    }
+
+    @Test
+    public void testMessageFunction_closingCancelsAllRequestsInFlight() {
+        given(aMessageFunction()
+                .definedWithAnUnansweredResponse())
+                .when(theMessageFunctionIsClosedWithARequestInFlight())
+                .then(expectTheRequestToBeCancelledAndNoFollowUpActionToBeExecuted()
+                        .and(expectNoUnnecssarySubscribersOnTheMessageBus()));
+    }
+
+    //response streams
+    @Test
+    public void testMessageFunction_streamsResponsesUntilTheMaximalNumberIsReached() {
+        given(aMessageFunction()
+                .withTheRequestAnsweredByThreeResponders())
+                .when(theResponsesAreStreamedUntilThreeWereReceived())
+                .then(expectAllThreeResponsesToBeStreamed());
+    }
+
+    @Test
+    public void testMessageFunction_streamsResponsesUntilTheTimeoutExpires() {
+        given(aMessageFunction()
+                .withTheRequestAnsweredByThreeResponders())
+                .when(theResponsesAreStreamedUntilTheTimeoutExpires())
+                .then(expectAllThreeResponsesToBeStreamed());
+    }
+
+    @Test
+    public void testMessageFunction_streamsResponsesOnlyOnDemand() {
+        given(aMessageFunction()
+                .withTheRequestAnsweredByThreeResponders())
+                .when(theResponsesAreStreamedToASubscriberRequestingOnlyOne())
+                .then(expectResponsesToBeDeliveredOnlyOnDemand());
+    }
+
+    @Test
+    public void testMessageFunction_responseStreamUnregistersAllSubscriber_whenCancelled() {
+        given(aMessageFunction()
+                .withTheRequestAnsweredByThreeResponders())
+                .when(theResponseStreamIsCancelledByTheSubscriber())
+                .then(expectTheResponseStreamToReleaseAllSubscribers());
+    }
+
+    //asynchronous requests
+    @Test
+    public void testMessageFunction_obtainsResponseForAsynchronousRequest() {
+        given(aMessageFunction()
+                .withTheRequestAnsweredByACorrelatedResponse())
+                .when(anAsynchronousRequestIsSend())
+                .then(expectTheAsynchronousResponseToBeReceived());
+    }
+
+    @Test
+    public void testMessageFunction_asynchronousRequestTimesOutAndUnregistersAllSubscriber() {
+        given(aMessageFunction()
+                .definedWithAnUnansweredResponse())
+                .when(anAsynchronousRequestWithATimeoutIsSend())
+                .then(expectTheAsynchronousRequestToTimeOut());
+    }
+
+    @Test
+    public void testMessageFunction_asynchronousRequestUnregistersAllSubscriber_whenFulfilled() {
+        given(aMessageFunction()
+                .withTheRequestAnsweredByACorrelatedResponse())
+                .when(anAsynchronousRequestIsSend())
+                .then(expectNoUnnecessarySubscribersAfterTheAsynchronousRequest());
+    }
+
+    @Test
+    public void testMessageFunction_asynchronousRequestUnregistersAllSubscriber_whenCancelled() {
+        given(aMessageFunction()
+                .definedWithAnUnansweredResponse())
+                .when(anAsynchronousRequestIsCancelled())
+                .then(expectNoUnnecessarySubscribersAfterTheAsynchronousRequest());
+    }
 }
@@ -32,4 +32,5 @@ final class MessageFunctionTestProperties {
     static final String EXCEPTION_OCCURRED_DURING_FOLLOW_UP = "EXCEPTION_OCCURRED_DURING_FOLLOW_UP";
     static final String RESPONSE_PROCESSING_CONTEXT = "RESPONSE_PROCESSING_CONTEXT";
     static final String NUMBER_OF_INITIAL_SUBSCRIBERS = "NUMBER_OF_INITIAL_SUBSCRIBERS";
+    static final String RESPONSES_BEFORE_DEMAND = "RESPONSES_BEFORE_DEMAND";
 }
@@ -33,6 +33,7 @@ import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.givenWhenThen.TestAction;
+import com.envimate.messageMate.shared.subscriber.FlowTestSubscriber;
 import lombok.RequiredArgsConstructor;
 
 import java.util.LinkedList;
@@ -50,6 +51,8 @@ import static com.envimate.messageMate.shared.eventType.TestEventType.differentT
 import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
 import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntil;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.EVENT_TYPE;
+import static com.envimate.messageMate.shared.subscriber.FlowTestSubscriber.flowTestSubscriber;
+import static com.envimate.messageMate.shared.subscriber.FlowTestSubscriber.flowTestSubscriberWithoutDemand;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static lombok.AccessLevel.PRIVATE;
@@ -77,6 +80,99 @@ public final class TestMessageFunctionActionBuilder {
         });
     }
 
+    public static TestMessageFunctionActionBuilder aRequestWithATimeoutIsSend() {
+        return asAction((messageFunction, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final SimpleTestRequest testRequest = testRequest();
+            testEnvironment.setProperty(TEST_OBJECT, testRequest);
+            return messageFunction.request(eventType, testRequest, 50, MILLISECONDS);
+        });
+    }
+
+    public static TestMessageFunctionActionBuilder theMessageFunctionIsClosedWithARequestInFlight() {
+        return asAction((messageFunction, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final SimpleTestRequest testRequest = testRequest();
+            final ResponseFuture responseFuture = messageFunction.request(eventType, testRequest);
+            messageFunction.close();
+            return responseFuture;
+        });
+    }
+
+    public static TestMessageFunctionActionBuilder anAsynchronousRequestIsSend() {
+        return asAction((messageFunction, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final SimpleTestRequest testRequest = testRequest();
+            testEnvironment.setProperty(TEST_OBJECT, testRequest);
+            return messageFunction.requestAsync(eventType, testRequest);
+        });
+    }
+
+    public static TestMessageFunctionActionBuilder anAsynchronousRequestWithATimeoutIsSend() {
+        return asAction((messageFunction, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final SimpleTestRequest testRequest = testRequest();
+            testEnvironment.setProperty(TEST_OBJECT, testRequest);
+            return messageFunction.requestAsync(eventType, testRequest, 50, MILLISECONDS);
+        });
+    }
+
+    public static TestMessageFunctionActionBuilder anAsynchronousRequestIsCancelled() {
+        return asAction((messageFunction, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final SimpleTestRequest testRequest = testRequest();
+            final CompletableFuture<ProcessingContext<Object>> future = messageFunction.requestAsync(eventType, testRequest);
+            future.cancel(true);
+            return future;
+        });
+    }
+
+    public static TestMessageFunctionActionBuilder theResponsesAreStreamedUntilThreeWereReceived() {
+        return streamResponses(flowTestSubscriber(), 3, SECONDS.toMillis(1));
+    }
+
+    public static TestMessageFunctionActionBuilder theResponsesAreStreamedUntilTheTimeoutExpires() {
+        return streamResponses(flowTestSubscriber(), 10, 100);
+    }
+
+    public static TestMessageFunctionActionBuilder theResponsesAreStreamedToASubscriberRequestingOnlyOne() {
+        return asAction((messageFunction, testEnvironment) -> {
+            final FlowTestSubscriber flowTestSubscriber = flowTestSubscriberWithoutDemand();
+            streamResponses(flowTestSubscriber, 3, SECONDS.toMillis(1)).testAction.execute(messageFunction, testEnvironment);
+            try {
+                MILLISECONDS.sleep(50);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            testEnvironment.setProperty(RESPONSES_BEFORE_DEMAND, flowTestSubscriber.getPayloadsSoFar().size());
+            flowTestSubscriber.request(1);
+            return flowTestSubscriber;
+        });
+    }
+
+    public static TestMessageFunctionActionBuilder theResponseStreamIsCancelledByTheSubscriber() {
+        return asAction((messageFunction, testEnvironment) -> {
+            final FlowTestSubscriber flowTestSubscriber = flowTestSubscriberWithoutDemand();
+            streamResponses(flowTestSubscriber, 3, SECONDS.toMillis(1)).testAction.execute(messageFunction, testEnvironment);
+            flowTestSubscriber.cancel();
+            return flowTestSubscriber;
+        });
+    }
+
+    private static TestMessageFunctionActionBuilder streamResponses(final FlowTestSubscriber flowTestSubscriber,
+                                                                    final int maximumNumberOfResponses,
+                                                                    final long timeoutInMillis) {
+        return asAction((messageFunction, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final SimpleTestRequest testRequest = testRequest();
+            testEnvironment.setProperty(TEST_OBJECT, testRequest);
+            final Flow.Publisher<ProcessingContext<Object>> publisher = messageFunction.requestStream(eventType, testRequest,
+                    maximumNumberOfResponses, timeoutInMillis, MILLISECONDS);
+            publisher.subscribe(flowTestSubscriber);
+            return flowTestSubscriber;
+        });
+    }
+
     public static TestMessageFunctionActionBuilder severalRequestsAreSend() {
         return asAction((messageFunction, testEnvironment) -> {
             final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
@@ -53,6 +53,7 @@ import static com.envimate.messageMate.shared.environment.TestEnvironmentPropert
 import static com.envimate.messageMate.shared.eventType.TestEventType.differentTestEventType;
 import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.EVENT_TYPE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
@@ -64,6 +65,7 @@ public final class TestMessageFunctionSetupBuilder {
             .forType(ASYNCHRONOUS)
             .withAsynchronousConfiguration(constantPoolSizeAsynchronousConfiguration(MB_TEST_POOL_SIZE));
     private Function<MessageBusBuilder, MessageBus> messageBusCreation = MessageBusBuilder::build;
+    private Function<MessageBus, MessageFunction> messageFunctionCreation = MessageFunctionBuilder::aMessageFunction;
 
     public static TestMessageFunctionSetupBuilder aMessageFunction() {
         return new TestMessageFunctionSetupBuilder();
@@ -73,6 +75,23 @@ public final class TestMessageFunctionSetupBuilder {
         return answerWith(SimpleTestResponse::testResponse);
     }
 
+    public TestMessageFunctionSetupBuilder withTheRequestAnsweredByThreeResponders() {
+        final int numberOfResponders = 3;
+        setupActions.add(messageBus -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            for (int i = 0; i < numberOfResponders; i++) {
+                messageBus.subscribeRaw(eventType, processingContext -> {
+                    final CorrelationId correlationId = processingContext.generateCorrelationIdForAnswer();
+                    final SimpleTestRequest request = (SimpleTestRequest) processingContext.getPayload();
+                    final SimpleTestResponse response = SimpleTestResponse.testResponse(request);
+                    messageBus.send(differentTestEventType(), response, correlationId);
+                });
+            }
+            testEnvironment.setProperty(NUMBER_OF_INITIAL_SUBSCRIBERS, numberOfResponders);
+        });
+        return this;
+    }
+
     public TestMessageFunctionSetupBuilder withTheRequestAnsweredByANull() {
         return answerWith(request -> null);
     }
@@ -194,6 +213,11 @@ public final class TestMessageFunctionSetupBuilder {
         return this;
     }
 
+    public TestMessageFunctionSetupBuilder withADefaultTimeout() {
+        messageFunctionCreation = messageBus -> MessageFunctionBuilder.aMessageFunction(messageBus, 50, MILLISECONDS);
+        return this;
+    }
+
     public TestMessageFunctionSetupBuilder throwingAnExceptionDuringSend() {
         messageBusCreation = ignored -> MessageBusMock.createMessageBusMock();
         return this;
@@ -207,7 +231,7 @@ public final class TestMessageFunctionSetupBuilder {
         final MessageBus messageBus = messageBusCreation.apply(messageBusBuilder);
         setupActions.forEach(f -> f.accept(messageBus));
         testEnvironment.setProperty(MOCK, messageBus);
-        return MessageFunctionBuilder.aMessageFunction(messageBus);
+        return messageFunctionCreation.apply(messageBus);
     }
 
     private static final class MessageBusMock {
@@ -31,12 +31,14 @@ import com.envimate.messageMate.messageFunction.testResponses.TestResponse;
 import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.givenWhenThen.TestValidation;
+import com.envimate.messageMate.shared.subscriber.FlowTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.TestException;
 import com.envimate.messageMate.subscribing.Subscriber;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
@@ -70,6 +72,102 @@ public final class TestMessageFunctionValidationBuilder {
         });
     }
 
+    public static TestMessageFunctionValidationBuilder expectTheRequestToTimeOut() {
+        return new TestMessageFunctionValidationBuilder(testEnvironment -> {
+            ensureNoExceptionThrown(testEnvironment);
+            final ResponseFuture responseFuture = getResultResponseFuture(testEnvironment);
+            try {
+                responseFuture.get(1, SECONDS);
+                fail("Future should not return a value");
+            } catch (final ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(TimeoutException.class));
+            } catch (final InterruptedException | TimeoutException e) {
+                fail(e);
+            }
+            assertFalse(responseFuture.wasSuccessful());
+            assertNoUnnecessarySubscribers(testEnvironment);
+        });
+    }
+
+    public static TestMessageFunctionValidationBuilder expectAllThreeResponsesToBeStreamed() {
+        return new TestMessageFunctionValidationBuilder(testEnvironment -> {
+            ensureNoExceptionThrown(testEnvironment);
+            final FlowTestSubscriber flowTestSubscriber = getResultFlowTestSubscriber(testEnvironment);
+            final TestRequest testRequest = testEnvironment.getPropertyAsType(TEST_OBJECT, TestRequest.class);
+            try {
+                final List<Object> responses = flowTestSubscriber.getCompletion().get(1, SECONDS);
+                assertThat(responses, hasSize(3));
+                for (final Object response : responses) {
+                    final TestResponse testResponse = (TestResponse) response;
+                    assertThat(testResponse.getCorrelatedRequest(), equalTo(testRequest));
+                }
+            } catch (final InterruptedException | ExecutionException | TimeoutException e) {
+                fail(e);
+            }
+            assertNoUnnecessarySubscribers(testEnvironment);
+        });
+    }
+
+    public static TestMessageFunctionValidationBuilder expectResponsesToBeDeliveredOnlyOnDemand() {
+        return new TestMessageFunctionValidationBuilder(testEnvironment -> {
+            ensureNoExceptionThrown(testEnvironment);
+            final FlowTestSubscriber flowTestSubscriber = getResultFlowTestSubscriber(testEnvironment);
+            final int responsesBeforeDemand = testEnvironment.getPropertyAsType(RESPONSES_BEFORE_DEMAND, Integer.class);
+            assertThat(responsesBeforeDemand, equalTo(0));
+            pollUntilListHasSize(flowTestSubscriber::getPayloadsSoFar, 1);
+            flowTestSubscriber.request(2);
+            pollUntilListHasSize(flowTestSubscriber::getPayloadsSoFar, 3);
+        });
+    }
+
+    public static TestMessageFunctionValidationBuilder expectTheResponseStreamToReleaseAllSubscribers() {
+        return new TestMessageFunctionValidationBuilder(testEnvironment -> {
+            ensureNoExceptionThrown(testEnvironment);
+            getResultFlowTestSubscriber(testEnvironment);
+            assertNoUnnecessarySubscribers(testEnvironment);
+        });
+    }
+
+    public static TestMessageFunctionValidationBuilder expectTheAsynchronousResponseToBeReceived() {
+        return new TestMessageFunctionValidationBuilder(testEnvironment -> {
+            ensureNoExceptionThrown(testEnvironment);
+            final CompletableFuture<ProcessingContext<Object>> future = getResultCompletableFuture(testEnvironment);
+            final TestRequest testRequest = testEnvironment.getPropertyAsType(TEST_OBJECT, TestRequest.class);
+            try {
+                final ProcessingContext<Object> processingContext = future.get(1, SECONDS);
+                final TestResponse testResponse = (TestResponse) processingContext.getPayload();
+                assertThat(testResponse.getCorrelatedRequest(), equalTo(testRequest));
+            } catch (final InterruptedException | ExecutionException | TimeoutException e) {
+                fail(e);
+            }
+        });
+    }
+
+    public static TestMessageFunctionValidationBuilder expectTheAsynchronousRequestToTimeOut() {
+        return new TestMessageFunctionValidationBuilder(testEnvironment -> {
+            ensureNoExceptionThrown(testEnvironment);
+            final CompletableFuture<ProcessingContext<Object>> future = getResultCompletableFuture(testEnvironment);
+            try {
+                future.get(1, SECONDS);
+                fail("Future should not return a value");
+            } catch (final ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(TimeoutException.class));
+            } catch (final InterruptedException | TimeoutException e) {
+                fail(e);
+            }
+            assertNoUnnecessarySubscribers(testEnvironment);
+        });
+    }
+
+    public static TestMessageFunctionValidationBuilder expectNoUnnecessarySubscribersAfterTheAsynchronousRequest() {
+        return new TestMessageFunctionValidationBuilder(testEnvironment -> {
+            final CompletableFuture<ProcessingContext<Object>> future = getResultCompletableFuture(testEnvironment);
+            pollUntil(future::isDone);
+            ensureNoExceptionThrown(testEnvironment);
+            assertNoUnnecessarySubscribers(testEnvironment);
+        });
+    }
+
     public static TestMessageFunctionValidationBuilder expectTheFutureToHaveAccessToTheErrorResponse() {
         return new TestMessageFunctionValidationBuilder(testEnvironment -> {
             ensureNoExceptionThrown(testEnvironment);
@@ -326,6 +424,15 @@ public final class TestMessageFunctionValidationBuilder {
         });
     }
 
+    private static void assertNoUnnecessarySubscribers(final TestEnvironment testEnvironment) {
+        final MessageBus messageBus = getMessageBus(testEnvironment);
+        final MessageBusStatusInformation statusInformation = messageBus.getStatusInformation();
+        final int initialResponseSubscriber = testEnvironment.getPropertyAsType(NUMBER_OF_INITIAL_SUBSCRIBERS, Integer.class);
+        pollUntilListHasSize(statusInformation::getAllSubscribers, initialResponseSubscriber);
+        final int noRemainingErrorListener = 0;
+        pollUntilListHasSize(statusInformation::getAllExceptionListener, noRemainingErrorListener);
+    }
+
     private static MessageBus getMessageBus(final TestEnvironment testEnvironment) {
         return testEnvironment.getPropertyAsType(MOCK, MessageBus.class);
     }
@@ -355,6 +462,18 @@ public final class TestMessageFunctionValidationBuilder {
         }
     }
 
+    private static FlowTestSubscriber getResultFlowTestSubscriber(final TestEnvironment testEnvironment) {
+        pollUntil(() -> testEnvironment.has(RESULT));
+        return testEnvironment.getPropertyAsType(RESULT, FlowTestSubscriber.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<ProcessingContext<Object>> getResultCompletableFuture(
+            final TestEnvironment testEnvironment) {
+        pollUntil(() -> testEnvironment.has(RESULT));
+        return (CompletableFuture<ProcessingContext<Object>>) testEnvironment.getProperty(RESULT);
+    }
+
     private static ResponseFuture getResultResponseFuture(final TestEnvironment testEnvironment) {
         pollUntil(() -> testEnvironment.has(RESULT));
         return testEnvironment.getPropertyAsType(RESULT, ResponseFuture.class);
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.processingContext;
+
+import org.junit.jupiter.api.Test;
+
+import static com.envimate.messageMate.processingContext.EventType.eventTypeFromClass;
+import static com.envimate.messageMate.processingContext.EventType.eventTypeFromObjectClass;
+import static com.envimate.messageMate.processingContext.EventType.eventTypeFromString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class EventTypeSpecs {
+
+    @Test
+    public void testEventType_isInternedForClasses() {
+        final EventType eventType = eventTypeFromObjectClass("a message");
+
+        assertThat(eventType, sameInstance(eventTypeFromClass(String.class)));
+        assertThat(eventType, sameInstance(eventTypeFromString(String.class.getName())));
+    }
+
+    @Test
+    public void testEventType_isInternedForCleanedStrings() {
+        final EventType eventType = eventTypeFromString("interned type");
+
+        assertThat(eventTypeFromString("  interned type "), sameInstance(eventType));
+    }
+
+    @Test
+    public void testEventType_cachesTheHashCodeOfItsStringValue() {
+        final EventType eventType = eventTypeFromString("A");
+
+        assertThat(eventType.hashCode(), equalTo("A".hashCode()));
+    }
+}
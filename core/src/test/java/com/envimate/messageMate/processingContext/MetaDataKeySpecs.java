@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.processingContext;
+
+import com.envimate.messageMate.identification.MessageId;
+import org.junit.jupiter.api.Test;
+
+import static com.envimate.messageMate.identification.MessageId.newUniqueMessageId;
+import static com.envimate.messageMate.processingContext.EventType.eventTypeFromString;
+import static com.envimate.messageMate.processingContext.MetaDataKey.metaDataKey;
+import static com.envimate.messageMate.processingContext.ProcessingContext.processingContext;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetaDataKeySpecs {
+    private static final EventType EVENT_TYPE = eventTypeFromString("metaData");
+    private static final MetaDataKey<String> TENANT_ID = metaDataKey("tenantId", String.class);
+
+    @Test
+    public void testMetaDataKey_isInternedByName() {
+        assertThat(metaDataKey(" tenantId ", String.class), sameInstance(TENANT_ID));
+    }
+
+    @Test
+    public void testMetaDataKey_rejectsAnExistingNameWithADifferentType() {
+        assertThrows(IllegalArgumentException.class, () -> metaDataKey("tenantId", Integer.class));
+    }
+
+    @Test
+    public void testMetaDataKey_keysWithoutSlotFallBackToTheMetaDataMap() {
+        final ProcessingContext<String> processingContext = processingContext(EVENT_TYPE, "payload");
+        final int numberOfKeys = MetaDataKey.MAXIMAL_NUMBER_OF_SLOTS + 2;
+        for (int i = 0; i < numberOfKeys; i++) {
+            processingContext.setMetaData(metaDataKey("key" + i, Integer.class), i);
+        }
+
+        for (int i = 0; i < numberOfKeys; i++) {
+            assertThat(processingContext.getMetaData(metaDataKey("key" + i, Integer.class)), equalTo(i));
+        }
+    }
+
+    @Test
+    public void testMetaDataKey_equalityDoesNotDependOnTheLazyAllocation() {
+        final MessageId messageId = newUniqueMessageId();
+        final ProcessingContext<String> untouched = processingContext(EVENT_TYPE, messageId, "payload");
+        final ProcessingContext<String> touched = processingContext(EVENT_TYPE, messageId, "payload");
+        touched.getContextMetaData();
+        touched.setMetaData(TENANT_ID, "tenant");
+        assertThat(touched, not(equalTo(untouched)));
+
+        touched.setMetaData(TENANT_ID, null);
+        assertThat(touched, equalTo(untouched));
+        assertThat(touched.hashCode(), equalTo(untouched.hashCode()));
+    }
+}
@@ -79,6 +79,24 @@ public interface SerializedMessageBusSpecs {
                 .then(expectTheCorrectDataToBeReceived());
     }
 
+    @Test
+    default void testSerializedMessageBus_serializesEachObjectWithTheFirstMatchingMapping(
+            final SerializedMessageBusTestConfig config) {
+        given(aSerializedMessageBus(config)
+                .withAMapSubscriber())
+                .when(objectsWithAndWithoutSecretContentAreSend())
+                .then(expectTheExpectedPayloadsToBeReceived());
+    }
+
+    @Test
+    default void testSerializedMessageBus_deserializesEachMapWithTheFirstMatchingMapping(
+            final SerializedMessageBusTestConfig config) {
+        given(aSerializedMessageBus(config)
+                .withADeserializedSubscriber())
+                .when(mapsInTheCurrentAndTheLegacyFormatAreSend())
+                .then(expectTheExpectedPayloadsToBeReceived());
+    }
+
     @Test
     default void testSerializedMessageBus_canSendAndReceiveObjectsForACorrelationId(final SerializedMessageBusTestConfig config) {
         given(aSerializedMessageBus(config)
@@ -137,6 +155,23 @@ public interface SerializedMessageBusSpecs {
                 .then(expectTheTimeoutToBeOccurred());
     }
 
+    //invokeAll
+    @Test
+    default void testSerializedMessageBus_canWaitForTheResultsOfSeveralMaps(final SerializedMessageBusTestConfig config) {
+        given(aSerializedMessageBus(config)
+                .withASubscriberSendingCorrelatedResponse())
+                .when(severalMapsAreSendAndAllResultsAreWaited())
+                .then(expectAResponseForEachSendMap());
+    }
+
+    @Test
+    default void testSerializedMessageBus_invokeAllReportsATimeoutForEachUnansweredMap(
+            final SerializedMessageBusTestConfig config) {
+        given(aSerializedMessageBus(config))
+                .when(severalMapsAreSendAndAllResultsAreWaitedWithTimeout())
+                .then(expectEachRequestToHaveTimedOut());
+    }
+
     //invokeAndWait objects
     @Test
     default void testSerializedMessageBus_canWaitForObjectResult(final SerializedMessageBusTestConfig config) {
@@ -22,6 +22,7 @@
 package com.envimate.messageMate.serializedMessageBus.givenWhenThen;
 
 import com.envimate.messageMate.identification.CorrelationId;
+import com.envimate.messageMate.messageFunction.RequestResult;
 import com.envimate.messageMate.processingContext.EventType;
 import com.envimate.messageMate.serializedMessageBus.SerializedMessageBus;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
@@ -33,6 +34,7 @@ import com.envimate.messageMate.subscribing.SubscriptionId;
 import com.envimate.messageMate.useCases.payloadAndErrorPayload.PayloadAndErrorPayload;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +42,10 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static com.envimate.messageMate.serializedMessageBus.givenWhenThen.SerializedMessageBusSetupBuilder.LEGACY_PAYLOAD_SERIALIZATION_KEY;
+import static com.envimate.messageMate.serializedMessageBus.givenWhenThen.SerializedMessageBusSetupBuilder.MASKED_CONTENT;
+import static com.envimate.messageMate.serializedMessageBus.givenWhenThen.SerializedMessageBusSetupBuilder.PAYLOAD_SERIALIZATION_KEY;
+import static com.envimate.messageMate.serializedMessageBus.givenWhenThen.SerializedMessageBusSetupBuilder.SECRET_CONTENT;
 import static com.envimate.messageMate.serializedMessageBus.givenWhenThen.SerializedMessageBusTestProperties.*;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.EXCEPTION;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.RESULT;
@@ -47,6 +53,7 @@ import static com.envimate.messageMate.shared.eventType.TestEventType.testEventT
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.*;
 import static com.envimate.messageMate.shared.testMessages.ErrorTestMessage.errorTestMessage;
 import static com.envimate.messageMate.shared.testMessages.TestMessageOfInterest.messageOfInterest;
+import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static lombok.AccessLevel.PRIVATE;
 
@@ -115,6 +122,34 @@ public final class SerializedMessageBusActionBuilder {
         });
     }
 
+    public static SerializedMessageBusActionBuilder objectsWithAndWithoutSecretContentAreSend() {
+        return new SerializedMessageBusActionBuilder((serializedMessageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            for (final String content : asList("first", SECRET_CONTENT, "last")) {
+                serializedMessageBus.serializeAndSend(eventType, messageOfInterest(content));
+            }
+            testEnvironment.setProperty(EXPECTED_PAYLOADS, asList(serializedContent("first"),
+                    serializedContent(MASKED_CONTENT), serializedContent("last")));
+            return null;
+        });
+    }
+
+    public static SerializedMessageBusActionBuilder mapsInTheCurrentAndTheLegacyFormatAreSend() {
+        return new SerializedMessageBusActionBuilder((serializedMessageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            serializedMessageBus.send(eventType, serializedContent("first"));
+            serializedMessageBus.send(eventType, Map.of(LEGACY_PAYLOAD_SERIALIZATION_KEY, "legacy"));
+            serializedMessageBus.send(eventType, serializedContent("last"));
+            testEnvironment.setProperty(EXPECTED_PAYLOADS, asList(messageOfInterest("first"),
+                    messageOfInterest("legacy"), messageOfInterest("last")));
+            return null;
+        });
+    }
+
+    private static Map<String, Object> serializedContent(final String content) {
+        return Map.of(PAYLOAD_SERIALIZATION_KEY, content);
+    }
+
     public static SerializedMessageBusActionBuilder anObjectIsSendForACorrelationId() {
         return new SerializedMessageBusActionBuilder((serializedMessageBus, testEnvironment) -> {
             final TestMessageOfInterest message = messageOfInterest();
@@ -185,6 +220,49 @@ public final class SerializedMessageBusActionBuilder {
         });
     }
 
+    public static SerializedMessageBusActionBuilder severalMapsAreSendAndAllResultsAreWaited() {
+        return new SerializedMessageBusActionBuilder((serializedMessageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final List<Map<String, Object>> data = severalMaps();
+            testEnvironment.setPropertyIfNotSet(SEND_DATA, data);
+            try {
+                final List<RequestResult<PayloadAndErrorPayload<Map<String, Object>, Map<String, Object>>>> results =
+                        serializedMessageBus.invokeAll(eventType, data);
+                testEnvironment.setPropertyIfNotSet(RESULT, results);
+            } catch (final InterruptedException e) {
+                testEnvironment.setPropertyIfNotSet(EXCEPTION, e);
+            }
+            return null;
+        });
+    }
+
+    public static SerializedMessageBusActionBuilder severalMapsAreSendAndAllResultsAreWaitedWithTimeout() {
+        return new SerializedMessageBusActionBuilder((serializedMessageBus, testEnvironment) -> {
+            final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+            final List<Map<String, Object>> data = severalMaps();
+            testEnvironment.setPropertyIfNotSet(SEND_DATA, data);
+            try {
+                final List<RequestResult<PayloadAndErrorPayload<Map<String, Object>, Map<String, Object>>>> results =
+                        serializedMessageBus.invokeAll(eventType, data, 10, MILLISECONDS);
+                testEnvironment.setPropertyIfNotSet(RESULT, results);
+            } catch (final InterruptedException e) {
+                testEnvironment.setPropertyIfNotSet(EXCEPTION, e);
+            }
+            return null;
+        });
+    }
+
+    private static List<Map<String, Object>> severalMaps() {
+        final int numberOfMaps = 5;
+        final List<Map<String, Object>> maps = new ArrayList<>();
+        for (int i = 0; i < numberOfMaps; i++) {
+            final Map<String, Object> map = new HashMap<>();
+            map.put("someValue", i);
+            maps.add(map);
+        }
+        return maps;
+    }
+
     public static SerializedMessageBusActionBuilder anObjectIsSendAndTheResultIsWaited() {
         return new SerializedMessageBusActionBuilder((serializedMessageBus, testEnvironment) -> {
             final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
@@ -63,6 +63,9 @@ import static lombok.AccessLevel.PRIVATE;
 public final class SerializedMessageBusSetupBuilder {
     public static final String PAYLOAD_SERIALIZATION_KEY = "content";
     public static final String ERROR_PAYLOAD_SERIALIZATION_KEY = "error";
+    public static final String LEGACY_PAYLOAD_SERIALIZATION_KEY = "legacyContent";
+    public static final String SECRET_CONTENT = "secret";
+    public static final String MASKED_CONTENT = "***";
     private final TestEnvironment testEnvironment = TestEnvironment.emptyTestEnvironment();
     private final List<SetupAction<SerializedMessageBus>> setupActions = new LinkedList<>();
     private final SerializedMessageBusTestConfig testConfig;
@@ -188,6 +191,11 @@ public final class SerializedMessageBusSetupBuilder {
     private Deserializer getDeserializer() {
         final FilterMapBuilder<Class<?>, Map<String, Object>, Demapifier<?>> deserializingFilterMapBuilder = filterMapBuilder();
         deserializingFilterMapBuilder
+                .put((o, o2) -> o.equals(TestMessageOfInterest.class) && o2.containsKey(LEGACY_PAYLOAD_SERIALIZATION_KEY),
+                        (Demapifier) (targetType, map) -> {
+                            final String content = (String) map.get(LEGACY_PAYLOAD_SERIALIZATION_KEY);
+                            return TestMessageOfInterest.messageOfInterest(content);
+                        })
                 .put((o, o2) -> o.equals(TestMessageOfInterest.class), (Demapifier) (targetType, map) -> {
                     final String content = (String) map.get(PAYLOAD_SERIALIZATION_KEY);
                     return TestMessageOfInterest.messageOfInterest(content);
@@ -206,6 +214,11 @@ public final class SerializedMessageBusSetupBuilder {
     private Serializer getSerializer() {
         final PredicateMapBuilder<Object, Mapifier<Object>> serializingMapBuilder = predicateMapBuilder();
         serializingMapBuilder
+                .put(o -> o.getClass().equals(TestMessageOfInterest.class) && hasSecretContent(o), object -> {
+                    final HashMap<String, Object> map = new HashMap<>();
+                    map.put(PAYLOAD_SERIALIZATION_KEY, MASKED_CONTENT);
+                    return map;
+                })
                 .put(o -> o.getClass().equals(TestMessageOfInterest.class), object -> {
                     final TestMessageOfInterest message = (TestMessageOfInterest) object;
                     final HashMap<String, Object> map = new HashMap<>();
@@ -224,6 +237,11 @@ public final class SerializedMessageBusSetupBuilder {
         return Serializer.responseSerializer(serializingMapBuilder.build());
     }
 
+    private static boolean hasSecretContent(final Object object) {
+        final TestMessageOfInterest message = (TestMessageOfInterest) object;
+        return SECRET_CONTENT.equals(message.getContent());
+    }
+
     @RequiredArgsConstructor(access = PRIVATE)
     static final class SerializedMessageBusSetup {
         @Getter
@@ -31,4 +31,5 @@ final class SerializedMessageBusTestProperties {
     static final EventType EVENT_TYPE_WITH_NO_SUBSCRIBERS = EventType.eventTypeFromString("eventTypeWithNoSubscribers");
     static final String SEND_DATA = "SEND_DATA";
     static final String SEND_ERROR_DATA = "SEND_ERROR_DATA";
+    static final String EXPECTED_PAYLOADS = "EXPECTED_PAYLOADS";
 }
@@ -23,6 +23,7 @@ package com.envimate.messageMate.serializedMessageBus.givenWhenThen;
 
 import com.envimate.messageMate.messageBus.MessageBus;
 import com.envimate.messageMate.messageBus.MessageBusStatusInformation;
+import com.envimate.messageMate.messageFunction.RequestResult;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.givenWhenThen.TestValidation;
 import com.envimate.messageMate.shared.subscriber.TestException;
@@ -34,17 +35,24 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 import static com.envimate.messageMate.serializedMessageBus.givenWhenThen.SerializedMessageBusSetupBuilder.PAYLOAD_SERIALIZATION_KEY;
+import static com.envimate.messageMate.serializedMessageBus.givenWhenThen.SerializedMessageBusTestProperties.EXPECTED_PAYLOADS;
 import static com.envimate.messageMate.serializedMessageBus.givenWhenThen.SerializedMessageBusTestProperties.SEND_DATA;
 import static com.envimate.messageMate.serializedMessageBus.givenWhenThen.SerializedMessageBusTestProperties.SEND_ERROR_DATA;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.*;
 import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntil;
 import static com.envimate.messageMate.shared.polling.PollingUtils.pollUntilListHasSize;
 import static com.envimate.messageMate.shared.validations.SharedTestValidations.*;
+import static java.util.stream.Collectors.toList;
 import static lombok.AccessLevel.PRIVATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @RequiredArgsConstructor(access = PRIVATE)
 public final class SerializedMessageBusValidationBuilder {
@@ -57,6 +65,22 @@ public final class SerializedMessageBusValidationBuilder {
         });
     }
 
+    public static SerializedMessageBusValidationBuilder expectTheExpectedPayloadsToBeReceived() {
+        return new SerializedMessageBusValidationBuilder(testEnvironment -> {
+            final List<?> expectedPayloads = testEnvironment.getPropertyAsType(EXPECTED_PAYLOADS, List.class);
+            final List<TestSubscriber<PayloadAndErrorPayload<?, ?>>> receivers = getExpectedPayloadsReceivers(testEnvironment);
+            for (final TestSubscriber<PayloadAndErrorPayload<?, ?>> receiver : receivers) {
+                final List<PayloadAndErrorPayload<?, ?>> receivedMessages = receiver.getReceivedMessages();
+                pollUntilListHasSize(receivedMessages, expectedPayloads.size());
+                final List<Object> payloads = receivedMessages.stream()
+                        .map(PayloadAndErrorPayload::getPayload)
+                        .collect(toList());
+                assertThat(payloads, containsInAnyOrder(expectedPayloads.toArray()));
+            }
+            assertNoExceptionThrown(testEnvironment);
+        });
+    }
+
     public static SerializedMessageBusValidationBuilder expectTheDataAndTheErrorToBeReceived() {
         return new SerializedMessageBusValidationBuilder(testEnvironment -> {
             assertNoExceptionThrown(testEnvironment);
@@ -106,6 +130,44 @@ public final class SerializedMessageBusValidationBuilder {
         });
     }
 
+    public static SerializedMessageBusValidationBuilder expectAResponseForEachSendMap() {
+        return new SerializedMessageBusValidationBuilder(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final List<Map<String, Object>> sendData = getSendMaps(testEnvironment);
+            final List<RequestResult<PayloadAndErrorPayload<?, ?>>> results = getRequestResults(testEnvironment);
+            assertCollectionOfSize(results, sendData.size());
+            for (int i = 0; i < results.size(); i++) {
+                final RequestResult<PayloadAndErrorPayload<?, ?>> result = results.get(i);
+                assertFalse(result.hasFailed());
+                assertEquals(result.getResponse().getPayload(), sendData.get(i));
+            }
+        });
+    }
+
+    public static SerializedMessageBusValidationBuilder expectEachRequestToHaveTimedOut() {
+        return new SerializedMessageBusValidationBuilder(testEnvironment -> {
+            assertNoExceptionThrown(testEnvironment);
+            final List<Map<String, Object>> sendData = getSendMaps(testEnvironment);
+            final List<RequestResult<PayloadAndErrorPayload<?, ?>>> results = getRequestResults(testEnvironment);
+            assertCollectionOfSize(results, sendData.size());
+            for (final RequestResult<PayloadAndErrorPayload<?, ?>> result : results) {
+                assertTrue(result.hasFailed());
+                assertEquals(result.getException().getClass(), TimeoutException.class);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> getSendMaps(final TestEnvironment testEnvironment) {
+        return (List<Map<String, Object>>) testEnvironment.getProperty(SEND_DATA);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<RequestResult<PayloadAndErrorPayload<?, ?>>> getRequestResults(final TestEnvironment testEnvironment) {
+        pollUntil(() -> testEnvironment.has(RESULT));
+        return (List<RequestResult<PayloadAndErrorPayload<?, ?>>>) testEnvironment.getProperty(RESULT);
+    }
+
     public static SerializedMessageBusValidationBuilder expectTheTimeoutToBeOccurred() {
         return new SerializedMessageBusValidationBuilder(testEnvironment -> {
             assertExceptionThrownOfType(testEnvironment, TimeoutException.class);
@@ -36,4 +36,16 @@ public final class TestEventType {
     public static EventType differentTestEventType() {
         return EventType.eventTypeFromString("testEventType_B");
     }
+
+    public static EventType eventTypeWithCollidingHashCode() {
+        return EventType.eventTypeFromString("AaAa");
+    }
+
+    public static EventType differentEventTypeWithCollidingHashCode() {
+        return EventType.eventTypeFromString("BBBB");
+    }
+
+    public static EventType unknownEventTypeWithCollidingHashCode() {
+        return EventType.eventTypeFromString("AaBB");
+    }
 }
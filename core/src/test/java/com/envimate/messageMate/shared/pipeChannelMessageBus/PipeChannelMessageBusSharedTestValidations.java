@@ -29,6 +29,7 @@ import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.pipeChannelMessageBus.testActions.CloseActions;
 import com.envimate.messageMate.shared.pipeChannelMessageBus.testActions.SubscribeActions;
 import com.envimate.messageMate.shared.polling.PollingUtils;
+import com.envimate.messageMate.shared.subscriber.BatchingTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.TestSubscriber;
 import com.envimate.messageMate.shared.testMessages.TestMessageOfInterest;
@@ -57,8 +58,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public final class PipeChannelMessageBusSharedTestValidations {
 
     public static void assertExpectedReceiverReceivedSingleMessage(final TestEnvironment testEnvironment) {
-        final List<SimpleTestSubscriber<?>> receivers = getExpectedReceiversAsSubscriber(testEnvironment);
-        for (final SimpleTestSubscriber<?> receiver : receivers) {
+        final List<TestSubscriber<?>> receivers = getExpectedReceiversAsSubscriber(testEnvironment);
+        for (final TestSubscriber<?> receiver : receivers) {
             final List<?> receivedMessages = receiver.getReceivedMessages();
             pollUntilEquals(receivedMessages::size, 1);
             final Object receivedMessage = receivedMessages.get(0);
@@ -74,8 +75,8 @@ public final class PipeChannelMessageBusSharedTestValidations {
 
     public static void assertExpectedReceiverReceivedAllMessages(final TestEnvironment testEnvironment,
                                                                  final List<?> expectedMessages) {
-        final List<SimpleTestSubscriber<?>> receivers = getExpectedReceiversAsSubscriber(testEnvironment);
-        for (final SimpleTestSubscriber<?> receiver : receivers) {
+        final List<TestSubscriber<?>> receivers = getExpectedReceiversAsSubscriber(testEnvironment);
+        for (final TestSubscriber<?> receiver : receivers) {
             final List<?> receivedMessages = receiver.getReceivedMessages();
             pollUntilEquals(receivedMessages::size, expectedMessages.size());
             final Object[] ar = expectedMessages.toArray();
@@ -83,9 +84,32 @@ public final class PipeChannelMessageBusSharedTestValidations {
         }
     }
 
+    public static void assertExpectedBatchReceiverReceivedBatchesOfSeveralMessages(final TestEnvironment testEnvironment) {
+        final List<TestSubscriber<?>> receivers = getExpectedReceiversAsSubscriber(testEnvironment);
+        for (final TestSubscriber<?> receiver : receivers) {
+            if (receiver instanceof BatchingTestSubscriber) {
+                final List<? extends List<?>> receivedBatches = ((BatchingTestSubscriber<?>) receiver).getReceivedBatches();
+                final boolean batchOfSeveralMessagesReceived = receivedBatches.stream()
+                        .anyMatch(batch -> batch.size() > 1);
+                assertTrue(batchOfSeveralMessagesReceived);
+            }
+        }
+    }
+
+    public static void assertExpectedReceiverReceivedAllMessagesInOrder(final TestEnvironment testEnvironment) {
+        final List<?> expectedMessages = testEnvironment.getPropertyAsType(MESSAGES_SEND, List.class);
+        final List<TestSubscriber<?>> receivers = getExpectedReceiversAsSubscriber(testEnvironment);
+        for (final TestSubscriber<?> receiver : receivers) {
+            final List<?> receivedMessages = receiver.getReceivedMessages();
+            pollUntilEquals(receivedMessages::size, expectedMessages.size());
+            final Object[] ar = expectedMessages.toArray();
+            assertThat(receivedMessages, contains(ar));
+        }
+    }
+
     public static void assertExpectedReceiverReceivedMessageWithErrorPayload(final TestEnvironment testEnvironment) {
-        final List<SimpleTestSubscriber<?>> receivers = getExpectedReceiversAsSubscriber(testEnvironment);
-        for (final SimpleTestSubscriber<?> receiver : receivers) {
+        final List<TestSubscriber<?>> receivers = getExpectedReceiversAsSubscriber(testEnvironment);
+        for (final TestSubscriber<?> receiver : receivers) {
             @SuppressWarnings("unchecked")
             final List<ProcessingContext<?>> receivedMessages = (List<ProcessingContext<?>>) receiver.getReceivedMessages();
             pollUntilEquals(receivedMessages::size, 1);
@@ -253,8 +277,8 @@ public final class PipeChannelMessageBusSharedTestValidations {
     }
 
     @SuppressWarnings("unchecked")
-    private static List<SimpleTestSubscriber<?>> getExpectedReceiversAsSubscriber(final TestEnvironment testEnvironment) {
-        return (List<SimpleTestSubscriber<?>>) testEnvironment.getProperty(EXPECTED_RECEIVERS);
+    private static List<TestSubscriber<?>> getExpectedReceiversAsSubscriber(final TestEnvironment testEnvironment) {
+        return (List<TestSubscriber<?>>) testEnvironment.getProperty(EXPECTED_RECEIVERS);
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 envimate GmbH - https://envimate.com/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.envimate.messageMate.shared.subscriber;
+
+import com.envimate.messageMate.processingContext.ProcessingContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public final class FlowTestSubscriber implements Flow.Subscriber<ProcessingContext<Object>> {
+    private final List<Object> receivedPayloads = new CopyOnWriteArrayList<>();
+    @Getter
+    private final CompletableFuture<List<Object>> completion = new CompletableFuture<>();
+    private final long initialDemand;
+    private volatile Flow.Subscription subscription;
+
+    public static FlowTestSubscriber flowTestSubscriber() {
+        return new FlowTestSubscriber(Long.MAX_VALUE);
+    }
+
+    public static FlowTestSubscriber flowTestSubscriberWithoutDemand() {
+        return new FlowTestSubscriber(0);
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (initialDemand > 0) {
+            subscription.request(initialDemand);
+        }
+    }
+
+    @Override
+    public void onNext(final ProcessingContext<Object> item) {
+        receivedPayloads.add(item.getPayload());
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        completion.complete(receivedPayloads);
+    }
+
+    public void request(final long n) {
+        subscription.request(n);
+    }
+
+    public void cancel() {
+        subscription.cancel();
+    }
+
+    public List<Object> getPayloadsSoFar() {
+        return receivedPayloads;
+    }
+}
@@ -21,6 +21,7 @@
 
 package com.envimate.messageMate.shared.subscriber;
 
+import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.subscribing.AcceptingBehavior;
 import com.envimate.messageMate.subscribing.SubscriptionId;
 import lombok.AccessLevel;
@@ -29,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
 
 import static com.envimate.messageMate.subscribing.AcceptingBehavior.acceptingBehavior;
 
@@ -37,18 +39,23 @@ public final class SimpleTestSubscriber<T> implements TestSubscriber<T> {
     private final SubscriptionId subscriptionId = SubscriptionId.newUniqueId();
     private final List<T> receivedMessages = new CopyOnWriteArrayList<>();
     private final boolean preemptDelivery;
+    private final UnaryOperator<T> recordedCopy;
 
     public static <T> SimpleTestSubscriber<T> testSubscriber() {
-        return new SimpleTestSubscriber<>(false);
+        return new SimpleTestSubscriber<>(false, UnaryOperator.identity());
+    }
+
+    public static <T> SimpleTestSubscriber<ProcessingContext<T>> processingContextDetachingTestSubscriber() {
+        return new SimpleTestSubscriber<>(false, ProcessingContext::detached);
     }
 
     public static <T> SimpleTestSubscriber<T> deliveryPreemptingSubscriber() {
-        return new SimpleTestSubscriber<>(true);
+        return new SimpleTestSubscriber<>(true, UnaryOperator.identity());
     }
 
     @Override
     public AcceptingBehavior accept(final T message) {
-        receivedMessages.add(message);
+        receivedMessages.add(recordedCopy.apply(message));
         final boolean continueDelivery = !preemptDelivery;
         return acceptingBehavior(continueDelivery);
     }
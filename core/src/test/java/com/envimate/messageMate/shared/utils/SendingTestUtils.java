@@ -51,6 +51,7 @@ import static com.envimate.messageMate.shared.testMessages.TestMessageOfInterest
 import static com.envimate.messageMate.shared.testMessages.TestMessageOfInterest.messageWithErrorContent;
 import static com.envimate.messageMate.shared.utils.TestMessageFactory.*;
 import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static lombok.AccessLevel.PRIVATE;
 
@@ -92,6 +93,13 @@ public final class SendingTestUtils {
         }
     }
 
+    public static void releaseTheBlockingSubscriberAfterMilliseconds(final TestEnvironment testEnvironment,
+                                                                     final int delayInMilliseconds) {
+        final Semaphore semaphore = testEnvironment.getPropertyAsType(EXECUTION_END_SEMAPHORE, Semaphore.class);
+        final Executor delayedExecutor = CompletableFuture.delayedExecutor(delayInMilliseconds, MILLISECONDS);
+        delayedExecutor.execute(() -> semaphore.release(1337));
+    }
+
     public static void sendMessageWithCorrelationId(final CorrelationIdSendingActions sendingActions,
                                                     final TestEnvironment testEnvironment) {
         final CorrelationId corId = newUniqueCorrelationId();
@@ -26,6 +26,7 @@ import com.envimate.messageMate.processingContext.ProcessingContext;
 import com.envimate.messageMate.shared.environment.TestEnvironment;
 import com.envimate.messageMate.shared.pipeChannelMessageBus.testActions.RawSubscribeActions;
 import com.envimate.messageMate.shared.pipeChannelMessageBus.testActions.SubscribeActions;
+import com.envimate.messageMate.shared.subscriber.BatchingTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.BlockingTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.ExceptionThrowingTestSubscriber;
 import com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber;
@@ -41,9 +42,11 @@ import java.util.concurrent.Semaphore;
 import static com.envimate.messageMate.shared.environment.TestEnvironmentProperty.EXPECTED_RECEIVERS;
 import static com.envimate.messageMate.shared.eventType.TestEventType.testEventType;
 import static com.envimate.messageMate.shared.properties.SharedTestProperties.*;
+import static com.envimate.messageMate.shared.subscriber.BatchingTestSubscriber.batchingTestSubscriber;
 import static com.envimate.messageMate.shared.subscriber.BlockingTestSubscriber.blockingTestSubscriber;
 import static com.envimate.messageMate.shared.subscriber.ExceptionThrowingTestSubscriber.exceptionThrowingTestSubscriber;
 import static com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber.deliveryPreemptingSubscriber;
+import static com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber.processingContextDetachingTestSubscriber;
 import static com.envimate.messageMate.shared.subscriber.SimpleTestSubscriber.testSubscriber;
 import static lombok.AccessLevel.PRIVATE;
 
@@ -82,6 +85,16 @@ public final class SubscriptionTestUtils {
         }
     }
 
+    public static void addSeveralBatchSubscriber(final SubscribeActions subscribeActions,
+                                                 final TestEnvironment testEnvironment,
+                                                 final int numberOfReceivers) {
+        final EventType eventType = testEnvironment.getPropertyOrSetDefault(EVENT_TYPE, testEventType());
+        for (int i = 0; i < numberOfReceivers; i++) {
+            final BatchingTestSubscriber<TestMessage> subscriber = batchingTestSubscriber();
+            addASingleSubscriber(subscribeActions, testEnvironment, subscriber, eventType);
+        }
+    }
+
     public static void addASubscriberThatBlocksWhenAccepting(final SubscribeActions subscribeActions,
                                                              final TestEnvironment testEnvironment) {
         final Semaphore semaphore = new Semaphore(0);
@@ -136,7 +149,7 @@ public final class SubscriptionTestUtils {
     public static void addASingleRawSubscriber(final RawSubscribeActions rawSubscribeActions,
                                                final TestEnvironment testEnvironment,
                                                final EventType eventType) {
-        final SimpleTestSubscriber<ProcessingContext<TestMessage>> subscriber = testSubscriber();
+        final SimpleTestSubscriber<ProcessingContext<TestMessage>> subscriber = processingContextDetachingTestSubscriber();
         addASingleRawSubscriber(rawSubscribeActions, testEnvironment, eventType, subscriber);
     }
 